@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,13 +7,27 @@
 
 package com.tangosol.internal.util;
 
+import com.oracle.coherence.common.base.Logger;
+
 import com.tangosol.coherence.config.Config;
 
 import com.tangosol.net.CacheFactory;
 import com.tangosol.net.Cluster;
 
+import java.time.Duration;
+
+import java.util.List;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
 import java.util.function.Function;
 
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
 /**
  * Helper class for virtual threads functionality.
  * <p>
@@ -94,6 +108,114 @@ public class VirtualThreads
                : Config.getBoolean(PROPERTY_SERVICE_ENABLED.apply(sServiceName), isEnabled());
         }
 
+    /**
+     * Return {@code true} if each task submitted to the specified service's
+     * thread pool should be executed on its own virtual thread.
+     *
+     * @param sServiceName  the name of the service to check
+     *
+     * @return {@code true} if the service should use a virtual thread per task;
+     *         {@code false} otherwise
+     */
+    public static boolean isPerTaskEnabled(String sServiceName)
+        {
+        boolean fDefault = Config.getBoolean(PROPERTY_PER_TASK_ENABLED, false);
+        return isEnabled(sServiceName)
+               && (sServiceName == null
+                   ? fDefault
+                   : Config.getBoolean(PROPERTY_SERVICE_PER_TASK_ENABLED.apply(sServiceName), fDefault));
+        }
+
+    /**
+     * Return the maximum number of tasks the specified service may concurrently
+     * execute on their own virtual threads.
+     *
+     * @param sServiceName  the name of the service
+     *
+     * @return the maximum number of concurrent virtual thread tasks
+     */
+    public static int getPerTaskLimit(String sServiceName)
+        {
+        int nDefault = Config.getInteger(PROPERTY_PER_TASK_LIMIT, DEFAULT_PER_TASK_LIMIT);
+        int nLimit   = sServiceName == null
+                       ? nDefault
+                       : Config.getInteger(PROPERTY_SERVICE_PER_TASK_LIMIT.apply(sServiceName), nDefault);
+        return Math.max(1, nLimit);
+        }
+
+    /**
+     * Ensure that virtual threads which are pinned to their carrier thread for
+     * longer than the configured threshold are reported.
+     * <p>
+     * A pinned virtual thread, for example one blocking while holding a monitor,
+     * occupies its carrier thread for the duration of the block; this is harmless
+     * when rare, but a service relying upon a large number of virtual threads
+     * will stall if it happens frequently.
+     */
+    public static void ensurePinnedMonitor()
+        {
+        long cMillis = Config.getLong(PROPERTY_PINNED_THRESHOLD, DEFAULT_PINNED_THRESHOLD);
+        if (cMillis > 0L && s_fPinnedMonitor.compareAndSet(false, true))
+            {
+            try
+                {
+                RecordingStream stream = new RecordingStream();
+                stream.enable(EVENT_PINNED).withThreshold(Duration.ofMillis(cMillis)).withStackTrace();
+                stream.onEvent(EVENT_PINNED, VirtualThreads::onPinned);
+                stream.startAsync();
+                }
+            catch (Throwable t)
+                {
+                Logger.warn("Unable to monitor pinned virtual threads: " + t);
+                }
+            }
+        }
+
+    /**
+     * Return the number of times a virtual thread has been reported as pinned.
+     *
+     * @return the number of pinned virtual thread reports
+     */
+    public static long getPinnedCount()
+        {
+        return s_cPinned.sum();
+        }
+
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Report a pinned virtual thread.
+     *
+     * @param event  the {@code jdk.VirtualThreadPinned} event
+     */
+    private static void onPinned(RecordedEvent event)
+        {
+        s_cPinned.increment();
+
+        StringBuilder sb = new StringBuilder("Virtual thread \"")
+                .append(event.getThread() == null ? "?" : event.getThread().getJavaName())
+                .append("\" was pinned to its carrier thread for ")
+                .append(event.getDuration().toMillis())
+                .append("ms");
+
+        RecordedStackTrace trace = event.getStackTrace();
+        if (trace != null)
+            {
+            List<RecordedFrame> listFrame = trace.getFrames();
+            for (RecordedFrame frame : listFrame)
+                {
+                sb.append("\n  at ")
+                  .append(frame.getMethod().getType().getName())
+                  .append('.')
+                  .append(frame.getMethod().getName())
+                  .append(':')
+                  .append(frame.getLineNumber());
+                }
+            }
+
+        Logger.warn(sb.toString());
+        }
+
     // ---- constants -------------------------------------------------------
 
     /**
@@ -107,4 +229,65 @@ public class VirtualThreads
      */
     public static final Function<String, String> PROPERTY_SERVICE_ENABLED =
             (sServiceName) -> String.format("coherence.service.%s.virtualthreads.enabled", sServiceName);
+
+    /**
+     * Config property used to globally enable or disable running each service
+     * task on its own virtual thread.
+     */
+    public static final String PROPERTY_PER_TASK_ENABLED = "coherence.virtualthreads.pertask.enabled";
+
+    /**
+     * Config property used to selectively enable or disable running each task on
+     * its own virtual thread for a specific service.
+     */
+    public static final Function<String, String> PROPERTY_SERVICE_PER_TASK_ENABLED =
+            (sServiceName) -> String.format("coherence.service.%s.virtualthreads.pertask.enabled", sServiceName);
+
+    /**
+     * Config property used to globally limit the number of tasks a service may
+     * concurrently run on their own virtual threads.
+     */
+    public static final String PROPERTY_PER_TASK_LIMIT = "coherence.virtualthreads.pertask.limit";
+
+    /**
+     * Config property used to limit the number of tasks a specific service may
+     * concurrently run on their own virtual threads.
+     */
+    public static final Function<String, String> PROPERTY_SERVICE_PER_TASK_LIMIT =
+            (sServiceName) -> String.format("coherence.service.%s.virtualthreads.pertask.limit", sServiceName);
+
+    /**
+     * Config property used to specify the time in milliseconds a virtual thread may
+     * be pinned to its carrier thread before being reported, or zero to disable
+     * reporting.
+     */
+    public static final String PROPERTY_PINNED_THRESHOLD = "coherence.virtualthreads.pinned.threshold";
+
+    /**
+     * The default maximum number of tasks a service may concurrently run on their
+     * own virtual threads.
+     */
+    public static final int DEFAULT_PER_TASK_LIMIT = 10000;
+
+    /**
+     * The default pinned thread reporting threshold in milliseconds.
+     */
+    public static final long DEFAULT_PINNED_THRESHOLD = 20L;
+
+    /**
+     * The JFR event emitted when a virtual thread blocks while pinned.
+     */
+    private static final String EVENT_PINNED = "jdk.VirtualThreadPinned";
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * Whether the pinned thread monitor has been started.
+     */
+    private static final AtomicBoolean s_fPinnedMonitor = new AtomicBoolean();
+
+    /**
+     * The number of pinned virtual thread reports.
+     */
+    private static final LongAdder s_cPinned = new LongAdder();
     }
@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -1055,6 +1055,23 @@ public class Channel
             }
         }
     
+    /**
+     * Return the number of Requests sent over this Channel for which a
+    * Response has not yet been received.
+    * 
+    * @return the number of outstanding Requests
+     */
+    public int getPendingRequestCount()
+        {
+        // import com.tangosol.util.LongArray;
+        
+        LongArray laStatus = getRequestArray();
+        synchronized (laStatus) // see #closeInternal
+            {
+            return laStatus.getSize();
+            }
+        }
+    
     // Accessor for the property "RequestArray"
     /**
      * Getter for property RequestArray.<p>
@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -21,6 +21,7 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Base definition of a Connection component.
@@ -158,6 +159,26 @@ public class Connection
      */
     private com.tangosol.util.UUID __m_PeerId;
     
+    /**
+     * Property DrainDeadline
+     *
+     * The time before which this Connection should be closed as soon as it has
+     * no outstanding Requests, or 0 if the Connection is not being drained.
+     * 
+     * @volatile
+     * @see #closeWhenIdle
+     */
+    private volatile transient long __m_DrainDeadline;
+    
+    /**
+     * Property DrainThrowable
+     *
+     * The reason why the Connection is being drained.
+     * 
+     * @volatile
+     */
+    private volatile transient Throwable __m_DrainThrowable;
+    
     /**
      * Property PingLastMillis
      *
@@ -166,6 +187,14 @@ public class Connection
      */
     private transient long __m_PingLastMillis;
     
+    /**
+     * Property RequestPendingCount
+     *
+     * The number of Requests received over this Connection for which a
+     * Response has not yet been sent.
+     */
+    private transient AtomicInteger __m_RequestPendingCount;
+    
     /**
      * Property StatsBytesReceived
      *
@@ -253,6 +282,8 @@ public class Connection
         {
         
         super.__initPrivate();
+        
+        __m_RequestPendingCount = new AtomicInteger();
         }
     
     //++ getter for static property _Instance
@@ -521,6 +552,34 @@ public class Connection
             }
         }
     
+    /**
+     * Close this Connection as soon as it has no outstanding Requests, so that
+    * the peer can reconnect without any of its Requests failing. The close is
+    * abandoned if the Connection does not become idle within the specified
+    * time.
+    * 
+    * Whether the Connection is idle is decided on the service thread, which
+    * is also the thread that receives Requests, so a Request received before
+    * the Connection is closed always gets its Response.
+    * 
+    * @param e  the reason why the Connection is being closed
+    * @param cMillis  the number of milliseconds to wait for the Connection to
+    * become idle
+     */
+    public void closeWhenIdle(Throwable e, long cMillis)
+        {
+        // import Component.Util.Daemon.QueueProcessor.Service.Peer as com.tangosol.coherence.component.util.daemon.queueProcessor.service.Peer;
+        
+        if (isOpen())
+            {
+            setDrainThrowable(e);
+            setDrainDeadline(Base.getSafeTimeMillis() + cMillis);
+        
+            ((com.tangosol.coherence.component.util.daemon.queueProcessor.service.Peer) getConnectionManager())
+                    .closeConnectionWhenIdle(this);
+            }
+        }
+    
     /**
      * The close() implementation method. This method is called on the service
     * thread.
@@ -1017,6 +1076,32 @@ public class Connection
         return __m_PeerId;
         }
     
+    // Accessor for the property "DrainDeadline"
+    /**
+     * Getter for property DrainDeadline.<p>
+    * The time before which this Connection should be closed as soon as it has
+    * no outstanding Requests, or 0 if the Connection is not being drained.
+    * 
+    * @volatile
+    * @see #closeWhenIdle
+     */
+    public long getDrainDeadline()
+        {
+        return __m_DrainDeadline;
+        }
+    
+    // Accessor for the property "DrainThrowable"
+    /**
+     * Getter for property DrainThrowable.<p>
+    * The reason why the Connection is being drained.
+    * 
+    * @volatile
+     */
+    public Throwable getDrainThrowable()
+        {
+        return __m_DrainThrowable;
+        }
+    
     // Accessor for the property "PingLastMillis"
     /**
      * Getter for property PingLastMillis.<p>
@@ -1028,6 +1113,17 @@ public class Connection
         return __m_PingLastMillis;
         }
     
+    // Accessor for the property "RequestPendingCount"
+    /**
+     * Getter for property RequestPendingCount.<p>
+    * The number of Requests received over this Connection for which a
+    * Response has not yet been sent.
+     */
+    public AtomicInteger getRequestPendingCount()
+        {
+        return __m_RequestPendingCount;
+        }
+    
     // Accessor for the property "StatsBytesReceived"
     /**
      * Getter for property StatsBytesReceived.<p>
@@ -1138,6 +1234,29 @@ public class Connection
         return __m_MessagingDebug;
         }
     
+    // Accessor for the property "Draining"
+    /**
+     * Getter for property Draining.<p>
+    * True if this Connection should be closed as soon as it has no
+    * outstanding Requests. This property is calculated.
+     */
+    public boolean isDraining()
+        {
+        long ldtDeadline = getDrainDeadline();
+        return ldtDeadline != 0L && Base.getSafeTimeMillis() < ldtDeadline;
+        }
+    
+    // Accessor for the property "Idle"
+    /**
+     * Getter for property Idle.<p>
+    * True if every Request received over this Connection has been responded
+    * to. This property is calculated.
+     */
+    public boolean isIdle()
+        {
+        return getRequestPendingCount().get() <= 0;
+        }
+    
     // From interface: com.tangosol.net.messaging.Connection
     // Accessor for the property "Open"
     /**
@@ -1659,6 +1778,31 @@ public class Connection
         __m_PeerId = uuid;
         }
     
+    // Accessor for the property "DrainDeadline"
+    /**
+     * Setter for property DrainDeadline.<p>
+    * The time before which this Connection should be closed as soon as it has
+    * no outstanding Requests, or 0 if the Connection is not being drained.
+    * 
+    * @volatile
+     */
+    protected void setDrainDeadline(long ldt)
+        {
+        __m_DrainDeadline = ldt;
+        }
+    
+    // Accessor for the property "DrainThrowable"
+    /**
+     * Setter for property DrainThrowable.<p>
+    * The reason why the Connection is being drained.
+    * 
+    * @volatile
+     */
+    protected void setDrainThrowable(Throwable e)
+        {
+        __m_DrainThrowable = e;
+        }
+    
     // Accessor for the property "PingLastMillis"
     /**
      * Setter for property PingLastMillis.<p>
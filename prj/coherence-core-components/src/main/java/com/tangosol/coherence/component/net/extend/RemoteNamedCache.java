@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -1260,6 +1260,30 @@ public class RemoteNamedCache
          */
         private com.tangosol.util.MapListenerSupport __m_MapListenerSupport;
         
+        /**
+         * Property Pinned
+         *
+         * If true, all requests are sent over the Channel used by this
+         * BinaryCache rather than its PooledChannels. A BinaryCache is pinned
+         * once it acquires a lock or registers a MapListener: locks are held
+         * on behalf of the Connection they were acquired over, and MapEvents
+         * are only guaranteed to arrive before the Response to the request
+         * that caused them if both are sent over the same Connection.
+         * 
+         * @volatile
+         */
+        private volatile boolean __m_Pinned;
+        
+        /**
+         * Property PooledChannels
+         *
+         * Additional Channels to the remote NamedCache, each over its own
+         * pooled Connection, used to send stateless requests. May be null.
+         * 
+         * @volatile
+         */
+        private volatile com.tangosol.net.messaging.Channel[] __m_PooledChannels;
+        
         /**
          * Property Values
          *
@@ -1565,6 +1589,10 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             // import com.tangosol.util.filter.InKeySetFilter;
             
+            // MapEvents are sent over the Channel used by this BinaryCache;
+            // send all subsequent requests over it so that they are ordered
+            setPinned(true);
+            
             Channel channel = ensureChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ListenerFilterRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ListenerFilterRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ListenerFilterRequest.TYPE_ID);
@@ -1602,6 +1630,9 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Channel;
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             
+            // see #addRemoteMapListener(Filter, long, boolean, MapTrigger, boolean)
+            setPinned(true);
+            
             Channel channel = ensureChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ListenerKeyRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ListenerKeyRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ListenerKeyRequest.TYPE_ID);
@@ -1639,7 +1670,7 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Channel;
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.AggregateAllRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.AggregateAllRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.AggregateAllRequest.TYPE_ID);
             
@@ -1663,6 +1694,33 @@ public class RemoteNamedCache
             channel.request(request);
             }
         
+        /**
+         * Close the PooledChannels, if any. All subsequent requests are sent
+        * over the Channel used by this BinaryCache.
+         */
+        public void closePooledChannels()
+            {
+            // import com.tangosol.net.messaging.Channel;
+            
+            Channel[] aChannel = getPooledChannels();
+            if (aChannel != null)
+                {
+                setPooledChannels(null);
+                for (int i = 0, c = aChannel.length; i < c; i++)
+                    {
+                    Channel channel = aChannel[i];
+                    if (channel != null)
+                        {
+                        try
+                            {
+                            channel.close();
+                            }
+                        catch (RuntimeException e) {}
+                        }
+                    }
+                }
+            }
+        
         /**
          * Determine if the remote NamedCache contains the specified keys.
         * 
@@ -1692,7 +1750,7 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Channel;
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ContainsKeyRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ContainsKeyRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.ContainsKeyRequest.TYPE_ID);
             
@@ -1864,6 +1922,48 @@ public class RemoteNamedCache
             return channel;
             }
         
+        /**
+         * Return the Channel over which a stateless request should be sent;
+        * this is whichever of the Channel used by this BinaryCache and its open
+        * PooledChannels has the fewest outstanding requests, or the Channel
+        * used by this BinaryCache if it is Pinned.
+        * 
+        * Requests sent over a Channel are matched to their Responses by
+        * identifier, so any number of them may be outstanding at once; the
+        * PooledChannels spread those requests over additional Connections,
+        * preventing a large request or response from delaying all others.
+        * 
+        * @return a Channel that can be used to exchange Messages with the
+        * remote ProxyService
+         */
+        protected com.tangosol.net.messaging.Channel ensureRequestChannel()
+            {
+            // import Component.Net.Extend.Channel as com.tangosol.coherence.component.net.extend.Channel;
+            // import com.tangosol.net.messaging.Channel;
+            
+            Channel   channel  = ensureChannel();
+            Channel[] aChannel = getPooledChannels();
+            if (aChannel != null && !isPinned())
+                {
+                int cPending = ((com.tangosol.coherence.component.net.extend.Channel) channel).getPendingRequestCount();
+                for (int i = 0, c = aChannel.length; i < c && cPending > 0; i++)
+                    {
+                    Channel channelPool = aChannel[i];
+                    if (channelPool != null && channelPool.isOpen())
+                        {
+                        int cPool = ((com.tangosol.coherence.component.net.extend.Channel) channelPool).getPendingRequestCount();
+                        if (cPool < cPending)
+                            {
+                            channel  = channelPool;
+                            cPending = cPool;
+                            }
+                        }
+                    }
+                }
+            
+            return channel;
+            }
+        
         // From interface: com.tangosol.net.NamedCache
         public java.util.Set entrySet()
             {
@@ -1894,7 +1994,7 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Channel;
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.GetRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.GetRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.GetRequest.TYPE_ID);
             
@@ -1913,7 +2013,7 @@ public class RemoteNamedCache
             // import com.tangosol.util.NullImplementation;
             // import java.util.Map;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.GetAllRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.GetAllRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.GetAllRequest.TYPE_ID);
             
@@ -2058,6 +2158,19 @@ public class RemoteNamedCache
             return __m_MapListenerSupport;
             }
         
+        // Accessor for the property "PooledChannels"
+        /**
+         * Getter for property PooledChannels.<p>
+        * Additional Channels to the remote NamedCache, each over its own
+        * pooled Connection, used to send stateless requests. May be null.
+        * 
+        * @volatile
+         */
+        public com.tangosol.net.messaging.Channel[] getPooledChannels()
+            {
+            return __m_PooledChannels;
+            }
+        
         // Accessor for the property "Values"
         /**
          * Getter for property Values.<p>
@@ -2075,7 +2188,7 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Channel;
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.InvokeRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.InvokeRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.InvokeRequest.TYPE_ID);
             
@@ -2151,7 +2264,7 @@ public class RemoteNamedCache
             // import com.tangosol.util.NullImplementation;
             // import java.util.Map;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.InvokeAllRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.InvokeAllRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.InvokeAllRequest.TYPE_ID);
             
@@ -2204,6 +2317,23 @@ public class RemoteNamedCache
             {
             return size() == 0;
             }
+        
+        // Accessor for the property "Pinned"
+        /**
+         * Getter for property Pinned.<p>
+        * If true, all requests are sent over the Channel used by this
+        * BinaryCache rather than its PooledChannels. A BinaryCache is pinned
+        * once it acquires a lock or registers a MapListener: locks are held
+        * on behalf of the Connection they were acquired over, and MapEvents
+        * are only guaranteed to arrive before the Response to the request
+        * that caused them if both are sent over the same Connection.
+        * 
+        * @volatile
+         */
+        public boolean isPinned()
+            {
+            return __m_Pinned;
+            }
 
         // From interface: com.tangosol.net.NamedCache
         @Override
@@ -2301,6 +2431,11 @@ public class RemoteNamedCache
             request.setKey(oKey);
             request.setTimeoutMillis(cWait);
             
+            // locks are held on behalf of the Connection they were acquired
+            // over; send all subsequent requests over that Connection, leaving
+            // the PooledChannels open for requests already sent over them
+            setPinned(true);
+            
             return ((Boolean) channel.request(request)).booleanValue();
             }
         
@@ -2393,7 +2528,7 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             // import com.tangosol.util.Converter;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.PutRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.PutRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.PutRequest.TYPE_ID);
             
@@ -2412,7 +2547,7 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Channel;
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.PutAllRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.PutAllRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.PutAllRequest.TYPE_ID);
             
@@ -2578,7 +2713,7 @@ public class RemoteNamedCache
             // import com.tangosol.net.messaging.Channel;
             // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
             
-            Channel channel = ensureChannel();
+            Channel channel = ensureRequestChannel();
             com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
             com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.RemoveRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.RemoveRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory.RemoveRequest.TYPE_ID);
             
@@ -2895,6 +3030,36 @@ public class RemoteNamedCache
             __m_MapListenerSupport = support;
             }
         
+        // Accessor for the property "Pinned"
+        /**
+         * Setter for property Pinned.<p>
+        * If true, all requests are sent over the Channel used by this
+        * BinaryCache rather than its PooledChannels. A BinaryCache is pinned
+        * once it acquires a lock or registers a MapListener: locks are held
+        * on behalf of the Connection they were acquired over, and MapEvents
+        * are only guaranteed to arrive before the Response to the request
+        * that caused them if both are sent over the same Connection.
+        * 
+        * @volatile
+         */
+        protected void setPinned(boolean fPinned)
+            {
+            __m_Pinned = fPinned;
+            }
+        
+        // Accessor for the property "PooledChannels"
+        /**
+         * Setter for property PooledChannels.<p>
+        * Additional Channels to the remote NamedCache, each over its own
+        * pooled Connection, used to send stateless requests. May be null.
+        * 
+        * @volatile
+         */
+        public void setPooledChannels(com.tangosol.net.messaging.Channel[] aChannel)
+            {
+            __m_PooledChannels = aChannel;
+            }
+        
         // Accessor for the property "Values"
         /**
          * Setter for property Values.<p>
@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -13,9 +13,14 @@ package com.tangosol.coherence.component.net.extend.remoteService;
 import com.tangosol.coherence.component.net.extend.RemoteNamedCache;
 import com.tangosol.coherence.component.net.extend.protocol.CacheServiceProtocol;
 import com.tangosol.coherence.component.net.extend.protocol.NamedCacheProtocol;
+import com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.Initiator;
+import com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.initiator.TcpInitiator;
 import com.tangosol.internal.net.service.extend.remote.DefaultRemoteCacheServiceDependencies;
 import com.tangosol.internal.net.service.extend.remote.RemoteCacheServiceDependencies;
+import com.tangosol.internal.net.service.peer.initiator.InitiatorDependencies;
+import com.tangosol.internal.net.service.peer.initiator.TcpInitiatorDependencies;
 import com.tangosol.net.CacheService;
+import com.tangosol.net.CompositeSocketAddressProvider;
 import com.tangosol.net.RequestTimeoutException;
 import com.tangosol.net.messaging.Channel;
 import com.tangosol.net.messaging.Connection;
@@ -49,6 +54,28 @@ public class RemoteCacheService
      */
     private boolean __m_DeferKeyAssociationCheck;
     
+    /**
+     * Property PooledChannels
+     *
+     * The Channels to the remote CacheServiceProxy over each of the pooled
+     * Connections, indexed as PooledInitiators. An element is null if the
+     * corresponding Channel has not been opened.
+     */
+    private com.tangosol.net.messaging.Channel[] __m_PooledChannels;
+    
+    /**
+     * Property PooledInitiators
+     *
+     * The ConnectionInitiators used to open the pooled Connections to the
+     * remote ProxyService, in addition to the Initiator. Requests which depend
+     * upon the state of a Connection are always sent over the Connection
+     * managed by the Initiator; stateless NamedCache requests are spread over
+     * all Connections. Null if the connection pool size is one.
+     * 
+     * @see com.tangosol.internal.net.service.peer.initiator.TcpInitiatorDependencies#getConnectionPoolSize
+     */
+    private com.tangosol.net.messaging.ConnectionInitiator[] __m_PooledInitiators;
+    
     /**
      * Property ScopedCacheStore
      *
@@ -166,10 +193,43 @@ public class RemoteCacheService
         return new DefaultRemoteCacheServiceDependencies((RemoteCacheServiceDependencies) deps);
         }
     
+    /**
+     * Close the pooled Connections, if any. They are reopened to the
+    * ProxyService that the Initiator is connected to when next required.
+     */
+    protected void closePooledConnections()
+        {
+        // import com.tangosol.net.messaging.Channel;
+        // import com.tangosol.net.messaging.Connection;
+        
+        Channel[] aChannel = getPooledChannels();
+        if (aChannel != null)
+            {
+            for (int i = 0, c = aChannel.length; i < c; i++)
+                {
+                Channel channel = aChannel[i];
+                if (channel != null)
+                    {
+                    aChannel[i] = null;
+                    try
+                        {
+                        Connection connection = channel.getConnection();
+                        if (connection != null)
+                            {
+                            connection.close();
+                            }
+                        }
+                    catch (RuntimeException e) {}
+                    }
+                }
+            }
+        }
+    
     // Declared at the super level
     public void connectionClosed(com.tangosol.net.messaging.ConnectionEvent evt)
         {
         releaseCaches();
+        closePooledConnections();
         super.connectionClosed(evt);
         }
     
@@ -177,6 +237,7 @@ public class RemoteCacheService
     public void connectionError(com.tangosol.net.messaging.ConnectionEvent evt)
         {
         releaseCaches();
+        closePooledConnections();
         super.connectionError(evt);
         }
     
@@ -236,6 +297,8 @@ public class RemoteCacheService
         
         connection.acceptChannel(uri, loader, cache, subject);
         
+        cache.getBinaryCache().setPooledChannels(openPooledCaches(sName, loader, subject));
+        
         return cache;
         }
     
@@ -302,11 +365,67 @@ public class RemoteCacheService
      */
     protected void doShutdown()
         {
+        // import com.tangosol.net.messaging.ConnectionInitiator;
+        
         super.doShutdown();
         
+        ConnectionInitiator[] aInitiator = getPooledInitiators();
+        if (aInitiator != null)
+            {
+            for (int i = 0, c = aInitiator.length; i < c; i++)
+                {
+                aInitiator[i].shutdown();
+                }
+            }
+        
         getScopedCacheStore().clear();
         }
     
+    // Declared at the super level
+    /**
+     * The start() implementation method. This method must only be called by a
+    * thread that has synchronized on this RemoteService.
+     */
+    protected void doStart()
+        {
+        // import com.tangosol.net.messaging.ConnectionInitiator;
+        
+        super.doStart();
+        
+        ConnectionInitiator[] aInitiator = getPooledInitiators();
+        if (aInitiator != null)
+            {
+            for (int i = 0, c = aInitiator.length; i < c; i++)
+                {
+                ConnectionInitiator initiator = aInitiator[i];
+        
+                initiator.setContextClassLoader(getContextClassLoader());
+                initiator.start();
+                }
+            }
+        }
+    
+    // Declared at the super level
+    /**
+     * The stop() implementation method. This method must only be called by a
+    * thread that has synchronized on this RemoteService.
+     */
+    protected void doStop()
+        {
+        // import com.tangosol.net.messaging.ConnectionInitiator;
+        
+        super.doStop();
+        
+        ConnectionInitiator[] aInitiator = getPooledInitiators();
+        if (aInitiator != null)
+            {
+            for (int i = 0, c = aInitiator.length; i < c; i++)
+                {
+                aInitiator[i].stop();
+                }
+            }
+        }
+    
     // From interface: com.tangosol.net.CacheService
     public com.tangosol.net.NamedCache ensureCache(String sName, ClassLoader loader)
         {
@@ -374,6 +493,34 @@ public class RemoteCacheService
         return new IteratorEnumerator(Arrays.asList(getScopedCacheStore().getNames().toArray()).iterator());
         }
     
+    // Accessor for the property "PooledChannels"
+    /**
+     * Getter for property PooledChannels.<p>
+    * The Channels to the remote CacheServiceProxy over each of the pooled
+    * Connections, indexed as PooledInitiators. An element is null if the
+    * corresponding Channel has not been opened.
+     */
+    protected com.tangosol.net.messaging.Channel[] getPooledChannels()
+        {
+        return __m_PooledChannels;
+        }
+    
+    // Accessor for the property "PooledInitiators"
+    /**
+     * Getter for property PooledInitiators.<p>
+    * The ConnectionInitiators used to open the pooled Connections to the
+    * remote ProxyService, in addition to the Initiator. Requests which depend
+    * upon the state of a Connection are always sent over the Connection
+    * managed by the Initiator; stateless NamedCache requests are spread over
+    * all Connections. Null if the connection pool size is one.
+    * 
+    * @see com.tangosol.internal.net.service.peer.initiator.TcpInitiatorDependencies#getConnectionPoolSize
+     */
+    public com.tangosol.net.messaging.ConnectionInitiator[] getPooledInitiators()
+        {
+        return __m_PooledInitiators;
+        }
+    
     // Accessor for the property "ScopedCacheStore"
     /**
      * Getter for property ScopedCacheStore.<p>
@@ -428,8 +575,12 @@ public class RemoteCacheService
         {
         // import Component.Net.Extend.Protocol.CacheServiceProtocol;
         // import Component.Net.Extend.Protocol.NamedCacheProtocol;
-        // import com.tangosol.net.messaging.ConnectionInitiator;
+        // import Component.Util.Daemon.QueueProcessor.Service.Peer.Initiator;
         // import com.tangosol.internal.net.service.extend.remote.RemoteCacheServiceDependencies;
+        // import com.tangosol.internal.net.service.peer.initiator.InitiatorDependencies;
+        // import com.tangosol.internal.net.service.peer.initiator.TcpInitiatorDependencies;
+        // import com.tangosol.net.messaging.Channel;
+        // import com.tangosol.net.messaging.ConnectionInitiator;
         
         super.onDependencies(deps);
         
@@ -440,6 +591,34 @@ public class RemoteCacheService
         ConnectionInitiator initiator = getInitiator();
         initiator.registerProtocol(CacheServiceProtocol.getInstance());
         initiator.registerProtocol(NamedCacheProtocol.getInstance());
+        
+        // create and configure the pooled initiators
+        InitiatorDependencies initiatorDeps = deps.getInitiatorDependencies();
+        if (initiatorDeps instanceof TcpInitiatorDependencies)
+            {
+            int cPool = ((TcpInitiatorDependencies) initiatorDeps).getConnectionPoolSize() - 1;
+            if (cPool > 0)
+                {
+                ConnectionInitiator[] aInitiator = new ConnectionInitiator[cPool];
+                for (int i = 0; i < cPool; i++)
+                    {
+                    initiator = Initiator.createInitiator(initiatorDeps, getOperationalContext());
+                    if (initiator instanceof Initiator)
+                        {
+                        Initiator initiatorImpl = (Initiator) initiator;
+                        initiatorImpl.setServiceName(getServiceName() + ':'
+                                + initiatorImpl.getServiceName() + '-' + (i + 2));
+                        initiatorImpl.setParentService(this);
+                        }
+                    initiator.registerProtocol(CacheServiceProtocol.getInstance());
+                    initiator.registerProtocol(NamedCacheProtocol.getInstance());
+        
+                    aInitiator[i] = initiator;
+                    }
+                setPooledChannels(new Channel[cPool]);
+                setPooledInitiators(aInitiator);
+                }
+            }
         }
     
     // Declared at the super level
@@ -462,6 +641,111 @@ public class RemoteCacheService
                 SecurityHelper.getCurrentSubject());
         }
     
+    /**
+     * Open a Channel to the remote NamedCache with the given name over each of
+    * the pooled Connections.
+    * 
+    * A pooled Connection which cannot be established is skipped; stateless
+    * requests are then spread over the remaining Connections.
+    * 
+    * @param sName    the name of the NamedCache
+    * @param loader   the ClassLoader used to deserialize objects
+    * @param subject  the Subject of the RemoteNamedCache
+    * 
+    * @return the pooled Channels to the remote NamedCache, or null if the
+    * Connections are not pooled
+     */
+    protected com.tangosol.net.messaging.Channel[] openPooledCaches(String sName, ClassLoader loader, javax.security.auth.Subject subject)
+        {
+        // import Component.Net.Extend.MessageFactory.CacheServiceFactory$EnsureCacheRequest as com.tangosol.coherence.component.net.extend.messageFactory.CacheServiceFactory.EnsureCacheRequest;
+        // import com.tangosol.net.messaging.Channel;
+        // import com.tangosol.net.messaging.ConnectionInitiator;
+        // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
+        // import java.net.URI;
+        
+        ConnectionInitiator[] aInitiator = getPooledInitiators();
+        if (aInitiator == null)
+            {
+            return null;
+            }
+        
+        int       cPool    = aInitiator.length;
+        Channel[] aChannel = new Channel[cPool];
+        for (int i = 0; i < cPool; i++)
+            {
+            try
+                {
+                Channel channel = ensurePooledChannel(i);
+                com.tangosol.net.messaging.Protocol.MessageFactory factory = channel.getMessageFactory();
+                com.tangosol.coherence.component.net.extend.messageFactory.CacheServiceFactory.EnsureCacheRequest request = (com.tangosol.coherence.component.net.extend.messageFactory.CacheServiceFactory.EnsureCacheRequest) factory.createMessage(com.tangosol.coherence.component.net.extend.messageFactory.CacheServiceFactory.EnsureCacheRequest.TYPE_ID);
+        
+                request.setCacheName(sName);
+        
+                URI uri = new URI((String) channel.request(request));
+        
+                // the pooled Channels only carry stateless requests, so they
+                // have no Receiver for unsolicited Messages
+                aChannel[i] = channel.getConnection().acceptChannel(uri, loader, null, subject);
+                }
+            catch (Exception e)
+                {
+                _trace("Unable to open pooled connection " + (i + 2) + " for NamedCache \""
+                        + sName + "\": " + e, 3);
+                }
+            }
+        
+        return aChannel;
+        }
+    
+    /**
+     * Return the Channel to the remote CacheServiceProxy over the pooled
+    * Connection with the given index, opening the Connection and the Channel
+    * if necessary.
+    * 
+    * A pooled Connection is always made to the ProxyService that the Initiator
+    * is connected to, which is also the ProxyService located via a NameService
+    * if so configured.
+    * 
+    * @param i  the index of the pooled Connection
+    * 
+    * @return an open Channel to the remote CacheServiceProxy
+     */
+    protected synchronized com.tangosol.net.messaging.Channel ensurePooledChannel(int i)
+        {
+        // import Component.Net.Extend.Protocol.CacheServiceProtocol;
+        // import Component.Util.Daemon.QueueProcessor.Service.Peer.Initiator.TcpInitiator;
+        // import com.tangosol.net.CompositeSocketAddressProvider;
+        // import com.tangosol.net.messaging.Channel;
+        // import com.tangosol.net.messaging.Connection;
+        // import com.tangosol.net.messaging.ConnectionInitiator;
+        // import com.tangosol.net.security.SecurityHelper;
+        
+        Channel[] aChannel = getPooledChannels();
+        Channel   channel  = aChannel[i];
+        if (channel == null || !channel.isOpen())
+            {
+            ConnectionInitiator initiator = getPooledInitiators()[i];
+            Connection          connPrime = ensureChannel().getConnection();
+        
+            if (initiator instanceof TcpInitiator && connPrime instanceof TcpInitiator.TcpConnection)
+                {
+                // connect to the address the Initiator resolved, which retains
+                // its host name (e.g. for SSL host name verification)
+                ((TcpInitiator) initiator).setRemoteAddressProvider(new CompositeSocketAddressProvider(
+                        ((TcpInitiator.TcpConnection) connPrime).getRemoteAddress()));
+                }
+        
+            Connection connection = initiator.ensureConnection();
+            aChannel[i] = channel = connection.openChannel(CacheServiceProtocol.getInstance(),
+                    "CacheServiceProxy",
+                    null,
+                    null,
+                    SecurityHelper.getCurrentSubject());
+            }
+        
+        return channel;
+        }
+    
     // From interface: com.tangosol.net.CacheService
     public void releaseCache(com.tangosol.net.NamedCache map)
         {
@@ -518,6 +802,8 @@ public class RemoteCacheService
                 }
             }
         catch (RuntimeException e) {}
+        
+        cache.getBinaryCache().closePooledChannels();
         }
     
     // From interface: com.tangosol.net.CacheService
@@ -537,6 +823,34 @@ public class RemoteCacheService
         __m_DeferKeyAssociationCheck = fDefer;
         }
     
+    // Accessor for the property "PooledChannels"
+    /**
+     * Setter for property PooledChannels.<p>
+    * The Channels to the remote CacheServiceProxy over each of the pooled
+    * Connections, indexed as PooledInitiators. An element is null if the
+    * corresponding Channel has not been opened.
+     */
+    protected void setPooledChannels(com.tangosol.net.messaging.Channel[] aChannel)
+        {
+        __m_PooledChannels = aChannel;
+        }
+    
+    // Accessor for the property "PooledInitiators"
+    /**
+     * Setter for property PooledInitiators.<p>
+    * The ConnectionInitiators used to open the pooled Connections to the
+    * remote ProxyService, in addition to the Initiator. Requests which depend
+    * upon the state of a Connection are always sent over the Connection
+    * managed by the Initiator; stateless NamedCache requests are spread over
+    * all Connections. Null if the connection pool size is one.
+    * 
+    * @see com.tangosol.internal.net.service.peer.initiator.TcpInitiatorDependencies#getConnectionPoolSize
+     */
+    protected void setPooledInitiators(com.tangosol.net.messaging.ConnectionInitiator[] aInitiator)
+        {
+        __m_PooledInitiators = aInitiator;
+        }
+    
     // Accessor for the property "ScopedCacheStore"
     /**
      * Setter for property ScopedCacheStore.<p>
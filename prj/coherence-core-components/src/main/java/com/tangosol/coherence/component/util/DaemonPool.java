@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -43,6 +43,8 @@ import java.lang.reflect.Array;
 import java.util.Iterator;
 import java.util.Set;
 
+import java.util.concurrent.Semaphore;
+
 /**
  * DaemonPool is a class thread pool implementation for processing queued
  * operations on one or more daemon threads.
@@ -120,6 +122,14 @@ public class DaemonPool
      */
     public static final int DAEMON_STANDARD = 0;
     
+    /**
+     * Property DAEMON_VIRTUAL
+     *
+     * Indicates a non-pooled daemon running a single task on a virtual thread,
+     * which holds one of the pool's VirtualTaskPermits.
+     */
+    public static final int DAEMON_VIRTUAL = 3;
+    
     /**
      * Property DaemonCount
      *
@@ -378,6 +388,14 @@ public class DaemonPool
      */
     private transient int __m_StatsTimeoutCount;
     
+    /**
+     * Property StatsVirtualTaskCount
+     *
+     * The total number of tasks executed on their own virtual thread since the
+     * pool was created.
+     */
+    private transient java.util.concurrent.atomic.AtomicLong __m_StatsVirtualTaskCount;
+    
     /**
      * Property TaskTimeout
      *
@@ -390,6 +408,15 @@ public class DaemonPool
      */
     private long __m_TaskTimeout;
     
+    /**
+     * Property TaskLatencyHistogram
+     *
+     * The optional Histogram recording the time in milliseconds between each
+     * task being added to the pool and its execution completing. Management
+     * tasks are not recorded.
+     */
+    private transient com.tangosol.internal.net.metrics.Histogram __m_TaskLatencyHistogram;
+    
     /**
      * Property ThreadGroup
      *
@@ -403,6 +430,41 @@ public class DaemonPool
      */
     private transient ThreadGroup __m_ThreadGroup;
     
+    /**
+     * Property VirtualTaskLimit
+     *
+     * The maximum number of tasks that may concurrently run on their own
+     * virtual thread.
+     */
+    private transient int __m_VirtualTaskLimit;
+    
+    /**
+     * Property VirtualDaemons
+     *
+     * The DAEMON_VIRTUAL daemons that are currently running a task. These
+     * daemons are not part of the Daemons array, so they are tracked
+     * separately to be included in the hung task detection and the activity
+     * statistics.
+     */
+    private transient Set __m_VirtualDaemons;
+    
+    /**
+     * Property VirtualTaskPermits
+     *
+     * The permits limiting the number of tasks which may concurrently run on
+     * their own virtual thread, or null if tasks are only run by the pool's
+     * daemons.
+     * 
+     * The permits are created when the pool is started if
+     * VirtualThreads.isPerTaskEnabled() for the pool's name. While a permit is
+     * available each task which is not associated with any other is run on a
+     * new virtual thread; once they are exhausted tasks are queued for the
+     * pool's daemons as usual.
+     * 
+     * @volatile
+     */
+    private volatile transient Semaphore __m_VirtualTaskPermits;
+    
     /**
      * Property ThreadPriority
      *
@@ -502,6 +564,8 @@ public class DaemonPool
         try
             {
             __m_DaemonIndex = new java.util.concurrent.atomic.AtomicInteger();
+            __m_StatsVirtualTaskCount = new java.util.concurrent.atomic.AtomicLong();
+            __m_VirtualDaemons = java.util.concurrent.ConcurrentHashMap.newKeySet();
             }
         catch (java.lang.Exception e)
             {
@@ -620,6 +684,11 @@ public class DaemonPool
                 }
         
             Object oAssoc = taskWrapper.getAssociatedKey();
+            if (oAssoc == null && !taskWrapper.isManagementTask() && runVirtual(taskWrapper))
+                {
+                return;
+                }
+        
             long   cAdded = taskWrapper.isManagementTask()
                 ? getStatsTaskAddCount().get()
                 : getStatsTaskAddCount().getAndIncrement();
@@ -656,7 +725,7 @@ public class DaemonPool
         DaemonPool.WrapperTask taskLongest = null;
         long         cLongest    = -1L;
         int          cHung       = 0;
-        DaemonPool.Daemon[]    aDaemon     = getDaemons();
+        DaemonPool.Daemon[]    aDaemon     = getAllDaemons();
         
         for (int i = 0, c = aDaemon == null ? 0 : aDaemon.length; i < c; i++)
             {
@@ -986,13 +1055,14 @@ public class DaemonPool
     // Accessor for the property "ActiveDaemonCount"
     /**
      * Getter for property ActiveDaemonCount.<p>
-    * The number of Daemon threads that are currently executing tasks. This
-    * calculated property will produce a "fully correct" result only if called
-    * while holding the Queue synchronization monitor.
+    * The number of Daemon threads that are currently executing tasks,
+    * including the DAEMON_VIRTUAL daemons. This calculated property will
+    * produce a "fully correct" result only if called while holding the Queue
+    * synchronization monitor.
      */
     public int getActiveDaemonCount()
         {
-        Object[] aDaemon = getDaemons();
+        Object[] aDaemon = getAllDaemons();
         int      cActive = 0;
         for (int i = 0, c = aDaemon == null ? 0 : aDaemon.length; i < c; i++)
             {
@@ -1100,6 +1170,32 @@ public class DaemonPool
         return __m_Daemons;
         }
     
+    /**
+     * Return the pooled Daemon objects together with the DAEMON_VIRTUAL
+    * daemons that are currently running a task.
+     */
+    protected DaemonPool.Daemon[] getAllDaemons()
+        {
+        DaemonPool.Daemon[] aDaemon    = getDaemons();
+        Set                 setVirtual = getVirtualDaemons();
+        
+        if (setVirtual.isEmpty())
+            {
+            return aDaemon;
+            }
+        
+        DaemonPool.Daemon[] aVirtual = (DaemonPool.Daemon[]) setVirtual.toArray(new DaemonPool.Daemon[0]);
+        if (aDaemon == null || aDaemon.length == 0)
+            {
+            return aVirtual;
+            }
+        
+        DaemonPool.Daemon[] aAll = new DaemonPool.Daemon[aDaemon.length + aVirtual.length];
+        System.arraycopy(aDaemon, 0, aAll, 0, aDaemon.length);
+        System.arraycopy(aVirtual, 0, aAll, aDaemon.length, aVirtual.length);
+        return aAll;
+        }
+    
     // From interface: com.tangosol.net.Guardian
     public float getDefaultGuardRecovery()
         {
@@ -1384,6 +1480,18 @@ public class DaemonPool
         return __m_StatsTimeoutCount;
         }
     
+    // Accessor for the property "TaskLatencyHistogram"
+    /**
+     * Getter for property TaskLatencyHistogram.<p>
+    * The optional Histogram recording the time in milliseconds between each
+    * task being added to the pool and its execution completing. Management
+    * tasks are not recorded.
+     */
+    public com.tangosol.internal.net.metrics.Histogram getTaskLatencyHistogram()
+        {
+        return __m_TaskLatencyHistogram;
+        }
+    
     // Accessor for the property "TaskTimeout"
     /**
      * Getter for property TaskTimeout.<p>
@@ -1424,6 +1532,67 @@ public class DaemonPool
         return __m_ThreadPriority;
         }
     
+    // Accessor for the property "StatsVirtualTaskCount"
+    /**
+     * Getter for property StatsVirtualTaskCount.<p>
+    * The total number of tasks executed on their own virtual thread since the
+    * pool was created.
+     */
+    public java.util.concurrent.atomic.AtomicLong getStatsVirtualTaskCount()
+        {
+        return __m_StatsVirtualTaskCount;
+        }
+    
+    // Accessor for the property "VirtualTaskCount"
+    /**
+     * Getter for property VirtualTaskCount.<p>
+    * The number of tasks that are currently running on their own virtual
+    * thread. This property is calculated.
+     */
+    public int getVirtualTaskCount()
+        {
+        Semaphore permits = getVirtualTaskPermits();
+        return permits == null ? 0 : getVirtualTaskLimit() - permits.availablePermits();
+        }
+    
+    // Accessor for the property "VirtualTaskLimit"
+    /**
+     * Getter for property VirtualTaskLimit.<p>
+    * The maximum number of tasks that may concurrently run on their own
+    * virtual thread.
+     */
+    public int getVirtualTaskLimit()
+        {
+        return __m_VirtualTaskLimit;
+        }
+    
+    // Accessor for the property "VirtualDaemons"
+    /**
+     * Getter for property VirtualDaemons.<p>
+    * The DAEMON_VIRTUAL daemons that are currently running a task. These
+    * daemons are not part of the Daemons array, so they are tracked
+    * separately to be included in the hung task detection and the activity
+    * statistics.
+     */
+    protected Set getVirtualDaemons()
+        {
+        return __m_VirtualDaemons;
+        }
+    
+    // Accessor for the property "VirtualTaskPermits"
+    /**
+     * Getter for property VirtualTaskPermits.<p>
+    * The permits limiting the number of tasks which may concurrently run on
+    * their own virtual thread, or null if tasks are only run by the pool's
+    * daemons.
+    * 
+    * @volatile
+     */
+    public Semaphore getVirtualTaskPermits()
+        {
+        return __m_VirtualTaskPermits;
+        }
+    
     // Accessor for the property "WorkSlot"
     /**
      * Getter for property WorkSlot.<p>
@@ -1537,6 +1706,11 @@ public class DaemonPool
         
         switch (nType)
             {
+            case DAEMON_VIRTUAL:
+                sName = "Virtual";
+                sName += ':';
+                sName += getStatsVirtualTaskCount().get();
+                break;
             case DAEMON_NONPOOLED:   // fall through
                 sName = "Dedicated";
             case DAEMON_STANDARD:
@@ -1975,6 +2149,49 @@ public class DaemonPool
         catch (RuntimeException ignored) {}
         }
     
+    /**
+     * Run the specified task on its own virtual thread if the pool runs tasks
+    * on virtual threads and the VirtualTaskLimit has not been reached.
+    * 
+    * @param taskWrapper  the task to run
+    * 
+    * @return true if the task has been handed to a virtual thread; false if
+    * it should be queued for the pool's daemons
+     */
+    protected boolean runVirtual(DaemonPool.WrapperTask taskWrapper)
+        {
+        Semaphore permits = getVirtualTaskPermits();
+        if (permits == null || !permits.tryAcquire())
+            {
+            return false;
+            }
+        
+        DaemonPool.Daemon daemon = null;
+        try
+            {
+            daemon = instantiateDaemon(DAEMON_VIRTUAL, null);
+            daemon.setWrapperTask(taskWrapper);
+        
+            // the daemon removes itself and releases its permit on exit
+            getVirtualDaemons().add(daemon);
+            daemon.start();
+            }
+        catch (RuntimeException | Error e)
+            {
+            // the daemon is not running, so it will not release its permit
+            if (daemon != null)
+                {
+                getVirtualDaemons().remove(daemon);
+                }
+            permits.release();
+            throw e;
+            }
+        
+        getStatsTaskAddCount().getAndIncrement();
+        getStatsVirtualTaskCount().incrementAndGet();
+        return true;
+        }
+    
     // From interface: com.tangosol.internal.util.DaemonPool
     public void schedule(Runnable task, long cMillis)
         {
@@ -2486,6 +2703,18 @@ public class DaemonPool
         __m_StatsTimeoutCount = cTasks;
         }
     
+    // Accessor for the property "TaskLatencyHistogram"
+    /**
+     * Setter for property TaskLatencyHistogram.<p>
+    * The optional Histogram recording the time in milliseconds between each
+    * task being added to the pool and its execution completing. Management
+    * tasks are not recorded.
+     */
+    public void setTaskLatencyHistogram(com.tangosol.internal.net.metrics.Histogram histogram)
+        {
+        __m_TaskLatencyHistogram = histogram;
+        }
+    
     // Accessor for the property "TaskTimeout"
     /**
      * Setter for property TaskTimeout.<p>
@@ -2545,6 +2774,31 @@ public class DaemonPool
             }
         }
     
+    // Accessor for the property "VirtualTaskLimit"
+    /**
+     * Setter for property VirtualTaskLimit.<p>
+    * The maximum number of tasks that may concurrently run on their own
+    * virtual thread.
+     */
+    protected void setVirtualTaskLimit(int cLimit)
+        {
+        __m_VirtualTaskLimit = cLimit;
+        }
+    
+    // Accessor for the property "VirtualTaskPermits"
+    /**
+     * Setter for property VirtualTaskPermits.<p>
+    * The permits limiting the number of tasks which may concurrently run on
+    * their own virtual thread, or null if tasks are only run by the pool's
+    * daemons.
+    * 
+    * @volatile
+     */
+    protected void setVirtualTaskPermits(Semaphore permits)
+        {
+        __m_VirtualTaskPermits = permits;
+        }
+    
     // Accessor for the property "WorkSlot"
     /**
      * Setter for property WorkSlot.<p>
@@ -2679,6 +2933,17 @@ public class DaemonPool
                 aDaemon[i].start();
                 }
         
+            String sName = getName();
+            if (getVirtualTaskPermits() == null && VirtualThreads.isSupported()
+                    && VirtualThreads.isPerTaskEnabled(sName))
+                {
+                int cLimit = VirtualThreads.getPerTaskLimit(sName);
+        
+                setVirtualTaskLimit(cLimit);
+                setVirtualTaskPermits(new Semaphore(cLimit));
+                VirtualThreads.ensurePinnedMonitor();
+                }
+        
             setStarted(true);
         
             if (isDynamic())
@@ -2930,7 +3195,8 @@ public class DaemonPool
         // import com.tangosol.util.Base;
         
         long ldtNow = Base.getSafeTimeMillis();
-        if (cTasks > 0 && daemon.getDaemonType() == DAEMON_STANDARD)
+        if (cTasks > 0 && (daemon.getDaemonType() == DAEMON_STANDARD
+                || daemon.getDaemonType() == DAEMON_VIRTUAL))
             {
             synchronized (STATS_MONITOR)
                 {
@@ -3410,6 +3676,13 @@ public class DaemonPool
                     }
                 }
             
+            if (getDaemonType() == DAEMON_VIRTUAL)
+                {
+                DaemonPool pool = (DaemonPool) get_Module();
+                pool.getVirtualDaemons().remove(this);
+                pool.getVirtualTaskPermits().release();
+                }
+            
             super.onExit();
             }
         
@@ -3436,7 +3709,8 @@ public class DaemonPool
                 {
                 while (!isExiting())
                     {
-                    // Note: we don't collect any stats for a "single task" daemon
+                    // Note: we don't collect any stats for a "single task" daemon,
+                    // other than a DAEMON_VIRTUAL one which runs an ordinary task
                     if (!fOnce)
                         {
                         wrapper = removeFromQueue();
@@ -3468,6 +3742,10 @@ public class DaemonPool
                             setExiting(true);
                             return;
                             }
+                        if (getDaemonType() == DAEMON_VIRTUAL)
+                            {
+                            ldtStart = Base.getSafeTimeMillis();
+                            }
                         }
             
                     long ldtStop        = wrapper.getStopTime();
@@ -3497,6 +3775,13 @@ public class DaemonPool
                     try
                         {
                         wrapper.run();
+            
+                        com.tangosol.internal.net.metrics.Histogram histogram = pool.getTaskLatencyHistogram();
+                        if (histogram != null && !wrapper.isManagementTask())
+                            {
+                            histogram.update(Base.getLastSafeTimeMillis() - wrapper.getPostTime());
+                            }
+            
                         if (fOnce)
                             {
                             setExiting(true);
@@ -3788,6 +4073,11 @@ public class DaemonPool
         protected boolean useVirtualThreads()
             {
             DaemonPool pool = (DaemonPool) get_Module();
+            if (getDaemonType() == DAEMON_VIRTUAL)
+                {
+                // only created if virtual threads are supported
+                return true;
+                }
             return VirtualThreads.isSupported()
                    && VirtualThreads.isEnabled(pool.getName())
                    && (pool.isDynamic() || getDaemonType() == DAEMON_NONPOOLED);
@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -593,6 +593,36 @@ public abstract class Peer
             }
         }
     
+    /**
+     * Close the given Connection if it is being drained and has no
+    * outstanding Requests once this request is processed by the service
+    * thread.
+    * 
+    * @param connection  the Connection to close
+    * 
+    * @see com.tangosol.coherence.component.net.extend.Connection#closeWhenIdle
+     */
+    public void closeConnectionWhenIdle(com.tangosol.coherence.component.net.extend.Connection connection)
+        {
+        // import com.tangosol.net.messaging.Channel;
+        // import com.tangosol.net.messaging.Protocol$MessageFactory as com.tangosol.net.messaging.Protocol.MessageFactory;
+        
+        _assert(connection != null);
+        
+        Channel channel0 = get_Channel();
+        com.tangosol.net.messaging.Protocol.MessageFactory factory0 = channel0.getMessageFactory();
+        
+        Peer.MessageFactory.CloseConnection request = (Peer.MessageFactory.CloseConnection)
+                factory0.createMessage(Peer.MessageFactory.CloseConnection.TYPE_ID);
+        
+        request.setCause(connection.getDrainThrowable());
+        request.setConnectionClose(connection);
+        request.setNotify(true);
+        request.setIdleOnly(true);
+        
+        channel0.send(request);
+        }
+    
     // From interface: com.tangosol.net.messaging.ConnectionManager
     // Declared at the super level
     public synchronized void configure(com.tangosol.run.xml.XmlElement xml)
@@ -1949,7 +1979,8 @@ public abstract class Peer
                 }
         
             // decode the Message if necessary
-            if (message instanceof Peer.MessageFactory.EncodedMessage)
+            boolean fEncoded = message instanceof Peer.MessageFactory.EncodedMessage;
+            if (fEncoded)
                 {
                 Peer.MessageFactory.EncodedMessage messageImpl =
                         (Peer.MessageFactory.EncodedMessage) message;
@@ -2008,6 +2039,12 @@ public abstract class Peer
         
             // update stats
             connection.setStatsReceived(connection.getStatsReceived() + 1);
+            if (fEncoded && message instanceof com.tangosol.net.messaging.Request)
+                {
+                // a Request received from the peer is outstanding until
+                // its Response is sent; see #send
+                connection.getRequestPendingCount().incrementAndGet();
+                }
         
             // execute the Message
             if (this == channel.getReceiver() ||
@@ -2481,6 +2518,14 @@ public abstract class Peer
         setStatsSent(getStatsSent() + 1);
         setStatsBytesSent(getStatsBytesSent() + wb.length());
         
+        // a drained Connection is closed once its last Request is responded to
+        if (message instanceof com.tangosol.net.messaging.Response
+                && connection.getRequestPendingCount().decrementAndGet() <= 0
+                && connection.isDraining())
+            {
+            closeConnectionWhenIdle(connection);
+            }
+        
         if (fMsgDebug)
             {
             _trace("Sent: " + sDebugMsg, 6);
@@ -4894,6 +4939,14 @@ public abstract class Peer
              */
             private transient com.tangosol.coherence.component.net.extend.Connection __m_ConnectionClose;
             
+            /**
+             * Property IdleOnly
+             *
+             * If true, the Connection is only closed if it is still being
+             * drained and has no outstanding Requests.
+             */
+            private transient boolean __m_IdleOnly;
+            
             /**
              * Property Notify
              *
@@ -5065,6 +5118,17 @@ public abstract class Peer
                 return __m_Notify;
                 }
             
+            // Accessor for the property "IdleOnly"
+            /**
+             * Getter for property IdleOnly.<p>
+            * If true, the Connection is only closed if it is still being
+            * drained and has no outstanding Requests.
+             */
+            public boolean isIdleOnly()
+                {
+                return __m_IdleOnly;
+                }
+            
             // Declared at the super level
             /**
              * Called when the Request is run.
@@ -5074,7 +5138,14 @@ public abstract class Peer
              */
             protected void onRun(com.tangosol.coherence.component.net.extend.message.Response response)
                 {
-                getConnectionClose().closeInternal(isNotify(), getCause(), 0L);
+                com.tangosol.coherence.component.net.extend.Connection connection = getConnectionClose();
+                if (isIdleOnly() && !(connection.isDraining() && connection.isIdle()))
+                    {
+                    // a Request has been received since this close was requested;
+                    // the close is requested again once it has been responded to
+                    return;
+                    }
+                connection.closeInternal(isNotify(), getCause(), 0L);
                 }
             
             // Accessor for the property "Cause"
@@ -5097,6 +5168,17 @@ public abstract class Peer
                 __m_ConnectionClose = connection;
                 }
             
+            // Accessor for the property "IdleOnly"
+            /**
+             * Setter for property IdleOnly.<p>
+            * If true, the Connection is only closed if it is still being
+            * drained and has no outstanding Requests.
+             */
+            public void setIdleOnly(boolean fIdle)
+                {
+                __m_IdleOnly = fIdle;
+                }
+            
             // Accessor for the property "Notify"
             /**
              * Setter for property Notify.<p>
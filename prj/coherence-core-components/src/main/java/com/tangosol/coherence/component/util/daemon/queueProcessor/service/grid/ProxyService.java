@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -26,6 +26,8 @@ import com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.
 import com.oracle.coherence.common.net.InetSocketAddress32;
 import com.oracle.coherence.common.net.SSLSocketProvider;
 import com.tangosol.coherence.config.builder.ServiceLoadBalancerBuilder;
+import com.tangosol.internal.net.metrics.Histogram;
+import com.tangosol.internal.net.metrics.Snapshot;
 import com.tangosol.internal.net.service.grid.DefaultProxyServiceDependencies;
 import com.tangosol.internal.net.service.grid.ProxyServiceDependencies;
 import com.tangosol.net.ActionPolicy;
@@ -1440,6 +1442,7 @@ public class ProxyService
                     pool.setName(sAcceptorServiceName);
                     pool.setTaskTimeout(proxyDeps.getTaskTimeoutMillis());
                     pool.setThreadPriority(proxyDeps.getWorkerThreadPriority());
+                    pool.setTaskLatencyHistogram(new Histogram());
                     cacheServiceProxy.setDaemonPool(pool);
                     invocationServiceProxy.setDaemonPool(pool);
                     }
@@ -1512,6 +1515,8 @@ public class ProxyService
         // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.TcpAcceptor;
         // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.TcpAcceptor$TcpConnection as com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor.TcpConnection;
         // import Component.Util.DaemonPool as com.tangosol.coherence.component.util.DaemonPool;
+        // import com.tangosol.internal.net.metrics.Histogram;
+        // import com.tangosol.internal.net.metrics.Snapshot;
         // import com.tangosol.net.messaging.ConnectionAcceptor;
         // import com.tangosol.util.Base;
         // import java.util.ConcurrentModificationException;
@@ -1534,8 +1539,19 @@ public class ProxyService
                 com.tangosol.coherence.component.util.DaemonPool pool = acceptorImpl.getDaemonPool();
                 if (pool.isStarted())
                     {
+                    // tasks running on their own virtual thread add to the
+                    // capacity of the pool's daemons
+                    load.setDaemonCount(pool.getDaemonCount() + pool.getVirtualTaskLimit());
                     load.setDaemonActiveCount(pool.getActiveDaemonCount());
                     load.setMessageBacklogIncoming(pool.getBacklog());
+        
+                    Histogram histogram = pool.getTaskLatencyHistogram();
+                    if (histogram != null)
+                        {
+                        Snapshot snapshot = histogram.getSnapshot();
+                        load.setRequestLatencyMedian((int) Math.min(snapshot.getMedian(), Integer.MAX_VALUE));
+                        load.setRequestLatency99thPercentile((int) Math.min(snapshot.get99thPercentile(), Integer.MAX_VALUE));
+                        }
                     }
         
                 if (acceptor instanceof TcpAcceptor)
@@ -1562,6 +1578,78 @@ public class ProxyService
                 }
         
             updateServiceLoad();
+            updateLoadBalancer(getThisMember(), load, null);
+            reconnectClients();
+            }
+        }
+    
+    /**
+     * Ask as many clients as the load balancer requests to reconnect, allowing
+    * them to be redirected to a less utilized Member. The busiest connections
+    * are chosen first, as each of them moves the most load.
+    * 
+    * A chosen connection is drained rather than closed: it is only closed
+    * once every Request received over it has been responded to, so that no
+    * in-flight Request fails. Only Extend (TcpAcceptor) connections are
+    * rebalanced; gRPC clients are not asked to reconnect.
+     */
+    protected void reconnectClients()
+        {
+        // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.TcpAcceptor;
+        // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.TcpAcceptor$TcpConnection as com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor.TcpConnection;
+        // import com.tangosol.net.messaging.ConnectionAcceptor;
+        // import com.tangosol.net.messaging.ConnectionException;
+        // import com.tangosol.net.proxy.ProxyServiceLoadBalancer;
+        // import java.util.ArrayList;
+        // import java.util.ConcurrentModificationException;
+        // import java.util.Iterator;
+        // import java.util.List;
+        
+        ProxyServiceLoadBalancer balancer = getLoadBalancer();
+        ConnectionAcceptor       acceptor = getAcceptor();
+        if (balancer == null || !(acceptor instanceof TcpAcceptor))
+            {
+            return;
+            }
+        
+        int cReconnect = balancer.getReconnectCount();
+        if (cReconnect <= 0)
+            {
+            return;
+            }
+        
+        List listConn = new ArrayList();
+        try
+            {
+            for (Iterator iter = ((TcpAcceptor) acceptor).getConnectionSet().iterator();
+                 iter.hasNext(); )
+                {
+                com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor.TcpConnection conn = (com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor.TcpConnection) iter.next();
+                if (conn != null && conn.isOpen() && conn.isRedirectSupported() && !conn.isRedirect()
+                        && !conn.isDraining())
+                    {
+                    listConn.add(conn);
+                    }
+                }
+            }
+        catch (ConcurrentModificationException e)
+            {
+            // the load balancer will ask again upon a subsequent update
+            return;
+            }
+        
+        // a connection that is still busy after a load update period is
+        // left open; it may be chosen again upon a subsequent update
+        final long DRAIN_PERIOD = 10000L;
+        
+        listConn.sort((o1, o2) -> Long.compare(((com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor.TcpConnection) o2).getStatsReceived(), ((com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor.TcpConnection) o1).getStatsReceived()));
+        
+        for (int i = 0, c = Math.min(cReconnect, listConn.size()); i < c; i++)
+            {
+            com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor.TcpConnection conn = (com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor.TcpConnection) listConn.get(i);
+        
+            _trace("Asking the client of " + conn + " to reconnect to a less utilized Member", 3);
+            conn.closeWhenIdle(new ConnectionException("connection closed for load balancing"), DRAIN_PERIOD);
             }
         }
     
@@ -3404,6 +3492,22 @@ public class ProxyService
          */
         private ProxyService.ServiceLoadListener __m_Listener;
         
+        /**
+         * Property RequestLatency99thPercentile
+         *
+         * The 99th percentile of the time in milliseconds between a request
+         * being received and its processing completing.
+         */
+        private int __m_RequestLatency99thPercentile;
+        
+        /**
+         * Property RequestLatencyMedian
+         *
+         * The median time in milliseconds between a request being received
+         * and its processing completing.
+         */
+        private int __m_RequestLatencyMedian;
+        
         // Default constructor
         public ServiceLoad()
             {
@@ -3510,6 +3614,31 @@ public class ProxyService
             return false;
             }
         
+        // Declared at the super level
+        /**
+         * Initialize this ServiceLoad from a Map representation.
+        * 
+        * @param map  the Map representation of a ServiceLoad
+         */
+        public void fromMap(java.util.Map map)
+            {
+            super.fromMap(map);
+            
+            if (map != null)
+                {
+                Integer I = (Integer) map.get("RequestLatencyMedian");
+                if (I != null)
+                    {
+                    setRequestLatencyMedian(I.intValue());
+                    }
+                I = (Integer) map.get("RequestLatency99thPercentile");
+                if (I != null)
+                    {
+                    setRequestLatency99thPercentile(I.intValue());
+                    }
+                }
+            }
+        
         // Accessor for the property "Listener"
         /**
          * Getter for property Listener.<p>
@@ -3521,12 +3650,58 @@ public class ProxyService
             return __m_Listener;
             }
         
+        // From interface: com.tangosol.net.proxy.ProxyServiceLoad
+        // Accessor for the property "RequestLatency99thPercentile"
+        /**
+         * Getter for property RequestLatency99thPercentile.<p>
+        * The 99th percentile of the time in milliseconds between a request
+        * being received and its processing completing.
+         */
+        public int getRequestLatency99thPercentile()
+            {
+            return __m_RequestLatency99thPercentile;
+            }
+        
+        // From interface: com.tangosol.net.proxy.ProxyServiceLoad
+        // Accessor for the property "RequestLatencyMedian"
+        /**
+         * Getter for property RequestLatencyMedian.<p>
+        * The median time in milliseconds between a request being received
+        * and its processing completing.
+         */
+        public int getRequestLatencyMedian()
+            {
+            return __m_RequestLatencyMedian;
+            }
+        
         // Declared at the super level
         public int hashCode()
             {
             return getConnectionFactor();
             }
         
+        // Accessor for the property "RequestLatency99thPercentile"
+        /**
+         * Setter for property RequestLatency99thPercentile.<p>
+        * The 99th percentile of the time in milliseconds between a request
+        * being received and its processing completing.
+         */
+        public void setRequestLatency99thPercentile(int cMillis)
+            {
+            __m_RequestLatency99thPercentile = cMillis;
+            }
+        
+        // Accessor for the property "RequestLatencyMedian"
+        /**
+         * Setter for property RequestLatencyMedian.<p>
+        * The median time in milliseconds between a request being received
+        * and its processing completing.
+         */
+        public void setRequestLatencyMedian(int cMillis)
+            {
+            __m_RequestLatencyMedian = cMillis;
+            }
+        
         // Accessor for the property "Listener"
         /**
          * Setter for property Listener.<p>
@@ -3537,6 +3712,23 @@ public class ProxyService
             {
             __m_Listener = listener;
             }
+        
+        // Declared at the super level
+        /**
+         * Create a Map representation of this ServiceLoad.
+        * 
+        * @return the Map representation of this ServiceLoad
+         */
+        public java.util.Map toMap()
+            {
+            // import java.util.Map;
+            
+            Map map = super.toMap();
+            map.put("RequestLatencyMedian",         Integer.valueOf(getRequestLatencyMedian()));
+            map.put("RequestLatency99thPercentile", Integer.valueOf(getRequestLatency99thPercentile()));
+            
+            return map;
+            }
         }
 
     // ---- class: com.tangosol.coherence.component.util.daemon.queueProcessor.service.grid.ProxyService$ServiceLoadListener
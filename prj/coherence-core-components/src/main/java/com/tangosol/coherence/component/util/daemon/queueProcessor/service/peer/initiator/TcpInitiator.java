@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -645,6 +645,7 @@ public class TcpInitiator
                 Blocking.connect(socket, addr, cMillis);
                 
                 connection.setSocket(socket);
+                connection.setRemoteAddress(addr);
                 }
             catch (Exception e)
                 {
@@ -1413,6 +1414,16 @@ public class TcpInitiator
          */
         private java.util.List __m_RedirectList;
         
+        /**
+         * Property RemoteAddress
+         *
+         * The SocketAddress, as supplied by the RemoteAddressProvider or a
+         * redirect, that the underlying Socket was connected to. Unlike the
+         * address of the Socket, it retains the host name it was created
+         * with.
+         */
+        private java.net.SocketAddress __m_RemoteAddress;
+        
         /**
          * Property RequestSendTimeout
          *
@@ -1654,6 +1665,19 @@ public class TcpInitiator
             return __m_RedirectList;
             }
         
+        // Accessor for the property "RemoteAddress"
+        /**
+         * Getter for property RemoteAddress.<p>
+        * The SocketAddress, as supplied by the RemoteAddressProvider or a
+        * redirect, that the underlying Socket was connected to. Unlike the
+        * address of the Socket, it retains the host name it was created
+        * with.
+         */
+        public java.net.SocketAddress getRemoteAddress()
+            {
+            return __m_RemoteAddress;
+            }
+        
         // Accessor for the property "RequestSendTimeout"
         /**
          * Getter for property RequestSendTimeout.<p>
@@ -1862,6 +1886,19 @@ public class TcpInitiator
             __m_RedirectList = list;
             }
         
+        // Accessor for the property "RemoteAddress"
+        /**
+         * Setter for property RemoteAddress.<p>
+        * The SocketAddress, as supplied by the RemoteAddressProvider or a
+        * redirect, that the underlying Socket was connected to. Unlike the
+        * address of the Socket, it retains the host name it was created
+        * with.
+         */
+        public void setRemoteAddress(java.net.SocketAddress addr)
+            {
+            __m_RemoteAddress = addr;
+            }
+        
         // Accessor for the property "RequestSendTimeout"
         /**
          * Setter for property RequestSendTimeout.<p>
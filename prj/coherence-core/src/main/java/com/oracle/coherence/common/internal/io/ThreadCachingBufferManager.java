@@ -0,0 +1,552 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.io;
+
+import com.oracle.coherence.common.io.BufferManager;
+import com.oracle.coherence.common.io.BufferManagers;
+import com.oracle.coherence.common.io.Buffers;
+import com.oracle.coherence.common.util.MemorySize;
+
+import java.lang.ref.WeakReference;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * ThreadCachingBufferManager is a BufferManager wrapper which keeps a small per-thread cache of released buffers
+ * for each power of two size class, allowing a thread which repeatedly acquires and releases buffers of similar
+ * sizes to do so without touching the shared pool.
+ * <p>
+ * The delegate is expected to be a pooled manager such as the {@link SlabBufferManager}, whose segments are
+ * themselves power of two sized.  A buffer belongs to the size class of the largest power of two not exceeding its
+ * capacity, which ensures that any buffer taken from a class is large enough to satisfy a request rounded up to
+ * that class.  Buffers larger than the largest cached class are passed straight through to the delegate.
+ * <p>
+ * Each thread caches at most <tt>cbCache</tt> bytes per size class, and never more than {@link #MAX_CACHED_BUFFERS}
+ * buffers.  The bytes cached by all the threads together are limited to <tt>cbBudget</tt>, so that threads which
+ * release more buffers than they acquire, for instance those releasing buffers acquired by another thread, cannot
+ * strand more than the budget.  A thread only has a cache once it has released a buffer, and the buffers cached by
+ * threads which have terminated are returned to the delegate by {@link #drainTerminated()}, which is run
+ * periodically when a new cache is created or the budget is exhausted.
+ * <p>
+ * The manager tracks the number of buffers acquired and released, and the cache hits, for each size class; the
+ * difference between acquisitions and releases is the occupancy of the class, a steadily increasing value of which
+ * is indicative of a leak.  Detailed leak tracking is left to the {@link CheckedBufferManager}, which should be
+ * layered on top of this manager so that it sees cached buffers as released.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class ThreadCachingBufferManager
+        extends WrapperBufferManager
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a ThreadCachingBufferManager.
+     *
+     * @param delegate  the BufferManager to delegate to
+     * @param cbCache   the maximum number of bytes to cache per size class per thread
+     * @param cbBudget  the maximum number of bytes to cache over all threads
+     */
+    public ThreadCachingBufferManager(BufferManager delegate, int cbCache, long cbBudget)
+        {
+        super(delegate);
+
+        // only cache classes which can hold at least two buffers
+        int nClassMax = cbCache < (2 << MIN_SIZE_CLASS) ? MIN_SIZE_CLASS - 1 : 30 - Integer.numberOfLeadingZeros(cbCache);
+        int cClasses  = Math.max(0, nClassMax - MIN_SIZE_CLASS + 1);
+
+        int[] acSlots = new int[cClasses];
+        for (int i = 0; i < cClasses; ++i)
+            {
+            acSlots[i] = Math.min(MAX_CACHED_BUFFERS, cbCache >> (MIN_SIZE_CLASS + i));
+            }
+
+        SizeClass[] aStats = new SizeClass[cClasses + 1]; // the last class tracks uncached sizes
+        for (int i = 0; i <= cClasses; ++i)
+            {
+            aStats[i] = new SizeClass();
+            }
+
+        f_acSlots  = acSlots;
+        f_aStats   = aStats;
+        f_cbBudget = cbBudget;
+        }
+
+    // ----- BufferManager interface ----------------------------------------
+
+    @Override
+    public ByteBuffer acquire(int cbMin)
+        {
+        int        nClass = getRequestClass(cbMin);
+        ByteBuffer buff   = poll(nClass);
+        if (buff == null)
+            {
+            buff = f_delegate.acquire(cbMin);
+            getStatistics(buff.capacity()).f_cAcquired.increment();
+            }
+        return limit(buff, cbMin);
+        }
+
+    @Override
+    public ByteBuffer acquirePref(int cbPref)
+        {
+        int        nClass = getRequestClass(cbPref);
+        ByteBuffer buff   = poll(nClass);
+        if (buff == null)
+            {
+            buff = f_delegate.acquirePref(cbPref);
+            getStatistics(buff.capacity()).f_cAcquired.increment();
+            }
+        return limit(buff, cbPref);
+        }
+
+    @Override
+    public ByteBuffer acquireSum(int cbSum)
+        {
+        ByteBuffer buff = f_delegate.acquireSum(cbSum);
+        getStatistics(buff.capacity()).f_cAcquired.increment();
+        return buff;
+        }
+
+    @Override
+    public ByteBuffer truncate(ByteBuffer buff)
+        {
+        ByteBuffer buffNew = f_delegate.truncate(buff);
+        if (buffNew != buff)
+            {
+            // the delegate has released the original buffer and acquired a replacement on our behalf
+            getStatistics(buff.capacity()).f_cReleased.increment();
+            getStatistics(buffNew.capacity()).f_cAcquired.increment();
+            }
+        return buffNew;
+        }
+
+    @Override
+    public void release(ByteBuffer buff)
+        {
+        int       cb    = buff.capacity();
+        SizeClass stats = getStatistics(cb);
+
+        stats.f_cReleased.increment();
+
+        int nClass = getBufferClass(cb);
+        if (nClass < f_acSlots.length)
+            {
+            Cache        cache = ensureCache();
+            ByteBuffer[] aBuff = cache.f_aaBuff[nClass];
+            int          cLen  = cache.f_acLen[nClass];
+            if (cLen < aBuff.length)
+                {
+                AtomicLong cbCached = f_cbCached;
+                if (cbCached.addAndGet(cb) <= f_cbBudget)
+                    {
+                    // match the state of buffers released to the pool
+                    buff.order(ByteOrder.BIG_ENDIAN).clear();
+                    if (BufferManagers.ZERO_ON_RELEASE)
+                        {
+                        Buffers.zero(buff);
+                        }
+
+                    aBuff[cLen]           = buff;
+                    cache.f_acLen[nClass] = cLen + 1;
+                    return;
+                    }
+
+                // the budget is exhausted, try to reclaim the caches of terminated threads
+                cbCached.addAndGet(-cb);
+                drainTerminatedPeriodically();
+                }
+            }
+
+        f_delegate.release(buff);
+        }
+
+    // ----- ThreadCachingBufferManager interface ---------------------------
+
+    /**
+     * Return the number of cached size classes.
+     *
+     * @return the number of cached size classes
+     */
+    public int getSizeClassCount()
+        {
+        return f_acSlots.length;
+        }
+
+    /**
+     * Return the minimum buffer capacity of the specified size class.
+     *
+     * @param nClass  the size class
+     *
+     * @return the minimum buffer capacity of the class
+     */
+    public int getSizeClassCapacity(int nClass)
+        {
+        return 1 << (MIN_SIZE_CLASS + nClass);
+        }
+
+    /**
+     * Return the number of buffers of the specified size class which have been acquired but not yet released,
+     * excluding those held in thread caches.
+     * <p>
+     * Passing {@link #getSizeClassCount()} returns the occupancy of buffers which are too large to be cached.
+     *
+     * @param nClass  the size class
+     *
+     * @return the number of outstanding buffers
+     */
+    public long getOccupancy(int nClass)
+        {
+        SizeClass stats = f_aStats[nClass];
+        return stats.f_cAcquired.sum() + stats.f_cHits.sum() - stats.f_cReleased.sum();
+        }
+
+    /**
+     * Return the percentage of acquisitions of the specified size class which were satisfied from a thread cache.
+     *
+     * @param nClass  the size class
+     *
+     * @return the cache hit rate
+     */
+    public int getHitRate(int nClass)
+        {
+        SizeClass stats = f_aStats[nClass];
+        long      cHits = stats.f_cHits.sum();
+        long      cAll  = cHits + stats.f_cAcquired.sum();
+        return (int) (cHits * 100 / (cAll == 0 ? 1 : cAll));
+        }
+
+    /**
+     * Return the number of bytes held in all the thread caches.
+     *
+     * @return the number of cached bytes
+     */
+    public long getCachedBytes()
+        {
+        return f_cbCached.get();
+        }
+
+    /**
+     * Return the maximum number of bytes which may be held in all the thread caches.
+     *
+     * @return the cache budget
+     */
+    public long getBudget()
+        {
+        return f_cbBudget;
+        }
+
+    /**
+     * Return the buffers cached by threads which have terminated to the delegate.
+     *
+     * @return the number of buffers returned to the delegate
+     */
+    public int drainTerminated()
+        {
+        int cDrained = 0;
+        for (Cache cache : f_setCache)
+            {
+            Thread thread = cache.f_refThread.get();
+
+            // the termination of a thread happens-before isAlive returns false, so its cache is safe to drain; the
+            // removal ensures that a cache is only drained once by concurrent callers
+            if ((thread == null || !thread.isAlive()) && f_setCache.remove(cache))
+                {
+                cDrained += drain(cache);
+                }
+            }
+        return cDrained;
+        }
+
+    // ----- Object interface -----------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        StringBuilder sb       = new StringBuilder("ThreadCachingBufferManager(classes=");
+        int           cClasses = getSizeClassCount();
+        for (int i = 0; i < cClasses; ++i)
+            {
+            sb.append(new MemorySize(getSizeClassCapacity(i)))
+              .append("(occupancy=").append(getOccupancy(i))
+              .append(", hit rate=").append(getHitRate(i)).append("%), ");
+            }
+        return sb.append("uncached(occupancy=").append(getOccupancy(cClasses))
+                 .append("), delegate=").append(f_delegate).append(")").toString();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Remove and return a buffer of the specified size class from the calling thread's cache.
+     *
+     * @param nClass  the size class
+     *
+     * @return the buffer, or null if none is cached
+     */
+    protected ByteBuffer poll(int nClass)
+        {
+        if (nClass < f_acSlots.length)
+            {
+            Cache cache = f_tlCache.get();
+            int   cLen  = cache == null ? 0 : cache.f_acLen[nClass];
+            if (cLen > 0)
+                {
+                ByteBuffer[] aBuff = cache.f_aaBuff[nClass];
+                ByteBuffer   buff  = aBuff[--cLen];
+
+                aBuff[cLen]           = null;
+                cache.f_acLen[nClass] = cLen;
+                f_cbCached.addAndGet(-buff.capacity());
+                f_aStats[nClass].f_cHits.increment();
+                return buff;
+                }
+            }
+        return null;
+        }
+
+    /**
+     * Set the limit of an acquired buffer as required by the {@link BufferManager} contract, so that buffers taken
+     * from a thread cache and from the delegate are returned in the same state.
+     *
+     * @param buff  the acquired buffer
+     * @param cb    the requested size
+     *
+     * @return the buffer
+     */
+    protected static ByteBuffer limit(ByteBuffer buff, int cb)
+        {
+        buff.limit(Math.min(buff.capacity(), cb));
+        return buff;
+        }
+
+    /**
+     * Return the calling thread's cache, creating it if necessary.
+     *
+     * @return the calling thread's cache
+     */
+    protected Cache ensureCache()
+        {
+        Cache cache = f_tlCache.get();
+        if (cache == null)
+            {
+            drainTerminatedPeriodically();
+
+            cache = new Cache(f_acSlots, Thread.currentThread());
+            f_tlCache.set(cache);
+            f_setCache.add(cache);
+            }
+        return cache;
+        }
+
+    /**
+     * Run {@link #drainTerminated()} if it has not been run within the last {@link #DRAIN_INTERVAL_MILLIS}.
+     */
+    protected void drainTerminatedPeriodically()
+        {
+        long ldtNow  = System.currentTimeMillis();
+        long ldtLast = f_ldtDrain.get();
+        if (ldtNow - ldtLast >= DRAIN_INTERVAL_MILLIS && f_ldtDrain.compareAndSet(ldtLast, ldtNow))
+            {
+            drainTerminated();
+            }
+        }
+
+    /**
+     * Return all the buffers held in a cache to the delegate.
+     *
+     * @param cache  the cache, which must not be in use by its thread
+     *
+     * @return the number of buffers returned to the delegate
+     */
+    protected int drain(Cache cache)
+        {
+        int            cDrained = 0;
+        ByteBuffer[][] aaBuff   = cache.f_aaBuff;
+        for (int nClass = 0; nClass < aaBuff.length; ++nClass)
+            {
+            ByteBuffer[] aBuff = aaBuff[nClass];
+            for (int i = 0, c = cache.f_acLen[nClass]; i < c; ++i)
+                {
+                ByteBuffer buff = aBuff[i];
+
+                aBuff[i] = null;
+                f_cbCached.addAndGet(-buff.capacity());
+                f_delegate.release(buff);
+                ++cDrained;
+                }
+            cache.f_acLen[nClass] = 0;
+            }
+        return cDrained;
+        }
+
+    /**
+     * Return the size class which can satisfy a request for the specified number of bytes.
+     *
+     * @param cb  the requested size
+     *
+     * @return the size class, which may exceed the number of cached classes
+     */
+    protected static int getRequestClass(int cb)
+        {
+        return cb <= (1 << MIN_SIZE_CLASS) ? 0 : 32 - Integer.numberOfLeadingZeros(cb - 1) - MIN_SIZE_CLASS;
+        }
+
+    /**
+     * Return the size class of a buffer with the specified capacity.
+     *
+     * @param cb  the buffer capacity
+     *
+     * @return the size class, or {@link Integer#MAX_VALUE} if the buffer is smaller than the smallest class
+     */
+    protected static int getBufferClass(int cb)
+        {
+        return cb < (1 << MIN_SIZE_CLASS) ? Integer.MAX_VALUE : 31 - Integer.numberOfLeadingZeros(cb) - MIN_SIZE_CLASS;
+        }
+
+    /**
+     * Return the statistics for a buffer of the specified capacity.
+     *
+     * @param cb  the buffer capacity
+     *
+     * @return the statistics
+     */
+    protected SizeClass getStatistics(int cb)
+        {
+        SizeClass[] aStats = f_aStats;
+        return aStats[Math.min(getBufferClass(cb), aStats.length - 1)];
+        }
+
+    // ----- inner class: SizeClass -----------------------------------------
+
+    /**
+     * The statistics of a size class.
+     */
+    protected static class SizeClass
+        {
+        /**
+         * The number of buffers acquired from the delegate.
+         */
+        protected final LongAdder f_cAcquired = new LongAdder();
+
+        /**
+         * The number of buffers acquired from thread caches.
+         */
+        protected final LongAdder f_cHits = new LongAdder();
+
+        /**
+         * The number of buffers released.
+         */
+        protected final LongAdder f_cReleased = new LongAdder();
+        }
+
+    // ----- inner class: Cache ---------------------------------------------
+
+    /**
+     * The buffers cached by a single thread.
+     */
+    protected static class Cache
+        {
+        /**
+         * Create a Cache.
+         *
+         * @param acSlots  the number of buffers which may be cached, indexed by size class
+         * @param thread   the thread owning the cache
+         */
+        protected Cache(int[] acSlots, Thread thread)
+            {
+            int            cClasses = acSlots.length;
+            ByteBuffer[][] aaBuff   = new ByteBuffer[cClasses][];
+            for (int i = 0; i < cClasses; ++i)
+                {
+                aaBuff[i] = new ByteBuffer[acSlots[i]];
+                }
+            f_aaBuff    = aaBuff;
+            f_acLen     = new int[cClasses];
+            f_refThread = new WeakReference<>(thread);
+            }
+
+        /**
+         * The cached buffers, indexed by size class.
+         */
+        protected final ByteBuffer[][] f_aaBuff;
+
+        /**
+         * The number of cached buffers, indexed by size class.
+         */
+        protected final int[] f_acLen;
+
+        /**
+         * The thread owning the cache.
+         */
+        protected final WeakReference<Thread> f_refThread;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The base two logarithm of the capacity of the smallest size class.
+     */
+    public static final int MIN_SIZE_CLASS = 10;
+
+    /**
+     * The maximum number of buffers cached per size class per thread.
+     */
+    public static final int MAX_CACHED_BUFFERS = 16;
+
+    /**
+     * The minimum interval between two periodic drains of the caches of terminated threads.
+     */
+    public static final long DRAIN_INTERVAL_MILLIS = 1000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of buffers which may be cached per thread, indexed by size class.
+     */
+    protected final int[] f_acSlots;
+
+    /**
+     * The statistics for each size class, with one trailing entry for uncached sizes.
+     */
+    protected final SizeClass[] f_aStats;
+
+    /**
+     * The maximum number of bytes cached over all threads.
+     */
+    protected final long f_cbBudget;
+
+    /**
+     * The number of bytes cached over all threads.
+     */
+    protected final AtomicLong f_cbCached = new AtomicLong();
+
+    /**
+     * The time of the last periodic drain of the caches of terminated threads.
+     */
+    protected final AtomicLong f_ldtDrain = new AtomicLong();
+
+    /**
+     * The per-thread buffer caches.
+     */
+    protected final ThreadLocal<Cache> f_tlCache = new ThreadLocal<>();
+
+    /**
+     * The caches of all the threads which have released a buffer and have not yet been drained.
+     */
+    protected final Set<Cache> f_setCache = ConcurrentHashMap.newKeySet();
+    }
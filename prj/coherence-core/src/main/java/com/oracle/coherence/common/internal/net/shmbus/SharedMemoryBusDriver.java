@@ -0,0 +1,655 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+
+import com.oracle.coherence.common.io.BufferManager;
+import com.oracle.coherence.common.io.BufferManagers;
+import com.oracle.coherence.common.net.exabus.Bus;
+import com.oracle.coherence.common.net.exabus.Depot;
+import com.oracle.coherence.common.net.exabus.EndPoint;
+import com.oracle.coherence.common.net.exabus.MessageBus;
+import com.oracle.coherence.common.net.exabus.spi.Driver;
+import com.oracle.coherence.common.util.Duration;
+import com.oracle.coherence.common.util.MemorySize;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.StandardOpenOption;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * SharedMemoryBusDriver is a Driver which allows MessageBus instances
+ * hosted on the same machine to exchange messages through memory-mapped
+ * files rather than through the loopback network stack.
+ * <p>
+ * The driver wraps another driver, typically the TCP {@code SocketBusDriver},
+ * and uses it for EndPoint resolution, for connection management and for
+ * all communication with peers on other machines. Each bus created by this
+ * driver publishes an inbox directory named after its local EndPoint within
+ * a shared root directory. When connecting to a peer whose inbox exists and
+ * is owned by a live process, the bus creates a {@link SharedMemoryRing} in
+ * the peer's inbox and sends all messages for that peer through the ring;
+ * otherwise it falls back to the wrapped bus. The addressing is therefore
+ * identical to that of the wrapped driver.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class SharedMemoryBusDriver
+        implements Driver
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a SharedMemoryBusDriver with default dependencies.
+     *
+     * @param delegate  the driver to wrap
+     */
+    public SharedMemoryBusDriver(Driver delegate)
+        {
+        this(delegate, null);
+        }
+
+    /**
+     * Construct a SharedMemoryBusDriver.
+     *
+     * @param delegate  the driver to wrap
+     * @param deps      the driver's dependencies, or null for the defaults
+     */
+    public SharedMemoryBusDriver(Driver delegate, Dependencies deps)
+        {
+        if (delegate == null)
+            {
+            throw new IllegalArgumentException("delegate cannot be null");
+            }
+
+        f_delegate     = delegate;
+        m_dependencies = copyDependencies(deps).validate();
+        }
+
+
+    // ----- Driver interface -----------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDepot(Depot depot)
+        {
+        m_depot = depot;
+        f_delegate.setDepot(depot);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Depot getDepot()
+        {
+        return m_depot;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EndPoint resolveEndPoint(String sName)
+        {
+        return f_delegate.resolveEndPoint(sName);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSupported(EndPoint point)
+        {
+        return f_delegate.isSupported(point);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Bus createBus(EndPoint pointLocal)
+        {
+        Bus bus = f_delegate.createBus(pointLocal);
+        return bus instanceof MessageBus
+                ? new SharedMemoryMessageBus(this, (MessageBus) bus)
+                : bus;
+        }
+
+
+    // ----- SharedMemoryBusDriver methods ----------------------------------
+
+    /**
+     * Return the wrapped driver.
+     *
+     * @return the wrapped driver
+     */
+    public Driver getDelegate()
+        {
+        return f_delegate;
+        }
+
+    /**
+     * Return the driver's Dependencies.
+     *
+     * @return the driver's Dependencies
+     */
+    public Dependencies getDependencies()
+        {
+        return m_dependencies;
+        }
+
+    /**
+     * Return the inbox directory of the bus bound to the specified EndPoint.
+     *
+     * @param point  the EndPoint
+     *
+     * @return the inbox directory
+     */
+    public File getInbox(EndPoint point)
+        {
+        return new File(getDependencies().getDirectory(), encode(point.getCanonicalName()));
+        }
+
+    /**
+     * Return true if the inbox of the specified EndPoint exists and is owned
+     * by a live process on this machine.
+     *
+     * @param point  the EndPoint
+     *
+     * @return true if the EndPoint can be reached through shared memory
+     */
+    public boolean isLocal(EndPoint point)
+        {
+        File fileLock = new File(getInbox(point), LOCK_FILE);
+        if (!fileLock.exists())
+            {
+            return false;
+            }
+
+        try (RandomAccessFile raf = new RandomAccessFile(fileLock, "rw"))
+            {
+            FileLock lock = raf.getChannel().tryLock();
+            if (lock == null)
+                {
+                return true; // held by another process
+                }
+            lock.release();
+            return false;    // the owner is gone
+            }
+        catch (OverlappingFileLockException e)
+            {
+            return true;     // held by another bus within this process
+            }
+        catch (IOException e)
+            {
+            return false;
+            }
+        }
+
+    /**
+     * Remove the inboxes left behind by processes which are no longer running.
+     * <p>
+     * An inbox is only removed while holding the lock on its lock file, and
+     * the lock file is removed before the directory, so a bus which is
+     * concurrently opening the inbox either fails to lock it or finds that the
+     * file it locked has been removed, and retries. Directories without a lock
+     * file may belong to a bus which is still opening its inbox, and are left
+     * alone.
+     */
+    public void purgeStaleInboxes()
+        {
+        File[] aDir = getDependencies().getDirectory().listFiles(File::isDirectory);
+        if (aDir == null)
+            {
+            return;
+            }
+
+        for (File dir : aDir)
+            {
+            File fileLock = new File(dir, LOCK_FILE);
+            try (FileChannel channel = FileChannel.open(fileLock.toPath(), StandardOpenOption.WRITE))
+                {
+                FileLock lock = channel.tryLock();
+                if (lock != null)
+                    {
+                    // the lock is released when the channel is closed
+                    File[] aFile = dir.listFiles((d, sName) -> !sName.equals(LOCK_FILE));
+                    if (aFile != null)
+                        {
+                        for (File file : aFile)
+                            {
+                            delete(file);
+                            }
+                        }
+                    fileLock.delete();
+                    dir.delete();
+                    }
+                }
+            catch (OverlappingFileLockException | IOException e)
+                {
+                // in use, already removed, or not ours to remove
+                }
+            }
+        }
+
+    /**
+     * Encode an EndPoint name so that it can be used as a file name.
+     *
+     * @param sName  the EndPoint name
+     *
+     * @return the encoded name
+     */
+    public static String encode(String sName)
+        {
+        return URLEncoder.encode(sName, StandardCharsets.UTF_8);
+        }
+
+    /**
+     * Decode a file name produced by {@link #encode}.
+     *
+     * @param sFile  the file name
+     *
+     * @return the EndPoint name
+     */
+    public static String decode(String sFile)
+        {
+        return URLDecoder.decode(sFile, StandardCharsets.UTF_8);
+        }
+
+    /**
+     * Delete a file or a directory and its contents, ignoring failures.
+     *
+     * @param file  the file or directory to delete
+     */
+    public static void delete(File file)
+        {
+        File[] aFile = file.listFiles();
+        if (aFile != null)
+            {
+            for (File fileChild : aFile)
+                {
+                delete(fileChild);
+                }
+            }
+        file.delete();
+        }
+
+    /**
+     * Return true if the shared memory driver should be installed in front
+     * of the TCP driver by the {@link com.oracle.coherence.common.net.exabus.util.SimpleDepot}.
+     *
+     * @return true if the shared memory driver is enabled
+     */
+    public static boolean isEnabled()
+        {
+        return Boolean.parseBoolean(System.getProperty(SharedMemoryBusDriver.class.getName() + ".enabled", "false"));
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Produce a shallow copy of the supplied dependencies.
+     *
+     * @param deps  the dependencies to copy
+     *
+     * @return the dependencies
+     */
+    protected DefaultDependencies copyDependencies(Dependencies deps)
+        {
+        return new DefaultDependencies(deps);
+        }
+
+    /**
+     * Log a message at the specified level.
+     *
+     * @param level  the level
+     * @param sMsg   the message
+     * @param t      the optional cause
+     */
+    protected void log(Level level, String sMsg, Throwable t)
+        {
+        Logger logger = getDependencies().getLogger();
+        if (logger.isLoggable(level))
+            {
+            logger.log(level, sMsg, t);
+            }
+        }
+
+
+    // ----- inner interface: Dependencies ----------------------------------
+
+    /**
+     * Dependencies provides an interface by which the SharedMemoryBusDriver
+     * can be provided with its external dependencies.
+     */
+    public interface Dependencies
+        {
+        /**
+         * Return the root directory under which bus inboxes are created.
+         * <p>
+         * All the processes on a machine which are to communicate through
+         * shared memory must use the same directory, and it should reside on
+         * a memory backed file system.
+         *
+         * @return the root directory
+         */
+        public File getDirectory();
+
+        /**
+         * Return the capacity in bytes of each ring created for a
+         * connection.
+         *
+         * @return the ring capacity
+         */
+        public int getRingCapacity();
+
+        /**
+         * Return the maximum time in nanoseconds the bus will park when it
+         * has no messages to process before polling its rings again.
+         * <p>
+         * A peer in another process cannot wake a parked bus, so this is also
+         * the maximum latency added to a message which arrives while the bus
+         * is idle.
+         *
+         * @return the maximum idle time in nanoseconds
+         */
+        public long getMaxIdleNanos();
+
+        /**
+         * Return the BufferManager used to allocate received messages.
+         *
+         * @return the BufferManager
+         */
+        public BufferManager getBufferManager();
+
+        /**
+         * Return the Logger to use.
+         *
+         * @return the logger
+         */
+        public Logger getLogger();
+        }
+
+
+    // ----- inner class: DefaultDependencies -------------------------------
+
+    /**
+     * DefaultDependencies provides a basic Dependencies implementation as well
+     * as default values where applicable.
+     */
+    public static class DefaultDependencies
+            implements Dependencies
+        {
+        /**
+         * Construct a DefaultDependencies object.
+         */
+        public DefaultDependencies()
+            {
+            this(null);
+            }
+
+        /**
+         * Construct a DefaultDependencies object copying the values from the
+         * specified dependencies object.
+         *
+         * @param deps  the dependencies to copy, or null
+         */
+        public DefaultDependencies(Dependencies deps)
+            {
+            if (deps != null)
+                {
+                m_dir             = deps.getDirectory();
+                m_cbRing          = deps.getRingCapacity();
+                m_cMaxIdleNanos   = deps.getMaxIdleNanos();
+                m_bufferManager   = deps.getBufferManager();
+                m_logger          = deps.getLogger();
+                }
+            }
+
+
+        // ----- Dependencies interface -------------------------------------
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public File getDirectory()
+            {
+            File dir = m_dir;
+            if (dir == null)
+                {
+                String sDir = System.getProperty(SharedMemoryBusDriver.class.getName() + ".directory");
+                if (sDir == null)
+                    {
+                    File dirShm = new File("/dev/shm");
+                    dir = new File(dirShm.isDirectory() ? dirShm.getPath() : System.getProperty("java.io.tmpdir"),
+                            DEFAULT_DIRECTORY);
+                    }
+                else
+                    {
+                    dir = new File(sDir);
+                    }
+                m_dir = dir;
+                }
+            return dir;
+            }
+
+        /**
+         * Specify the root directory under which bus inboxes are created.
+         *
+         * @param dir  the directory
+         *
+         * @return this object
+         */
+        public DefaultDependencies setDirectory(File dir)
+            {
+            m_dir = dir;
+            return this;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getRingCapacity()
+            {
+            return m_cbRing;
+            }
+
+        /**
+         * Specify the capacity of each ring.
+         *
+         * @param cb  the ring capacity
+         *
+         * @return this object
+         */
+        public DefaultDependencies setRingCapacity(int cb)
+            {
+            m_cbRing = cb;
+            return this;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long getMaxIdleNanos()
+            {
+            return m_cMaxIdleNanos;
+            }
+
+        /**
+         * Specify the maximum time the bus will park when idle.
+         *
+         * @param cNanos  the maximum idle time in nanoseconds
+         *
+         * @return this object
+         */
+        public DefaultDependencies setMaxIdleNanos(long cNanos)
+            {
+            m_cMaxIdleNanos = cNanos;
+            return this;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public BufferManager getBufferManager()
+            {
+            BufferManager manager = m_bufferManager;
+            return manager == null ? BufferManagers.getNetworkDirectManager() : manager;
+            }
+
+        /**
+         * Specify the BufferManager used to allocate received messages.
+         *
+         * @param manager  the BufferManager
+         *
+         * @return this object
+         */
+        public DefaultDependencies setBufferManager(BufferManager manager)
+            {
+            m_bufferManager = manager;
+            return this;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Logger getLogger()
+            {
+            Logger logger = m_logger;
+            return logger == null ? LOGGER : logger;
+            }
+
+        /**
+         * Specify the Logger to use.
+         *
+         * @param logger  the logger
+         *
+         * @return this object
+         */
+        public DefaultDependencies setLogger(Logger logger)
+            {
+            m_logger = logger;
+            return this;
+            }
+
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Validate the supplied dependencies.
+         *
+         * @throws IllegalArgumentException on an argument error
+         *
+         * @return this object
+         */
+        protected DefaultDependencies validate()
+            {
+            if (getRingCapacity() < SharedMemoryRing.MIN_CAPACITY)
+                {
+                throw new IllegalArgumentException("RingCapacity must be at least "
+                        + SharedMemoryRing.MIN_CAPACITY);
+                }
+            if (getMaxIdleNanos() < 0)
+                {
+                throw new IllegalArgumentException("MaxIdleNanos cannot be negative");
+                }
+            return this;
+            }
+
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The root directory.
+         */
+        protected File m_dir;
+
+        /**
+         * The ring capacity.
+         */
+        protected int m_cbRing = (int) new MemorySize(System.getProperty(
+                SharedMemoryBusDriver.class.getName() + ".ringSize", "4MB")).getByteCount();
+
+        /**
+         * The maximum idle time in nanoseconds.
+         */
+        protected long m_cMaxIdleNanos = new Duration(System.getProperty(
+                SharedMemoryBusDriver.class.getName() + ".maxIdle", "200us")).getNanos();
+
+        /**
+         * The BufferManager.
+         */
+        protected BufferManager m_bufferManager;
+
+        /**
+         * The Logger.
+         */
+        protected Logger m_logger;
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The name of the directory created under the temporary directory when
+     * no directory has been specified.
+     */
+    public static final String DEFAULT_DIRECTORY = "coherence-shmbus";
+
+    /**
+     * The name of the file locked by a bus for as long as its inbox is in use.
+     */
+    public static final String LOCK_FILE = ".lock";
+
+    /**
+     * The default Logger for the driver.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SharedMemoryBusDriver.class.getName());
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The wrapped driver.
+     */
+    protected final Driver f_delegate;
+
+    /**
+     * The driver's Dependencies.
+     */
+    protected Dependencies m_dependencies;
+
+    /**
+     * The Depot managing this driver.
+     */
+    protected Depot m_depot;
+    }
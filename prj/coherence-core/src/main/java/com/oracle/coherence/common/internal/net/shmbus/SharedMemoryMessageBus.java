@@ -0,0 +1,1293 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+
+import com.oracle.coherence.common.base.Collector;
+import com.oracle.coherence.common.io.BufferManager;
+import com.oracle.coherence.common.io.BufferSequence;
+import com.oracle.coherence.common.io.SingleBufferSequence;
+import com.oracle.coherence.common.net.exabus.EndPoint;
+import com.oracle.coherence.common.net.exabus.Event;
+import com.oracle.coherence.common.net.exabus.MessageBus;
+import com.oracle.coherence.common.net.exabus.util.SimpleEvent;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+
+/**
+ * SharedMemoryMessageBus is a MessageBus which exchanges messages with
+ * peers on the same machine through {@link SharedMemoryRing}s, and with all
+ * other peers through a wrapped MessageBus.
+ * <p>
+ * Connections are always established through the wrapped bus, so connection
+ * management and death detection are unchanged. When a connection is first
+ * established the bus checks whether the peer has a live inbox on this
+ * machine; if so the connection is "shared" and all messages sent to the
+ * peer are written to a ring in the peer's inbox. The peer discovers the ring
+ * by scanning its inbox and reads messages from it on its service thread.
+ * <p>
+ * All events for a shared connection, including those emitted by the
+ * wrapped bus, are delivered on the bus's service thread, so the ordering of
+ * CONNECT, MESSAGE, RECEIPT, DISCONNECT and RELEASE events for a peer is the
+ * same as for a socket connection, and the event collector is never called
+ * concurrently for the same peer. Events for connections which are not
+ * shared are delivered directly by the wrapped bus.
+ * <p>
+ * A process cannot unpark a thread in another process, so a peer writing to
+ * a ring has no way of waking this bus's service thread. While the bus has
+ * shared connections the service thread therefore spins briefly when idle
+ * and then parks for exponentially increasing periods of at most
+ * {@link SharedMemoryBusDriver.Dependencies#getMaxIdleNanos()}, which bounds
+ * the latency added to a message arriving at an idle bus. A bus without
+ * shared connections has no rings to poll, and its service thread parks
+ * until a connection event or local send wakes it.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class SharedMemoryMessageBus
+        implements MessageBus
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a SharedMemoryMessageBus.
+     *
+     * @param driver    the driver which created the bus
+     * @param delegate  the wrapped bus
+     */
+    public SharedMemoryMessageBus(SharedMemoryBusDriver driver, MessageBus delegate)
+        {
+        SharedMemoryBusDriver.Dependencies deps = driver.getDependencies();
+
+        f_driver        = driver;
+        f_delegate      = delegate;
+        f_manager       = deps.getBufferManager();
+        f_cbRing        = deps.getRingCapacity();
+        f_cMaxIdleNanos = deps.getMaxIdleNanos();
+        }
+
+
+    // ----- Bus interface --------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EndPoint getLocalEndPoint()
+        {
+        return f_delegate.getLocalEndPoint();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void open()
+        {
+        try
+            {
+            openInbox();
+
+            Thread thread = new Thread(this::run, "SharedMemoryBus:" + getLocalEndPoint());
+            thread.setDaemon(true);
+            m_thread = thread;
+            thread.start();
+            }
+        catch (IOException | RuntimeException e)
+            {
+            f_driver.log(Level.WARNING, "unable to create the shared memory inbox for "
+                    + getLocalEndPoint() + "; all peers will be reached through the network", e);
+            closeInbox();
+            }
+
+        f_delegate.open();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close()
+        {
+        f_delegate.close();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void connect(EndPoint peer)
+        {
+        ensureConnection(peer);
+        f_delegate.connect(peer);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disconnect(EndPoint peer)
+        {
+        f_delegate.disconnect(peer);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(EndPoint peer)
+        {
+        f_delegate.release(peer);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush()
+        {
+        f_delegate.flush();
+        wakeup();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush(boolean fSocketWrite)
+        {
+        f_delegate.flush(fSocketWrite);
+        wakeup();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEventCollector(Collector<Event> collector)
+        {
+        m_collector = collector;
+        f_delegate.setEventCollector(collector == null ? null : new DelegateCollector());
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collector<Event> getEventCollector()
+        {
+        return m_collector;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString(EndPoint peer)
+        {
+        Connection conn = peer == null ? null : f_mapConnection.get(peer);
+        String     s    = f_delegate.toString(peer);
+        return conn == null || !conn.f_fShared ? s : s + ", " + conn;
+        }
+
+
+    // ----- MessageBus interface -------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void send(EndPoint peer, BufferSequence bufseq, Object receipt)
+        {
+        Connection conn = f_mapConnection.get(peer);
+        if (conn == null || !conn.send(bufseq, receipt))
+            {
+            f_delegate.send(peer, bufseq, receipt);
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void send(EndPoint peer, BufferSequence bufseq, Object receipt, boolean fSocketWrite)
+        {
+        Connection conn = f_mapConnection.get(peer);
+        if (conn == null || !conn.send(bufseq, receipt))
+            {
+            f_delegate.send(peer, bufseq, receipt, fSocketWrite);
+            }
+        }
+
+
+    // ----- Object interface -----------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+        {
+        return "SharedMemoryMessageBus(" + f_delegate + ", inbox=" + m_dirInbox + ")";
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create and lock this bus's inbox.
+     *
+     * @throws IOException if the inbox cannot be created
+     */
+    protected void openInbox()
+            throws IOException
+        {
+        SharedMemoryBusDriver driver   = f_driver;
+        File                  dir      = driver.getInbox(getLocalEndPoint());
+        File                  fileLock = new File(dir, SharedMemoryBusDriver.LOCK_FILE);
+        RandomAccessFile      raf      = null;
+        FileLock              lock     = null;
+
+        // another process may be purging the inbox as a stale one, in which
+        // case it holds the lock while it removes the lock file and then the
+        // directory; retry until we hold the lock on a lock file which is
+        // still in place
+        for (int cAttempt = 1; lock == null; ++cAttempt)
+            {
+            if (!dir.isDirectory() && !dir.mkdirs() && !dir.isDirectory())
+                {
+                throw new IOException("unable to create " + dir);
+                }
+
+            try
+                {
+                raf = new RandomAccessFile(fileLock, "rw");
+                }
+            catch (FileNotFoundException e)
+                {
+                if (cAttempt < OPEN_ATTEMPTS)
+                    {
+                    continue; // the directory was removed by the purge
+                    }
+                throw e;
+                }
+
+            try
+                {
+                lock = raf.getChannel().tryLock();
+                }
+            catch (OverlappingFileLockException e)
+                {
+                // held by another bus, or a purge, within this process
+                }
+            catch (IOException e)
+                {
+                raf.close();
+                throw e;
+                }
+
+            if (lock != null && !fileLock.exists())
+                {
+                // we locked a file which the purge has since removed
+                lock.release();
+                lock = null;
+                }
+
+            if (lock == null)
+                {
+                raf.close();
+                if (cAttempt >= OPEN_ATTEMPTS)
+                    {
+                    throw new IOException(dir + " is in use by another process");
+                    }
+                LockSupport.parkNanos(this, OPEN_RETRY_NANOS);
+                }
+            }
+
+        // our own inbox is now locked, so purging cannot remove it
+        driver.purgeStaleInboxes();
+
+        // remove anything left behind by a previous bus bound to the same EndPoint
+        File[] aFile = dir.listFiles((d, sName) -> !sName.equals(SharedMemoryBusDriver.LOCK_FILE));
+        if (aFile != null)
+            {
+            for (File file : aFile)
+                {
+                SharedMemoryBusDriver.delete(file);
+                }
+            }
+
+        m_rafLock  = raf;
+        m_lock     = lock;
+        m_dirInbox = dir;
+        }
+
+    /**
+     * Release and remove this bus's inbox.
+     */
+    protected void closeInbox()
+        {
+        File dir = m_dirInbox;
+        m_dirInbox = null;
+
+        try
+            {
+            if (m_lock != null)
+                {
+                m_lock.release();
+                }
+            if (m_rafLock != null)
+                {
+                m_rafLock.close();
+                }
+            }
+        catch (IOException e)
+            {
+            // ignore
+            }
+        finally
+            {
+            m_lock    = null;
+            m_rafLock = null;
+            }
+
+        if (dir != null)
+            {
+            SharedMemoryBusDriver.delete(dir);
+            }
+        }
+
+    /**
+     * Return the Connection for the specified peer, creating it if necessary.
+     *
+     * @param peer  the peer
+     *
+     * @return the Connection
+     */
+    protected Connection ensureConnection(EndPoint peer)
+        {
+        Connection conn = f_mapConnection.get(peer);
+        if (conn == null)
+            {
+            Connection connNew = new Connection(peer, m_dirInbox != null && f_driver.isLocal(peer));
+            conn = f_mapConnection.putIfAbsent(peer, connNew);
+            if (conn == null)
+                {
+                conn = connNew;
+                conn.openOutbound();
+                }
+            }
+        return conn;
+        }
+
+    /**
+     * Return true if the bus has any connection to a peer on this machine.
+     *
+     * @return true if the bus has a shared connection
+     */
+    protected boolean hasSharedConnection()
+        {
+        for (Connection conn : f_mapConnection.values())
+            {
+            if (conn.f_fShared)
+                {
+                return true;
+                }
+            }
+        return false;
+        }
+
+    /**
+     * Wake the service thread if it is parked.
+     */
+    protected void wakeup()
+        {
+        Thread thread = m_thread;
+        if (thread != null && m_fParked)
+            {
+            LockSupport.unpark(thread);
+            }
+        }
+
+    /**
+     * Emit an event to the collector.
+     *
+     * @param event  the event
+     */
+    protected void emit(Event event)
+        {
+        Collector<Event> collector = m_collector;
+        if (collector == null)
+            {
+            event.dispose();
+            }
+        else
+            {
+            collector.add(event);
+            }
+        }
+
+    /**
+     * The service thread's main loop.
+     */
+    protected void run()
+        {
+        long cIdle = 0;
+        while (!m_fClosed)
+            {
+            boolean fWork = false;
+            try
+                {
+                fWork = process();
+                }
+            catch (Throwable t)
+                {
+                f_driver.log(Level.WARNING, "unexpected exception in " + this, t);
+                }
+
+            if (fWork)
+                {
+                cIdle = 0;
+                }
+            else if (++cIdle < SPIN_COUNT)
+                {
+                Thread.onSpinWait();
+                }
+            else
+                {
+                // back off exponentially up to the configured maximum, as a
+                // peer writing to a ring cannot wake us; without any shared
+                // connections there is nothing to poll, so park until a
+                // connection event wakes us (the flag is set before checking
+                // the connections so that such a wakeup is never missed)
+                m_fParked = true;
+                if (!m_fClosed)
+                    {
+                    if (hasSharedConnection())
+                        {
+                        LockSupport.parkNanos(this,
+                                Math.min(f_cMaxIdleNanos, 1000L << Math.min(cIdle - SPIN_COUNT, 20)));
+                        }
+                    else
+                        {
+                        LockSupport.park(this);
+                        }
+                    }
+                m_fParked = false;
+                }
+            }
+
+        // deliver everything queued prior to the CLOSE
+        try
+            {
+            while (process())
+                {
+                }
+            }
+        catch (Throwable t)
+            {
+            f_driver.log(Level.WARNING, "unexpected exception in " + this, t);
+            }
+        }
+
+    /**
+     * Perform one pass over all the shared connections.
+     *
+     * @return true if any work was done
+     */
+    protected boolean process()
+        {
+        bindInbound();
+
+        boolean fWork = false;
+        for (Connection conn : f_mapConnection.values())
+            {
+            if (conn.f_fShared)
+                {
+                fWork |= conn.process();
+                }
+            }
+
+        if (fWork)
+            {
+            Collector<Event> collector = m_collector;
+            if (collector != null)
+                {
+                collector.flush();
+                }
+            }
+        return fWork;
+        }
+
+    /**
+     * Locate the rings created in this bus's inbox by connected peers which
+     * are not yet bound to an inbound ring.
+     */
+    protected void bindInbound()
+        {
+        File dir = m_dirInbox;
+        if (dir == null)
+            {
+            return;
+            }
+
+        boolean fPending = false;
+        for (Connection conn : f_mapConnection.values())
+            {
+            if (conn.f_fShared && conn.m_fConnected && !conn.m_fDisconnected && conn.m_ringIn == null)
+                {
+                fPending = true;
+                break;
+                }
+            }
+
+        long ldtNow      = System.nanoTime();
+        long ldtModified = dir.lastModified();
+        if (!fPending || (ldtModified == m_ldtInboxModified && ldtNow - m_ldtInboxScan < SCAN_INTERVAL_NANOS))
+            {
+            return;
+            }
+        m_ldtInboxModified = ldtModified;
+        m_ldtInboxScan     = ldtNow;
+
+        File[] aFile = dir.listFiles((d, sName) -> sName.endsWith(RING_SUFFIX));
+        if (aFile == null)
+            {
+            return;
+            }
+
+        // find the most recent ring for each connection
+        Map<Connection, File> mapRing = new HashMap<>();
+        for (File file : aFile)
+            {
+            String sFile = file.getName();
+            int    of    = sFile.lastIndexOf(GENERATION_SEPARATOR);
+            if (of <= 0)
+                {
+                continue;
+                }
+
+            EndPoint peer;
+            try
+                {
+                peer = f_driver.resolveEndPoint(SharedMemoryBusDriver.decode(sFile.substring(0, of)));
+                }
+            catch (IllegalArgumentException e)
+                {
+                continue;
+                }
+
+            Connection conn = peer == null ? null : f_mapConnection.get(peer);
+            if (conn != null && conn.f_fShared && conn.m_fConnected && !conn.m_fDisconnected && conn.m_ringIn == null)
+                {
+                File filePrev = mapRing.get(conn);
+                if (filePrev == null || filePrev.getName().compareTo(sFile) < 0)
+                    {
+                    mapRing.put(conn, file);
+                    if (filePrev != null)
+                        {
+                        filePrev.delete(); // from an earlier connection with the same peer
+                        }
+                    }
+                else
+                    {
+                    file.delete();
+                    }
+                }
+            }
+
+        for (Map.Entry<Connection, File> entry : mapRing.entrySet())
+            {
+            Connection conn = entry.getKey();
+            File       file = entry.getValue();
+            try
+                {
+                conn.m_ringIn = SharedMemoryRing.open(file);
+                }
+            catch (IOException e)
+                {
+                f_driver.log(Level.FINE, "unable to open " + file, e);
+                }
+            }
+        }
+
+    /**
+     * Handle the closing of the wrapped bus.
+     */
+    protected void onClose()
+        {
+        m_fClosed = true;
+
+        Thread thread = m_thread;
+        if (thread != null && thread != Thread.currentThread())
+            {
+            LockSupport.unpark(thread);
+
+            boolean fInterrupted = false;
+            while (thread.isAlive())
+                {
+                try
+                    {
+                    thread.join();
+                    }
+                catch (InterruptedException e)
+                    {
+                    fInterrupted = true;
+                    }
+                }
+
+            if (fInterrupted)
+                {
+                Thread.currentThread().interrupt();
+                }
+            }
+
+        // deliver anything queued after the service thread's final pass
+        if (thread != null)
+            {
+            while (process())
+                {
+                }
+            }
+
+        for (Connection conn : f_mapConnection.values())
+            {
+            conn.closeOutbound(/*fDelete*/ true);
+            conn.closeInbound();
+            }
+
+        closeInbox();
+        }
+
+
+    // ----- inner class: DelegateCollector ---------------------------------
+
+    /**
+     * DelegateCollector receives the events from the wrapped bus, and routes
+     * the events for shared connections through the service thread.
+     */
+    protected class DelegateCollector
+            implements Collector<Event>
+        {
+        @Override
+        public void add(Event event)
+            {
+            Event.Type type = event.getType();
+            EndPoint   peer = event.getEndPoint();
+            Connection conn = null;
+
+            if (peer != null)
+                {
+                conn = type == Event.Type.CONNECT
+                        ? ensureConnection(peer)
+                        : f_mapConnection.get(peer);
+                }
+
+            if (conn != null && conn.f_fShared && m_thread != null && !m_fClosed)
+                {
+                conn.f_queueEvent.add(event);
+                wakeup();
+                return;
+                }
+
+            if (type == Event.Type.RELEASE && conn != null)
+                {
+                f_mapConnection.remove(peer, conn);
+                }
+            else if (type == Event.Type.CLOSE)
+                {
+                onClose();
+                }
+
+            emit(event);
+            }
+
+        @Override
+        public void flush()
+            {
+            Collector<Event> collector = m_collector;
+            if (collector != null)
+                {
+                collector.flush();
+                }
+            }
+        }
+
+
+    // ----- inner class: Connection ----------------------------------------
+
+    /**
+     * Connection holds the shared memory state for a peer.
+     */
+    protected class Connection
+        {
+        /**
+         * Construct a Connection.
+         *
+         * @param peer     the peer
+         * @param fShared  true if the peer is hosted on this machine
+         */
+        protected Connection(EndPoint peer, boolean fShared)
+            {
+            f_peer    = peer;
+            f_fShared = fShared;
+            }
+
+        /**
+         * Create the ring used to send messages to the peer, if the peer is
+         * hosted on this machine.
+         */
+        protected void openOutbound()
+            {
+            if (!f_fShared)
+                {
+                return;
+                }
+
+            File file = new File(f_driver.getInbox(f_peer),
+                    SharedMemoryBusDriver.encode(getLocalEndPoint().getCanonicalName())
+                    + GENERATION_SEPARATOR + String.format("%016x", GENERATION.incrementAndGet())
+                    + RING_SUFFIX);
+            try
+                {
+                SharedMemoryRing ring = SharedMemoryRing.create(file, f_cbRing);
+                synchronized (f_dequePending)
+                    {
+                    m_ringOut = ring;
+                    }
+                }
+            catch (IOException | RuntimeException e)
+                {
+                f_driver.log(Level.FINE, "unable to create " + file
+                        + "; messages for " + f_peer + " will be sent through the network", e);
+                }
+            }
+
+        /**
+         * Send a message through the outbound ring.
+         *
+         * @param bufseq   the message
+         * @param receipt  the optional receipt
+         *
+         * @return false if the message must be sent through the wrapped bus
+         */
+        protected boolean send(BufferSequence bufseq, Object receipt)
+            {
+            synchronized (f_dequePending)
+                {
+                SharedMemoryRing ring = m_ringOut;
+                if (ring == null)
+                    {
+                    return false;
+                    }
+
+                if (m_fOutClosed)
+                    {
+                    addReceipt(receipt);
+                    }
+                else
+                    {
+                    Queue<PendingMessage> queue = f_dequePending;
+                    long                  of    = queue.isEmpty() ? ring.write(bufseq, 0L) : 0L;
+                    if (of < 0L)
+                        {
+                        addReceipt(receipt);
+                        }
+                    else
+                        {
+                        long cbPending = m_cbPending += bufseq.getLength() - of;
+                        queue.add(new PendingMessage(bufseq, receipt, of));
+                        if (cbPending > ring.getCapacity() && !m_fBacklog)
+                            {
+                            m_fBacklog = true;
+                            f_queueEvent.add(new SimpleEvent(Event.Type.BACKLOG_EXCESSIVE, f_peer));
+                            }
+                        }
+                    }
+                }
+
+            wakeup();
+            return true;
+            }
+
+        /**
+         * Perform the pending work for this connection on the service thread.
+         *
+         * @return true if any work was done
+         */
+        protected boolean process()
+            {
+            boolean fWork = false;
+
+            if (!f_dequePending.isEmpty())
+                {
+                fWork = drainOutbound();
+                }
+
+            for (Event event = f_queueEvent.poll(); event != null; event = f_queueEvent.poll())
+                {
+                fWork = true;
+                onEvent(event);
+                }
+
+            if (m_ringIn != null && m_fConnected && !m_fDisconnected)
+                {
+                fWork |= drainInbound(MESSAGE_BATCH);
+                }
+
+            return fWork;
+            }
+
+        /**
+         * Write as many pending messages to the outbound ring as it has
+         * space for.
+         *
+         * @return true if any message was completed
+         */
+        protected boolean drainOutbound()
+            {
+            boolean fWork = false;
+            synchronized (f_dequePending)
+                {
+                SharedMemoryRing      ring  = m_ringOut;
+                Queue<PendingMessage> queue = f_dequePending;
+                for (PendingMessage msg = queue.peek(); msg != null && ring != null && !m_fOutClosed; msg = queue.peek())
+                    {
+                    long ofPrev = msg.m_of;
+                    long of     = ring.write(msg.f_bufseq, ofPrev);
+                    long cbMsg  = msg.f_bufseq.getLength();
+
+                    m_cbPending -= (of < 0L ? cbMsg : of) - ofPrev;
+                    if (of < 0L)
+                        {
+                        queue.poll();
+                        addReceipt(msg.f_receipt);
+                        fWork = true;
+                        }
+                    else
+                        {
+                        fWork |= of != ofPrev;
+                        msg.m_of = of;
+                        break;
+                        }
+                    }
+
+                if (m_fBacklog && (queue.isEmpty() || m_cbPending <= (ring == null ? 0 : ring.getCapacity()) / 2))
+                    {
+                    m_fBacklog = false;
+                    f_queueEvent.add(new SimpleEvent(Event.Type.BACKLOG_NORMAL, f_peer));
+                    }
+                }
+            return fWork;
+            }
+
+        /**
+         * Deliver the messages available in the inbound ring.
+         *
+         * @param cMax  the maximum number of messages to deliver
+         *
+         * @return true if any message was delivered
+         */
+        protected boolean drainInbound(int cMax)
+            {
+            SharedMemoryRing ring  = m_ringIn;
+            BufferManager    mgr   = f_manager;
+            int              c     = 0;
+            for (ByteBuffer buf = ring.read(mgr); buf != null; buf = c < cMax ? ring.read(mgr) : null)
+                {
+                emit(new MessageEvent(f_peer, new SingleBufferSequence(mgr, buf)));
+                ++c;
+                }
+            return c > 0;
+            }
+
+        /**
+         * Deliver an event for this connection on the service thread.
+         *
+         * @param event  the event
+         */
+        protected void onEvent(Event event)
+            {
+            switch (event.getType())
+                {
+                case CONNECT:
+                    m_fConnected = true;
+                    emit(event);
+                    break;
+
+                case DISCONNECT:
+                    // deliver what the peer wrote before the connection ended
+                    if (m_ringIn != null && m_fConnected && !m_fDisconnected)
+                        {
+                        drainInbound(Integer.MAX_VALUE);
+                        }
+                    m_fDisconnected = true;
+                    emit(event);
+                    closeOutbound(/*fDelete*/ false);
+                    closeInbound();
+                    break;
+
+                case RELEASE:
+                    f_mapConnection.remove(f_peer, this);
+                    closeOutbound(/*fDelete*/ true);
+                    closeInbound();
+                    emit(event);
+                    break;
+
+                default:
+                    emit(event);
+                    break;
+                }
+            }
+
+        /**
+         * Close the outbound ring, queuing the receipts for any messages
+         * which were not written.
+         *
+         * @param fDelete  true if the ring's file should also be removed
+         */
+        protected void closeOutbound(boolean fDelete)
+            {
+            synchronized (f_dequePending)
+                {
+                SharedMemoryRing ring = m_ringOut;
+                if (ring == null)
+                    {
+                    return;
+                    }
+
+                if (!m_fOutClosed)
+                    {
+                    m_fOutClosed = true;
+                    ring.close();
+                    for (PendingMessage msg = f_dequePending.poll(); msg != null; msg = f_dequePending.poll())
+                        {
+                        addReceipt(msg.f_receipt);
+                        }
+                    m_cbPending = 0L;
+                    }
+
+                if (fDelete)
+                    {
+                    ring.getFile().delete();
+                    }
+                }
+            }
+
+        /**
+         * Close the inbound ring and remove its file.
+         */
+        protected void closeInbound()
+            {
+            SharedMemoryRing ring = m_ringIn;
+            if (ring != null)
+                {
+                m_ringIn = null;
+                ring.close();
+                ring.getFile().delete();
+                }
+            }
+
+        /**
+         * Queue a RECEIPT event for delivery on the service thread.
+         *
+         * @param receipt  the receipt, or null
+         */
+        protected void addReceipt(Object receipt)
+            {
+            if (receipt != null)
+                {
+                f_queueEvent.add(new SimpleEvent(Event.Type.RECEIPT, f_peer, receipt));
+                }
+            }
+
+        @Override
+        public String toString()
+            {
+            return "shm(out=" + m_ringOut + ", in=" + m_ringIn + ", pending=" + m_cbPending + ")";
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The peer.
+         */
+        protected final EndPoint f_peer;
+
+        /**
+         * True if the peer is hosted on this machine, in which case all the
+         * events for the connection are delivered on the service thread.
+         */
+        protected final boolean f_fShared;
+
+        /**
+         * The events waiting to be delivered on the service thread.
+         */
+        protected final Queue<Event> f_queueEvent = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The messages waiting for space in the outbound ring; also the
+         * monitor protecting the outbound state.
+         */
+        protected final ArrayDeque<PendingMessage> f_dequePending = new ArrayDeque<>();
+
+        /**
+         * The number of bytes waiting for space in the outbound ring.
+         */
+        protected long m_cbPending;
+
+        /**
+         * True while a BACKLOG_EXCESSIVE event is outstanding.
+         */
+        protected boolean m_fBacklog;
+
+        /**
+         * The ring messages are sent through, or null if they are sent
+         * through the wrapped bus.
+         */
+        protected SharedMemoryRing m_ringOut;
+
+        /**
+         * True once the outbound ring has been closed.
+         */
+        protected boolean m_fOutClosed;
+
+        /**
+         * The ring messages are received from; used only by the service
+         * thread.
+         */
+        protected SharedMemoryRing m_ringIn;
+
+        /**
+         * True once the CONNECT event has been delivered.
+         */
+        protected volatile boolean m_fConnected;
+
+        /**
+         * True once the DISCONNECT event has been delivered.
+         */
+        protected volatile boolean m_fDisconnected;
+        }
+
+
+    // ----- inner class: PendingMessage ------------------------------------
+
+    /**
+     * PendingMessage is a message waiting for space in an outbound ring.
+     */
+    protected static class PendingMessage
+        {
+        /**
+         * Construct a PendingMessage.
+         *
+         * @param bufseq   the message
+         * @param receipt  the receipt
+         * @param of       the offset of the first byte not yet written
+         */
+        protected PendingMessage(BufferSequence bufseq, Object receipt, long of)
+            {
+            f_bufseq  = bufseq;
+            f_receipt = receipt;
+            m_of      = of;
+            }
+
+        /**
+         * The message.
+         */
+        protected final BufferSequence f_bufseq;
+
+        /**
+         * The receipt.
+         */
+        protected final Object f_receipt;
+
+        /**
+         * The offset of the first byte not yet written.
+         */
+        protected long m_of;
+        }
+
+
+    // ----- inner class: MessageEvent --------------------------------------
+
+    /**
+     * MessageEvent is a MESSAGE event whose content is released when the
+     * event is disposed.
+     */
+    protected static class MessageEvent
+            extends SimpleEvent
+        {
+        /**
+         * Construct a MessageEvent.
+         *
+         * @param peer    the sender
+         * @param bufseq  the message
+         */
+        protected MessageEvent(EndPoint peer, BufferSequence bufseq)
+            {
+            super(Type.MESSAGE, peer, bufseq);
+            }
+
+        @Override
+        public Object dispose(boolean fTakeContent)
+            {
+            if (fTakeContent)
+                {
+                return getContent();
+                }
+            ((BufferSequence) getContent()).dispose();
+            return null;
+            }
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The suffix of a ring file name.
+     */
+    public static final String RING_SUFFIX = ".ring";
+
+    /**
+     * The separator between the sender's name and the generation in a ring
+     * file name; never produced by {@link SharedMemoryBusDriver#encode}.
+     */
+    public static final String GENERATION_SEPARATOR = "~";
+
+    /**
+     * The number of idle iterations the service thread spins for before
+     * parking.
+     */
+    protected static final int SPIN_COUNT = 100;
+
+    /**
+     * The number of attempts made to lock the inbox while it is being
+     * removed by a concurrent purge.
+     */
+    protected static final int OPEN_ATTEMPTS = 5;
+
+    /**
+     * The time to wait between attempts to lock the inbox.
+     */
+    protected static final long OPEN_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * The maximum number of messages delivered from a ring before moving on
+     * to the next connection.
+     */
+    protected static final int MESSAGE_BATCH = 64;
+
+    /**
+     * The interval at which the inbox is rescanned while a connected peer
+     * has not yet been bound to a ring, even if the inbox appears unchanged.
+     */
+    protected static final long SCAN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * The generation counter used to give each outbound ring a unique,
+     * increasing name.
+     */
+    protected static final AtomicLong GENERATION = new AtomicLong(System.currentTimeMillis() << 20);
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The driver which created the bus.
+     */
+    protected final SharedMemoryBusDriver f_driver;
+
+    /**
+     * The wrapped bus.
+     */
+    protected final MessageBus f_delegate;
+
+    /**
+     * The BufferManager used for received messages.
+     */
+    protected final BufferManager f_manager;
+
+    /**
+     * The capacity of the rings created by this bus.
+     */
+    protected final int f_cbRing;
+
+    /**
+     * The maximum time the service thread parks for when idle.
+     */
+    protected final long f_cMaxIdleNanos;
+
+    /**
+     * The connections, keyed by peer.
+     */
+    protected final Map<EndPoint, Connection> f_mapConnection = new ConcurrentHashMap<>();
+
+    /**
+     * The event collector.
+     */
+    protected volatile Collector<Event> m_collector;
+
+    /**
+     * The inbox directory, or null if shared memory is not in use.
+     */
+    protected volatile File m_dirInbox;
+
+    /**
+     * The file backing the inbox lock.
+     */
+    protected RandomAccessFile m_rafLock;
+
+    /**
+     * The lock held on the inbox for as long as the bus is open.
+     */
+    protected FileLock m_lock;
+
+    /**
+     * The service thread.
+     */
+    protected volatile Thread m_thread;
+
+    /**
+     * True while the service thread is parked.
+     */
+    protected volatile boolean m_fParked;
+
+    /**
+     * True once the wrapped bus has closed.
+     */
+    protected volatile boolean m_fClosed;
+
+    /**
+     * The last observed modification time of the inbox.
+     */
+    protected long m_ldtInboxModified;
+
+    /**
+     * The time of the last inbox scan.
+     */
+    protected long m_ldtInboxScan;
+    }
@@ -0,0 +1,684 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+
+import com.oracle.coherence.common.io.BufferManager;
+import com.oracle.coherence.common.io.BufferSequence;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+
+import java.lang.reflect.Field;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+
+/**
+ * SharedMemoryRing is a single producer, single consumer ring buffer of
+ * messages held in a memory-mapped file, allowing two processes on the same
+ * host to exchange messages without going through the network stack.
+ * <p>
+ * The file starts with a fixed size header holding the ring's capacity and
+ * the producer and consumer positions, each on its own cache line, followed
+ * by the data region. A message is written as one or more fragments, each
+ * preceded by an eight byte record header containing the fragment length and
+ * the number of bytes of the message which follow the fragment. Records are
+ * word aligned, and a fragment never straddles the end of the data region, so
+ * messages larger than the ring can be streamed through it.
+ * <p>
+ * The producer publishes its position with release semantics once a fragment
+ * has been copied into the ring, and the consumer does the same once it has
+ * copied a fragment out, so neither side ever reads a partially written
+ * record.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class SharedMemoryRing
+        implements Closeable
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a SharedMemoryRing over a mapped file.
+     *
+     * @param file       the ring's file
+     * @param buffer     the mapped file contents
+     * @param fProducer  true if this is the producer side of the ring
+     */
+    protected SharedMemoryRing(File file, MappedByteBuffer buffer, boolean fProducer)
+        {
+        buffer.order(ByteOrder.nativeOrder());
+
+        int cbCapacity = (int) (long) LONG.getAcquire(buffer, OFFSET_CAPACITY);
+
+        f_file       = file;
+        f_buffer     = buffer;
+        f_bufferData = buffer.duplicate().position(OFFSET_DATA).slice().order(ByteOrder.nativeOrder());
+        f_cbCapacity = cbCapacity;
+        f_nMask      = cbCapacity - 1;
+        f_fProducer  = fProducer;
+        m_lPosition  = (long) LONG.getAcquire(buffer, fProducer ? OFFSET_TAIL : OFFSET_HEAD);
+        }
+
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Create a new ring file and return the producer side of it.
+     * <p>
+     * The file is initialized under a temporary name and then atomically
+     * moved into place, so a consumer never observes a partially initialized
+     * ring. Every page of the file is allocated up front, so a file system
+     * without enough space, such as a small {@code /dev/shm}, fails the
+     * creation rather than a later write to the mapped ring.
+     *
+     * @param file        the file to create
+     * @param cbCapacity  the capacity of the data region, rounded up to a
+     *                    power of two
+     *
+     * @return the producer side of the ring
+     *
+     * @throws IOException if the file cannot be created or allocated
+     */
+    public static SharedMemoryRing create(File file, int cbCapacity)
+            throws IOException
+        {
+        cbCapacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(cbCapacity - 1) << 1);
+
+        File             fileTemp = new File(file.getParentFile(), file.getName() + ".tmp");
+        MappedByteBuffer buffer   = null;
+        try (RandomAccessFile raf = new RandomAccessFile(fileTemp, "rw"))
+            {
+            allocate(raf.getChannel(), OFFSET_DATA + cbCapacity);
+
+            buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, OFFSET_DATA + cbCapacity);
+            buffer.order(ByteOrder.nativeOrder());
+
+            LONG.setRelease(buffer, OFFSET_CAPACITY, (long) cbCapacity);
+            LONG.setRelease(buffer, OFFSET_MAGIC, MAGIC);
+
+            Files.move(fileTemp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+
+            return new SharedMemoryRing(file, buffer, /*fProducer*/ true);
+            }
+        catch (IOException | RuntimeException e)
+            {
+            if (buffer != null)
+                {
+                unmap(buffer);
+                }
+            fileTemp.delete();
+            throw e;
+            }
+        }
+
+    /**
+     * Allocate every page of a file by writing zeros to it, so that running
+     * out of space is reported here rather than as a fault when the mapped
+     * file is first written.
+     *
+     * @param channel  the channel of the file to allocate
+     * @param cb       the size of the file
+     *
+     * @throws IOException if the file cannot be allocated
+     */
+    static void allocate(FileChannel channel, long cb)
+            throws IOException
+        {
+        ByteBuffer bufZero = ByteBuffer.allocate((int) Math.min(cb, ALLOCATION_CHUNK));
+        try
+            {
+            for (long of = 0L; of < cb; )
+                {
+                bufZero.clear().limit((int) Math.min(bufZero.capacity(), cb - of));
+                of += channel.write(bufZero, of);
+                }
+            }
+        catch (IOException e)
+            {
+            throw new IOException("failed to allocate " + cb + " bytes for a shared memory ring", e);
+            }
+        }
+
+    /**
+     * Open the consumer side of an existing ring file.
+     *
+     * @param file  the ring's file
+     *
+     * @return the consumer side of the ring
+     *
+     * @throws IOException if the file cannot be opened or is not a ring
+     */
+    public static SharedMemoryRing open(File file)
+            throws IOException
+        {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+            {
+            long cb = raf.length();
+            if (cb <= OFFSET_DATA)
+                {
+                throw new IOException("truncated ring file " + file);
+                }
+
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, cb);
+            buffer.order(ByteOrder.nativeOrder());
+
+            if ((long) LONG.getAcquire(buffer, OFFSET_MAGIC) != MAGIC ||
+                (long) LONG.getAcquire(buffer, OFFSET_CAPACITY) != cb - OFFSET_DATA)
+                {
+                unmap(buffer);
+                throw new IOException("invalid ring file " + file);
+                }
+
+            return new SharedMemoryRing(file, buffer, /*fProducer*/ false);
+            }
+        }
+
+
+    // ----- SharedMemoryRing methods ---------------------------------------
+
+    /**
+     * Return the ring's file.
+     *
+     * @return the ring's file
+     */
+    public File getFile()
+        {
+        return f_file;
+        }
+
+    /**
+     * Return the capacity of the ring's data region in bytes.
+     *
+     * @return the capacity
+     */
+    public int getCapacity()
+        {
+        return f_cbCapacity;
+        }
+
+    /**
+     * Write as much of a message as the ring currently has space for.
+     * <p>
+     * This method may only be called on the producer side of the ring. A
+     * message which does not fit is written by calling this method again
+     * with the returned offset once the consumer has made space.
+     *
+     * @param bufseq  the message
+     * @param of      the offset of the first message byte not yet written
+     *
+     * @return the offset of the first message byte not yet written, or -1
+     *         once the message has been fully written
+     */
+    public long write(BufferSequence bufseq, long of)
+        {
+        ensureOpen();
+        ensureProducer(true);
+
+        ByteBuffer bufData    = f_bufferData;
+        int        cbCapacity = f_cbCapacity;
+        long       cbMessage  = bufseq.getLength();
+        long       lTail      = m_lPosition;
+        long       lHead      = (long) LONG.getAcquire(f_buffer, OFFSET_HEAD);
+
+        while (true)
+            {
+            int  ofRing  = (int) (lTail & f_nMask);
+            int  cbToEnd = cbCapacity - ofRing;
+            long cbFree  = cbCapacity - (lTail - lHead);
+
+            if (cbToEnd == HEADER_SIZE)
+                {
+                // there is only room for a header before the end of the
+                // data region; skip to the start
+                if (cbFree < cbToEnd)
+                    {
+                    break;
+                    }
+                bufData.putInt(ofRing, PAD);
+                bufData.putInt(ofRing + 4, 0);
+                lTail += cbToEnd;
+                continue;
+                }
+
+            long cbAvail = Math.min(cbFree, cbToEnd) - HEADER_SIZE;
+            if (cbAvail <= 0)
+                {
+                // refresh our view of the consumer before giving up
+                long lHeadNew = (long) LONG.getAcquire(f_buffer, OFFSET_HEAD);
+                if (lHeadNew == lHead)
+                    {
+                    break;
+                    }
+                lHead = lHeadNew;
+                continue;
+                }
+
+            int cbFrag = (int) Math.min(cbAvail, cbMessage - of);
+
+            copyIn(bufseq, of, bufData, ofRing + HEADER_SIZE, cbFrag);
+            of += cbFrag;
+
+            bufData.putInt(ofRing, cbFrag);
+            bufData.putInt(ofRing + 4, (int) Math.min(cbMessage - of, Integer.MAX_VALUE));
+            lTail += align(HEADER_SIZE + cbFrag);
+
+            if (of == cbMessage)
+                {
+                of = -1;
+                break;
+                }
+            }
+
+        if (lTail != m_lPosition)
+            {
+            m_lPosition = lTail;
+            LONG.setRelease(f_buffer, OFFSET_TAIL, lTail);
+            }
+
+        return of;
+        }
+
+    /**
+     * Read the next complete message from the ring.
+     * <p>
+     * This method may only be called on the consumer side of the ring. The
+     * fragments of a message which has only been partially written are
+     * retained until the rest of the message arrives.
+     *
+     * @param manager  the manager to acquire the message buffer from
+     *
+     * @return the message, or null if no complete message is available
+     */
+    public ByteBuffer read(BufferManager manager)
+        {
+        ensureOpen();
+        ensureProducer(false);
+
+        ByteBuffer bufData = f_bufferData;
+        ByteBuffer bufMsg  = m_bufAssembly;
+        long       lHead   = m_lPosition;
+        long       lTail   = (long) LONG.getAcquire(f_buffer, OFFSET_TAIL);
+
+        try
+            {
+            while (lHead < lTail)
+                {
+                int ofRing  = (int) (lHead & f_nMask);
+                int cbFrag  = bufData.getInt(ofRing);
+                int cbAfter = bufData.getInt(ofRing + 4);
+
+                if (cbFrag == PAD)
+                    {
+                    lHead += f_cbCapacity - ofRing;
+                    continue;
+                    }
+
+                if (bufMsg == null)
+                    {
+                    bufMsg    = m_bufAssembly = manager.acquire(cbFrag + cbAfter);
+                    m_manager = manager;
+                    }
+
+                int nPos = bufMsg.position();
+                bufMsg.put(nPos, bufData, ofRing + HEADER_SIZE, cbFrag);
+                bufMsg.position(nPos + cbFrag);
+                lHead += align(HEADER_SIZE + cbFrag);
+
+                if (cbAfter == 0)
+                    {
+                    m_bufAssembly = null;
+                    bufMsg.flip();
+                    return bufMsg;
+                    }
+                }
+
+            return null;
+            }
+        finally
+            {
+            if (lHead != m_lPosition)
+                {
+                m_lPosition = lHead;
+                LONG.setRelease(f_buffer, OFFSET_HEAD, lHead);
+                }
+            }
+        }
+
+    /**
+     * Return true if the consumer has read everything the producer has
+     * written.
+     *
+     * @return true if the ring is empty
+     */
+    public boolean isEmpty()
+        {
+        ensureOpen();
+        return (long) LONG.getAcquire(f_buffer, OFFSET_HEAD) == (long) LONG.getAcquire(f_buffer, OFFSET_TAIL);
+        }
+
+    /**
+     * Return true if the producer has closed the ring.
+     *
+     * @return true if the ring has been closed by the producer
+     */
+    public boolean isClosed()
+        {
+        ensureOpen();
+        return (long) LONG.getAcquire(f_buffer, OFFSET_CLOSED) != 0L;
+        }
+
+
+    // ----- Closeable interface --------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Closing the producer side marks the ring as closed so the consumer
+     * knows no further messages will arrive. Closing either side releases
+     * that side's mapping of the file, after which the ring cannot be used.
+     */
+    @Override
+    public void close()
+        {
+        if (m_fClosed)
+            {
+            return;
+            }
+        m_fClosed = true;
+
+        if (f_fProducer)
+            {
+            LONG.setRelease(f_buffer, OFFSET_CLOSED, 1L);
+            }
+
+        ByteBuffer bufMsg = m_bufAssembly;
+        if (bufMsg != null)
+            {
+            m_bufAssembly = null;
+            m_manager.release(bufMsg);
+            }
+
+        unmap(f_buffer);
+        }
+
+
+    // ----- Object interface -----------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+        {
+        return "SharedMemoryRing(" + f_file + ", capacity=" + f_cbCapacity
+                + ", " + (f_fProducer ? "producer" : "consumer") + ")";
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Ensure that the operation is being performed on the expected side of
+     * the ring.
+     *
+     * @param fProducer  true if the operation requires the producer side
+     */
+    protected void ensureProducer(boolean fProducer)
+        {
+        if (f_fProducer != fProducer)
+            {
+            throw new IllegalStateException("operation is not supported on the "
+                    + (f_fProducer ? "producer" : "consumer") + " side of " + this);
+            }
+        }
+
+    /**
+     * Ensure that the ring has not been closed, as accessing the mapping of a
+     * closed ring would crash the process.
+     */
+    protected void ensureOpen()
+        {
+        if (m_fClosed)
+            {
+            throw new IllegalStateException(this + " has been closed");
+            }
+        }
+
+    /**
+     * Release the mapping of a buffer immediately rather than when the buffer
+     * is garbage collected, so that neither the address space nor the memory
+     * backing a removed ring file is retained by rings which are no longer
+     * in use.
+     * <p>
+     * The buffer must not be accessed once it has been unmapped. If the JVM
+     * does not allow buffers to be unmapped the mapping is released when the
+     * buffer is garbage collected.
+     *
+     * @param buffer  the buffer to unmap
+     */
+    protected static void unmap(MappedByteBuffer buffer)
+        {
+        MethodHandle handle = INVOKE_CLEANER;
+        if (handle != null)
+            {
+            try
+                {
+                handle.invoke((ByteBuffer) buffer);
+                }
+            catch (Throwable t)
+                {
+                // leave it to the garbage collector
+                }
+            }
+        }
+
+    /**
+     * Return a handle to {@code sun.misc.Unsafe.invokeCleaner}, bound to the
+     * Unsafe instance.
+     *
+     * @return the handle, or null if it is not available
+     */
+    private static MethodHandle findInvokeCleaner()
+        {
+        try
+            {
+            Class<?> clzUnsafe = Class.forName("sun.misc.Unsafe");
+            Field    field     = clzUnsafe.getDeclaredField("theUnsafe");
+
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(clzUnsafe, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+            }
+        catch (Throwable t)
+            {
+            return null;
+            }
+        }
+
+    /**
+     * Copy a range of a BufferSequence into a buffer.
+     *
+     * @param bufseq  the source sequence
+     * @param of      the offset within the sequence to copy from
+     * @param bufDst  the destination buffer
+     * @param ofDst   the offset within the destination buffer
+     * @param cb      the number of bytes to copy
+     */
+    protected static void copyIn(BufferSequence bufseq, long of, ByteBuffer bufDst, int ofDst, int cb)
+        {
+        for (int i = 0, c = bufseq.getBufferCount(); i < c && cb > 0; ++i)
+            {
+            int cbBuf = bufseq.getBufferLength(i);
+            if (of >= cbBuf)
+                {
+                of -= cbBuf;
+                continue;
+                }
+
+            int cbCopy = (int) Math.min(cbBuf - of, cb);
+            bufDst.put(ofDst, bufseq.getUnsafeBuffer(i), bufseq.getBufferPosition(i) + (int) of, cbCopy);
+            ofDst += cbCopy;
+            cb    -= cbCopy;
+            of     = 0;
+            }
+        }
+
+    /**
+     * Round the specified size up to the record alignment.
+     *
+     * @param cb  the size
+     *
+     * @return the aligned size
+     */
+    protected static int align(int cb)
+        {
+        return (cb + HEADER_SIZE - 1) & -HEADER_SIZE;
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The value identifying an initialized ring file.
+     */
+    public static final long MAGIC = 0x53484D52494E4701L;
+
+    /**
+     * The minimum capacity of a ring's data region.
+     */
+    public static final int MIN_CAPACITY = 4096;
+
+    /**
+     * The number of zero bytes written at a time when allocating a ring file.
+     */
+    protected static final int ALLOCATION_CHUNK = 64 * 1024;
+
+    /**
+     * The offset of the magic value.
+     */
+    protected static final int OFFSET_MAGIC = 0;
+
+    /**
+     * The offset of the data region capacity.
+     */
+    protected static final int OFFSET_CAPACITY = 8;
+
+    /**
+     * The offset of the producer position, on its own cache line.
+     */
+    protected static final int OFFSET_TAIL = 64;
+
+    /**
+     * The offset of the consumer position, on its own cache line.
+     */
+    protected static final int OFFSET_HEAD = 128;
+
+    /**
+     * The offset of the producer's closed flag.
+     */
+    protected static final int OFFSET_CLOSED = 192;
+
+    /**
+     * The offset of the data region.
+     */
+    protected static final int OFFSET_DATA = 256;
+
+    /**
+     * The size of a record header, which is also the record alignment.
+     */
+    protected static final int HEADER_SIZE = 8;
+
+    /**
+     * The fragment length indicating a padding record at the end of the data
+     * region.
+     */
+    protected static final int PAD = -1;
+
+    /**
+     * VarHandle for ordered access to the longs in the ring header.
+     */
+    protected static final VarHandle LONG =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /**
+     * The handle used to unmap buffers, or null if they cannot be unmapped.
+     */
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The ring's file.
+     */
+    protected final File f_file;
+
+    /**
+     * The mapped file.
+     */
+    protected final MappedByteBuffer f_buffer;
+
+    /**
+     * The data region of the mapped file.
+     */
+    protected final ByteBuffer f_bufferData;
+
+    /**
+     * The capacity of the data region.
+     */
+    protected final int f_cbCapacity;
+
+    /**
+     * The mask for converting a position into an offset within the data
+     * region.
+     */
+    protected final int f_nMask;
+
+    /**
+     * True if this is the producer side of the ring.
+     */
+    protected final boolean f_fProducer;
+
+    /**
+     * This side's position; the tail for the producer and the head for the
+     * consumer.
+     */
+    protected long m_lPosition;
+
+    /**
+     * The partially assembled message, used only by the consumer.
+     */
+    protected ByteBuffer m_bufAssembly;
+
+    /**
+     * The manager the partially assembled message was acquired from.
+     */
+    protected BufferManager m_manager;
+
+    /**
+     * True once this side of the ring has been closed and its mapping
+     * released.
+     */
+    protected boolean m_fClosed;
+    }
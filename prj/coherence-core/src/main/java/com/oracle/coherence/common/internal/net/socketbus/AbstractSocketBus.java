@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -44,6 +44,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.Lock;
@@ -611,6 +612,60 @@ public abstract class AbstractSocketBus
         catch (IOException e) {}
         }
 
+    /**
+     * Return the power of two histogram bucket for the specified value.
+     *
+     * @param n  the value
+     *
+     * @return the bucket index
+     */
+    protected static int getHistogramBucket(long n)
+        {
+        return n <= 0 ? 0 : Math.min(64 - Long.numberOfLeadingZeros(n), HISTOGRAM_BUCKETS - 1);
+        }
+
+    /**
+     * Return a snapshot of a histogram.
+     *
+     * @param acBucket  the histogram
+     *
+     * @return a copy of the histogram's counts
+     */
+    protected static long[] toArray(AtomicLongArray acBucket)
+        {
+        long[] ac = new long[acBucket.length()];
+        for (int i = 0; i < ac.length; ++i)
+            {
+            ac[i] = acBucket.get(i);
+            }
+        return ac;
+        }
+
+    /**
+     * Format a power of two histogram, listing the lower bound and count of each non-empty bucket.
+     *
+     * @param acBucket  the histogram
+     *
+     * @return the formatted histogram
+     */
+    protected static String formatHistogram(long[] acBucket)
+        {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < acBucket.length; ++i)
+            {
+            long c = acBucket[i];
+            if (c != 0)
+                {
+                if (sb.length() > 1)
+                    {
+                    sb.append(", ");
+                    }
+                sb.append(i == 0 ? 0L : 1L << (i - 1)).append(i == acBucket.length - 1 ? "+:" : ":").append(c);
+                }
+            }
+        return sb.append(']').toString();
+        }
+
     /**
      * Called once a bus has been opened.
      *
@@ -1909,6 +1964,7 @@ public abstract class AbstractSocketBus
                         do
                             {
                             cbWrite += cb = chan.write(srcs, i, c);
+                            recordWrite(c, cb);
 
                             // According the JRockit team the underlying
                             // OS will generally only support a maximum number
@@ -1990,6 +2046,7 @@ public abstract class AbstractSocketBus
                 case ACTIVE:
                     int cb = m_channel.write(src);
                     m_cbWrite += cb;
+                    recordWrite(1, cb);
                     return cb;
 
                 default:
@@ -2232,6 +2289,45 @@ public abstract class AbstractSocketBus
             }
 
 
+        /**
+         * Record a socket write in the write batching histograms.
+         *
+         * @param cBuffers  the number of buffers offered to the write
+         * @param cb        the number of bytes written
+         */
+        protected void recordWrite(int cBuffers, long cb)
+            {
+            // updated by both client and SelectionService threads
+            f_acWriteBuffers.incrementAndGet(getHistogramBucket(cBuffers));
+            f_acWriteBytes.incrementAndGet(getHistogramBucket(cb));
+            }
+
+        /**
+         * Return a histogram of the number of buffers offered to each socket write.
+         * <p>
+         * Bucket {@code 0} counts writes of no buffers, and bucket {@code n} counts writes of between
+         * {@code 2^(n-1)} and {@code 2^n - 1} buffers.
+         *
+         * @return a copy of the buffers per write histogram
+         */
+        public long[] getWriteBufferHistogram()
+            {
+            return toArray(f_acWriteBuffers);
+            }
+
+        /**
+         * Return a histogram of the number of bytes written by each socket write.
+         * <p>
+         * Bucket {@code 0} counts writes which wrote nothing, and bucket {@code n} counts writes of between
+         * {@code 2^(n-1)} and {@code 2^n - 1} bytes.
+         *
+         * @return a copy of the bytes per write histogram
+         */
+        public long[] getWriteByteHistogram()
+            {
+            return toArray(f_acWriteBytes);
+            }
+
         // ----- Object interface ---------------------------------------
 
         /**
@@ -2246,6 +2342,8 @@ public abstract class AbstractSocketBus
                     + ", socket=" + socket
                     + (cMigrations == 0 ? "" : ", migrations=" + cMigrations)
                     + ", bytes(in=" + m_cbRead + ", out=" + m_cbWrite + ")"
+                    + ", writes(buffers=" + formatHistogram(getWriteBufferHistogram())
+                    + ", bytes=" + formatHistogram(getWriteByteHistogram()) + ")"
                     + ", flushlock " + f_lockFlush.get();
             }
 
@@ -2324,6 +2422,16 @@ public abstract class AbstractSocketBus
          */
         protected long m_cbWrite;
 
+        /**
+         * Histogram of the number of buffers offered to each socket write.
+         */
+        protected final AtomicLongArray f_acWriteBuffers = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        /**
+         * Histogram of the number of bytes written by each socket write.
+         */
+        protected final AtomicLongArray f_acWriteBytes = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
         /**
          * The negotiated protocol version, or -1 if not yet known.
          */
@@ -3581,4 +3689,9 @@ public abstract class AbstractSocketBus
      * Used to indicate that the peer wishes to migrate a connection to a new channel
      */
     private static final byte CONNECT_MIGRATE = 1;
+
+    /**
+     * The number of buckets in the write batching histograms.
+     */
+    protected static final int HISTOGRAM_BUCKETS = 32;
     }
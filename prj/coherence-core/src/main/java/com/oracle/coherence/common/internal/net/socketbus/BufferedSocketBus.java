@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -376,7 +376,10 @@ public abstract class BufferedSocketBus
                 {
                 return true; // nothing to flush
                 }
-            else if (f_cbQueued.get() == 0 && (cWriter == 1 || (cWriter <= deps.getDirectWriteThreadThreshold() && fSocketWrite)))
+
+            // under load the batch is left to the SelectionService so that it can be combined with those which follow it
+            boolean fCoalesce = isWriteCoalescing(deps.getWriteCoalesceNanos(), fAuto);
+            if (!fCoalesce && f_cbQueued.get() == 0 && (cWriter == 1 || (cWriter <= deps.getDirectWriteThreadThreshold() && fSocketWrite)))
                 {
                 // SS thread isn't writing, so this is the current head.  Even if the SS thread never sees this
                 // batch we want to overwrite any historic batch with the current head to avoid building up
@@ -427,6 +430,28 @@ public abstract class BufferedSocketBus
             }
 
 
+        /**
+         * Return true if the current flush should be coalesced with subsequent flushes rather than being written
+         * directly to the socket.
+         * <p>
+         * The decision is based on a moving average of the interval between explicit flushes. When that average
+         * falls below the coalescing window the connection is considered to be under load and the batch is handed to
+         * the SelectionService.  Only the first such batch wakes the SelectionService; batches enqueued before it
+         * writes simply extend the queue and are then bundled into a single gathering write.
+         * <p>
+         * The caller must be synchronized on this connection.
+         *
+         * @param cNanosWindow  the coalescing window in nanoseconds, or zero if coalescing is disabled
+         * @param fAuto         true iff it is an auto-flush
+         *
+         * @return true iff the flush should be coalesced
+         */
+        protected boolean isWriteCoalescing(long cNanosWindow, boolean fAuto)
+            {
+            // auto-flushes only occur once a sizable batch has accumulated, there is nothing to gain
+            return cNanosWindow > 0 && !fAuto && f_coalescer.onFlush(cNanosWindow, System.nanoTime());
+            }
+
         @Override
         protected boolean heartbeat()
             {
@@ -1246,7 +1271,8 @@ public abstract class BufferedSocketBus
                     ", delivered(in=" + m_cMsgIn + ", out=" + m_cMsgOutDelivered + ")" + // see note above regarding out
                     ", timeout(" + sTimeout + "), interestOps=" + m_nInterestOpsLast +
                     ", unflushed receipt=" + m_cReceiptsUnflushed + ", receiptReturn " + m_cReceiptsReturn +
-                    ", isReceiptFlushRequired " + isReceiptFlushRequired();
+                    ", isReceiptFlushRequired " + isReceiptFlushRequired() +
+                    ", coalescedFlushes=" + f_coalescer.getCoalescedFlushCount();
             }
 
         /**
@@ -1806,6 +1832,13 @@ public abstract class BufferedSocketBus
          */
         protected final AtomicInteger m_cWritersWaiting = new AtomicInteger();
 
+        /**
+         * The tracker of the flush rate, used to detect load for write coalescing.
+         * <p>
+         * This is only accessed while synchronized on the connection.
+         */
+        protected final WriteCoalescer f_coalescer = new WriteCoalescer(System.nanoTime());
+
         /**
          * The total number of messages (including control messages) received from our peer.
          */
@@ -1868,6 +1901,101 @@ public abstract class BufferedSocketBus
         }
 
 
+    // ----- inner class: WriteCoalescer ------------------------------------
+
+    /**
+     * WriteCoalescer decides whether the flushes of a connection should be coalesced, based on a moving average
+     * of the interval between them.
+     * <p>
+     * When the average falls below the coalescing window the connection is considered to be under load and its
+     * batches are handed to the SelectionService so that they can be combined into a single gathering write.
+     * Idle periods are capped at a multiple of the window when computing the average, so that the connection
+     * reacts quickly once load returns.
+     * <p>
+     * A WriteCoalescer is not thread safe.
+     */
+    public static class WriteCoalescer
+        {
+        /**
+         * Construct a WriteCoalescer.
+         *
+         * @param ldtNow  the current time in nanoseconds
+         */
+        public WriteCoalescer(long ldtNow)
+            {
+            m_ldtFlushLast = ldtNow;
+            }
+
+        /**
+         * Record an explicit flush and return true if it should be coalesced with subsequent flushes.
+         *
+         * @param cNanosWindow  the coalescing window in nanoseconds, must be positive
+         * @param ldtNow        the time of the flush in nanoseconds
+         *
+         * @return true iff the flush should be coalesced
+         */
+        public boolean onFlush(long cNanosWindow, long ldtNow)
+            {
+            long cNanosMax = cNanosWindow * IDLE_WINDOW_MULTIPLE;
+            long cNanosGap = Math.min(ldtNow - m_ldtFlushLast, cNanosMax);
+            long cNanosAvg = m_cNanosFlushInterval = (Math.min(m_cNanosFlushInterval, cNanosMax) * 7 + cNanosGap) / 8;
+
+            m_ldtFlushLast = ldtNow;
+
+            if (cNanosAvg < cNanosWindow)
+                {
+                ++m_cFlushCoalesced;
+                return true;
+                }
+            return false;
+            }
+
+        /**
+         * Return the moving average of the interval between flushes.
+         *
+         * @return the average interval in nanoseconds
+         */
+        public long getAverageFlushInterval()
+            {
+            return m_cNanosFlushInterval;
+            }
+
+        /**
+         * Return the number of flushes which were coalesced.
+         *
+         * @return the number of coalesced flushes
+         */
+        public long getCoalescedFlushCount()
+            {
+            return m_cFlushCoalesced;
+            }
+
+        // ----- constants --------------------------------------------------
+
+        /**
+         * The multiple of the coalescing window at which the interval between two flushes is capped.
+         */
+        public static final int IDLE_WINDOW_MULTIPLE = 8;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The time (in nanoseconds) of the last explicit flush.
+         */
+        protected long m_ldtFlushLast;
+
+        /**
+         * The moving average of the interval between explicit flushes, in nanoseconds.
+         */
+        protected long m_cNanosFlushInterval = Long.MAX_VALUE / IDLE_WINDOW_MULTIPLE;
+
+        /**
+         * The number of explicit flushes which were coalesced.
+         */
+        protected long m_cFlushCoalesced;
+        }
+
+
     // ----- constants ------------------------------------------------------
 
     /**
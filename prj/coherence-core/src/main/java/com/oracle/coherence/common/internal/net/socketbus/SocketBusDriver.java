@@ -1,8 +1,8 @@
 /*
- * Copyright (c) 2000, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.common.internal.net.socketbus;
 
@@ -378,6 +378,22 @@ public class SocketBusDriver
          */
         public int getDirectWriteThreadThreshold();
 
+        /**
+         * Return the write coalescing window in nanoseconds.
+         * <p>
+         * When the average interval between flushes of a connection falls below this window the connection is
+         * considered to be under load, and rather than performing a socket write per flush it hands its output
+         * to the SelectionService, which combines everything queued for the peer into a single gathering write.
+         * Lightly loaded connections continue to use direct writes. A value of zero disables write coalescing.
+         * </p>
+         *
+         * @return the write coalescing window in nanoseconds
+         */
+        default public long getWriteCoalesceNanos()
+            {
+            return 0L;
+            }
+
         /**
          * For the purposes of testing, this method specifies a percentage of read operations which
          * should result in an underlying connection failure.  Specifically the socket's input and output
@@ -449,6 +465,7 @@ public class SocketBusDriver
                 m_cbAutoFlush              = deps.getAutoFlushThreshold();
                 m_cbReceiptRequest         = deps.getReceiptRequestThreshold();
                 m_cThreadsDirect           = deps.getDirectWriteThreadThreshold();
+                m_cNanosWriteCoalesce      = deps.getWriteCoalesceNanos();
                 m_nDropRatio               = deps.getDropRatio();
                 m_nCorruptionRatio         = deps.getCorruptionRatio();
                 m_fCrc                     = deps.isCrcEnabled();
@@ -857,6 +874,25 @@ public class SocketBusDriver
             return this;
             }
 
+        @Override
+        public long getWriteCoalesceNanos()
+            {
+            return m_cNanosWriteCoalesce;
+            }
+
+        /**
+         * Specify the write coalescing window.
+         *
+         * @param cNanos  the window in nanoseconds, or zero to disable write coalescing
+         *
+         * @return this object
+         */
+        public DefaultDependencies setWriteCoalesceNanos(long cNanos)
+            {
+            m_cNanosWriteCoalesce = cNanos;
+            return this;
+            }
+
         @Override
         public int getDropRatio()
             {
@@ -1064,6 +1100,12 @@ public class SocketBusDriver
         protected int m_cThreadsDirect = Integer.parseInt(System.getProperty(
                 SocketBusDriver.class.getName() + ".directWriteThreadThreshold", "4"));
 
+        /**
+         * The write coalescing window in nanoseconds, disabled by default.
+         */
+        protected long m_cNanosWriteCoalesce = new Duration(System.getProperty(
+                SocketBusDriver.class.getName() + ".writeCoalesceInterval", "0us")).getNanos();
+
         /**
          * The drop ratio.
          */
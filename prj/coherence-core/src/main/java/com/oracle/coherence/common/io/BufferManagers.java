@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,6 +11,7 @@ import com.oracle.coherence.common.internal.io.AbstractBufferManager;
 import com.oracle.coherence.common.internal.io.SegmentedBufferManager;
 import com.oracle.coherence.common.internal.io.CheckedBufferManager;
 import com.oracle.coherence.common.internal.io.SlabBufferManager;
+import com.oracle.coherence.common.internal.io.ThreadCachingBufferManager;
 import com.oracle.coherence.common.internal.io.WrapperBufferManager;
 import com.oracle.coherence.common.util.MemorySize;
 
@@ -76,7 +77,14 @@ public final class BufferManagers
      * <p>
      * Compared with the {@link #getDirectManager DirectManager} this implementation
      * may provide buffers which are more optimal for use in network operations.
-     * On some platforms this method may simply return the DirectManager.
+     * The network manager shares its pool with the DirectManager, and may add a small per-thread cache of released
+     * buffers for each power of two size class, avoiding contention on the shared pool at high message rates when
+     * buffers are released on the thread which acquired them. The number of bytes cached per size class per thread
+     * may be specified via the <tt>com.oracle.coherence.common.io.BufferManagers.network.threadCache</tt> system
+     * property, for instance <tt>32KB</tt>. The default value is <tt>0</tt>, which disables the cache. The number of
+     * bytes cached over all threads is limited by the
+     * <tt>com.oracle.coherence.common.io.BufferManagers.network.threadCacheBudget</tt> system property, with a
+     * default value of <tt>16MB</tt>.
      * <p>
      * The maximum size of this buffer manager pool may be specified via the
      * <tt>com.oracle.coherence.common.io.BufferManagers.network.pool</tt> system property. Setting this
@@ -195,6 +203,11 @@ public final class BufferManagers
          */
         public static final BufferManager INSTANCE;
 
+        /**
+         * The unchecked direct BufferManager.
+         */
+        public static final BufferManager POOL;
+
         static
             {
             BufferManager mgr;
@@ -239,7 +252,7 @@ public final class BufferManagers
                     };
                 }
 
-            mgr      = new NonDisposableBufferManager(mgr);
+            mgr      = POOL = new NonDisposableBufferManager(mgr);
             LOGGER.log(Level.FINE, "initialized DirectBufferManager " + mgr);
             INSTANCE = Boolean.valueOf(System.getProperty(BufferManagers.class.getName() + ".direct.checked",
                     System.getProperty(BufferManagers.class.getName() + ".checked")))
@@ -255,7 +268,32 @@ public final class BufferManagers
         /**
          * The network direct BufferManager.
          */
-        public static final BufferManager INSTANCE = DirectManagerHolder.INSTANCE;
+        public static final BufferManager INSTANCE;
+
+        static
+            {
+            int  cbCache  = (int) new MemorySize(System.getProperty(BufferManagers.class.getName() + ".network.threadCache",
+                                                         DEFAULT_THREAD_CACHE_SIZE)).getByteCount();
+            long cbBudget = new MemorySize(System.getProperty(BufferManagers.class.getName() + ".network.threadCacheBudget",
+                                                         DEFAULT_THREAD_CACHE_BUDGET)).getByteCount();
+
+            if (cbCache > 0)
+                {
+                // the cache sits between the pool and any checked manager, so that cached buffers are seen as released
+                // by the leak checks
+                BufferManager mgr = new NonDisposableBufferManager(
+                        new ThreadCachingBufferManager(DirectManagerHolder.POOL, cbCache, cbBudget));
+
+                LOGGER.log(Level.FINE, "initialized NetworkDirectBufferManager " + mgr);
+                INSTANCE = Boolean.valueOf(System.getProperty(BufferManagers.class.getName() + ".network.checked",
+                        System.getProperty(BufferManagers.class.getName() + ".checked")))
+                                ? new CheckedBufferManager(mgr) : mgr;
+                }
+            else
+                {
+                INSTANCE = DirectManagerHolder.INSTANCE;
+                }
+            }
         }
 
     /**
@@ -293,6 +331,19 @@ public final class BufferManagers
     private static final long DEFAULT_POOL_SIZE = Math.min(/*~Xms*/ Runtime.getRuntime().totalMemory() / 4,
                                                            /* Xmx*/Runtime.getRuntime().maxMemory() / 20);
 
+    /**
+     * The default number of bytes per size class cached by each thread using the network manager.
+     * <p>
+     * The cache is disabled by default, as the network layer commonly releases buffers on a different thread from
+     * the one which acquired them, in which case the cache is rarely hit.
+     */
+    private static final String DEFAULT_THREAD_CACHE_SIZE = "0";
+
+    /**
+     * The default number of bytes cached over all threads using the network manager, when the cache is enabled.
+     */
+    private static final String DEFAULT_THREAD_CACHE_BUDGET = "16MB";
+
     /**
      * The Logger for the managers.
      */
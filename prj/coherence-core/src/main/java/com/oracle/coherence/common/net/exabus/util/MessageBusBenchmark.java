@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.net.exabus.util;
+
+import com.oracle.coherence.common.util.Duration;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import java.lang.management.ManagementFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * MessageBusBenchmark runs a matrix of {@link MessageBusTest} scenarios over loopback and collects a
+ * machine-readable summary of each, allowing transport changes to be measured reproducibly on a single machine.
+ * <p>
+ * Each scenario runs in its own JVM, binding <tt>fanOut + 1</tt> local EndPoints which each send to all of
+ * the others. Both {@link com.oracle.coherence.common.net.exabus.MessageBus} transports such as <tt>tmb</tt>
+ * and {@link com.oracle.coherence.common.net.exabus.MemoryBus} transports such as <tt>trb</tt> are supported.
+ * A <tt>throughput</tt> scenario streams messages as fast as flow control allows, while a <tt>latency</tt>
+ * scenario has each transmitter block on the response to its request. Every scenario is warmed up before being
+ * measured, and its summary is written as a single line of JSON.
+ * <p>
+ * Each scenario JVM is started with the same JVM arguments as the benchmark itself, so heap and GC settings are
+ * specified on the benchmark's own command line.  The SSL protected transports require a keystore, which is
+ * specified via <tt>-keystore</tt>.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class MessageBusBenchmark
+    {
+    // ----- MessageBusBenchmark methods ------------------------------------
+
+    /**
+     * Print the command line help.
+     *
+     * @param out  the stream to print to
+     */
+    public static void printHelp(PrintStream out)
+        {
+        out.println("MessageBusBenchmark parameters:");
+        out.println("\t-transports  list of protocols to run, i.e. tmb (MessageBus), trb (MemoryBus), tmbs, trbs, default: "
+                + DEFAULT_TRANSPORTS);
+        out.println("\t-scenarios   list of scenarios to run, i.e. throughput, latency, default: " + DEFAULT_SCENARIOS);
+        out.println("\t-msgSize     list of message sizes to run, default: " + DEFAULT_MSG_SIZES);
+        out.println("\t-fanOut      list of the number of peers each bus sends to, default: " + DEFAULT_FAN_OUT);
+        out.println("\t-receipts    list of receipt modes to run, i.e. true, false, default: " + DEFAULT_RECEIPTS);
+        out.println("\t-warmup      warmup duration for each scenario, default: " + DEFAULT_WARMUP);
+        out.println("\t-duration    measurement duration for each scenario, default: " + DEFAULT_DURATION);
+        out.println("\t-port        the first port to bind to, default: " + DEFAULT_PORT);
+        out.println("\t-keystore    the keystore for SSL protected transports");
+        out.println("\t-password    the keystore password");
+        out.println("\t-report      file to append JSON results to, or - for stdout, default: -");
+        out.println("\t-verbose     if specified the output of each scenario will be displayed");
+        }
+
+    /**
+     * Run the MessageBusBenchmark application.
+     *
+     * @param asArg  the program arguments
+     *
+     * @throws Exception if an error occurs
+     */
+    public static void main(String[] asArg)
+            throws Exception
+        {
+        Map<String, String> mapArgs = MessageBusTest.parseArgs(asArg);
+
+        List<String> listTransport = split(mapArgs.remove("-transports"), DEFAULT_TRANSPORTS);
+        List<String> listScenario  = split(mapArgs.remove("-scenarios"),  DEFAULT_SCENARIOS);
+        List<String> listMsgSize   = split(mapArgs.remove("-msgSize"),    DEFAULT_MSG_SIZES);
+        List<String> listFanOut    = split(mapArgs.remove("-fanOut"),     DEFAULT_FAN_OUT);
+        List<String> listReceipts  = split(mapArgs.remove("-receipts"),   DEFAULT_RECEIPTS);
+        String       sWarmup       = mapArgs.getOrDefault("-warmup", DEFAULT_WARMUP);
+        String       sDuration     = mapArgs.getOrDefault("-duration", DEFAULT_DURATION);
+        String       sKeystore     = mapArgs.remove("-keystore");
+        String       sPassword     = mapArgs.remove("-password");
+        String       sReport       = mapArgs.getOrDefault("-report", "-");
+        boolean      fVerbose      = mapArgs.remove("-verbose") != null;
+        int          nPort         = Integer.parseInt(mapArgs.getOrDefault("-port", String.valueOf(DEFAULT_PORT)));
+
+        mapArgs.remove("-warmup");
+        mapArgs.remove("-duration");
+        mapArgs.remove("-report");
+        mapArgs.remove("-port");
+
+        if (!mapArgs.isEmpty())
+            {
+            System.err.println("unknown parameter " + mapArgs.keySet().iterator().next());
+            System.err.println();
+            printHelp(System.err);
+            System.exit(1);
+            }
+
+        for (String sTransport : listTransport)
+            {
+            if (sTransport.endsWith("s") && sKeystore == null)
+                {
+                System.err.println("transport " + sTransport + " requires -keystore");
+                System.exit(1);
+                }
+            }
+
+        for (String sScenario : listScenario)
+            {
+            if (!sScenario.equals(SCENARIO_THROUGHPUT) && !sScenario.equals(SCENARIO_LATENCY))
+                {
+                System.err.println("unknown scenario " + sScenario);
+                System.exit(1);
+                }
+            }
+
+        long cMillisTimeout = new Duration(sWarmup).as(Duration.Magnitude.MILLI)
+                + new Duration(sDuration).as(Duration.Magnitude.MILLI)
+                + SCENARIO_TIMEOUT_SLACK_MILLIS;
+
+        PrintStream out = sReport.equals("-")
+                ? System.out
+                : new PrintStream(new FileOutputStream(sReport, /*fAppend*/ true), /*fAutoFlush*/ true);
+
+        int cFailed = 0;
+        for (String sTransport : listTransport)
+            {
+            for (String sScenario : listScenario)
+                {
+                for (String sMsgSize : listMsgSize)
+                    {
+                    for (String sFanOut : listFanOut)
+                        {
+                        for (String sReceipts : listReceipts)
+                            {
+                            int          cFanOut  = Integer.parseInt(sFanOut);
+                            List<String> listArgs = new ArrayList<>();
+
+                            listArgs.add("-bind");
+                            listArgs.add(sTransport + "://127.0.0.1:" + nPort + ".." + (nPort + cFanOut));
+                            listArgs.add("-peer");
+                            listArgs.add(sTransport + "://127.0.0.1:" + nPort + ".." + (nPort + cFanOut));
+                            listArgs.add("-msgSize");
+                            listArgs.add(sMsgSize);
+                            listArgs.add("-warmup");
+                            listArgs.add(sWarmup);
+                            listArgs.add("-duration");
+                            listArgs.add(sDuration);
+                            listArgs.add("-reportInterval");
+                            listArgs.add("1s");
+                            listArgs.add("-noReceipts");
+                            listArgs.add(String.valueOf(!Boolean.parseBoolean(sReceipts)));
+                            if (sScenario.equals(SCENARIO_LATENCY))
+                                {
+                                listArgs.add("-block");
+                                listArgs.add("-latencyFreq");
+                                listArgs.add("1");
+                                }
+
+                            // give each scenario its own ports to avoid lingering sockets from the previous one
+                            nPort += cFanOut + 1;
+
+                            String sResult = runScenario(listArgs, sKeystore, sPassword, cMillisTimeout, fVerbose);
+                            if (sResult == null)
+                                {
+                                ++cFailed;
+                                sResult = "{\"args\": \"" + String.join(" ", listArgs) + "\", \"errors\": -1}";
+                                }
+
+                            out.println("{\"scenario\": \"" + sScenario + "\", " + sResult.substring(1));
+                            }
+                        }
+                    }
+                }
+            }
+
+        if (out != System.out)
+            {
+            out.close();
+            }
+
+        System.exit(cFailed == 0 ? 0 : 1);
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Run a single MessageBusTest scenario in a new JVM.
+     *
+     * @param listArgs        the MessageBusTest arguments
+     * @param sKeystore       the keystore for SSL protected transports, or null
+     * @param sPassword       the keystore password, or null
+     * @param cMillisTimeout  the time to allow the scenario to complete in
+     * @param fVerbose        true if the scenario's output should be displayed
+     *
+     * @return the scenario's JSON summary, or null if it failed
+     *
+     * @throws IOException if an IO error occurs
+     * @throws InterruptedException if interrupted while waiting for the scenario
+     */
+    protected static String runScenario(List<String> listArgs, String sKeystore, String sPassword,
+            long cMillisTimeout, boolean fVerbose)
+            throws IOException, InterruptedException
+        {
+        File fileReport = File.createTempFile("MessageBusBenchmark", ".json");
+        try
+            {
+            List<String> listCmd = new ArrayList<>();
+            listCmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            listCmd.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+            listCmd.add("-cp");
+            listCmd.add(System.getProperty("java.class.path"));
+            if (sKeystore != null)
+                {
+                listCmd.add("-Ddepot.ssl.keystore=" + sKeystore);
+                }
+            if (sPassword != null)
+                {
+                listCmd.add("-Ddepot.ssl.password=" + sPassword);
+                }
+            listCmd.add(MessageBusTest.class.getName());
+            listCmd.addAll(listArgs);
+            listCmd.add("-report");
+            listCmd.add(fileReport.getAbsolutePath());
+
+            System.err.println("running: " + String.join(" ", listArgs));
+
+            ProcessBuilder builder = new ProcessBuilder(listCmd).redirectErrorStream(true);
+            builder.redirectOutput(fVerbose ? ProcessBuilder.Redirect.INHERIT : ProcessBuilder.Redirect.DISCARD);
+
+            Process process = builder.start();
+            if (!process.waitFor(cMillisTimeout, TimeUnit.MILLISECONDS))
+                {
+                System.err.println("scenario timed out: " + String.join(" ", listArgs));
+                process.destroyForcibly().waitFor();
+                return null;
+                }
+
+            String sResult = new String(Files.readAllBytes(fileReport.toPath()), StandardCharsets.UTF_8).trim();
+            if (process.exitValue() != 0 || !sResult.startsWith("{"))
+                {
+                System.err.println("scenario failed with exit code " + process.exitValue() + ": " + String.join(" ", listArgs));
+                return null;
+                }
+            return sResult;
+            }
+        finally
+            {
+            fileReport.delete();
+            }
+        }
+
+    /**
+     * Split a comma or whitespace separated list.
+     *
+     * @param sList     the list, or null
+     * @param sDefault  the list to use if sList is null
+     *
+     * @return the list elements
+     */
+    protected static List<String> split(String sList, String sDefault)
+        {
+        List<String> list = new ArrayList<>();
+        for (StringTokenizer tok = new StringTokenizer(sList == null ? sDefault : sList, ", "); tok.hasMoreTokens(); )
+            {
+            list.add(tok.nextToken());
+            }
+        return list;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The throughput scenario.
+     */
+    public static final String SCENARIO_THROUGHPUT = "throughput";
+
+    /**
+     * The latency scenario.
+     */
+    public static final String SCENARIO_LATENCY = "latency";
+
+    /**
+     * The default transports; the TCP MessageBus and the TCP MemoryBus, which MessageBusTest drives with RDMA
+     * writes and uses receipts as responses for in the latency scenario.
+     */
+    public static final String DEFAULT_TRANSPORTS = SimpleDepot.TCP_MESSAGE_BUS_PROTOCOL + ","
+            + SimpleDepot.TCP_MEMORY_BUS_PROTOCOL;
+
+    /**
+     * The default scenarios.
+     */
+    public static final String DEFAULT_SCENARIOS = SCENARIO_THROUGHPUT + "," + SCENARIO_LATENCY;
+
+    /**
+     * The default message sizes.
+     */
+    public static final String DEFAULT_MSG_SIZES = "64,1KB,64KB";
+
+    /**
+     * The default fan-out.
+     */
+    public static final String DEFAULT_FAN_OUT = "1,4";
+
+    /**
+     * The default receipt modes.
+     */
+    public static final String DEFAULT_RECEIPTS = "true";
+
+    /**
+     * The default warmup duration.
+     */
+    public static final String DEFAULT_WARMUP = "5s";
+
+    /**
+     * The default measurement duration.
+     */
+    public static final String DEFAULT_DURATION = "15s";
+
+    /**
+     * The default first port.
+     */
+    public static final int DEFAULT_PORT = 17000;
+
+    /**
+     * The time beyond warmup and measurement to allow a scenario to start and stop in.
+     */
+    protected static final long SCENARIO_TIMEOUT_SLACK_MILLIS = 60000L;
+    }
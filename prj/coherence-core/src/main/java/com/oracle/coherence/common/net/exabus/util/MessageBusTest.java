@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -53,6 +53,7 @@ import com.oracle.coherence.common.util.Duration;
 import com.oracle.coherence.common.util.MemorySize;
 
 import java.io.DataInput;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.net.SocketOptions;
@@ -2462,6 +2463,8 @@ public class MessageBusTest
         out.println("\t-prompt             if specified the user will be prompted before each send");
         out.println("\t-tabular            if specified the output will be in tabular format");
         out.println("\t-warmup             time duration or message count which will be discarded for warmup");
+        out.println("\t-duration           time duration to measure for after warmup, after which the test will exit");
+        out.println("\t-report             file to write a JSON summary to upon exit, or - for stdout, requires -duration");
         out.println("\t-single             if specified an outgoing connection will emit just one message, then reconnect");
         out.println("\t-verbose            to enable verbose debugging output");
         }
@@ -2504,6 +2507,8 @@ public class MessageBusTest
         String sPrompt = mapArgs.remove("-prompt");
         String sWarmup = mapArgs.remove("-warmup");
         String sSingle = mapArgs.remove("-single");
+        String sDuration = mapArgs.remove("-duration");
+        String sReport = mapArgs.remove("-report");
 
         if (sTxRate != null && Character.isDigit(sTxRate.charAt(sTxRate.length() - 1)))
             {
@@ -2543,6 +2548,13 @@ public class MessageBusTest
         long cbMaxBacklog = sTxMaxBacklog == null ? -1 : new MemorySize(sTxMaxBacklog).getByteCount();
         long cMsgWarmup = 0;
         long cMillisWarmup = 0;
+        long cMillisDuration = sDuration == null ? 0 : new Duration(sDuration).as(Duration.Magnitude.MILLI);
+
+        if (sReport != null && cMillisDuration == 0)
+            {
+            System.err.println("-report requires -duration");
+            System.exit(1);
+            }
 
 
         if (sWarmup != null)
@@ -2982,7 +2994,10 @@ public class MessageBusTest
                     if (stats.ldt - ldtWarmStart >= cMillisWarmup)
                         {
                         // we've completed warmup, note that the duration between ldtWarmStart and stastWarm.ldt is
-                        // questionable, but also never used
+                        // questionable, but also never used; the lifetime min/max only cover the samples taken after
+                        // warmup
+                        stats.cResponseNanosMin = Long.MAX_VALUE;
+                        stats.cResponseNanosMax = -1;
                         statsPrev = statsWarm = stats;
                         }
 
@@ -3116,10 +3131,141 @@ public class MessageBusTest
                 System.out.println();
                 }
 
+            if (cMillisDuration > 0 && stats.ldt - statsWarm.ldt >= cMillisDuration)
+                {
+                // the measurement period is complete; summarize it relative to the end of warmup
+                long   cMillis     = stats.ldt - statsWarm.ldt;
+                double dflSeconds  = cMillis / 1000.0;
+                long   cResponse   = stats.cResponses      - statsWarm.cResponses;
+                long   cReceipt    = stats.cReceiptSamples - statsWarm.cReceiptSamples;
+                int    cPeer       = 0;
+                String sProtocol   = null;
+                for (Bus bus : listBus)
+                    {
+                    EndPoint epLocal = bus.getLocalEndPoint();
+                    int      cPeerBus = 0;
+                    for (EndPoint peer : aPeer)
+                        {
+                        if (!peer.equals(epLocal))
+                            {
+                            ++cPeerBus;
+                            }
+                        }
+                    cPeer = Math.max(cPeer, cPeerBus);
+
+                    String sName = epLocal.getCanonicalName();
+                    sProtocol = sName.contains("://") ? sName.substring(0, sName.indexOf("://")) : sName;
+                    }
+
+                Histogram histLatency = stats.histLatency.compare(statsWarm.histLatency);
+
+                StringBuilder sb = new StringBuilder("{");
+                appendJson(sb, "args",                String.join(" ", asArg));
+                appendJson(sb, "transport",           sProtocol);
+                appendJson(sb, "buses",               cBus);
+                appendJson(sb, "fanOut",              cPeer);
+                appendJson(sb, "txThreads",           cTxThreads);
+                appendJson(sb, "msgSizeMin",          cbMin);
+                appendJson(sb, "msgSizeMax",          cbMax);
+                appendJson(sb, "receipts",            s_fReceipts);
+                appendJson(sb, "blocking",            s_fBlock);
+                appendJson(sb, "durationMillis",      cMillis);
+                appendJson(sb, "msgOutPerSec",        Math.round((stats.cMsgOut - statsWarm.cMsgOut) / dflSeconds));
+                appendJson(sb, "msgInPerSec",         Math.round((stats.cMsgIn  - statsWarm.cMsgIn)  / dflSeconds));
+                appendJson(sb, "bytesOutPerSec",      Math.round((stats.cbOut   - statsWarm.cbOut)   / dflSeconds));
+                appendJson(sb, "bytesInPerSec",       Math.round((stats.cbIn    - statsWarm.cbIn)    / dflSeconds));
+                appendJson(sb, "receiptAvgMicros",    cReceipt == 0 ? -1 : (stats.cReceiptNanos - statsWarm.cReceiptNanos) / cReceipt / 1000);
+                appendJson(sb, "responses",           cResponse);
+                appendJson(sb, "responseAvgMicros",   cResponse == 0 ? -1 : (stats.cResponseNanos - statsWarm.cResponseNanos) / cResponse / 1000);
+                appendJson(sb, "responseMinMicros",   cResponse == 0 ? -1 : stats.cResponseNanosMin / 1000);
+                appendJson(sb, "responseP50Micros",   getPercentile(histLatency, 0.5));
+                appendJson(sb, "responseP90Micros",   getPercentile(histLatency, 0.9));
+                appendJson(sb, "responseP99Micros",   getPercentile(histLatency, 0.99));
+                appendJson(sb, "responseP999Micros",  getPercentile(histLatency, 0.999));
+                appendJson(sb, "responseMaxMicros",   cResponse == 0 ? -1 : stats.cResponseNanosMax / 1000);
+                appendJson(sb, "backlogOutPercent",   aTransmitter.length == 0 ? -1
+                        : (100 * (stats.cMillisBacklogRemote - statsWarm.cMillisBacklogRemote)) / (cMillis * aTransmitter.length));
+                appendJson(sb, "backlogInPercent",    (100 * (stats.cMillisBacklogLocal - statsWarm.cMillisBacklogLocal)) / (cMillis * cBus));
+                appendJson(sb, "connections",         stats.cConnections);
+                appendJson(sb, "errors",              stats.cErrors - statsWarm.cErrors);
+                sb.setLength(sb.length() - 2);
+                sb.append('}');
+
+                if ("-".equals(sReport))
+                    {
+                    System.out.println(sb);
+                    System.out.flush();
+                    }
+                else if (sReport != null)
+                    {
+                    try (PrintStream out = new PrintStream(new FileOutputStream(sReport, /*fAppend*/ true)))
+                        {
+                        out.println(sb);
+                        }
+                    }
+
+                System.exit(0);
+                }
+
             statsPrev = stats;
             }
         }
 
+    /**
+     * Append a name/value pair to a JSON object being built in the supplied StringBuilder.
+     *
+     * @param sb      the builder
+     * @param sName   the name
+     * @param oValue  the value, which is quoted unless it is a Number or Boolean
+     */
+    protected static void appendJson(StringBuilder sb, String sName, Object oValue)
+        {
+        sb.append('"').append(sName).append("\": ");
+        if (oValue == null || oValue instanceof Number || oValue instanceof Boolean)
+            {
+            sb.append(oValue);
+            }
+        else
+            {
+            sb.append('"');
+            for (char ch : oValue.toString().toCharArray())
+                {
+                if (ch == '"' || ch == '\\')
+                    {
+                    sb.append('\\');
+                    }
+                sb.append(ch);
+                }
+            sb.append('"');
+            }
+        sb.append(", ");
+        }
+
+    /**
+     * Return the upper bound of the specified percentile of a latency histogram.
+     *
+     * @param hist  the histogram
+     * @param dPct  the percentile expressed as a fraction
+     *
+     * @return the percentile in the histogram's units, or -1 if there are no samples
+     */
+    protected static long getPercentile(Histogram hist, double dPct)
+        {
+        long[] alResults = hist.getResults();
+        long   cSamples  = hist.getSampleCount();
+        long   cLimit    = (long) Math.ceil(cSamples * dPct);
+        long   cRunning  = 0;
+        for (int i = 0, c = alResults.length; i < c && cSamples > 0; ++i)
+            {
+            cRunning += alResults[i];
+            if (cRunning >= cLimit)
+                {
+                return hist.getLabelMax(i);
+                }
+            }
+        return -1;
+        }
+
     // ---- constants -------------------------------------------------------
 
     /**
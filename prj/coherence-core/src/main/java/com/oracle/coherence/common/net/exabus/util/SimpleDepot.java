@@ -1,8 +1,8 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.common.net.exabus.util;
 
@@ -23,6 +23,7 @@ import com.oracle.coherence.common.net.exabus.MemoryBus;
 import com.oracle.coherence.common.net.SSLSettings;
 import com.oracle.coherence.common.net.SSLSocketProvider;
 import com.oracle.coherence.common.internal.net.socketbus.SocketBusDriver;
+import com.oracle.coherence.common.internal.net.shmbus.SharedMemoryBusDriver;
 
 import java.io.Closeable;
 import java.util.Collections;
@@ -60,7 +61,12 @@ public class SimpleDepot
      */
     public SimpleDepot(Dependencies deps)
         {
-        m_dependencies = deps = copyDependencies(deps).validate();
+        DefaultDependencies depsCopy = copyDependencies(deps);
+        if (SharedMemoryBusDriver.isEnabled())
+            {
+            depsCopy.setDrivers(applySharedMemoryDriver(depsCopy.getDrivers()));
+            }
+        m_dependencies = deps = depsCopy.validate();
 
         for (Driver driver : deps.getDrivers().values())
             {
@@ -271,6 +277,30 @@ public class SimpleDepot
         }
 
 
+    /**
+     * Wrap the plain TCP socket driver in a {@link SharedMemoryBusDriver} so
+     * that MessageBus peers on the same machine communicate through shared
+     * memory, falling back to TCP for all other peers.
+     *
+     * @param mapDriver  the drivers to use
+     *
+     * @return the drivers with the TCP driver wrapped
+     */
+    protected Map<String, Driver> applySharedMemoryDriver(Map<String, Driver> mapDriver)
+        {
+        Map<String, Driver> mapResult = new HashMap<>(mapDriver);
+        for (Map.Entry<String, Driver> entry : mapResult.entrySet())
+            {
+            Driver driver = entry.getValue();
+            if (driver instanceof SocketBusDriver && TCP_MESSAGE_BUS_PROTOCOL.equals(
+                    ((SocketBusDriver) driver).getDependencies().getMessageBusProtocol()))
+                {
+                entry.setValue(new SharedMemoryBusDriver(driver));
+                }
+            }
+        return Collections.unmodifiableMap(mapResult);
+        }
+
     /**
      * Return the Depot's dependencies.
      *
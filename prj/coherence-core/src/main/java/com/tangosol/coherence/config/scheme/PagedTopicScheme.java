@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -15,6 +15,7 @@ import com.oracle.coherence.common.util.Options;
 import com.tangosol.coherence.config.builder.ElementCalculatorBuilder;
 import com.tangosol.coherence.config.builder.MapBuilder;
 import com.tangosol.coherence.config.builder.NamedEventInterceptorBuilder;
+import com.tangosol.coherence.config.builder.ParameterizedBuilder;
 import com.tangosol.coherence.config.builder.UnitCalculatorBuilder;
 
 import com.tangosol.coherence.config.unit.Seconds;
@@ -62,6 +63,7 @@ import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.util.RegistrationBehavior;
 import com.tangosol.util.ResourceResolver;
 import com.tangosol.util.ResourceResolverHelper;
+import com.tangosol.util.ValueExtractor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -254,6 +256,31 @@ public class PagedTopicScheme
         m_exprHighUnits = expr;
         }
 
+    /**
+     * Return the amount of memory used for the in-memory tier of a topic
+     * configured with tiered storage.
+     *
+     * @param resolver  the ParameterResolver
+     *
+     * @return the size of the in-memory tier in bytes
+     */
+    public long getHotStorageSize(ParameterResolver resolver)
+        {
+        return m_exprHotStorageSize.evaluate(resolver).getByteCount();
+        }
+
+    /**
+     * Set the amount of memory used for the in-memory tier of a topic
+     * configured with tiered storage.
+     *
+     * @param expr  the hot-storage-size expression
+     */
+    @Injectable("hot-storage-size")
+    public void setHotStorageSize(Expression<MemorySize> expr)
+        {
+        m_exprHotStorageSize = expr;
+        }
+
     /**
      * Return the {@link Expression} transient. to use to determine
      * whether the backing map is transient.
@@ -432,6 +459,32 @@ public class PagedTopicScheme
         m_bldrElementCalculator = builder;
         }
 
+    /**
+     * Return the {@link ParameterizedBuilder} used to construct the
+     * {@link ValueExtractor} that extracts the compaction key from the
+     * elements of a compacted topic.
+     *
+     * @return the compaction extractor builder, or {@code null} if the
+     *         topic is not compacted
+     */
+    public ParameterizedBuilder<ValueExtractor> getCompactionExtractorBuilder()
+        {
+        return m_bldrCompactionExtractor;
+        }
+
+    /**
+     * Set the {@link ParameterizedBuilder} used to construct the
+     * {@link ValueExtractor} that extracts the compaction key from the
+     * elements of a compacted topic.
+     *
+     * @param builder  the compaction extractor builder
+     */
+    @Injectable("compaction-extractor")
+    public void setCompactionExtractorBuilder(ParameterizedBuilder<ValueExtractor> builder)
+        {
+        m_bldrCompactionExtractor = builder;
+        }
+
     @Override
     @Injectable("interceptors")
     public void setEventInterceptorBuilders(List<NamedEventInterceptorBuilder> listBuilders)
@@ -699,6 +752,12 @@ public class PagedTopicScheme
         dependencies.setReconnectTimeoutMillis(getReconnectTimeoutMillis(resolver).as(Duration.Magnitude.MILLI));
         dependencies.setReconnectRetryMillis(getReconnectRetryMillis(resolver).as(Duration.Magnitude.MILLI));
         dependencies.setReconnectWaitMillis(getReconnectWaitMillis(resolver).as(Duration.Magnitude.MILLI));
+
+        ParameterizedBuilder<ValueExtractor> bldrCompaction = getCompactionExtractorBuilder();
+        if (bldrCompaction != null)
+            {
+            dependencies.setCompactionExtractor(bldrCompaction.realize(resolver, loader, null));
+            }
         return dependencies;
         }
 
@@ -747,6 +806,11 @@ public class PagedTopicScheme
      */
     private Expression<MemorySize> m_exprHighUnits = new LiteralExpression<>(new MemorySize(0));
 
+    /**
+     * The size of the in-memory tier when using tiered storage.
+     */
+    private Expression<MemorySize> m_exprHotStorageSize = new LiteralExpression<>(new MemorySize(PagedTopic.DEFAULT_HOT_STORAGE_BYTES));
+
     /**
      * The partitioned flag.
      */
@@ -788,6 +852,11 @@ public class PagedTopicScheme
      */
     private ElementCalculatorBuilder m_bldrElementCalculator;
 
+    /**
+     * The builder for the compaction key extractor.
+     */
+    private ParameterizedBuilder<ValueExtractor> m_bldrCompactionExtractor;
+
     /**
      * The reconnection timeout value.
      */
@@ -1,14 +1,24 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.coherence.config.scheme;
 
+import com.oracle.coherence.common.util.MemorySize;
+
+import com.tangosol.coherence.config.unit.Units;
+
+import com.tangosol.config.expression.LiteralExpression;
 import com.tangosol.config.expression.ParameterResolver;
 
+import com.tangosol.internal.net.topic.impl.paged.PagedTopicCaches;
+
+import com.tangosol.net.BackingMapManagerContext;
+import com.tangosol.net.CacheService;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
 
 import java.util.Map;
 
@@ -42,6 +52,19 @@ public class PagedTopicStorageScheme
         {
         f_schemeTopic.ensureConfiguredService(resolver, dependencies);
 
+        CachingScheme scheme = getCachingScheme();
+        if (scheme instanceof OverflowScheme)
+            {
+            OverflowScheme schemeTiered = (OverflowScheme) scheme;
+            if (!PagedTopicCaches.Names.CONTENT.isA(dependencies.getCacheName()))
+                {
+                // only the topic content is tiered, the metadata caches are
+                // small and frequently updated so they are kept in memory
+                return schemeTiered.getFrontScheme().realizeMap(resolver, dependencies);
+                }
+            return createTieredScheme(schemeTiered, resolver, dependencies).realizeMap(resolver, dependencies);
+            }
+
         return super.realizeMap(resolver, dependencies);
         }
 
@@ -53,6 +76,64 @@ public class PagedTopicStorageScheme
         return super.realizeCache(resolver, dependencies);
         }
 
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Create a copy of a tiered storage scheme, with the tiers sized for the
+     * map being realized.
+     * <p>
+     * The configured scheme is shared by every map of every topic using it,
+     * so it is never modified. A partitioned backing map realizes a map for
+     * each partition, so the in-memory tier is given an equal share of the
+     * topic's hot storage size. If the topic has a server capacity the back
+     * tier is bounded by it, so that its size is tracked and publishers are
+     * throttled before it is full.
+     *
+     * @param scheme        the configured tiered storage scheme
+     * @param resolver      the {@link ParameterResolver}
+     * @param dependencies  the {@link Dependencies} used to realize the map
+     *
+     * @return a tiered storage scheme sized for the map being realized
+     */
+    protected OverflowScheme createTieredScheme(OverflowScheme scheme, ParameterResolver resolver, Dependencies dependencies)
+        {
+        BackingMapManagerContext ctx         = dependencies.getBackingMapManagerContext();
+        CacheService             service     = ctx == null ? null : ctx.getCacheService();
+        int                      cPartitions = service instanceof PartitionedService
+                                                    ? ((PartitionedService) service).getPartitionCount()
+                                                    : 1;
+
+        CachingScheme schemeFront = scheme.getFrontScheme();
+        if (schemeFront instanceof LocalScheme)
+            {
+            long        cbHot       = Math.max(1L, f_schemeTopic.getHotStorageSize(resolver) / cPartitions);
+            LocalScheme schemeLocal = new LocalScheme();
+
+            schemeLocal.setUnitCalculatorBuilder(((LocalScheme) schemeFront).getUnitCalculatorBuilder());
+            schemeLocal.setHighUnits(new LiteralExpression<>(new Units(new MemorySize(cbHot))));
+            schemeFront = schemeLocal;
+            }
+
+        CachingScheme schemeBack = scheme.getBackScheme();
+        long          cbServer   = f_schemeTopic.getHighUnits(resolver);
+        if (schemeBack instanceof ExternalScheme && cbServer > 0)
+            {
+            ExternalScheme schemeConfigured = (ExternalScheme) schemeBack;
+            ExternalScheme schemeExternal   = new ExternalScheme();
+
+            schemeExternal.setBinaryStoreManagerBuilder(schemeConfigured.getBinaryStoreManagerBuilder());
+            schemeExternal.setUnitCalculatorBuilder(schemeConfigured.getUnitCalculatorBuilder());
+            schemeExternal.setHighUnits(new LiteralExpression<>(new Units(new MemorySize(cbServer))));
+            schemeBack = schemeExternal;
+            }
+
+        OverflowScheme schemeTiered = new OverflowScheme();
+        schemeTiered.setFrontScheme(schemeFront);
+        schemeTiered.setBackScheme(schemeBack);
+        schemeTiered.setExpiryEnabled(new LiteralExpression<>(scheme.isExpiryEnabled(resolver)));
+        return schemeTiered;
+        }
+
     // ----- data members ---------------------------------------------------
 
     /**
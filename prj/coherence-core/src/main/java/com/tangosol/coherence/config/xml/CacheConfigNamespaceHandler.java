@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -58,6 +58,7 @@ import com.tangosol.coherence.config.xml.processor.CacheMappingProcessor;
 import com.tangosol.coherence.config.xml.processor.CacheServiceProxyProcessor;
 import com.tangosol.coherence.config.xml.processor.CachingSchemeMappingProcessor;
 import com.tangosol.coherence.config.xml.processor.CachingSchemesProcessor;
+import com.tangosol.coherence.config.xml.processor.CompactionExtractorProcessor;
 import com.tangosol.coherence.config.xml.processor.CompositeSchemeProcessor;
 import com.tangosol.coherence.config.xml.processor.ConfigurationProcessor;
 import com.tangosol.coherence.config.xml.processor.CustomizableBinaryStoreManagerBuilderProcessor;
@@ -228,6 +229,7 @@ public class CacheConfigNamespaceHandler
         registerProcessor(CacheMappingProcessor.class);
         registerProcessor(CachingSchemeMappingProcessor.class);
         registerProcessor(CachingSchemesProcessor.class);
+        registerProcessor(CompactionExtractorProcessor.class);
         registerProcessor(ConfigurationProcessor.class);
         registerProcessor(DefaultsProcessor.class);
         registerProcessor(DeltaCompressorProcessor.class);
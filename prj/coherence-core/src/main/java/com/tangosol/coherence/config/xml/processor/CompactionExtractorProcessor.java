@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.config.xml.processor;
+
+import com.tangosol.coherence.config.builder.ParameterizedBuilder;
+
+import com.tangosol.config.ConfigurationException;
+
+import com.tangosol.config.xml.ElementProcessor;
+import com.tangosol.config.xml.ProcessingContext;
+import com.tangosol.config.xml.XmlSimpleName;
+
+import com.tangosol.run.xml.XmlElement;
+
+import com.tangosol.util.ValueExtractor;
+
+/**
+ * Responsible for processing {@code compaction-extractor} elements.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+@XmlSimpleName("compaction-extractor")
+public class CompactionExtractorProcessor
+        implements ElementProcessor<ParameterizedBuilder<ValueExtractor>>
+    {
+    // ----- ElementProcessor methods ---------------------------------------
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ParameterizedBuilder<ValueExtractor> process(ProcessingContext context, XmlElement xmlElement)
+            throws ConfigurationException
+        {
+        // fetch the builder defined in the "compaction-extractor" element
+        ParameterizedBuilder<?> bldr = ElementProcessorHelper.processParameterizedBuilder(context, xmlElement);
+
+        return (ParameterizedBuilder<ValueExtractor>) bldr;
+        }
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -18,8 +18,12 @@ import com.tangosol.io.DecoratedBinaryDeltaCompressor;
 import com.tangosol.io.DecorationOnlyDeltaCompressor;
 import com.tangosol.io.DeltaCompressor;
 
+import com.tangosol.io.pof.PofPropertyDeltaCompressor;
+
 import com.tangosol.run.xml.XmlElement;
 
+import com.tangosol.util.ExternalizableHelper;
+
 /**
  * An ElementProcessor for processing &lt;compressor&gt; configurations.
  *
@@ -73,6 +77,13 @@ public class DeltaCompressorProcessor
             // ? ExternalizableHelper.getDeltaCompressor(serializer, new PofDeltaCompressor())
             // : new BinaryDeltaCompressor());
             }
+        else if (xmlElement.getString().equals("pof"))
+            {
+            // property-level POF deltas avoid the full parse of both values
+            // that made the structural PofDeltaCompressor slow (COH-5528)
+            return new DecoratedBinaryDeltaCompressor(
+                    new ExternalizableHelper.FormatAwareCompressor(new PofPropertyDeltaCompressor()));
+            }
         else
             {
             return new DecorationOnlyDeltaCompressor();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -22,6 +22,7 @@ import com.tangosol.config.xml.XmlSimpleName;
 import com.tangosol.internal.net.service.grid.DefaultPagedTopicServiceDependencies;
 
 import com.tangosol.internal.net.service.grid.PagedTopicServiceDependencies;
+import com.tangosol.internal.net.topic.impl.paged.CompactionIndexCleanupListener;
 import com.tangosol.internal.net.topic.impl.paged.SubscriberCleanupListener;
 import com.tangosol.io.Serializer;
 import com.tangosol.io.SerializerFactory;
@@ -32,6 +33,7 @@ import com.tangosol.run.xml.XmlElement;
 
 import com.tangosol.util.ExternalizableHelper;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
@@ -90,7 +92,8 @@ public class PagedTopicSchemeProcessor
 
 
         deps.setMemberListenerBuilders(Collections.singletonList(new InstanceBuilder<>(SubscriberCleanupListener.class)));
-        deps.setPartitionListenerBuilders(Collections.singletonList(new InstanceBuilder<>(SubscriberCleanupListener.class)));
+        deps.setPartitionListenerBuilders(Arrays.asList(new InstanceBuilder<>(SubscriberCleanupListener.class),
+                                                        new InstanceBuilder<>(CompactionIndexCleanupListener.class)));
 
         // Ensure POF serializer since topic data model and processors are EvolvablePortableObject.
         // Application payload published to topic is serialized using serializer specified in cache configuration.
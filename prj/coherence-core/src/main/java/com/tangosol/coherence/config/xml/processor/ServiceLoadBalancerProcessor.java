@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.coherence.config.xml.processor;
 
+import com.tangosol.coherence.config.builder.InstanceBuilder;
 import com.tangosol.coherence.config.builder.InvalidConfigServiceLoadBalancerBuilder;
 import com.tangosol.coherence.config.builder.ParameterizedBuilder;
 
@@ -17,6 +18,8 @@ import com.tangosol.config.xml.ElementProcessor;
 import com.tangosol.config.xml.ProcessingContext;
 import com.tangosol.config.xml.XmlSimpleName;
 
+import com.tangosol.net.proxy.AdaptiveProxyServiceLoadBalancer;
+
 import com.tangosol.run.xml.XmlElement;
 
 /**
@@ -59,6 +62,10 @@ public class ServiceLoadBalancerProcessor
             case PROXY:
                 return new ProxyServiceLoadBalancerBuilder(bldr, xmlElement);
 
+            case ADAPTIVE:
+                return new ProxyServiceLoadBalancerBuilder(
+                        new InstanceBuilder<>(AdaptiveProxyServiceLoadBalancer.class), xmlElement);
+
             case CLIENT:
                 return null;
 
@@ -79,6 +86,11 @@ public class ServiceLoadBalancerProcessor
      */
     public static final String PROXY = "proxy";
 
+    /**
+     * Adaptive option for the proxy service load balancer.
+     */
+    public static final String ADAPTIVE = "adaptive";
+
     /**
      * Client option for the service load balancer.
      */
@@ -1,15 +1,20 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.coherence.config.xml.processor;
 
 import com.tangosol.coherence.config.builder.UnitCalculatorBuilder;
+
+import com.tangosol.coherence.config.builder.storemanager.NioFileManagerBuilder;
+
 import com.tangosol.coherence.config.scheme.CachingScheme;
+import com.tangosol.coherence.config.scheme.ExternalScheme;
 import com.tangosol.coherence.config.scheme.FlashJournalScheme;
 import com.tangosol.coherence.config.scheme.LocalScheme;
+import com.tangosol.coherence.config.scheme.OverflowScheme;
 import com.tangosol.coherence.config.scheme.RamJournalScheme;
 
 import com.tangosol.config.ConfigurationException;
@@ -62,6 +67,25 @@ public class StorageProcessor implements ElementProcessor<CachingScheme> {
             RamJournalScheme scheme = new RamJournalScheme();
             scheme.setUnitCalculatorBuilder(bldr);
 
+            return scheme;
+            }
+        else if ("tiered".equals(sValue))
+            {
+            // an in-memory front tier that overflows its least recently used
+            // entries to a back tier stored in memory-mapped files, the tier
+            // sizes are set by the topic when the storage is realized
+            LocalScheme schemeFront = new LocalScheme();
+            schemeFront.setUnitCalculatorBuilder(bldr);
+
+            ExternalScheme schemeBack = new ExternalScheme();
+            schemeBack.setBinaryStoreManagerBuilder(new NioFileManagerBuilder());
+            schemeBack.setUnitCalculatorBuilder(bldr);
+
+            OverflowScheme scheme = new OverflowScheme();
+            scheme.setFrontScheme(schemeFront);
+            scheme.setBackScheme(schemeBack);
+            scheme.setExpiryEnabled(new LiteralExpression<>(Boolean.TRUE));
+
             return scheme;
             }
         else
@@ -71,7 +95,7 @@ public class StorageProcessor implements ElementProcessor<CachingScheme> {
             String sParent = xmlParent != null ? '<' + xmlParent.getName() + '>' : "";
 
             throw new ConfigurationException("invalid value " + sValue + " for " + sParent + "<storage> element",
-                                             "Provide a valid value of \"on-heap\", \"flashjournal\" or \"ramjournal\"");
+                                             "Provide a valid value of \"on-heap\", \"flashjournal\", \"ramjournal\" or \"tiered\"");
             }
     }
 
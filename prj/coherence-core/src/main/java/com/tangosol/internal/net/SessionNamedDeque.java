@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -19,6 +19,7 @@ import com.tangosol.util.HashHelper;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -249,6 +250,18 @@ public class SessionNamedDeque<E, Q extends NamedDeque<E>>
         return f_deque.offer(e);
         }
 
+    @Override
+    public boolean offerAll(Collection<? extends E> col)
+        {
+        return f_deque.offerAll(col);
+        }
+
+    @Override
+    public List<E> poll(int cMax)
+        {
+        return f_deque.poll(cMax);
+        }
+
     @Override
     public E remove()
         {
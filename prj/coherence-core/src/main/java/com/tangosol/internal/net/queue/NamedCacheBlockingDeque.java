@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -19,7 +19,7 @@ import com.tangosol.net.Session;
 import com.tangosol.net.ValueTypeAssertion;
 import com.tangosol.util.MapEvent;
 import com.tangosol.util.MapListener;
-import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.MapEventFilter;
 
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +28,13 @@ import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A {@link NamedBlockingDeque} implementation that wraps a {@link NamedCache}.
+ * <p>
+ * Threads blocked waiting for the deque to become non-empty (or non-full)
+ * are woken by cache events. To avoid every offer and poll against the
+ * deque generating events to every member that has the deque open, the
+ * lite listener for insert and delete events is only registered while at
+ * least one thread is waiting, and is removed by the last waiting thread.
+ * Each event wakes a single waiting thread.
  *
  * @param <E> the type of elements held in this queue
  */
@@ -44,7 +51,6 @@ public class NamedCacheBlockingDeque<E>
     public NamedCacheBlockingDeque(String sName, NamedCache<QueueKey, E> cache)
         {
         super(sName, cache);
-        cache.addMapListener(this, AlwaysFilter.INSTANCE(), true);
         }
 
     // ----- factory methods ------------------------------------------------
@@ -80,266 +86,452 @@ public class NamedCacheBlockingDeque<E>
     @Override
     public long prepend(E e, long timeout, TimeUnit unit) throws InterruptedException
         {
-        long          nanos = unit.toNanos(timeout);
-        ReentrantLock lock  = m_lock;
-        lock.lockInterruptibly();
+        long nId = prepend(e);
+        if (nId >= 0L)
+            {
+            return nId;
+            }
+
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0L)
+            {
+            return -1L;
+            }
+
+        addWaiter();
         try
             {
-            long nId = prepend(e);
-            while (nId < 0L)
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                if (nanos <= 0L)
+                while ((nId = prepend(e)) < 0L)
                     {
-                    return -1L;
+                    if (nanos <= 0L)
+                        {
+                        return -1L;
+                        }
+                    nanos = m_notFull.awaitNanos(nanos);
                     }
-                nanos = m_notFull.awaitNanos(nanos);
-                nId = prepend(e);
-              }
-            return nId;
+                return nId;
+                }
+            finally
+                {
+                lock.unlock();
+                }
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public long prependFirst(E e) throws InterruptedException
         {
-        final ReentrantLock lock = m_lock;
-        lock.lock();
+        long nId = prepend(e);
+        if (nId >= 0L)
+            {
+            return nId;
+            }
+
+        addWaiter();
         try
             {
-            long nId = prepend(e);
-            while (nId < 0L)
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                m_notFull.await();
-                nId = prepend(e);
+                while ((nId = prepend(e)) < 0L)
+                    {
+                    m_notFull.await();
+                    }
+                return nId;
+                }
+            finally
+                {
+                lock.unlock();
                 }
-            return nId;
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public long append(E e, long timeout, TimeUnit unit) throws InterruptedException
         {
-        long          nanos = unit.toNanos(timeout);
-        ReentrantLock lock  = m_lock;
-        lock.lockInterruptibly();
+        long nId = append(e);
+        if (nId >= 0L)
+            {
+            return nId;
+            }
+
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0L)
+            {
+            return -1L;
+            }
+
+        addWaiter();
         try
             {
-            long nId = append(e);
-            while (nId < 0L)
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                if (nanos <= 0L)
+                while ((nId = append(e)) < 0L)
                     {
-                    return -1L;
+                    if (nanos <= 0L)
+                        {
+                        return -1L;
+                        }
+                    nanos = m_notFull.awaitNanos(nanos);
                     }
-                nanos = m_notFull.awaitNanos(nanos);
-                nId = append(e);
-              }
-            return nId;
+                return nId;
+                }
+            finally
+                {
+                lock.unlock();
+                }
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public long appendLast(E e) throws InterruptedException
         {
-        final ReentrantLock lock = m_lock;
-        lock.lock();
+        long nId = append(e);
+        if (nId >= 0L)
+            {
+            return nId;
+            }
+
+        addWaiter();
         try
             {
-            long nId = append(e);
-            while (nId < 0L)
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                m_notFull.await();
-                nId = append(e);
+                while ((nId = append(e)) < 0L)
+                    {
+                    m_notFull.await();
+                    }
+                return nId;
+                }
+            finally
+                {
+                lock.unlock();
                 }
-            return nId;
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public void putFirst(E e) throws InterruptedException
         {
-        final ReentrantLock lock = m_lock;
-        lock.lock();
+        if (offerFirst(e))
+            {
+            return;
+            }
+
+        addWaiter();
         try
             {
-            while (!offerFirst(e))
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                m_notFull.await();
+                while (!offerFirst(e))
+                    {
+                    m_notFull.await();
+                    }
+                }
+            finally
+                {
+                lock.unlock();
                 }
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public void putLast(E e) throws InterruptedException
         {
-        final ReentrantLock lock = m_lock;
-        lock.lock();
+        if (offerLast(e))
+            {
+            return;
+            }
+
+        addWaiter();
         try
             {
-            while (!offerLast(e))
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                m_notFull.await();
+                while (!offerLast(e))
+                    {
+                    m_notFull.await();
+                    }
+                }
+            finally
+                {
+                lock.unlock();
                 }
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public boolean offerFirst(E e, long timeout, TimeUnit unit) throws InterruptedException
         {
-        long          nanos = unit.toNanos(timeout);
-        ReentrantLock lock  = m_lock;
-        lock.lockInterruptibly();
+        boolean fOffered = offerFirst(e);
+        if (fOffered)
+            {
+            return true;
+            }
+
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0L)
+            {
+            return false;
+            }
+
+        addWaiter();
         try
             {
-            while (!offerFirst(e))
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                if (nanos <= 0L)
+                while (!offerFirst(e))
                     {
-                    return false;
+                    if (nanos <= 0L)
+                        {
+                        return false;
+                        }
+                    nanos = m_notFull.awaitNanos(nanos);
                     }
-                nanos = m_notFull.awaitNanos(nanos);
-              }
-            return true;
+                return true;
+                }
+            finally
+                {
+                lock.unlock();
+                }
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public boolean offerLast(E e, long timeout, TimeUnit unit) throws InterruptedException
         {
-        long          nanos = unit.toNanos(timeout);
-        ReentrantLock lock  = m_lock;
-        lock.lockInterruptibly();
+        boolean fOffered = offerLast(e);
+        if (fOffered)
+            {
+            return true;
+            }
+
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0L)
+            {
+            return false;
+            }
+
+        addWaiter();
         try
             {
-            while (!offerLast(e))
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                if (nanos <= 0L)
+                while (!offerLast(e))
                     {
-                    return false;
+                    if (nanos <= 0L)
+                        {
+                        return false;
+                        }
+                    nanos = m_notFull.awaitNanos(nanos);
                     }
-                nanos = m_notFull.awaitNanos(nanos);
-              }
-            return true;
+                return true;
+                }
+            finally
+                {
+                lock.unlock();
+                }
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public E takeFirst() throws InterruptedException
         {
-        final ReentrantLock lock = m_lock;
-        lock.lock();
+        E x = poll();
+        if (x != null)
+            {
+            return x;
+            }
+
+        addWaiter();
         try
             {
-            E x;
-            while ( (x = poll()) == null)
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                m_notEmpty.await();
+                while ((x = poll()) == null)
+                    {
+                    m_notEmpty.await();
+                    }
+                return x;
+                }
+            finally
+                {
+                lock.unlock();
                 }
-            return x;
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public E takeLast() throws InterruptedException
         {
-        final ReentrantLock lock = m_lock;
-        lock.lock();
+        E x = pollLast();
+        if (x != null)
+            {
+            return x;
+            }
+
+        addWaiter();
         try
             {
-            E x;
-            while ( (x = pollLast()) == null)
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
                 {
-                m_notEmpty.await();
+                while ((x = pollLast()) == null)
+                    {
+                    m_notEmpty.await();
+                    }
+                return x;
+                }
+            finally
+                {
+                lock.unlock();
                 }
-            return x;
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException
         {
-        long          nanos = unit.toNanos(timeout);
-        ReentrantLock lock  = m_lock;
-        lock.lockInterruptibly();
+        E x = poll();
+        if (x != null)
+            {
+            return x;
+            }
+
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0L)
+            {
+            return null;
+            }
+
+        addWaiter();
         try
             {
-            E x;
-            while ( (x = poll()) == null) {
-                if (nanos <= 0L)
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
+                {
+                while ((x = poll()) == null)
                     {
-                    return null;
+                    if (nanos <= 0L)
+                        {
+                        return null;
+                        }
+                    nanos = m_notEmpty.awaitNanos(nanos);
                     }
-                nanos = m_notEmpty.awaitNanos(nanos);
+                return x;
+                }
+            finally
+                {
+                lock.unlock();
                 }
-            return x;
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
     @Override
     public E pollLast(long timeout, TimeUnit unit) throws InterruptedException
         {
-        long          nanos = unit.toNanos(timeout);
-        ReentrantLock lock  = m_lock;
-        lock.lockInterruptibly();
+        E x = pollLast();
+        if (x != null)
+            {
+            return x;
+            }
+
+        long nanos = unit.toNanos(timeout);
+        if (nanos <= 0L)
+            {
+            return null;
+            }
+
+        addWaiter();
         try
             {
-            E x;
-            while ( (x = pollLast()) == null) {
-                if (nanos <= 0L)
+            ReentrantLock lock = m_lock;
+            lock.lockInterruptibly();
+            try
+                {
+                while ((x = pollLast()) == null)
                     {
-                    return null;
+                    if (nanos <= 0L)
+                        {
+                        return null;
+                        }
+                    nanos = m_notEmpty.awaitNanos(nanos);
                     }
-                nanos = m_notEmpty.awaitNanos(nanos);
+                return x;
+                }
+            finally
+                {
+                lock.unlock();
                 }
-            return x;
             }
         finally
             {
-            lock.unlock();
+            removeWaiter();
             }
         }
 
@@ -439,6 +631,61 @@ public class NamedCacheBlockingDeque<E>
             }
         }
 
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Register a thread that is about to wait for the deque to become
+     * non-empty or non-full, registering the listener that signals waiting
+     * threads if there was no other waiting thread.
+     * <p>
+     * The listener is registered without holding the deque lock, so a
+     * remote registration does not delay the signalling of other waiting
+     * threads. The caller must then re-check the state of the deque under
+     * the lock before waiting, as the state may have changed before the
+     * listener was registered, and must call {@link #removeWaiter()} once it
+     * no longer waits. If the registration fails the thread is not counted
+     * as a waiter and {@link #removeWaiter()} must not be called.
+     */
+    protected void addWaiter()
+        {
+        ReentrantLock lock = f_lockListener;
+        lock.lock();
+        try
+            {
+            if (m_cWaiters == 0)
+                {
+                m_cache.addMapListener(this, FILTER_EVENTS, true);
+                }
+            m_cWaiters++;
+            }
+        finally
+            {
+            lock.unlock();
+            }
+        }
+
+    /**
+     * Unregister a thread that no longer waits, removing the listener that
+     * signals waiting threads when the last waiting thread is removed, so
+     * that a deque with no waiting threads generates no event traffic.
+     */
+    protected void removeWaiter()
+        {
+        ReentrantLock lock = f_lockListener;
+        lock.lock();
+        try
+            {
+            if (--m_cWaiters == 0 && m_cache.isActive())
+                {
+                m_cache.removeMapListener(this, FILTER_EVENTS);
+                }
+            }
+        finally
+            {
+            lock.unlock();
+            }
+        }
+
     // ----- inner class Builder --------------------------------------------
 
     /**
@@ -515,6 +762,15 @@ public class NamedCacheBlockingDeque<E>
         private final String f_sNamePrefix;
         }
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The filter for the events that signal the deque is no longer empty
+     * or no longer full.
+     */
+    protected static final MapEventFilter FILTER_EVENTS =
+            new MapEventFilter(MapEventFilter.E_INSERTED | MapEventFilter.E_DELETED);
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -531,4 +787,16 @@ public class NamedCacheBlockingDeque<E>
      * The Condition for waiting puts.
      */
     private final Condition m_notFull = m_lock.newCondition();
+
+    /**
+     * The lock guarding the registration of the listener that signals
+     * waiting threads, and the count of waiting threads.
+     */
+    private final ReentrantLock f_lockListener = new ReentrantLock();
+
+    /**
+     * The number of threads waiting for the deque to become non-empty or
+     * non-full; the listener is registered while this is non-zero.
+     */
+    private int m_cWaiters;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,10 +11,13 @@ import com.tangosol.internal.net.NamedMapValuesCollection;
 import com.tangosol.internal.net.queue.extractor.QueueKeyExtractor;
 import com.tangosol.internal.net.queue.model.QueueKey;
 import com.tangosol.internal.net.queue.model.QueueOfferResult;
+import com.tangosol.internal.net.queue.model.QueuePageResult;
 import com.tangosol.internal.net.queue.model.QueuePollResult;
 import com.tangosol.internal.net.queue.processor.QueueOffer;
+import com.tangosol.internal.net.queue.processor.QueueOfferAll;
 import com.tangosol.internal.net.queue.processor.QueuePeek;
 import com.tangosol.internal.net.queue.processor.QueuePoll;
+import com.tangosol.internal.net.queue.processor.QueuePollAll;
 import com.tangosol.net.CacheService;
 import com.tangosol.net.NamedCache;
 import com.tangosol.net.NamedQueue;
@@ -27,9 +30,11 @@ import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.Filter;
 import com.tangosol.util.transformer.MapListenerCollectionListener;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -122,14 +127,7 @@ public class NamedCacheQueue<E>
     public boolean addAll(Collection<? extends E> c)
         {
         assertNotSameCollection(c, "This collection cannot be added to itself or the same underlying cache");
-        for (E e : c)
-            {
-            if (!offer(e))
-                {
-                return false;
-                }
-            }
-        return true;
+        return offerAll(c);
         }
 
     @Override
@@ -170,6 +168,55 @@ public class NamedCacheQueue<E>
         return id >= 0L;
         }
 
+    @Override
+    public boolean offerAll(Collection<? extends E> col)
+        {
+        if (col.isEmpty())
+            {
+            return true;
+            }
+
+        for (E e : col)
+            {
+            assertNotNull(e);
+            }
+
+        QueueOfferResult result   = offerAllToTailInternal(col);
+        boolean          fSuccess = result.getResult() == QueueOfferResult.RESULT_SUCCESS;
+        for (int i = 0, c = col.size(); i < c; i++)
+            {
+            if (fSuccess)
+                {
+                m_statistics.registerAccepted();
+                }
+            else
+                {
+                m_statistics.registerRejected();
+                }
+            }
+        return fSuccess;
+        }
+
+    @Override
+    public List<E> poll(int cMax)
+        {
+        if (cMax <= 0)
+            {
+            return new ArrayList<>();
+            }
+
+        List<E> list = pollAllFromHeadInternal(cMax);
+        if (list.isEmpty())
+            {
+            m_statistics.registerMiss();
+            }
+        for (int i = 0, c = list.size(); i < c; i++)
+            {
+            m_statistics.registerHit();
+            }
+        return list;
+        }
+
     @Override
     public E peek()
         {
@@ -271,6 +318,25 @@ public class NamedCacheQueue<E>
         return result;
         }
 
+    protected QueueOfferResult offerAllToTailInternal(Collection<? extends E> col)
+        {
+        long             lStart    = System.nanoTime();
+        QueueOfferAll<E> processor = new QueueOfferAll<>(col);
+        QueueOfferResult result    = m_cache.invoke(m_keyTail.randomTail(), processor);
+        long             lEnd      = System.nanoTime();
+        m_statistics.offered(lEnd - lStart);
+        return result;
+        }
+
+    protected List<E> pollAllFromHeadInternal(int cMax)
+        {
+        long               lStart = System.nanoTime();
+        QueuePageResult<E> result = m_cache.invoke(m_keyHead, new QueuePollAll<>(cMax));
+        long               lEnd   = System.nanoTime();
+        m_statistics.polled(lEnd - lStart);
+        return result.getList();
+        }
+
     protected QueuePollResult pollFromHeadInternal()
         {
         long            lStart  = System.nanoTime();
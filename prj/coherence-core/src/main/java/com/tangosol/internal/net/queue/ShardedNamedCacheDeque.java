@@ -0,0 +1,549 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.net.queue;
+
+import com.tangosol.internal.net.queue.model.QueueKey;
+import com.tangosol.internal.net.queue.model.QueueOfferResult;
+import com.tangosol.internal.net.queue.model.QueuePageResult;
+import com.tangosol.internal.net.queue.model.QueuePollResult;
+import com.tangosol.internal.net.queue.model.QueueShardInfo;
+import com.tangosol.internal.net.queue.processor.AbstractQueueProcessor;
+import com.tangosol.internal.net.queue.processor.QueueEnsureShardInfo;
+import com.tangosol.internal.net.queue.processor.QueueOffer;
+import com.tangosol.internal.net.queue.processor.QueueOfferAll;
+import com.tangosol.internal.net.queue.processor.QueuePeek;
+import com.tangosol.internal.net.queue.processor.QueuePoll;
+import com.tangosol.internal.net.queue.processor.QueuePollAll;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.Session;
+import com.tangosol.util.ChainedEnumerator;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filters;
+import com.tangosol.util.Processors;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A {@link NamedCacheDeque} that spreads its elements over a number of
+ * shards, each of which is stored as a separate queue within the same cache.
+ * <p>
+ * A plain {@link NamedCacheQueue} associates all of its keys with the hash
+ * of the queue name, so the whole queue lives in a single partition and all
+ * offers and polls are serialized on that partition. Each shard of a sharded
+ * queue uses a different hash, derived from the queue name and the shard
+ * index, so the shards are distributed over the partitions of the cache
+ * service and a single logical queue can scale with the size of the cluster.
+ * As a partition has a single queue index, the hashes are chosen so that no
+ * two shards are stored in the same partition, and a sharded queue cannot
+ * have more shards than its cache service has partitions.
+ * <p>
+ * Elements offered by a given producer thread always go to the same shard,
+ * so the relative order of the elements offered by a producer is preserved.
+ * There is no ordering guarantee between elements offered by different
+ * producers. Polls start at a different shard on each call and move on to
+ * another shard when a shard is empty, so consumers drain all the shards
+ * fairly and never wait on an empty shard while another one has elements.
+ * When the first shard is empty, the remaining shards are peeked at with a
+ * single {@code invokeAll}, so a poll of an empty queue costs two round
+ * trips regardless of the number of shards.
+ * <p>
+ * The shard hashes are stored in the queue's cache as a
+ * {@link QueueShardInfo} when the queue is first created, and every
+ * subsequent client must use the same number of shards, as elements in a
+ * shard unknown to a client would never be polled by it.
+ * <p>
+ * The {@link #getQueueStatistics() statistics} of a sharded queue are the
+ * aggregate of the operations against all of its shards.
+ *
+ * @param <E> the type of elements held in this queue
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class ShardedNamedCacheDeque<E>
+        extends NamedCacheDeque<E>
+    {
+    /**
+     * Create a {@link ShardedNamedCacheDeque} that wraps a {@link NamedCache}.
+     *
+     * @param sName    the name of the queue
+     * @param cache    the {@link NamedCache} to wrap
+     * @param cShards  the number of shards
+     *
+     * @throws NullPointerException      if either of the {@code name} or {@code cache} parameters is {@code null}
+     * @throws IllegalArgumentException  if the number of shards is less than one, or greater
+     *                                   than the partition count of the cache service
+     * @throws IllegalStateException     if the queue already exists with a different number of shards
+     */
+    public ShardedNamedCacheDeque(String sName, NamedCache<QueueKey, E> cache, int cShards)
+        {
+        super(sName, cache);
+        if (cShards < 1)
+            {
+            throw new IllegalArgumentException("The number of shards must be positive: " + cShards);
+            }
+
+        f_keyInfo = getInfoKey(sName);
+
+        QueueShardInfo info = (QueueShardInfo) ((NamedCache) cache).invoke(f_keyInfo,
+                new QueueEnsureShardInfo(sName, cShards));
+        if (info.getShardCount() != cShards)
+            {
+            throw new IllegalStateException("The queue " + sName + " has " + info.getShardCount()
+                    + " shards, it cannot be used with " + cShards + " shards");
+            }
+
+        QueueKey[] aKeyHead = new QueueKey[cShards];
+        QueueKey[] aKeyTail = new QueueKey[cShards];
+        for (int i = 0; i < cShards; i++)
+            {
+            int nHash = info.getShardHash(i);
+            aKeyHead[i] = new QueueKey(nHash, QueueKey.ID_HEAD);
+            aKeyTail[i] = new QueueKey(nHash, QueueKey.ID_TAIL);
+            }
+        f_aKeyHead = aKeyHead;
+        f_aKeyTail = aKeyTail;
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the number of shards of this queue.
+     *
+     * @return the number of shards of this queue
+     */
+    public int getShardCount()
+        {
+        return f_aKeyHead.length;
+        }
+
+    /**
+     * Return the consistent hash used for the keys of the specified shard.
+     *
+     * @param nShard  the shard index
+     *
+     * @return the consistent hash used for the keys of the shard
+     */
+    public int getShardHash(int nShard)
+        {
+        return f_aKeyHead[nShard].getHash();
+        }
+
+    // ----- Collection methods ---------------------------------------------
+
+    @Override
+    public int size()
+        {
+        // exclude the shard info entry
+        int c = m_cache.size();
+        return c > 0 && m_cache.containsKey(f_keyInfo) ? c - 1 : c;
+        }
+
+    @Override
+    public boolean isEmpty()
+        {
+        return size() == 0;
+        }
+
+    @Override
+    public void clear()
+        {
+        // retain the shard info entry
+        m_cache.invokeAll(Filters.notEqual(Extractors.identity().fromKey(), f_keyInfo), Processors.remove());
+        }
+
+    // ----- AbstractQueue methods ------------------------------------------
+
+    @Override
+    public Iterator<E> iterator()
+        {
+        int        cShards = f_aKeyHead.length;
+        Iterator[] aIter   = new Iterator[cShards];
+        for (int i = 0; i < cShards; i++)
+            {
+            aIter[i] = QueuePageIterator.head(f_aKeyHead[i].getHash(), m_cache);
+            }
+        return new ChainedEnumerator(aIter);
+        }
+
+    @Override
+    public Iterator<E> descendingIterator()
+        {
+        int        cShards = f_aKeyHead.length;
+        Iterator[] aIter   = new Iterator[cShards];
+        for (int i = 0; i < cShards; i++)
+            {
+            aIter[i] = QueuePageIterator.tail(f_aKeyHead[cShards - i - 1].getHash(), m_cache);
+            }
+        return new ChainedEnumerator(aIter);
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    @Override
+    protected QueueOfferResult offerToTailInternal(E e)
+        {
+        long             lStart    = System.nanoTime();
+        QueueOffer<E>    processor = new QueueOffer<>(e);
+        QueueOfferResult result    = m_cache.invoke(f_aKeyTail[getProducerShard()].randomTail(), processor);
+        long             lEnd      = System.nanoTime();
+        m_statistics.offered(lEnd - lStart);
+        return result;
+        }
+
+    @Override
+    protected QueueOfferResult offerToHeadInternal(E e)
+        {
+        long             lStart    = System.nanoTime();
+        QueueOffer<E>    processor = new QueueOffer<>(e);
+        QueueOfferResult result    = m_cache.invoke(f_aKeyHead[getProducerShard()].randomHead(), processor);
+        long             lEnd      = System.nanoTime();
+        m_statistics.offered(lEnd - lStart);
+        return result;
+        }
+
+    @Override
+    protected QueueOfferResult offerAllToTailInternal(Collection<? extends E> col)
+        {
+        long             lStart    = System.nanoTime();
+        QueueOfferAll<E> processor = new QueueOfferAll<>(col);
+        QueueOfferResult result    = m_cache.invoke(f_aKeyTail[getProducerShard()].randomTail(), processor);
+        long             lEnd      = System.nanoTime();
+        m_statistics.offered(lEnd - lStart);
+        return result;
+        }
+
+    @Override
+    protected List<E> pollAllFromHeadInternal(int cMax)
+        {
+        long       lStart  = System.nanoTime();
+        QueueKey[] aKey    = f_aKeyHead;
+        int        cShards = aKey.length;
+        int        nShard  = Math.floorMod(f_nextShard.getAndIncrement(), cShards);
+        List<E>    list    = new ArrayList<>(m_cache.invoke(aKey[nShard], new QueuePollAll<>(cMax)).getList());
+
+        if (list.size() < cMax && cShards > 1)
+            {
+            // only poll the other shards that are not empty
+            Map<QueueKey, QueuePollResult> mapPeek = peekShards(aKey, nShard);
+            for (int i = 1; i < cShards && list.size() < cMax; i++)
+                {
+                QueueKey        key  = aKey[(nShard + i) % cShards];
+                QueuePollResult peek = mapPeek.get(key);
+                if (peek != null && peek.getElement() != null)
+                    {
+                    QueuePageResult<E> result = m_cache.invoke(key, new QueuePollAll<>(cMax - list.size()));
+                    list.addAll(result.getList());
+                    }
+                }
+            }
+
+        long lEnd = System.nanoTime();
+        m_statistics.polled(lEnd - lStart);
+        return list;
+        }
+
+    @Override
+    protected QueuePollResult pollFromHeadInternal()
+        {
+        long            lStart = System.nanoTime();
+        QueuePollResult result = invokeShards(f_aKeyHead, QueuePoll.instance(), f_nextShard.getAndIncrement());
+        long            lEnd   = System.nanoTime();
+        m_statistics.polled(lEnd - lStart);
+        return result;
+        }
+
+    @Override
+    protected QueuePollResult peekAtHeadInternal()
+        {
+        long            lStart = System.nanoTime();
+        QueuePollResult result = invokeShards(f_aKeyHead, QueuePeek.instance(), f_nextShard.get());
+        long            lEnd   = System.nanoTime();
+        m_statistics.polled(lEnd - lStart);
+        return result;
+        }
+
+    @Override
+    protected QueuePollResult pollFromTailInternal()
+        {
+        long            lStart = System.nanoTime();
+        QueuePollResult result = invokeShards(f_aKeyTail, QueuePoll.instance(), f_nextShard.getAndIncrement());
+        long            lEnd   = System.nanoTime();
+        m_statistics.polled(lEnd - lStart);
+        return result;
+        }
+
+    @Override
+    protected QueuePollResult peekAtTailInternal()
+        {
+        long            lStart = System.nanoTime();
+        QueuePollResult result = invokeShards(f_aKeyTail, QueuePeek.instance(), f_nextShard.get());
+        long            lEnd   = System.nanoTime();
+        m_statistics.polled(lEnd - lStart);
+        return result;
+        }
+
+    /**
+     * Invoke a poll or peek processor against the shards, starting with the
+     * specified shard, until a shard returns an element.
+     * <p>
+     * If the first shard is empty, the other shards are peeked at with a
+     * single {@code invokeAll}, and the processor is then only invoked
+     * against the shards that were not empty.
+     *
+     * @param aKey       the head or tail keys of the shards
+     * @param processor  the processor to invoke
+     * @param nStart     the (unbounded) index of the first shard to try
+     *
+     * @return the result from the first non-empty shard, or the empty result
+     *         of the first shard if all the shards are empty
+     */
+    protected QueuePollResult invokeShards(QueueKey[] aKey,
+            AbstractQueueProcessor<QueueKey, E, QueuePollResult> processor, int nStart)
+        {
+        int             cShards = aKey.length;
+        int             nShard  = Math.floorMod(nStart, cShards);
+        QueuePollResult result  = m_cache.invoke(aKey[nShard], processor);
+        if (result.getElement() != null || cShards == 1)
+            {
+            return result;
+            }
+
+        boolean                        fPeek   = processor instanceof QueuePeek;
+        Map<QueueKey, QueuePollResult> mapPeek = peekShards(aKey, nShard);
+        for (int i = 1; i < cShards; i++)
+            {
+            QueueKey        key  = aKey[(nShard + i) % cShards];
+            QueuePollResult peek = mapPeek.get(key);
+            if (peek != null && peek.getElement() != null)
+                {
+                if (fPeek)
+                    {
+                    return peek;
+                    }
+
+                // the element may have been polled by another consumer since
+                // the peek, in which case move on to the next shard
+                QueuePollResult resultShard = m_cache.invoke(key, processor);
+                if (resultShard.getElement() != null)
+                    {
+                    return resultShard;
+                    }
+                }
+            }
+        return result;
+        }
+
+    /**
+     * Peek at all the shards except the specified one with a single
+     * {@code invokeAll}.
+     *
+     * @param aKey      the head or tail keys of the shards
+     * @param nExclude  the index of the shard to exclude
+     *
+     * @return the peek results keyed by the head or tail key of each shard
+     */
+    protected Map<QueueKey, QueuePollResult> peekShards(QueueKey[] aKey, int nExclude)
+        {
+        List<QueueKey> listKey = new ArrayList<>(aKey.length - 1);
+        for (int i = 0; i < aKey.length; i++)
+            {
+            if (i != nExclude)
+                {
+                listKey.add(aKey[i]);
+                }
+            }
+        return m_cache.invokeAll(listKey, QueuePeek.instance());
+        }
+
+    /**
+     * Return the shard that elements offered by the calling thread are
+     * added to.
+     *
+     * @return the index of the calling thread's shard
+     */
+    protected int getProducerShard()
+        {
+        return Math.floorMod(System.identityHashCode(Thread.currentThread()), f_aKeyHead.length);
+        }
+
+    /**
+     * Return the name used to calculate a candidate key hash of a shard.
+     *
+     * @param sName   the queue name
+     * @param nShard  the candidate index
+     *
+     * @return the name of the shard
+     */
+    public static String getShardName(String sName, int nShard)
+        {
+        return sName + SHARD_SEPARATOR + nShard;
+        }
+
+    /**
+     * Calculate the key hash of each shard of a sharded queue, so that every
+     * shard is stored in a different partition.
+     * <p>
+     * The candidate hashes are those of the names returned by
+     * {@link #getShardName(String, int)} for increasing indexes, and a
+     * candidate is skipped if its partition is already used by a shard.
+     *
+     * @param sName        the queue name
+     * @param cShards      the number of shards
+     * @param cPartitions  the partition count of the cache service
+     * @param fnPartition  the function that returns the partition of a key hash
+     *
+     * @return the key hash of each shard
+     *
+     * @throws IllegalArgumentException  if there are more shards than partitions
+     * @throws IllegalStateException     if no free partition is found for a shard
+     */
+    public static int[] calculateShardHashes(String sName, int cShards, int cPartitions,
+            IntUnaryOperator fnPartition)
+        {
+        if (cShards > cPartitions)
+            {
+            throw new IllegalArgumentException("The queue " + sName + " cannot have " + cShards
+                    + " shards, its cache service only has " + cPartitions + " partitions");
+            }
+
+        int[]  anHash    = new int[cShards];
+        BitSet bsUsed    = new BitSet(cPartitions);
+        int    cAttempts = cPartitions * MAX_ATTEMPTS_PER_PARTITION;
+        for (int i = 0, nCandidate = 0; i < cShards; nCandidate++)
+            {
+            if (nCandidate >= cAttempts)
+                {
+                throw new IllegalStateException("Failed to find a free partition for shard " + i
+                        + " of the queue " + sName + " after " + nCandidate + " attempts");
+                }
+
+            int nHash      = QueueKey.calculateQueueHash(getShardName(sName, nCandidate));
+            int nPartition = fnPartition.applyAsInt(nHash);
+            if (!bsUsed.get(nPartition))
+                {
+                bsUsed.set(nPartition);
+                anHash[i++] = nHash;
+                }
+            }
+        return anHash;
+        }
+
+    /**
+     * Return the key of the {@link QueueShardInfo} entry of a sharded queue.
+     * <p>
+     * The key uses the reserved {@link QueueKey#ID_HEAD} id, which is never
+     * added to a queue index, so the entry is never returned by a poll or an
+     * iterator even if it is stored in the same partition as a shard.
+     *
+     * @param sName  the queue name
+     *
+     * @return the key of the shard info entry
+     */
+    public static QueueKey getInfoKey(String sName)
+        {
+        return new QueueKey(QueueKey.calculateQueueHash(sName + SHARD_SEPARATOR + INFO_SUFFIX), QueueKey.ID_HEAD);
+        }
+
+    // ----- inner class Builder --------------------------------------------
+
+    /**
+     * A {@link NamedCacheDequeBuilder} to build a sharded deque.
+     * <p>
+     * The builder is passed as an option when obtaining a queue or deque
+     * from a {@link Session}.
+     */
+    public static class Builder
+            extends NamedCacheDequeBuilder.DefaultNamedCacheDequeBuilder
+        {
+        /**
+         * Create a {@link Builder}.
+         *
+         * @param cShards  the number of shards
+         */
+        public Builder(int cShards)
+            {
+            if (cShards < 1)
+                {
+                throw new IllegalArgumentException("The number of shards must be positive: " + cShards);
+                }
+            f_cShards = cShards;
+            }
+
+        /**
+         * Return the number of shards of the queues built by this builder.
+         *
+         * @return the number of shards
+         */
+        public int getShardCount()
+            {
+            return f_cShards;
+            }
+
+        @Override
+        public <E> NamedCacheDeque<E> build(String sName, NamedCache<QueueKey, E> cache)
+            {
+            return new ShardedNamedCacheDeque<>(sName, cache, f_cShards);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The number of shards.
+         */
+        private final int f_cShards;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The separator between the queue name and the shard index in a shard name.
+     */
+    public static final String SHARD_SEPARATOR = "$";
+
+    /**
+     * The suffix of the name used to calculate the hash of the shard info key.
+     */
+    public static final String INFO_SUFFIX = "info";
+
+    /**
+     * The number of candidate shard hashes tried per partition before
+     * giving up on finding a free partition for every shard.
+     */
+    public static final int MAX_ATTEMPTS_PER_PARTITION = 64;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The keys used to invoke operations against the head of each shard.
+     */
+    protected final QueueKey[] f_aKeyHead;
+
+    /**
+     * The keys used to invoke operations against the tail of each shard.
+     */
+    protected final QueueKey[] f_aKeyTail;
+
+    /**
+     * The key of the {@link QueueShardInfo} entry of this queue.
+     */
+    protected final QueueKey f_keyInfo;
+
+    /**
+     * The counter used to select the first shard to poll.
+     */
+    protected final AtomicInteger f_nextShard = new AtomicInteger();
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -296,6 +296,10 @@ public class QueueKeyExtractor
         public void delete(Map.Entry entry)
             {
             long nId = ((QueueKey) entry.getKey()).getId();
+            if (isReserved(nId))
+                {
+                return;
+                }
             m_cHead.getAndUpdate(c -> c == nId ? c + 1 : c);
             m_cTail.getAndUpdate(c -> c == nId ? c - 1 : c);
             
@@ -312,6 +316,22 @@ public class QueueKeyExtractor
             return m_map.isEmpty();
             }
 
+        /**
+         * Return {@code true} if the specified id is reserved for the keys
+         * used to invoke operations against the head or tail of a queue.
+         * <p>
+         * An entry stored with a reserved id, such as the shard info entry
+         * of a sharded queue, is not a queue element and is not indexed.
+         *
+         * @param nId  the key id
+         *
+         * @return {@code true} if the id is reserved
+         */
+        public static boolean isReserved(long nId)
+            {
+            return nId == QueueKey.ID_HEAD || nId == QueueKey.ID_TAIL;
+            }
+
         public static long head(SortedMap<Long, ?> map, long nDefault)
             {
             if (!map.isEmpty())
@@ -352,6 +372,10 @@ public class QueueKeyExtractor
             {
             QueueKey queueKey = (QueueKey) entry.getKey();
             long     nId      = queueKey.getId();
+            if (isReserved(nId))
+                {
+                return;
+                }
             Object   oKey     = entry instanceof BinaryEntry ? ((BinaryEntry) entry).getBinaryKey() : queueKey;
             m_cHead.getAndUpdate(c -> Math.min(c, nId));
             m_cTail.getAndUpdate(c -> Math.max(c, nId));
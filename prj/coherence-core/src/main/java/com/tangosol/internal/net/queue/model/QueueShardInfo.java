@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.net.queue.model;
+
+import com.tangosol.io.AbstractEvolvable;
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.Arrays;
+
+/**
+ * The metadata of a sharded queue, stored in the queue's cache so that all
+ * the clients of the queue agree on its shards.
+ * <p>
+ * Each shard is identified by the hash used for its {@link QueueKey keys}.
+ * The hashes are chosen when the queue is created so that every shard is
+ * stored in a different partition, as the queue index of a partition can
+ * only hold a single queue.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class QueueShardInfo
+        extends AbstractEvolvable
+        implements ExternalizableLite, EvolvablePortableObject
+    {
+    /**
+     * Default constructor for serialization.
+     */
+    public QueueShardInfo()
+        {
+        }
+
+    /**
+     * Create a {@link QueueShardInfo}.
+     *
+     * @param anHash  the key hash of each shard of the queue
+     */
+    public QueueShardInfo(int[] anHash)
+        {
+        m_anHash = anHash.clone();
+        }
+
+    /**
+     * Return the number of shards of the queue.
+     *
+     * @return the number of shards of the queue
+     */
+    public int getShardCount()
+        {
+        return m_anHash.length;
+        }
+
+    /**
+     * Return the key hash of a shard of the queue.
+     *
+     * @param nShard  the shard index
+     *
+     * @return the key hash of the shard
+     */
+    public int getShardHash(int nShard)
+        {
+        return m_anHash[nShard];
+        }
+
+    // ----- EvolvablePortableObject methods --------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return IMPL_VERSION;
+        }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        m_anHash = in.readIntArray(0);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        out.writeIntArray(0, m_anHash);
+        }
+
+    // ----- ExternalizableLite methods -------------------------------------
+
+    @Override
+    public void readExternal(DataInput in) throws IOException
+        {
+        int   cShards = in.readInt();
+        int[] anHash  = new int[cShards];
+        for (int i = 0; i < cShards; i++)
+            {
+            anHash[i] = in.readInt();
+            }
+        m_anHash = anHash;
+        }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException
+        {
+        int[] anHash = m_anHash;
+        out.writeInt(anHash.length);
+        for (int nHash : anHash)
+            {
+            out.writeInt(nHash);
+            }
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public boolean equals(Object o)
+        {
+        return o instanceof QueueShardInfo && Arrays.equals(((QueueShardInfo) o).m_anHash, m_anHash);
+        }
+
+    @Override
+    public int hashCode()
+        {
+        return Arrays.hashCode(m_anHash);
+        }
+
+    @Override
+    public String toString()
+        {
+        return "QueueShardInfo{hashes=" + Arrays.toString(m_anHash) + '}';
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The implementation version of this class.
+     */
+    public static final int IMPL_VERSION = 1;
+
+    /**
+     * The key hash of each shard of the queue.
+     */
+    @JsonbProperty("hashes")
+    private int[] m_anHash;
+    }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.net.queue.processor;
+
+import com.tangosol.internal.net.queue.ShardedNamedCacheDeque;
+
+import com.tangosol.internal.net.queue.model.QueueKey;
+import com.tangosol.internal.net.queue.model.QueueShardInfo;
+
+import com.tangosol.io.ExternalizableLite;
+
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.InvocableMap;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * An entry processor that returns the {@link QueueShardInfo} of a sharded
+ * queue, creating it if the queue does not exist yet.
+ * <p>
+ * The shard hashes are chosen on the storage member that owns the info
+ * entry, so that every shard of the queue is stored in a different
+ * partition of the cache service.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class QueueEnsureShardInfo
+        extends AbstractQueueProcessor<QueueKey, Object, QueueShardInfo>
+        implements EvolvablePortableObject, ExternalizableLite
+    {
+    /**
+     * Default constructor for serialization.
+     */
+    public QueueEnsureShardInfo()
+        {
+        }
+
+    /**
+     * Create a {@link QueueEnsureShardInfo} processor.
+     *
+     * @param sName    the queue name
+     * @param cShards  the number of shards to create the queue with
+     */
+    public QueueEnsureShardInfo(String sName, int cShards)
+        {
+        m_sName   = sName;
+        m_cShards = cShards;
+        }
+
+    @Override
+    public QueueShardInfo process(InvocableMap.Entry<QueueKey, Object> entry)
+        {
+        if (entry.isPresent())
+            {
+            return (QueueShardInfo) entry.getValue();
+            }
+
+        CacheService   service = ((BinaryEntry) entry).getContext().getCacheService();
+        QueueShardInfo info;
+        if (service instanceof PartitionedService)
+            {
+            PartitionedService      servicePart = (PartitionedService) service;
+            KeyPartitioningStrategy strategy    = servicePart.getKeyPartitioningStrategy();
+
+            info = new QueueShardInfo(ShardedNamedCacheDeque.calculateShardHashes(m_sName, m_cShards,
+                    servicePart.getPartitionCount(),
+                    nHash -> strategy.getKeyPartition(new QueueKey(nHash, QueueKey.ID_HEAD))));
+            }
+        else
+            {
+            // a non-partitioned cache holds all the shards in one queue index
+            info = new QueueShardInfo(ShardedNamedCacheDeque.calculateShardHashes(m_sName, m_cShards, 1, nHash -> 0));
+            }
+
+        entry.setValue(info);
+        return info;
+        }
+
+    @Override
+    public int getImplVersion()
+        {
+        return IMPL_VERSION;
+        }
+
+    @Override
+    public void readExternal(DataInput in) throws IOException
+        {
+        m_sName   = ExternalizableHelper.readSafeUTF(in);
+        m_cShards = in.readInt();
+        }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException
+        {
+        ExternalizableHelper.writeSafeUTF(out, m_sName);
+        out.writeInt(m_cShards);
+        }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        m_sName   = in.readString(0);
+        m_cShards = in.readInt(1);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        out.writeString(0, m_sName);
+        out.writeInt(1, m_cShards);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The {@link EvolvablePortableObject} implementation version.
+     */
+    public static final int IMPL_VERSION = 1;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The queue name.
+     */
+    @JsonbProperty("name")
+    private String m_sName;
+
+    /**
+     * The number of shards to create the queue with.
+     */
+    @JsonbProperty("shards")
+    private int m_cShards;
+    }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.net.queue.processor;
+
+import com.tangosol.internal.net.queue.extractor.QueueKeyExtractor.QueueIndex;
+import com.tangosol.internal.net.queue.model.QueueKey;
+import com.tangosol.internal.net.queue.model.QueueOfferResult;
+
+import com.tangosol.io.ExternalizableLite;
+
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.net.cache.BinaryMemoryCalculator;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.InvocableMap;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An entry processor to offer a batch of values to a queue in a single
+ * invocation.
+ * <p>
+ * An offer-all processor is invoked against a random {@link QueueKey} for a
+ * queue, in the same way as a {@link QueueOffer} processor. The
+ * {@link QueueKey#getId()} should be positive to offer to the tail and
+ * negative to offer to the head, it should not be zero.
+ * <p>
+ * Either all the values are offered, or none of them are if the queue does
+ * not have the capacity to hold all the values.
+ *
+ * @param <E>  the type of element in the queue
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class QueueOfferAll<E>
+        extends AbstractQueueProcessor<QueueKey, E, QueueOfferResult>
+        implements EvolvablePortableObject, ExternalizableLite
+    {
+    /**
+     * Default constructor required for serialization.
+     */
+    public QueueOfferAll()
+        {
+        }
+
+    /**
+     * Create a {@link QueueOfferAll}.
+     *
+     * @param colValues  the values to offer to the queue, in order
+     */
+    public QueueOfferAll(Collection<? extends E> colValues)
+        {
+        m_listValue = new ArrayList<>(colValues);
+        }
+
+    @Override
+    public QueueOfferResult process(InvocableMap.Entry<QueueKey, E> entry)
+        {
+        BinaryEntry<QueueKey, E> binEntry = entry.asBinaryEntry();
+        BackingMapContext        context  = binEntry.getBackingMapContext();
+        List<E>                  list     = m_listValue;
+        int                      cValues  = list.size();
+        List<Binary>             listBin  = new ArrayList<>(cValues);
+        long                     cBytes   = 0L;
+
+        for (E oValue : list)
+            {
+            Binary binValue = ensureBinaryValue(context, null, oValue);
+            listBin.add(binValue);
+            cBytes += binEntry.getBinaryKey().length() + binValue.length()
+                    + ((long) BinaryMemoryCalculator.SIZE_BINARY * 2)
+                    + (long) BinaryMemoryCalculator.SIZE_ENTRY;
+            }
+
+        QueueIndex index = assertQueueIndex(binEntry);
+        if (index.getQueueSize() + cBytes > index.getMaxQueueSize())
+            {
+            return new QueueOfferResult(entry.getKey().getId(), QueueOfferResult.RESULT_FAILED_CAPACITY);
+            }
+
+        boolean          fHead  = entry.getKey().getId() < 0;
+        QueueOfferResult result = new QueueOfferResult(entry.getKey().getId(), QueueOfferResult.RESULT_SUCCESS);
+        for (Binary binValue : listBin)
+            {
+            result = fHead
+                    ? offerToHead(binEntry, binValue, null)
+                    : offerToTail(binEntry, binValue, null);
+            }
+        return result;
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the values to offer.
+     *
+     * @return the values to offer
+     */
+    public List<E> getValues()
+        {
+        return m_listValue;
+        }
+
+    // ----- EvolvablePortableObject methods --------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return IMPL_VERSION;
+        }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        m_listValue = in.readCollection(0, new ArrayList<>());
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        out.writeCollection(0, m_listValue);
+        }
+
+    // ----- ExternalizableLite methods -------------------------------------
+
+    @Override
+    public void readExternal(DataInput in) throws IOException
+        {
+        List<E> list = new ArrayList<>();
+        ExternalizableHelper.readCollection(in, list, null);
+        m_listValue = list;
+        }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException
+        {
+        ExternalizableHelper.writeCollection(out, m_listValue);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link EvolvablePortableObject} implementation version.
+     */
+    public static final int IMPL_VERSION = 1;
+
+    /**
+     * The values to offer.
+     */
+    @JsonbProperty("values")
+    private List<E> m_listValue;
+    }
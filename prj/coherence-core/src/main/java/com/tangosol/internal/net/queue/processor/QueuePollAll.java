@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.net.queue.processor;
+
+import com.tangosol.internal.net.queue.extractor.QueueKeyExtractor.QueueIndex;
+import com.tangosol.internal.net.queue.model.QueueKey;
+import com.tangosol.internal.net.queue.model.QueuePageResult;
+
+import com.tangosol.io.ExternalizableLite;
+
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.BackingMapManagerContext;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * An entry processor to remove up to a maximum number of values from a
+ * queue in a single invocation.
+ * <p>
+ * A poll-all processor is invoked against a specific {@link QueueKey} for a
+ * queue, in the same way as a {@link QueuePoll} processor. The
+ * {@link QueueKey#getId()} should be {@link Long#MAX_VALUE} to poll from
+ * the head and {@link Long#MIN_VALUE} to poll from the tail.
+ * <p>
+ * The polled values are returned in the order they were removed from the
+ * queue.
+ *
+ * @param <E>  the type of element in the queue
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class QueuePollAll<E>
+        extends AbstractQueueProcessor<QueueKey, E, QueuePageResult<E>>
+        implements EvolvablePortableObject, ExternalizableLite
+    {
+    /**
+     * Default constructor required for serialization.
+     */
+    public QueuePollAll()
+        {
+        }
+
+    /**
+     * Create a {@link QueuePollAll}.
+     *
+     * @param cMax  the maximum number of values to poll
+     */
+    public QueuePollAll(int cMax)
+        {
+        m_cMax = cMax;
+        }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public QueuePageResult<E> process(InvocableMap.Entry<QueueKey, E> entry)
+        {
+        BinaryEntry<QueueKey, E> binEntry  = entry.asBinaryEntry();
+        QueueIndex               index     = assertQueueIndex(binEntry);
+        BackingMapContext        context   = binEntry.getBackingMapContext();
+        BackingMapManagerContext bmContext = context.getManagerContext();
+        List<Binary>             list      = new ArrayList<>(Math.min(m_cMax, 256));
+        long                     nLastId   = QueueKey.EMPTY_ID;
+
+        // the index is only updated when the invocation completes, so the
+        // entries to poll are found by walking the index rather than by
+        // repeatedly enlisting the head (or tail) entry
+        SortedMap<Long, Object> map = entry.getKey().getId() == QueueKey.ID_TAIL
+                ? index.headMap(Long.MAX_VALUE)
+                : index.tailMap(Long.MIN_VALUE);
+
+        for (Map.Entry<Long, Object> keyEntry : map.entrySet())
+            {
+            if (list.size() >= m_cMax)
+                {
+                break;
+                }
+
+            BinaryEntry<QueueKey, E> entryPoll =
+                    (BinaryEntry<QueueKey, E>) context.getBackingMapEntry(keyEntry.getValue());
+            if (entryPoll.isPresent())
+                {
+                list.add(entryPoll.getBinaryValue());
+                entryPoll.remove(false);
+                nLastId = keyEntry.getKey();
+                }
+            }
+
+        return new QueuePageResult<>(nLastId, list,
+                bmContext.getValueFromInternalConverter(), bmContext.getValueToInternalConverter());
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the maximum number of values to poll.
+     *
+     * @return the maximum number of values to poll
+     */
+    public int getMax()
+        {
+        return m_cMax;
+        }
+
+    // ----- EvolvablePortableObject methods --------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return IMPL_VERSION;
+        }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        m_cMax = in.readInt(0);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        out.writeInt(0, m_cMax);
+        }
+
+    // ----- ExternalizableLite methods -------------------------------------
+
+    @Override
+    public void readExternal(DataInput in) throws IOException
+        {
+        m_cMax = in.readInt();
+        }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException
+        {
+        out.writeInt(m_cMax);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link EvolvablePortableObject} implementation version.
+     */
+    public static final int IMPL_VERSION = 1;
+
+    /**
+     * The maximum number of values to poll.
+     */
+    @JsonbProperty("max")
+    private int m_cMax;
+    }
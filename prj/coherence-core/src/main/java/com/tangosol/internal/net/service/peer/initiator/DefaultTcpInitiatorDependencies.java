@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -61,6 +61,7 @@ public class DefaultTcpInitiatorDependencies
             m_socketOptions               = deps.getSocketOptions();
             m_builderSocketProvider       = deps.getSocketProviderBuilder();
             m_fNameServiceAddressProvider = deps.isNameServiceAddressProvider();
+            m_cConnectionPool             = deps.getConnectionPoolSize();
             }
         }
 
@@ -211,6 +212,26 @@ public class DefaultTcpInitiatorDependencies
         m_fNameServiceAddressProvider = bldr != null;
         }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getConnectionPoolSize()
+        {
+        return m_cConnectionPool;
+        }
+
+    /**
+     * Set the number of Connections used to send stateless requests.
+     *
+     * @param cConnections  the number of Connections
+     */
+    @Injectable("connection-pool-size")
+    public void setConnectionPoolSize(int cConnections)
+        {
+        m_cConnectionPool = cConnections;
+        }
+
     /**
      * {@inheritDoc}
      */
@@ -220,6 +241,7 @@ public class DefaultTcpInitiatorDependencies
         super.validate();
 
         Base.checkNotNull(getSocketProviderBuilder(), "SocketProviderBuilder");
+        Base.azzert(getConnectionPoolSize() >= 1, "Connection pool size cannot be less than 1");
 
         return this;
         }
@@ -234,7 +256,8 @@ public class DefaultTcpInitiatorDependencies
         {
         return super.toString() + "{LocalAddress=" + getLocalAddress() + ", RemoteAddressProviderBldr="
                + getRemoteAddressProviderBuilder() + ", SocketOptions=" + getSocketOptions() + ", SocketProvideBuilderr="
-               + getSocketProviderBuilder() + ", isNameServiceAddressProvider=" + isNameServiceAddressProvider() + "}";
+               + getSocketProviderBuilder() + ", isNameServiceAddressProvider=" + isNameServiceAddressProvider()
+               + ", ConnectionPoolSize=" + getConnectionPoolSize() + "}";
         }
 
 
@@ -264,4 +287,9 @@ public class DefaultTcpInitiatorDependencies
      * Whether the remote AddressProvider is for connections to a NameService.
      */
     private boolean m_fNameServiceAddressProvider = false;
+
+    /**
+     * The number of Connections used to send stateless requests.
+     */
+    private int m_cConnectionPool = 1;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -81,6 +81,10 @@ public class LegacyXmlTcpInitiatorHelper
             deps.setRemoteAddressProviderBuilder(bldr);
             }
 
+        // <connection-pool-size>
+        deps.setConnectionPoolSize(xmlCat.getSafeElement("connection-pool-size")
+                .getInt(deps.getConnectionPoolSize()));
+
         // handle embedded socket options
         deps.getSocketOptions().setConfig(xmlCat);
 
@@ -1,8 +1,8 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.internal.net.service.peer.initiator;
 
@@ -66,4 +66,19 @@ public interface TcpInitiatorDependencies
      *         ProxyService
      */
     public boolean isNameServiceAddressProvider();
+
+    /**
+     * Return the number of Connections that a RemoteCacheService will use to
+     * send stateless requests to the remote ProxyService.
+     * <p>
+     * The first Connection carries all requests which depend upon the state of
+     * the Connection, such as listener registrations and locks. Any additional
+     * Connections are used for stateless requests, each of which is sent over
+     * the Connection with the fewest outstanding requests.
+     *
+     * @return the number of Connections, 1 if Connections are not pooled
+     *
+     * @since 24.09
+     */
+    public int getConnectionPoolSize();
     }
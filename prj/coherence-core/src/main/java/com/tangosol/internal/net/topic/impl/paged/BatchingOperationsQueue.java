@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -19,6 +19,7 @@ import com.tangosol.util.NullImplementation;
 import com.tangosol.util.TaskDaemon;
 import com.tangosol.util.ThreadGateLite;
 
+import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -32,10 +33,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.function.ToLongFunction;
 
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -225,10 +224,32 @@ public class BatchingOperationsQueue<V, R>
      */
     public LinkedList<V> getCurrentBatchValues()
         {
-        return getCurrentBatch().stream()
-                .filter(((Predicate<Element>) BatchingOperationsQueue.Element::isDone).negate())
-                .map(BatchingOperationsQueue.Element::getValue)
-                .collect(Collectors.toCollection(LinkedList::new));
+        return getCurrentBatchValues(new LinkedList<>());
+        }
+
+    /**
+     * Add the values from the current batch to process to the specified
+     * collection.
+     * <p>
+     * This allows the caller to choose the collection type that suits the
+     * way the values will be consumed, for example an {@link java.util.ArrayList}
+     * that is serialized as part of a request.
+     *
+     * @param col  the collection to add the values to
+     * @param <C>  the type of the collection
+     *
+     * @return  the specified collection
+     */
+    public <C extends Collection<? super V>> C getCurrentBatchValues(C col)
+        {
+        for (Element element : getCurrentBatch())
+            {
+            if (!element.isDone())
+                {
+                col.add(element.getValue());
+                }
+            }
+        return col;
         }
 
     /**
@@ -401,10 +422,12 @@ public class BatchingOperationsQueue<V, R>
             return true;
             }
 
-        // Shut the gate so that no more offers come
-        // into the queue while we remove some elements
+        // Only the thread that holds the trigger fills the current batch, so
+        // enter the gate rather than closing it; this stops a flush, close or
+        // error handling from running while elements are moved between the
+        // queues, without blocking the threads that are adding new elements
         Gate<?> gate = getGate();
-        gate.close(-1);
+        gate.enter(-1);
 
         try
             {
@@ -413,49 +436,58 @@ public class BatchingOperationsQueue<V, R>
             // we have lMaxElements in the current batch queue
             Queue<Element> queueCurrent = getCurrentBatch();
             Queue<Element> queuePending = getPending();
-            Element        element      = queuePending.poll();
 
-            while(element != null)
+            while (true)
                 {
-                V value = element.getValue();
-                long lSize = f_backlogCalculator.applyAsLong(value);
-                element.setSize(lSize);
-                try (@SuppressWarnings("unused") NonBlocking nb = new NonBlocking())
+                Element element = queuePending.poll();
+                while (element != null)
                     {
-                    f_backlog.adjustBacklog(-lSize);
-                    }
-                if (!element.isDone())
-                    {
-                    queueCurrent.add(element);
-                    long cbBatch = m_cbCurrentBatch += lSize;
-
-                    if (cbBatch >= cbMaxElements)
+                    V value = element.getValue();
+                    long lSize = f_backlogCalculator.applyAsLong(value);
+                    element.setSize(lSize);
+                    try (@SuppressWarnings("unused") NonBlocking nb = new NonBlocking())
+                        {
+                        f_backlog.adjustBacklog(-lSize);
+                        }
+                    if (!element.isDone())
                         {
-                        // page will be filled
-                        break;
+                        queueCurrent.add(element);
+                        long cbBatch = m_cbCurrentBatch += lSize;
+
+                        if (cbBatch >= cbMaxElements)
+                            {
+                            // page will be filled
+                            break;
+                            }
                         }
+                    element = queuePending.poll();
                     }
-                element = queuePending.poll();
-                }
 
-            // We might not have pulled anything from the queue
-            // if, for example, the application has cancelled all
-            // the queued futures
-            if (queueCurrent.isEmpty())
-                {
-                // While the gate is shut create a new future to trigger
-                // a round of adds when this set is done and more values
-                // are added to the queue
+                // We might not have pulled anything from the queue
+                // if, for example, the application has cancelled all
+                // the queued futures
+                if (!queueCurrent.isEmpty())
+                    {
+                    return true;
+                    }
+
+                // Create a new future to trigger a round of adds when this
+                // set is done and more values are added to the queue. As
+                // adding threads are not excluded, a value may have been
+                // added after the queue was drained but before the trigger
+                // was reset, in which case the add would not have triggered
+                // a batch, so re-check and take the trigger back if needed
                 resetTrigger();
-                return false;
+                if (queuePending.isEmpty() || !getTrigger().compareAndSet(TRIGGER_OPEN, TRIGGER_CLOSED))
+                    {
+                    return false;
+                    }
                 }
-
-            return true;
             }
         finally
             {
-            // Don't forget to open the gate
-            gate.open();
+            // Don't forget to exit the gate
+            gate.exit();
             }
         }
 
@@ -777,11 +809,12 @@ public class BatchingOperationsQueue<V, R>
             return true;
             }
 
-        // Shut the gate so that no more offers come
-        // into the queue while we remove some elements
+        // Enter the gate so that a flush or error handling cannot
+        // run while we remove some elements
         Gate<?> gate = getGate();
-        gate.close(-1);
+        gate.enter(-1);
 
+        boolean fEmpty = true;
         try
             {
             Iterator<Element> iterator = f_queueCurrentBatch.iterator();
@@ -794,15 +827,19 @@ public class BatchingOperationsQueue<V, R>
                     iterator.remove();
                     cbSize -= element.getSize();
                     }
+                else
+                    {
+                    fEmpty = false;
+                    }
                 }
             m_cbCurrentBatch = cbSize;
             }
         finally
             {
-            // Don't forget to open the gate
-            gate.open();
+            // Don't forget to exit the gate
+            gate.exit();
             }
-        return getCurrentBatchValues().isEmpty();
+        return fEmpty;
         }
 
     // ----- inner class: Element -------------------------------------------
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.internal.net.topic.impl.paged.model.Page;
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The position of the latest element for each compaction key in a channel
+ * of a partition of a key-compacted topic.
+ * <p>
+ * An index is only accessed while the {@link com.tangosol.internal.net.topic.impl.paged.model.Usage}
+ * entry for its partition and channel is locked, so it is not thread safe.
+ * An index is held in memory by the member that owns the partition, so it
+ * is rebuilt from the pages of the partition whenever it does not cover the
+ * page preceding a newly sealed page.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class CompactionIndex
+    {
+    /**
+     * Record the position of the latest element for a compaction key.
+     *
+     * @param oKey      the compaction key
+     * @param position  the position of the element
+     *
+     * @return the position of the element superseded by the specified
+     *         element, or {@code null} if there was none
+     */
+    public PagedPosition put(Object oKey, PagedPosition position)
+        {
+        return f_mapPosition.put(oKey, position);
+        }
+
+    /**
+     * Return the number of keys in this index.
+     *
+     * @return the number of keys in this index
+     */
+    public int size()
+        {
+        return f_mapPosition.size();
+        }
+
+    /**
+     * Return the id of the last page added to this index.
+     *
+     * @return the id of the last page added to this index, or
+     *         {@link Page#NULL_PAGE} if the index is empty
+     */
+    public long getLastPage()
+        {
+        return m_lPageLast;
+        }
+
+    /**
+     * Set the id of the last page added to this index.
+     *
+     * @param lPage  the id of the last page added to this index
+     */
+    public void setLastPage(long lPage)
+        {
+        m_lPageLast = lPage;
+        }
+
+    /**
+     * Remove all the keys from this index.
+     */
+    public void clear()
+        {
+        f_mapPosition.clear();
+        m_lPageLast = Page.NULL_PAGE;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The position of the latest element for each compaction key.
+     */
+    private final Map<Object, PagedPosition> f_mapPosition = new HashMap<>();
+
+    /**
+     * The id of the last page added to this index.
+     */
+    private long m_lPageLast = Page.NULL_PAGE;
+    }
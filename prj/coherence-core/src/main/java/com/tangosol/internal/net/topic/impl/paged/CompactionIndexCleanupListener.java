@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.net.BackingMapManager;
+import com.tangosol.net.CacheService;
+
+import com.tangosol.net.partition.PartitionEvent;
+import com.tangosol.net.partition.PartitionListener;
+import com.tangosol.net.partition.PartitionSet;
+
+/**
+ * A {@link PartitionListener} that drops the {@link CompactionIndex compaction
+ * indexes} of the partitions that move to or from this member.
+ * <p>
+ * A compaction index is only held in memory by the owner of its partition,
+ * so the index of a partition that is transferred away or lost must be
+ * dropped, both to release its memory and so that a stale index is never
+ * used if the partition later returns to this member.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class CompactionIndexCleanupListener
+        implements PartitionListener
+    {
+    @Override
+    public void onPartitionEvent(PartitionEvent evt)
+        {
+        switch (evt.getId())
+            {
+            case PartitionEvent.PARTITION_TRANSMIT_COMMIT:
+            case PartitionEvent.PARTITION_RECEIVE_COMMIT:
+            case PartitionEvent.PARTITION_LOST:
+            case PartitionEvent.PARTITION_ASSIGNED:
+            case PartitionEvent.PARTITION_RECOVERED:
+                PartitionSet      parts   = evt.getPartitionSet();
+                BackingMapManager manager = ((CacheService) evt.getService()).getBackingMapManager();
+                if (parts != null && manager instanceof PagedTopicBackingMapManager)
+                    {
+                    ((PagedTopicBackingMapManager) manager).releaseCompactionIndexes(parts);
+                    }
+                break;
+
+            default:
+                break;
+            }
+        }
+    }
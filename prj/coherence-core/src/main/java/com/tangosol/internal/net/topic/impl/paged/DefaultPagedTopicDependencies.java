@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,6 +11,7 @@ import com.tangosol.internal.util.Primes;
 import com.tangosol.net.cache.LocalCache;
 import com.tangosol.net.topic.BinaryElementCalculator;
 import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.util.ValueExtractor;
 
 /**
  * A default implementation of {@link PagedTopicDependencies}.
@@ -54,6 +55,7 @@ public class DefaultPagedTopicDependencies
         setRetainConsumed(deps.isRetainConsumed());
         setServerCapacity(deps.getServerCapacity());
         setSubscriberTimeoutMillis(deps.getSubscriberTimeoutMillis());
+        setCompactionExtractor(deps.getCompactionExtractor());
         }
 
     /**
@@ -383,6 +385,24 @@ public class DefaultPagedTopicDependencies
         m_cReconnectWaitMillis = cMillis <= 0 ? 1000L : Math.max(1000L, cMillis);
         }
 
+    @Override
+    public ValueExtractor<?, ?> getCompactionExtractor()
+        {
+        return m_extractorCompaction;
+        }
+
+    /**
+     * Set the {@link ValueExtractor} used to extract the compaction key
+     * from the elements of a compacted topic.
+     *
+     * @param extractor  the compaction key extractor, or {@code null} if
+     *                   the topic is not compacted
+     */
+    public void setCompactionExtractor(ValueExtractor<?, ?> extractor)
+        {
+        m_extractorCompaction = extractor;
+        }
+
     // ----- Object methods -------------------------------------------------
 
     @Override
@@ -398,7 +418,8 @@ public class DefaultPagedTopicDependencies
                 "ReconnectWait=" + m_cReconnectWaitMillis + "ms " +
                 "ReconnectTimeout=" + m_cReconnectTimeoutMillis + "ms " +
                 "ReconnectRetry=" + m_cReconnectRetryMillis + "ms " +
-                "AllowUnownedCommits=" + m_fAllowUnownedCommits;
+                "AllowUnownedCommits=" + m_fAllowUnownedCommits + " " +
+                "CompactionExtractor=" + m_extractorCompaction;
         }
 
     // ----- data members ---------------------------------------------------
@@ -474,4 +495,9 @@ public class DefaultPagedTopicDependencies
      * The amount of time that publishers and subscribers will wait before attempting to reconnect.
      */
     private long m_cReconnectWaitMillis = PagedTopic.DEFAULT_RECONNECT_WAIT_SECONDS.as(Duration.Magnitude.MILLI);
+
+    /**
+     * The extractor for the compaction key, or {@code null} if the topic is not compacted.
+     */
+    private ValueExtractor<?, ?> m_extractorCompaction;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -240,6 +240,12 @@ public class PagedTopic<V>
      */
     public static final long DEFAULT_PAGE_CAPACITY_BYTES = 1024*1024;
 
+    /**
+     * The default amount of memory used for the in-memory tier of a topic
+     * using tiered storage (256MB).
+     */
+    public static final long DEFAULT_HOT_STORAGE_BYTES = 256L*1024*1024;
+
     /**
      * The default subscriber timeout.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -10,18 +10,28 @@ import com.tangosol.coherence.config.scheme.PagedTopicScheme;
 
 import com.tangosol.config.expression.ParameterResolver;
 
+import com.tangosol.internal.net.topic.impl.paged.model.Subscription;
+
 import com.tangosol.internal.net.topic.impl.paged.statistics.PagedTopicStatistics;
 
 import com.tangosol.net.ExtensibleConfigurableCacheFactory;
 
+import com.tangosol.net.partition.PartitionSet;
+
 import com.tangosol.net.topic.TopicBackingMapManager;
 
+import com.tangosol.util.Base;
+
 import java.util.HashMap;
 import java.util.Map;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import java.util.function.LongSupplier;
+
 /**
  * The {@link TopicBackingMapManager} for a paged topic.
  *
@@ -98,6 +108,9 @@ public class PagedTopicBackingMapManager
             String sTopicName = PagedTopicCaches.Names.getTopicName(sName);
             m_mapDeps.remove(sTopicName);
             m_mapStatistics.remove(sTopicName);
+            m_mapCompaction.remove(sTopicName);
+            m_mapStorageBytes.remove(sTopicName);
+            m_mapSubscriptionCache.remove(sTopicName);
             }
         finally
             {
@@ -133,6 +146,87 @@ public class PagedTopicBackingMapManager
         return statistics;
         }
 
+    /**
+     * Return the {@link SubscriptionCache} for a subscription in a channel of
+     * a partition of a topic.
+     *
+     * @param sTopicName  the name of the topic
+     * @param key         the key of the subscription
+     *
+     * @return the {@link SubscriptionCache} for the subscription
+     */
+    public SubscriptionCache getSubscriptionCache(String sTopicName, Subscription.Key key)
+        {
+        return m_mapSubscriptionCache.computeIfAbsent(sTopicName, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new SubscriptionCache());
+        }
+
+    /**
+     * Remove the {@link SubscriptionCache} for a subscription in a channel of
+     * a partition of a topic.
+     *
+     * @param sTopicName  the name of the topic
+     * @param key         the key of the subscription
+     */
+    public void removeSubscriptionCache(String sTopicName, Subscription.Key key)
+        {
+        Map<Subscription.Key, SubscriptionCache> map = m_mapSubscriptionCache.get(sTopicName);
+        if (map != null)
+            {
+            map.remove(key);
+            }
+        }
+
+    /**
+     * Return the {@link CompactionIndex} for a channel of a partition of a
+     * key-compacted topic.
+     *
+     * @param sTopicName  the name of the topic
+     * @param nPartition  the partition
+     * @param nChannel    the channel
+     *
+     * @return the {@link CompactionIndex} for the channel
+     */
+    public CompactionIndex getCompactionIndex(String sTopicName, int nPartition, int nChannel)
+        {
+        return m_mapCompaction.computeIfAbsent(sTopicName, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(((long) nPartition << 32) | nChannel, n -> new CompactionIndex());
+        }
+
+    /**
+     * Drop the {@link CompactionIndex compaction indexes} of all the channels
+     * of the specified partitions, for all topics.
+     * <p>
+     * This method is called when partitions are no longer owned by this
+     * member, or become owned by it, so that an index is never kept for a
+     * partition this member does not own, nor reused after the partition
+     * has been owned by another member.
+     *
+     * @param parts  the partitions
+     */
+    public void releaseCompactionIndexes(PartitionSet parts)
+        {
+        for (Map<Long, CompactionIndex> map : m_mapCompaction.values())
+            {
+            map.keySet().removeIf(nKey -> parts.contains((int) (nKey >>> 32)));
+            }
+        }
+
+    /**
+     * Return the number of bytes stored locally for a topic, recalculating
+     * it with the specified supplier at most once per
+     * {@link #STORAGE_BYTES_INTERVAL_MILLIS}.
+     *
+     * @param sTopicName  the name of the topic
+     * @param supplier    the supplier that calculates the number of bytes
+     *
+     * @return the number of bytes stored locally for the topic
+     */
+    public long getStorageBytes(String sTopicName, LongSupplier supplier)
+        {
+        return m_mapStorageBytes.computeIfAbsent(sTopicName, s -> new StorageBytes()).get(supplier);
+        }
+
     // ----- helper methods -------------------------------------------------
 
     private PagedTopicDependencies createTopicDependencies(String sName)
@@ -158,6 +252,57 @@ public class PagedTopicBackingMapManager
         return m_mapStatistics.computeIfAbsent(sTopicName, s -> createStatistics(dependencies, sTopicName));
         }
 
+    // ----- inner class: StorageBytes --------------------------------------
+
+    /**
+     * The number of bytes stored locally for a topic, calculated at most
+     * once per {@link #STORAGE_BYTES_INTERVAL_MILLIS}.
+     * <p>
+     * Concurrent callers may both recalculate an expired value, which is
+     * harmless as either result is recent.
+     */
+    protected static class StorageBytes
+        {
+        /**
+         * Return the number of bytes, recalculating it if it has expired.
+         *
+         * @param supplier  the supplier that calculates the number of bytes
+         *
+         * @return the number of bytes
+         */
+        protected long get(LongSupplier supplier)
+            {
+            long ldtNow = Base.getSafeTimeMillis();
+            if (ldtNow >= m_ldtExpiry)
+                {
+                m_cb        = supplier.getAsLong();
+                m_ldtExpiry = ldtNow + STORAGE_BYTES_INTERVAL_MILLIS;
+                }
+            return m_cb;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The last calculated number of bytes.
+         */
+        private volatile long m_cb;
+
+        /**
+         * The time at which the number of bytes must be recalculated.
+         */
+        private volatile long m_ldtExpiry;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The interval for which a calculated number of locally stored bytes is
+     * reused, trading a small overshoot of the server capacity for not
+     * walking every partition on each offer.
+     */
+    public static final long STORAGE_BYTES_INTERVAL_MILLIS = 100L;
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -174,4 +319,21 @@ public class PagedTopicBackingMapManager
      * A map of {@link PagedTopicStatistics} keyed by topic name.
      */
     private final Map<String, PagedTopicStatistics> m_mapStatistics = new HashMap<>();
+
+    /**
+     * The {@link CompactionIndex} for each channel of each partition, keyed
+     * by topic name.
+     */
+    private final Map<String, Map<Long, CompactionIndex>> m_mapCompaction = new ConcurrentHashMap<>();
+
+    /**
+     * The last calculated number of bytes stored locally, keyed by topic name.
+     */
+    private final Map<String, StorageBytes> m_mapStorageBytes = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link SubscriptionCache} for each subscription in each channel of
+     * each partition, keyed by topic name.
+     */
+    private final Map<String, Map<Subscription.Key, SubscriptionCache>> m_mapSubscriptionCache = new ConcurrentHashMap<>();
     }
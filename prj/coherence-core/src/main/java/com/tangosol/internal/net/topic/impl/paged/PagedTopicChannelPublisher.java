@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -14,6 +14,7 @@ import com.oracle.coherence.common.base.Logger;
 import com.oracle.coherence.common.util.Duration;
 import com.tangosol.internal.net.DebouncedFlowControl;
 
+import com.tangosol.internal.net.topic.impl.paged.agent.CompactProcessor;
 import com.tangosol.internal.net.topic.impl.paged.agent.OfferProcessor;
 import com.tangosol.internal.net.topic.impl.paged.agent.TailAdvancer;
 import com.tangosol.internal.net.topic.impl.paged.agent.TopicInitialiseProcessor;
@@ -38,6 +39,7 @@ import com.tangosol.util.InvocableMapHelper;
 import com.tangosol.util.LongArray;
 import com.tangosol.util.SparseArray;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -78,6 +80,35 @@ public class PagedTopicChannelPublisher
                                       DaemonPool                     pool,
                                       BiConsumer<Throwable, Integer> onErrorHandler)
         {
+        this(lPublisherId, nChannel, nChannelCount, caches, nNotifyPostFull, flowControl, pool, onErrorHandler, null);
+        }
+
+    /**
+     * Create a {@link PagedTopicChannelPublisher} that sends its offers
+     * through a {@link PagedTopicOfferBatcher}.
+     *
+     * @param lPublisherId     the identifier for the parent {@link PagedTopicPublisher}
+     * @param nChannel         the channel to publish to
+     * @param nChannelCount    the total number of channels
+     * @param caches           the paged topic caches
+     * @param nNotifyPostFull  the post full notification identifier
+     * @param flowControl      the {@link DebouncedFlowControl} control to use
+     * @param pool             the {@link DaemonPool} to execute publish completions
+     * @param onErrorHandler   a consumer to be notified on publishing errors
+     * @param batcher          the {@link PagedTopicOfferBatcher} to send offers through,
+     *                         or {@code null} to send offers directly
+     */
+    public PagedTopicChannelPublisher(long                           lPublisherId,
+                                      int                            nChannel,
+                                      int                            nChannelCount,
+                                      PagedTopicCaches               caches,
+                                      int                            nNotifyPostFull,
+                                      DebouncedFlowControl           flowControl,
+                                      DaemonPool                     pool,
+                                      BiConsumer<Throwable, Integer> onErrorHandler,
+                                      PagedTopicOfferBatcher         batcher)
+        {
+        f_offerBatcher            = batcher;
         f_lPublisherId            = lPublisherId;
         f_nChannel                = nChannel;
         f_nChannelCount           = nChannelCount;
@@ -311,7 +342,7 @@ public class PagedTopicChannelPublisher
      */
     protected void addInternal(long lPageId)
         {
-        List<Binary> listBinary = f_batchingQueue.getCurrentBatchValues();
+        List<Binary> listBinary = f_batchingQueue.getCurrentBatchValues(new ArrayList<>());
 
         // If the list is empty (which would probably be due to the
         // application code calling cancel on the futures) the we
@@ -326,20 +357,29 @@ public class PagedTopicChannelPublisher
         Page.Key keyPage = new Page.Key(f_keyUsageSync.getChannelId(), lPageId);
         int      nPart   = f_keyPartitioningStrategy.getKeyPartition(keyPage);
 
-        InvocableMapHelper.invokeAsync(caches.Pages, keyPage, caches.getUnitOfOrder(nPart),
-                new OfferProcessor(listBinary, f_nNotifyPostFull, false),
-                (result, e) ->
-                    {
-                    if (e == null)
-                        {
-                        handleOfferCompletion(result, lPageId);
-                        }
-                    else
-                        {
-                        handleError(null, e);
-                        }
-                    }
-                );
+        BiConsumer<OfferProcessor.Result, Throwable> handler = (result, e) ->
+            {
+            if (e == null)
+                {
+                handleOfferCompletion(result, lPageId);
+                }
+            else
+                {
+                handleError(null, e);
+                }
+            };
+
+        PagedTopicOfferBatcher batcher = f_offerBatcher;
+        if (batcher == null)
+            {
+            InvocableMapHelper.invokeAsync(caches.Pages, keyPage, caches.getUnitOfOrder(nPart),
+                    new OfferProcessor(listBinary, f_nNotifyPostFull, false), handler);
+            }
+        else
+            {
+            // combine this offer with offers from other channels to the same member
+            batcher.offer(keyPage, listBinary, handler);
+            }
         }
 
     /**
@@ -405,6 +445,7 @@ public class PagedTopicChannelPublisher
             switch (result.getStatus())
                 {
                 case PageSealed:
+                    compactPage(lPageId);
                     moveToNextPage(lPageId)
                             .thenRun(() -> addQueuedElements(result.getPageCapacity()))
                             .handle(this::handleError);
@@ -426,6 +467,34 @@ public class PagedTopicChannelPublisher
         // else; if the error handler closed the publisher there is nothing else to do
         }
 
+    /**
+     * Asynchronously compact the specified sealed page against the other
+     * pages of its partition, if the topic is key-compacted.
+     *
+     * @param lPageId  the identifier of the page that was sealed
+     */
+    protected void compactPage(long lPageId)
+        {
+        PagedTopicCaches caches = m_caches;
+        if (!caches.getDependencies().isCompacted())
+            {
+            return;
+            }
+
+        int nChannel = f_keyUsageSync.getChannelId();
+        int nPart    = f_keyPartitioningStrategy.getKeyPartition(new Page.Key(nChannel, lPageId));
+
+        InvocableMapHelper.invokeAsync(caches.Usages, new Usage.Key(nPart, nChannel), caches.getUnitOfOrder(nPart),
+                new CompactProcessor(lPageId), (result, e) ->
+                    {
+                    if (e != null)
+                        {
+                        Logger.finer("Failed to compact partition " + nPart + " of channel " + nChannel
+                                + " of topic " + caches.getTopicName() + ": " + e);
+                        }
+                    });
+        }
+
     /**
      * Handle the specified error.
      *
@@ -779,6 +848,12 @@ public class PagedTopicChannelPublisher
      */
     private final int f_nNotifyPostFull;
 
+    /**
+     * The {@link PagedTopicOfferBatcher} to send offers through, or
+     * {@code null} to send offers directly.
+     */
+    private final PagedTopicOfferBatcher f_offerBatcher;
+
     /**
      * The key for the Usage object which maintains the channel's tail.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,8 @@ package com.tangosol.internal.net.topic.impl.paged;
 
 import com.tangosol.net.topic.TopicDependencies;
 
+import com.tangosol.util.ValueExtractor;
+
 /**
  * The dependencies for a paged topic.
  *
@@ -30,4 +32,26 @@ public interface PagedTopicDependencies
      * @return return the capacity or zero if unlimited.
      */
     long getServerCapacity();
+
+    /**
+     * Return the {@link ValueExtractor} used to extract the compaction key
+     * from the elements of a compacted topic.
+     * <p>
+     * When a topic is compacted, sealed pages are periodically rewritten
+     * to retain only the latest element for each key.
+     *
+     * @return the compaction key extractor, or {@code null} if the topic
+     *         is not compacted
+     */
+    ValueExtractor<?, ?> getCompactionExtractor();
+
+    /**
+     * Return {@code true} if the topic is compacted by key.
+     *
+     * @return {@code true} if the topic is compacted by key
+     */
+    default boolean isCompacted()
+        {
+        return getCompactionExtractor() != null;
+        }
     }
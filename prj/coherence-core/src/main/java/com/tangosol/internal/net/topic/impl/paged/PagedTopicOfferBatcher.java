@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.internal.net.topic.impl.paged.agent.MultiChannelOfferProcessor;
+import com.tangosol.internal.net.topic.impl.paged.agent.OfferProcessor;
+
+import com.tangosol.internal.net.topic.impl.paged.model.Page;
+
+import com.tangosol.net.Member;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.InvocableMapHelper;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link PagedTopicOfferBatcher} combines the offers from the channel
+ * publishers of a {@link PagedTopicPublisher} into multi-channel offer
+ * requests, one per storage member.
+ * <p>
+ * At most one request is in flight to a member at a time. Offers made while
+ * a request is in flight are held and sent together in a single request
+ * when it completes. Each channel publisher only has one offer outstanding
+ * at a time, so the order of the offers to a channel is preserved.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class PagedTopicOfferBatcher
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link PagedTopicOfferBatcher}.
+     *
+     * @param caches           the topic's underlying caches
+     * @param nNotifyPostFull  the key on which to notify once the topic is no longer full, or zero for none
+     */
+    public PagedTopicOfferBatcher(PagedTopicCaches caches, int nNotifyPostFull)
+        {
+        f_caches          = caches;
+        f_nNotifyPostFull = nNotifyPostFull;
+        }
+
+    // ----- PagedTopicOfferBatcher methods ---------------------------------
+
+    /**
+     * Offer elements to the tail of a page.
+     *
+     * @param key         the key of the page to offer the elements to
+     * @param listBinary  the elements to offer
+     * @param handler     the handler to call with the result of the offer
+     */
+    public void offer(Page.Key key, List<Binary> listBinary, BiConsumer<OfferProcessor.Result, Throwable> handler)
+        {
+        Member member = getOwner(key);
+        Batch  batch;
+
+        f_lock.lock();
+        try
+            {
+            batch = f_mapBatch.computeIfAbsent(member, m -> new Batch());
+            batch.m_mapPending.put(key, new PendingOffer(listBinary, handler));
+            if (batch.m_fInFlight)
+                {
+                // the offer will be sent when the in-flight request completes
+                return;
+                }
+            batch.m_fInFlight = true;
+            }
+        finally
+            {
+            f_lock.unlock();
+            }
+
+        send(batch);
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Send the pending offers in a batch as a single request.
+     *
+     * @param batch  the batch to send
+     */
+    protected void send(Batch batch)
+        {
+        Map<Page.Key, PendingOffer> mapOffer;
+
+        f_lock.lock();
+        try
+            {
+            mapOffer = batch.m_mapPending;
+            if (mapOffer.isEmpty())
+                {
+                batch.m_fInFlight = false;
+                return;
+                }
+            batch.m_mapPending = new LinkedHashMap<>();
+            }
+        finally
+            {
+            f_lock.unlock();
+            }
+
+        Map<Page.Key, List<Binary>> mapElements = new HashMap<>();
+        for (Map.Entry<Page.Key, PendingOffer> entry : mapOffer.entrySet())
+            {
+            mapElements.put(entry.getKey(), entry.getValue().f_listBinary);
+            }
+
+        // the request uses the unit of order of the partition of its oldest offer, as a
+        // single channel offer would; the offers to the other partitions are ordered by
+        // there being a single request in flight to the member
+        int nOrderId = f_caches.getUnitOfOrder(getPartition(mapOffer.keySet().iterator().next()));
+
+        try
+            {
+            InvocableMapHelper.invokeAllAsync(f_caches.Pages, mapOffer.keySet(), nOrderId,
+                    new MultiChannelOfferProcessor(mapElements, f_nNotifyPostFull), null,
+                    (mapResult, error) ->
+                        {
+                        try
+                            {
+                            complete(mapOffer, mapResult, error);
+                            }
+                        finally
+                            {
+                            // send any offers that arrived while the request was in flight
+                            send(batch);
+                            }
+                        });
+            }
+        catch (Throwable t)
+            {
+            complete(mapOffer, null, t);
+            send(batch);
+            }
+        }
+
+    /**
+     * Complete the offers in a request.
+     *
+     * @param mapOffer   the offers in the request
+     * @param mapResult  the results of the request, or {@code null} if the request failed
+     * @param error      the error from the request, or {@code null} if the request succeeded
+     */
+    protected void complete(Map<Page.Key, PendingOffer> mapOffer,
+            Map<? extends Page.Key, ? extends OfferProcessor.Result> mapResult, Throwable error)
+        {
+        for (Map.Entry<Page.Key, PendingOffer> entry : mapOffer.entrySet())
+            {
+            Page.Key              key    = entry.getKey();
+            OfferProcessor.Result result = mapResult == null ? null : mapResult.get(key);
+            Throwable             t      = error;
+
+            if (t == null && result == null)
+                {
+                t = new IllegalStateException("No offer result was returned for page " + key);
+                }
+
+            try
+                {
+                entry.getValue().f_handler.accept(t == null ? result : null, t);
+                }
+            catch (Throwable thrown)
+                {
+                Logger.err("Failed to handle the offer result for page " + key + " of topic "
+                        + f_caches.getTopicName(), thrown);
+                }
+            }
+        }
+
+    /**
+     * Return the member that owns the partition for a page.
+     *
+     * @param key  the page key
+     *
+     * @return the member that owns the partition for the page, or
+     *         {@code null} if the partition is not currently owned
+     */
+    protected Member getOwner(Page.Key key)
+        {
+        return f_caches.getService().getPartitionOwner(getPartition(key));
+        }
+
+    /**
+     * Return the partition for a page.
+     *
+     * @param key  the page key
+     *
+     * @return the partition for the page
+     */
+    protected int getPartition(Page.Key key)
+        {
+        return f_caches.getService().getKeyPartitioningStrategy().getKeyPartition(key);
+        }
+
+    // ----- inner class: Batch ---------------------------------------------
+
+    /**
+     * The offers to a single member.
+     */
+    protected static class Batch
+        {
+        /**
+         * The offers waiting to be sent, keyed by page.
+         */
+        protected Map<Page.Key, PendingOffer> m_mapPending = new LinkedHashMap<>();
+
+        /**
+         * {@code true} if a request to the member is in flight.
+         */
+        protected boolean m_fInFlight;
+        }
+
+    // ----- inner class: PendingOffer --------------------------------------
+
+    /**
+     * An offer waiting to be sent.
+     */
+    protected static class PendingOffer
+        {
+        /**
+         * Create a {@link PendingOffer}.
+         *
+         * @param listBinary  the elements to offer
+         * @param handler     the handler to call with the result of the offer
+         */
+        protected PendingOffer(List<Binary> listBinary, BiConsumer<OfferProcessor.Result, Throwable> handler)
+            {
+            f_listBinary = listBinary;
+            f_handler    = handler;
+            }
+
+        /**
+         * The elements to offer.
+         */
+        protected final List<Binary> f_listBinary;
+
+        /**
+         * The handler to call with the result of the offer.
+         */
+        protected final BiConsumer<OfferProcessor.Result, Throwable> f_handler;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The topic's underlying caches.
+     */
+    private final PagedTopicCaches f_caches;
+
+    /**
+     * The post full notifier.
+     */
+    private final int f_nNotifyPostFull;
+
+    /**
+     * The lock protecting the batches.
+     */
+    private final Lock f_lock = new ReentrantLock();
+
+    /**
+     * The batches of offers keyed by owning member.
+     */
+    private final Map<Member, Batch> f_mapBatch = new HashMap<>();
+    }
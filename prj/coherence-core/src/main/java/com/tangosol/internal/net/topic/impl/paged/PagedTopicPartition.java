@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -45,8 +45,11 @@ import com.tangosol.net.RequestIncompleteException;
 
 import com.tangosol.net.cache.ConfigurableCacheMap;
 import com.tangosol.net.cache.LocalCache;
+import com.tangosol.net.cache.OverflowMap;
 
 import com.tangosol.net.partition.ObservableSplittingBackingMap;
+import com.tangosol.net.partition.PartitionAwareBackingMap;
+import com.tangosol.net.partition.PartitionSet;
 
 import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Position;
@@ -57,6 +60,7 @@ import com.tangosol.net.topic.TopicException;
 import com.tangosol.util.Binary;
 import com.tangosol.util.BinaryEntry;
 import com.tangosol.util.ConverterCollections;
+import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.InvocableMapHelper;
@@ -635,12 +639,68 @@ public class PagedTopicPartition
             ConfigurableCacheMap cacheBack = (ConfigurableCacheMap) mapBack;
             return (long) cacheBack.getUnits() * cacheBack.getUnitFactor();
             }
+        else if (mapBack instanceof PartitionAwareBackingMap)
+            {
+            // tiered storage, summing the tiers of every owned partition is
+            // too expensive to do on each offer so the total is reused for a
+            // short interval
+            PagedTopicBackingMapManager mgr = (PagedTopicBackingMapManager) f_ctxManager.getManager();
+            return mgr.getStorageBytes(f_sName, () -> getTieredStorageBytes((PartitionAwareBackingMap) mapBack));
+            }
         else // for instance live persistence
             {
             throw new UnsupportedOperationException();
             }
         }
 
+    /**
+     * Return the number of bytes stored in both tiers of every partition of
+     * tiered storage that this member owns.
+     *
+     * @param mapPartitioned  the partitioned backing map of the content cache
+     *
+     * @return the number of bytes locally stored for this topic
+     */
+    protected long getTieredStorageBytes(PartitionAwareBackingMap mapPartitioned)
+        {
+        PartitionedService service = (PartitionedService) f_ctxManager.getCacheService();
+        PartitionSet       parts   = service.getOwnedPartitions(service.getCluster().getLocalMember());
+        long               cb      = 0L;
+
+        for (int nPart = parts.next(0); nPart >= 0; nPart = parts.next(nPart + 1))
+            {
+            Map map = mapPartitioned.getPartitionMap(nPart);
+            if (map instanceof OverflowMap)
+                {
+                OverflowMap mapOverflow = (OverflowMap) map;
+                cb += getStorageBytes(mapOverflow.getFrontMap()) + getStorageBytes(mapOverflow.getBackMap());
+                }
+            else if (map != null)
+                {
+                throw new UnsupportedOperationException();
+                }
+            }
+        return cb;
+        }
+
+    /**
+     * Return the number of bytes stored in a tier of tiered storage.
+     *
+     * @param map  the map for the tier
+     *
+     * @return the number of bytes stored in the tier, or zero if the tier
+     *         does not track its size
+     */
+    private static long getStorageBytes(Map map)
+        {
+        if (map instanceof ConfigurableCacheMap)
+            {
+            ConfigurableCacheMap cache = (ConfigurableCacheMap) map;
+            return (long) cache.getUnits() * cache.getUnitFactor();
+            }
+        return 0L;
+        }
+
     /**
      * Obtain a read-only copy of the specified page.
      *
@@ -777,6 +837,184 @@ public class PagedTopicPartition
         return true;
         }
 
+    /**
+     * Compact a newly sealed page of the specified channel in this partition,
+     * removing every element that has been superseded by a later element
+     * in the same channel and partition with the same compaction key.
+     * <p>
+     * The {@link CompactionIndex} of the channel holds the position of the
+     * latest element for each key, so only the elements of the sealed page
+     * are examined. If the index does not cover the page preceding the sealed
+     * page, for example because this member has just gained the partition,
+     * it is rebuilt from all the pages of the partition up to the sealed page.
+     * <p>
+     * Elements with a {@code null} compaction key are never removed. The
+     * removed elements leave gaps in the page positions, which are skipped
+     * in the same way as expired elements, so the positions of the remaining
+     * elements do not change. The byte size of each page is reduced by the
+     * size of its removed elements, and an emptied page at the head of the
+     * partition that no subscriber references is removed.
+     *
+     * @param nChannel  the channel to compact
+     * @param lPage     the page that has been sealed
+     *
+     * @return the number of elements removed
+     */
+    @SuppressWarnings("rawtypes")
+    public int compact(int nChannel, long lPage)
+        {
+        ValueExtractor extractor = getDependencies().getCompactionExtractor();
+        Page           page      = extractor == null ? null : peekPage(nChannel, lPage);
+        if (page == null || !page.isSealed())
+            {
+            // only sealed pages are compacted, the open page is still being
+            // written to by publishers
+            return 0;
+            }
+
+        CompactionIndex index     = getCompactionIndex(nChannel);
+        long            lPageLast = index.getLastPage();
+        if (lPageLast >= lPage)
+            {
+            // the page has already been compacted
+            return 0;
+            }
+
+        Map<Long, Integer> mapRemoved = new HashMap<>();
+        int                cRemoved   = 0;
+        if (lPageLast == Page.NULL_PAGE || lPageLast != page.getPreviousPartitionPage())
+            {
+            // the index does not cover the pages before this one, rebuild it
+            index.clear();
+
+            long lPagePrev = peekUsage(nChannel).getPartitionHead();
+            while (lPagePrev != Page.NULL_PAGE && lPagePrev < lPage)
+                {
+                Page pagePrev = peekPage(nChannel, lPagePrev);
+                if (pagePrev == null)
+                    {
+                    break;
+                    }
+                cRemoved += compactPage(nChannel, lPagePrev, pagePrev, extractor, index, mapRemoved);
+                lPagePrev = pagePrev.getNextPartitionPage();
+                }
+            }
+
+        cRemoved += compactPage(nChannel, lPage, page, extractor, index, mapRemoved);
+        index.setLastPage(lPage);
+
+        onCompacted(nChannel, mapRemoved);
+        return cRemoved;
+        }
+
+    /**
+     * Add the elements of a page to a {@link CompactionIndex}, removing the
+     * elements they supersede.
+     *
+     * @param nChannel    the channel
+     * @param lPage       the page id
+     * @param page        the page
+     * @param extractor   the compaction key extractor
+     * @param index       the compaction index of the channel
+     * @param mapRemoved  the number of bytes removed from each page, updated
+     *                    by this method
+     *
+     * @return the number of elements removed
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected int compactPage(int nChannel, long lPage, Page page, ValueExtractor extractor,
+            CompactionIndex index, Map<Long, Integer> mapRemoved)
+        {
+        BackingMapContext            ctxElem    = getBackingMapContext(PagedTopicCaches.Names.CONTENT);
+        NamedTopic.ElementCalculator calculator = getDependencies().getElementCalculator();
+        int                          cRemoved   = 0;
+
+        // walk the elements from oldest to newest, so that each element
+        // supersedes the element previously indexed for the same key
+        for (int nPos = 0, nTail = page.getTail(); nPos <= nTail; ++nPos)
+            {
+            Binary      binKey = ContentKey.toBinary(f_nPartition, nChannel, lPage, nPos);
+            BinaryEntry entry  = (BinaryEntry) ctxElem.getReadOnlyEntry(binKey);
+            if (entry == null || entry.getBinaryValue() == null)
+                {
+                continue;
+                }
+
+            Object oKey = InvocableMapHelper.extractFromEntry(extractor, entry);
+            if (oKey == null)
+                {
+                continue;
+                }
+
+            PagedPosition position = index.put(oKey, new PagedPosition(lPage, nPos));
+            if (position != null)
+                {
+                long        lPageOld   = position.getPage();
+                BinaryEntry entryOld   = (BinaryEntry) ctxElem.getBackingMapEntry(
+                        ContentKey.toBinary(f_nPartition, nChannel, lPageOld, position.getOffset()));
+                Binary      binElement = entryOld.getBinaryValue();
+                if (binElement != null)
+                    {
+                    Binary binValue = ExternalizableHelper.undecorate(binElement, ExternalizableHelper.DECO_RSVD_1);
+                    entryOld.remove(false);
+                    mapRemoved.merge(lPageOld, calculator.calculateUnits(binValue), Integer::sum);
+                    cRemoved++;
+                    }
+                }
+            }
+        return cRemoved;
+        }
+
+    /**
+     * Update the pages that elements were removed from by compaction.
+     *
+     * @param nChannel    the channel
+     * @param mapRemoved  the number of bytes removed from each page
+     */
+    protected void onCompacted(int nChannel, Map<Long, Integer> mapRemoved)
+        {
+        if (mapRemoved.isEmpty())
+            {
+            return;
+            }
+
+        BackingMapContext ctxElem = getBackingMapContext(PagedTopicCaches.Names.CONTENT);
+
+        // update the pages in ascending order, the same order as page removal
+        List<Long> listPage = new ArrayList<>(mapRemoved.keySet());
+        listPage.sort(null);
+        for (long lPage : listPage)
+            {
+            Page page = enlistPage(nChannel, lPage);
+            if (page == null)
+                {
+                continue;
+                }
+
+            page.setByteSize(Math.max(0, page.getByteSize() - mapRemoved.get(lPage)));
+
+            boolean fEmpty = true;
+            for (int nPos = page.getTail(); nPos >= 0 && fEmpty; --nPos)
+                {
+                BinaryEntry entry = (BinaryEntry) ctxElem.getReadOnlyEntry(
+                        ContentKey.toBinary(f_nPartition, nChannel, lPage, nPos));
+                fEmpty = entry == null || entry.getBinaryValue() == null;
+                }
+
+            // an emptied page is only removed from the head of the partition, subscribers
+            // commit by walking the links between pages so pages in the middle are kept
+            Usage usage = enlistUsage(nChannel);
+            if (fEmpty && !page.isSubscribed() && lPage == usage.getPartitionHead()
+                    && lPage != usage.getPartitionTail())
+                {
+                removePage(nChannel, lPage);
+                }
+            }
+
+        // notify any publishers waiting for space to free up
+        notifyAll(enlistUsage(nChannel).resetRemovalNotifiers());
+        }
+
     /**
      * Issue notifications
      *
@@ -820,8 +1058,8 @@ public class PagedTopicPartition
 
         for (int nChannel = 0, c = getChannelCount(); nChannel < c; ++nChannel)
             {
-            BinaryEntry<Subscription.Key, Subscription> entrySub  = (BinaryEntry) ctxSubscriptions.getBackingMapEntry(
-                  toBinaryKey(new Subscription.Key(getPartition(), nChannel, subscriberGroupId)));
+            Subscription.Key                            key      = new Subscription.Key(getPartition(), nChannel, subscriberGroupId);
+            BinaryEntry<Subscription.Key, Subscription> entrySub = (BinaryEntry) ctxSubscriptions.getBackingMapEntry(toBinaryKey(key));
 
             Subscription subscription = entrySub.getValue();
 
@@ -833,6 +1071,7 @@ public class PagedTopicPartition
 
             Usage usage = enlistUsage(nChannel);
             entrySub.remove(false);
+            removeSubscriptionCache(key);
 
             if (subscriberGroupId.getMemberTimestamp() != 0)
                 {
@@ -1460,8 +1699,9 @@ public class PagedTopicPartition
         int                nPosTail    = page.getTail();
         BackingMapContext  ctxElements = getBackingMapContext(PagedTopicCaches.Names.CONTENT);
         LinkedList<Binary> listValues  = new LinkedList();
-        Filter             filter      = subscription.getFilter();
-        Function           fnConvert   = subscription.getConverter();
+        SubscriptionCache  cache       = getSubscriptionCache(keySubscription);
+        Filter             filter      = cache.getFilter(subscription.getFilter());
+        Function           fnConvert   = cache.getConverter(subscription.getConverter());
         int                cbResult    = 0;
         final long         cbLimit     = dependencies.getMaxBatchSizeBytes();
 
@@ -1497,7 +1737,12 @@ public class PagedTopicPartition
                 {
                 if (fnConvert != null)
                     {
-                    binValue = PageElement.fromBinary(binValue, converterFrom).convert(fnConvert, converterTo);
+                    // if the filter was evaluated the entry has already deserialized
+                    // the value, so use that rather than deserializing it again
+                    BinaryEntry entryConvert = entryElement;
+                    binValue = filter == null
+                            ? PageElement.fromBinary(binValue, converterFrom).convert(fnConvert, converterTo)
+                            : PageElement.fromBinary(binValue, b -> entryConvert.getValue()).convert(fnConvert, converterTo);
                     }
 
                 if (binValue != null)
@@ -2203,7 +2448,13 @@ public class PagedTopicPartition
                 {
                 Binary         binPosKey    = ContentKey.toBinary(f_nPartition, nChannel, lPage, nPos);
                 BinaryEntry    entryElement = (BinaryEntry) ctxElements.getReadOnlyEntry(binPosKey);
-                PageElement<?> element      = PageElement.fromBinary(entryElement.getBinaryValue(), converterFrom);
+                Binary         binElement   = entryElement.getBinaryValue();
+                if (binElement == null)
+                    {
+                    // the element has expired or been removed by compaction
+                    continue;
+                    }
+                PageElement<?> element      = PageElement.fromBinary(binElement, converterFrom);
                 lElementTime = element.getTimestampMillis();
                 }
 
@@ -2400,6 +2651,43 @@ public class PagedTopicPartition
         return mgr.getTopicDependencies(f_sName);
         }
 
+    /**
+     * Return the {@link SubscriptionCache} for a subscription.
+     *
+     * @param key  the key of the subscription
+     *
+     * @return the {@link SubscriptionCache} for the subscription
+     */
+    protected SubscriptionCache getSubscriptionCache(Subscription.Key key)
+        {
+        PagedTopicBackingMapManager mgr = (PagedTopicBackingMapManager) f_ctxManager.getManager();
+        return mgr.getSubscriptionCache(f_sName, key);
+        }
+
+    /**
+     * Remove the {@link SubscriptionCache} for a subscription.
+     *
+     * @param key  the key of the subscription
+     */
+    protected void removeSubscriptionCache(Subscription.Key key)
+        {
+        PagedTopicBackingMapManager mgr = (PagedTopicBackingMapManager) f_ctxManager.getManager();
+        mgr.removeSubscriptionCache(f_sName, key);
+        }
+
+    /**
+     * Return the {@link CompactionIndex} for a channel of this partition.
+     *
+     * @param nChannel  the channel
+     *
+     * @return the {@link CompactionIndex} for the channel
+     */
+    protected CompactionIndex getCompactionIndex(int nChannel)
+        {
+        PagedTopicBackingMapManager mgr = (PagedTopicBackingMapManager) f_ctxManager.getManager();
+        return mgr.getCompactionIndex(f_sName, f_nPartition, nChannel);
+        }
+
     /**
      * Obtain the {@link PagedTopicStatistics } for this topic.
      *
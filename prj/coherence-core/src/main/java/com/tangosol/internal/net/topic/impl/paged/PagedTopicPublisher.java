@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -139,10 +139,14 @@ public class PagedTopicPublisher<V>
         f_executor = f_daemon::add;
         f_daemon.start();
 
+        // with more than one channel, combine the offers to channels owned by the same member
+        f_offerBatcher = cChannel > 1 ? new PagedTopicOfferBatcher(m_caches, f_nNotifyPostFull) : null;
+
         for (int nChannel = 0; nChannel < cChannel; ++nChannel)
             {
             f_aChannel[nChannel]
-                    = new PagedTopicChannelPublisher(f_nId, nChannel, cChannel, m_caches, f_nNotifyPostFull, backlog, f_daemon, this::handlePublishError);
+                    = new PagedTopicChannelPublisher(f_nId, nChannel, cChannel, m_caches, f_nNotifyPostFull, backlog,
+                            f_daemon, this::handlePublishError, f_offerBatcher);
             }
 
         f_listenerNotification = new SimpleMapListener<NotificationKey, int[]>()
@@ -417,7 +421,7 @@ public class PagedTopicPublisher<V>
                     m_caches.ensureConnected();
                     Logger.finer("Restarted publisher for channel " + nChannel + " topic " + m_caches.getTopicName() + " publisher " + f_nId);
                     publisher = f_aChannel[nChannel] = new PagedTopicChannelPublisher(f_nId, nChannel, f_aChannel.length, m_caches,
-                            f_nNotifyPostFull, f_flowControl, f_daemon, this::handlePublishError);
+                            f_nNotifyPostFull, f_flowControl, f_daemon, this::handlePublishError, f_offerBatcher);
                     }
                 }
             finally
@@ -981,6 +985,12 @@ public class PagedTopicPublisher<V>
      */
     private final DebouncedFlowControl f_flowControl;
 
+    /**
+     * The {@link PagedTopicOfferBatcher} combining offers from the channel
+     * publishers, or {@code null} if offers are sent directly.
+     */
+    private final PagedTopicOfferBatcher f_offerBatcher;
+
     /**
      * Channel array.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -40,6 +40,7 @@ import com.tangosol.internal.net.topic.impl.paged.model.SubscriberInfo;
 import com.tangosol.internal.net.topic.impl.paged.model.Subscription;
 
 import com.tangosol.internal.util.Daemons;
+import com.tangosol.io.ReadBuffer;
 import com.tangosol.io.Serializer;
 
 import com.tangosol.net.CacheService;
@@ -1187,27 +1188,31 @@ public class PagedTopicSubscriber<V>
         if (!queueRequest.isBatchComplete() || queueRequest.fillCurrentBatch(cBatch))
             {
             heartbeat();
-            complete(queueRequest);
+
+            LinkedList<Request> queueBatch = queueRequest.getCurrentBatchValues();
+            if (f_readAhead.isInFlight() && isSeekPending(queueBatch) && !awaitReadAhead())
+                {
+                // a seek must not overtake an in-flight read-ahead poll, otherwise
+                // the elements it returns would be added after the seek, this
+                // receive loop will continue when the poll completes
+                return;
+                }
+            complete(queueRequest, queueBatch);
 
             int nChannel = ensureOwnedChannel();
             if (!queueRequest.isBatchComplete() && nChannel >= 0)
                 {
+                if (!awaitReadAhead())
+                    {
+                    // a read-ahead poll is in flight, this receive loop
+                    // will continue when it completes
+                    return;
+                    }
+
                 // we have emptied the pre-fetch queue but the batch has more in it, so fetch more
-                PagedTopicChannel channel  = m_aChannel[nChannel];
-                long              lVersion = channel.getVersion();
-                long              lHead    = channel.m_lHead == PagedTopicChannel.HEAD_UNKNOWN
-                                                    ? getSubscriptionHead(channel) : channel.m_lHead;
-
-                int nPart = ((PartitionedService) m_caches.Subscriptions.getCacheService())
-                                    .getKeyPartitioningStrategy()
-                                    .getKeyPartition(new Page.Key(nChannel, lHead));
-
-                InvocableMapHelper.invokeAsync(m_caches.Subscriptions,
-                                               new Subscription.Key(nPart, nChannel, f_subscriberGroupId), m_caches.getUnitOfOrder(nPart),
-                                               new PollProcessor(lHead, Integer.MAX_VALUE, f_nNotificationId, f_id),
-                                               f_executor,
-                                               (result, e) -> onReceiveResult(channel, lVersion, lHead, result, e))
-                                  .handleAsync((r, e) ->
+                // and as the consumer has caught up with the pre-fetch queue, read further ahead
+                f_readAhead.increase(m_caches.getDependencies().getMaxBatchSizeBytes());
+                poll(nChannel, false).handleAsync((r, e) ->
                                       {
                                       if (e != null)
                                           {
@@ -1260,6 +1265,11 @@ public class PagedTopicSubscriber<V>
                     }
                 else
                     {
+                    if (nChannel >= 0)
+                        {
+                        // the requests are satisfied, top up the pre-fetch queue if it is running low
+                        readAhead(nChannel);
+                        }
                     // go around again, more requests have come in
                     receiveInternal(queueRequest, cBatch);
                     }
@@ -1267,6 +1277,168 @@ public class PagedTopicSubscriber<V>
             }
         }
 
+    /**
+     * Asynchronously poll the head page of a channel, adding the polled
+     * elements to the pre-fetch queue.
+     *
+     * @param nChannel    the channel to poll
+     * @param fReadAhead  {@code true} if this is a read-ahead poll
+     *
+     * @return a {@link CompletableFuture} that completes when the poll
+     *         result has been processed
+     */
+    private CompletableFuture<PollProcessor.Result> poll(int nChannel, boolean fReadAhead)
+        {
+        PagedTopicChannel channel  = m_aChannel[nChannel];
+        long              lVersion = channel.getVersion();
+        long              lHead    = channel.m_lHead == PagedTopicChannel.HEAD_UNKNOWN
+                                            ? getSubscriptionHead(channel) : channel.m_lHead;
+
+        int nPart = ((PartitionedService) m_caches.Subscriptions.getCacheService())
+                            .getKeyPartitioningStrategy()
+                            .getKeyPartition(new Page.Key(nChannel, lHead));
+
+        return InvocableMapHelper.invokeAsync(m_caches.Subscriptions,
+                                       new Subscription.Key(nPart, nChannel, f_subscriberGroupId), m_caches.getUnitOfOrder(nPart),
+                                       new PollProcessor(lHead, Integer.MAX_VALUE, f_nNotificationId, f_id),
+                                       f_executor,
+                                       (result, e) ->
+                                           {
+                                           if (fReadAhead && e == null && f_readAhead.getPrefetchedBytes() > 0)
+                                               {
+                                               // the consumer did not drain the pre-fetch queue while the
+                                               // read-ahead was in flight, so it is reading too far ahead
+                                               f_readAhead.decrease(m_caches.getDependencies().getMaxBatchSizeBytes());
+                                               }
+                                           onReceiveResult(channel, lVersion, lHead, result, e);
+                                           });
+        }
+
+    /**
+     * Issue a read-ahead poll of the specified channel if the pre-fetch
+     * queue holds less than the current read-ahead target and no other
+     * read-ahead poll is in flight.
+     * <p>
+     * This method must only be called by the thread running the receive loop.
+     *
+     * @param nChannel  the channel to poll
+     */
+    private void readAhead(int nChannel)
+        {
+        ReadAhead readAhead = f_readAhead;
+        if (readAhead.isBelowTarget() && isActive() && !m_aChannel[nChannel].isEmpty() && readAhead.start())
+            {
+            poll(nChannel, true).handleAsync((r, e) ->
+                    {
+                    if (e != null)
+                        {
+                        Logger.err(e);
+                        }
+
+                    if (readAhead.finish())
+                        {
+                        // the receive loop was parked waiting for this poll, resume it
+                        trigger(1);
+                        }
+                    else if (f_queueReceiveOrders.size() > 0)
+                        {
+                        f_queueReceiveOrders.triggerOperations();
+                        }
+                    return null;
+                    }, f_daemon::executeTask);
+            }
+        }
+
+    /**
+     * Determine whether the receive loop may poll the topic, or whether it
+     * must wait for an in-flight read-ahead poll to complete first, so that
+     * only one poll per subscriber is ever in flight and elements are added
+     * to the pre-fetch queue in order.
+     * <p>
+     * If this method returns {@code false} the receive loop will be resumed
+     * when the read-ahead poll completes.
+     *
+     * @return {@code true} if the receive loop can poll the topic
+     */
+    private boolean awaitReadAhead()
+        {
+        return f_readAhead.await();
+        }
+
+    /**
+     * Determine whether the specified batch of requests contains a seek
+     * request that will be executed before the next receive request.
+     *
+     * @param queueBatch  the current batch of requests
+     *
+     * @return {@code true} if a seek request is pending
+     */
+    private boolean isSeekPending(LinkedList<Request> queueBatch)
+        {
+        for (Request request : queueBatch)
+            {
+            if (request instanceof SeekRequest)
+                {
+                return true;
+                }
+            if (!(request instanceof FunctionalRequest))
+                {
+                return false;
+                }
+            }
+        return false;
+        }
+
+    /**
+     * Return the number of bytes used by an element in the pre-fetch queue.
+     *
+     * @param element  the element
+     *
+     * @return the number of bytes used by the element
+     */
+    private long getPrefetchSize(CommittableElement element)
+        {
+        return element == null || element.isEmpty() ? 0L : element.getBinaryValue().length();
+        }
+
+    /**
+     * Poll an element from the head of the pre-fetch queue.
+     *
+     * @return the polled element, or {@code null} if the queue is empty
+     */
+    private CommittableElement pollPrefetched()
+        {
+        CommittableElement element = m_queueValuesPrefetched.poll();
+        f_readAhead.removed(getPrefetchSize(element));
+        return element;
+        }
+
+    /**
+     * Return an element polled by {@link #pollPrefetched()} to the head of
+     * the pre-fetch queue.
+     *
+     * @param element  the element to return
+     */
+    private void returnPrefetched(CommittableElement element)
+        {
+        f_readAhead.added(getPrefetchSize(element));
+        m_queueValuesPrefetched.offerFirst(element);
+        }
+
+    /**
+     * Recalculate the number of bytes held in the pre-fetch queue after
+     * elements have been removed in bulk.
+     */
+    private void resetPrefetchedBytes()
+        {
+        long cb = 0L;
+        for (CommittableElement element : m_queueValuesPrefetched)
+            {
+            cb += getPrefetchSize(element);
+            }
+        f_readAhead.reset(cb);
+        }
+
     /**
      * Returns the initial head page.
      *
@@ -1373,7 +1545,7 @@ public class PagedTopicSubscriber<V>
                                 LinkedList<CommittableElement> list = new LinkedList<>();
                                 for (int i = 0; i < cElement && !queuePrefetched.isEmpty(); i++)
                                     {
-                                    element = queuePrefetched.poll();
+                                    element = pollPrefetched();
                                     // ensure we still own the channel
                                     if (element != null && !element.isEmpty() && isOwner(element.getChannel()))
                                         {
@@ -1389,14 +1561,14 @@ public class PagedTopicSubscriber<V>
                                     CommittableElement e;
                                     while ((e = list.pollLast()) != null)
                                         {
-                                        queuePrefetched.offerFirst(e);
+                                        returnPrefetched(e);
                                         }
                                     }
                                 }
                             else
                                 {
                                 // this is a single request, i.e subscriber.receive();
-                                element = queuePrefetched.poll();
+                                element = pollPrefetched();
                                 // ensure we still own the channel
                                 if (element != null && !element.isEmpty() && isOwner(element.getChannel()))
                                     {
@@ -1406,7 +1578,7 @@ public class PagedTopicSubscriber<V>
                                         {
                                         // failed to complete the future, it could have been cancelled
                                         // push the element back on the queue
-                                        queuePrefetched.offerFirst(element);
+                                        returnPrefetched(element);
                                         }
                                     }
                                 }
@@ -1551,6 +1723,7 @@ public class PagedTopicSubscriber<V>
             }
 
         m_queueValuesPrefetched.removeIf(e -> e.getChannel() == nChannel);
+        resetPrefetchedBytes();
         return seekPosition;
         }
 
@@ -2138,6 +2311,7 @@ public class PagedTopicSubscriber<V>
                                 }
                             // clear out the pre-fetch queue because we have no idea what we'll get on reconnection
                             m_queueValuesPrefetched.clear();
+                            resetPrefetchedBytes();
 
                             PagedTopicDependencies  dependencies = m_caches.getDependencies();
                             long                    cWaitMillis  = dependencies.getReconnectWaitMillis();
@@ -2651,9 +2825,13 @@ public class PagedTopicSubscriber<V>
                     channel.adjustPolls(cReceived);
 
                     // add the received elements to the pre-fetch queue
-                    queueValues.stream()
-                            .map(bin -> new CommittableElement(bin, nChannel))
-                            .forEach(m_queueValuesPrefetched::add);
+                    long cbReceived = 0L;
+                    for (Binary binValue : queueValues)
+                        {
+                        m_queueValuesPrefetched.add(new CommittableElement(binValue, nChannel));
+                        cbReceived += binValue.length();
+                        }
+                    f_readAhead.added(cbReceived);
 
                     if (!m_queueValuesPrefetched.isEmpty())
                         {
@@ -3325,6 +3503,12 @@ public class PagedTopicSubscriber<V>
             return m_element.getBinaryValue();
             }
 
+        @Override
+        public ReadBuffer getReadBuffer()
+            {
+            return m_element.getReadBuffer();
+            }
+
         @Override
         public int getChannel()
             {
@@ -3875,6 +4059,226 @@ public class PagedTopicSubscriber<V>
         private final Lock m_lock = new ReentrantLock();
         }
 
+    // ----- inner class: ReadAhead ----------------------------------------
+
+    /**
+     * The read-ahead state of a subscriber.
+     * <p>
+     * The read-ahead target is the number of bytes the subscriber tries to
+     * keep in its pre-fetch queue ahead of the application's receive
+     * requests. The target grows each time the application empties the
+     * pre-fetch queue and shrinks each time a read-ahead poll completes
+     * before the queue is drained, so it adapts to the rate the application
+     * consumes elements, bounded by a configured maximum. At most one
+     * read-ahead poll is in flight at a time.
+     */
+    protected static class ReadAhead
+        {
+        /**
+         * Create a {@link ReadAhead}.
+         *
+         * @param cbMax  the maximum read-ahead target, zero disables read-ahead
+         */
+        protected ReadAhead(long cbMax)
+            {
+            f_cbMax = Math.max(0L, cbMax);
+            }
+
+        /**
+         * Return {@code true} if read-ahead is enabled.
+         *
+         * @return {@code true} if read-ahead is enabled
+         */
+        protected boolean isEnabled()
+            {
+            return f_cbMax > 0L;
+            }
+
+        /**
+         * Return the current read-ahead target.
+         *
+         * @return the current read-ahead target
+         */
+        protected long getTarget()
+            {
+            return f_cbTarget.get();
+            }
+
+        /**
+         * Return the number of bytes held in the pre-fetch queue.
+         *
+         * @return the number of bytes held in the pre-fetch queue
+         */
+        protected long getPrefetchedBytes()
+            {
+            return f_cbPrefetched.get();
+            }
+
+        /**
+         * Return {@code true} if the pre-fetch queue holds less than the
+         * read-ahead target.
+         *
+         * @return {@code true} if the pre-fetch queue holds less than the
+         *         read-ahead target
+         */
+        protected boolean isBelowTarget()
+            {
+            return f_cbPrefetched.get() < f_cbTarget.get();
+            }
+
+        /**
+         * Increase the read-ahead target after the consumer has emptied the
+         * pre-fetch queue.
+         *
+         * @param cbBatch  the size of a poll batch
+         */
+        protected void increase(long cbBatch)
+            {
+            long cbMax = f_cbMax;
+            if (cbMax > 0L)
+                {
+                f_cbTarget.updateAndGet(cb -> Math.min(cbMax, Math.max(cb * 2, cbBatch)));
+                }
+            }
+
+        /**
+         * Decrease the read-ahead target after a read-ahead poll was not needed.
+         *
+         * @param cbBatch  the size of a poll batch
+         */
+        protected void decrease(long cbBatch)
+            {
+            f_cbTarget.updateAndGet(cb -> Math.max(0L, cb - cbBatch));
+            }
+
+        /**
+         * Record bytes added to the pre-fetch queue.
+         *
+         * @param cb  the number of bytes added
+         */
+        protected void added(long cb)
+            {
+            f_cbPrefetched.addAndGet(cb);
+            }
+
+        /**
+         * Record bytes removed from the pre-fetch queue.
+         *
+         * @param cb  the number of bytes removed
+         */
+        protected void removed(long cb)
+            {
+            f_cbPrefetched.addAndGet(-cb);
+            }
+
+        /**
+         * Reset the number of bytes held in the pre-fetch queue.
+         *
+         * @param cb  the number of bytes held in the pre-fetch queue
+         */
+        protected void reset(long cb)
+            {
+            f_cbPrefetched.set(cb);
+            }
+
+        /**
+         * Return {@code true} if a read-ahead poll is in flight.
+         *
+         * @return {@code true} if a read-ahead poll is in flight
+         */
+        protected boolean isInFlight()
+            {
+            return f_nState.get() != STATE_NONE;
+            }
+
+        /**
+         * Mark a read-ahead poll as in flight.
+         *
+         * @return {@code true} if the caller may issue the read-ahead poll,
+         *         or {@code false} if another read-ahead poll is in flight
+         */
+        protected boolean start()
+            {
+            return f_nState.compareAndSet(STATE_NONE, STATE_IN_FLIGHT);
+            }
+
+        /**
+         * Mark the in-flight read-ahead poll as complete.
+         *
+         * @return {@code true} if the receive loop was waiting for the poll
+         *         to complete and must be resumed
+         */
+        protected boolean finish()
+            {
+            return f_nState.getAndSet(STATE_NONE) == STATE_WAITING;
+            }
+
+        /**
+         * Determine whether the receive loop may continue, or whether it
+         * must wait for the in-flight read-ahead poll to complete.
+         * <p>
+         * If this method returns {@code false} the caller will be resumed
+         * by the thread that calls {@link #finish()}.
+         *
+         * @return {@code true} if the receive loop may continue
+         */
+        protected boolean await()
+            {
+            while (true)
+                {
+                int nState = f_nState.get();
+                if (nState == STATE_NONE)
+                    {
+                    return true;
+                    }
+                if (nState == STATE_WAITING || f_nState.compareAndSet(STATE_IN_FLIGHT, STATE_WAITING))
+                    {
+                    return false;
+                    }
+                }
+            }
+
+        // ----- constants --------------------------------------------------
+
+        /**
+         * The state indicating that no read-ahead poll is in flight.
+         */
+        protected static final int STATE_NONE = 0;
+
+        /**
+         * The state indicating that a read-ahead poll is in flight.
+         */
+        protected static final int STATE_IN_FLIGHT = 1;
+
+        /**
+         * The state indicating that a read-ahead poll is in flight and the
+         * receive loop is waiting for it to complete.
+         */
+        protected static final int STATE_WAITING = 2;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The maximum read-ahead target.
+         */
+        private final long f_cbMax;
+
+        /**
+         * The current read-ahead target.
+         */
+        private final AtomicLong f_cbTarget = new AtomicLong();
+
+        /**
+         * The approximate number of bytes held in the pre-fetch queue.
+         */
+        private final AtomicLong f_cbPrefetched = new AtomicLong();
+
+        /**
+         * The state of the read-ahead poll.
+         */
+        private final AtomicInteger f_nState = new AtomicInteger(STATE_NONE);
+        }
+
     // ----- inner class: FlushMode ----------------------------------------
 
     enum FlushMode
@@ -4623,6 +5027,13 @@ public class PagedTopicSubscriber<V>
      */
     public static final long INIT_TIMEOUT_SECS = TimeUnit.MILLISECONDS.toSeconds(Base.parseTime(Config.getProperty("coherence.topic.subscriber.init.timeout", "30s"), Base.UNIT_S));
 
+    /**
+     * The name of the property that sets the maximum number of bytes a
+     * subscriber will read ahead into its pre-fetch queue. Read-ahead is
+     * disabled unless this property is set to a positive size.
+     */
+    public static final String PROP_READ_AHEAD_MAX = "coherence.topic.subscriber.readahead.max";
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -4732,6 +5143,11 @@ public class PagedTopicSubscriber<V>
      */
     protected final ConcurrentLinkedDeque<CommittableElement> m_queueValuesPrefetched = new ConcurrentLinkedDeque<>();
 
+    /**
+     * The read-ahead state of this subscriber.
+     */
+    private final ReadAhead f_readAhead = new ReadAhead(Base.parseMemorySize(Config.getProperty(PROP_READ_AHEAD_MAX, "0")));
+
     /**
      * Queue of pending receive awaiting values.
      */
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.util.Filter;
+
+import java.util.Objects;
+
+import java.util.function.Function;
+
+/**
+ * The filter and converter last used to poll a subscription in a channel
+ * of a partition.
+ * <p>
+ * The filter and converter of a subscription are deserialized with the
+ * subscription on every poll. Reusing the instances from the previous poll
+ * allows any state they cache, such as resolved reflection targets, to be
+ * kept across polls.
+ * <p>
+ * A cache is only accessed while the {@link com.tangosol.internal.net.topic.impl.paged.model.Subscription}
+ * entry for its partition, channel and subscriber group is locked, so it
+ * is not thread safe and its instances are never used by two threads at
+ * the same time.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class SubscriptionCache
+    {
+    /**
+     * Return the cached filter if it is equal to the specified filter,
+     * otherwise cache and return the specified filter.
+     *
+     * @param filter  the filter of the subscription
+     *
+     * @return the filter to use to poll the subscription
+     */
+    @SuppressWarnings("rawtypes")
+    public Filter getFilter(Filter filter)
+        {
+        if (!Objects.equals(m_filter, filter))
+            {
+            m_filter = filter;
+            }
+        return m_filter;
+        }
+
+    /**
+     * Return the cached converter if it is equal to the specified converter,
+     * otherwise cache and return the specified converter.
+     *
+     * @param fnConvert  the converter of the subscription
+     *
+     * @return the converter to use to poll the subscription
+     */
+    @SuppressWarnings("rawtypes")
+    public Function getConverter(Function fnConvert)
+        {
+        if (!Objects.equals(m_fnConvert, fnConvert))
+            {
+            m_fnConvert = fnConvert;
+            }
+        return m_fnConvert;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The cached filter.
+     */
+    @SuppressWarnings("rawtypes")
+    private Filter m_filter;
+
+    /**
+     * The cached converter.
+     */
+    @SuppressWarnings("rawtypes")
+    private Function m_fnConvert;
+    }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged.agent;
+
+import com.tangosol.internal.net.topic.impl.paged.PagedTopicPartition;
+import com.tangosol.internal.net.topic.impl.paged.model.Usage;
+
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+
+import java.io.IOException;
+
+import java.util.function.Function;
+
+/**
+ * This entry processor compacts a newly sealed page of a channel in a
+ * partition of a key-compacted topic.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class CompactProcessor
+        extends AbstractPagedTopicProcessor<Usage.Key, Usage, Integer>
+        implements EvolvablePortableObject
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Default constructor for serialization.
+     */
+    public CompactProcessor()
+        {
+        super(PagedTopicPartition::ensureTopic);
+        }
+
+    /**
+     * Create a {@link CompactProcessor}.
+     *
+     * @param lPage  the id of the page that has been sealed
+     */
+    public CompactProcessor(long lPage)
+        {
+        this(lPage, PagedTopicPartition::ensureTopic);
+        }
+
+    /**
+     * Create a {@link CompactProcessor}.
+     *
+     * @param lPage     the id of the page that has been sealed
+     * @param supplier  the {@link Function} to use to provide a {@link PagedTopicPartition} instance
+     */
+    protected CompactProcessor(long lPage, Function<BinaryEntry<Usage.Key, Usage>, PagedTopicPartition> supplier)
+        {
+        super(supplier);
+
+        m_lPage = lPage;
+        }
+
+    /**
+     * Return the id of the page that has been sealed.
+     *
+     * @return the id of the page that has been sealed
+     */
+    public long getPage()
+        {
+        return m_lPage;
+        }
+
+    // ----- AbstractProcessor methods --------------------------------------
+
+    @Override
+    public Integer process(InvocableMap.Entry<Usage.Key, Usage> entry)
+        {
+        return ensureTopic(entry).compact(entry.getKey().getChannelId(), m_lPage);
+        }
+
+    // ----- EvolvablePortableObject interface ------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return DATA_VERSION;
+        }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        m_lPage = in.readLong(0);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        out.writeLong(0, m_lPage);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * {@link EvolvablePortableObject} data version of this class.
+     */
+    public static final int DATA_VERSION = 1;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The id of the page that has been sealed.
+     */
+    protected long m_lPage;
+    }
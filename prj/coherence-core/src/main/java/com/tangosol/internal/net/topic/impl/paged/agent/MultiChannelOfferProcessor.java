@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged.agent;
+
+import com.tangosol.internal.net.topic.impl.paged.PagedTopicPartition;
+import com.tangosol.internal.net.topic.impl.paged.model.Page;
+
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.function.Function;
+
+/**
+ * An entry processor that offers elements to the tail pages of a number of
+ * channels in a single request.
+ * <p>
+ * The processor is invoked against the set of page keys it holds elements
+ * for, and offers each page only the elements for that page, in the same
+ * way as an {@link OfferProcessor}. The service groups the keys by owning
+ * member, so offers from many channels cost one request per member.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class MultiChannelOfferProcessor
+        extends AbstractPagedTopicProcessor<Page.Key, Page, OfferProcessor.Result>
+        implements EvolvablePortableObject
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Default constructor for serialization.
+     */
+    public MultiChannelOfferProcessor()
+        {
+        super(PagedTopicPartition::ensureTopic);
+        }
+
+    /**
+     * Create a {@link MultiChannelOfferProcessor}.
+     *
+     * @param mapElements      the elements to offer, keyed by the page to offer them to
+     * @param nNotifyPostFull  the key on which to notify once the topic is no longer full, or zero for none
+     */
+    public MultiChannelOfferProcessor(Map<Page.Key, List<Binary>> mapElements, int nNotifyPostFull)
+        {
+        this(mapElements, nNotifyPostFull, PagedTopicPartition::ensureTopic);
+        }
+
+    /**
+     * Create a {@link MultiChannelOfferProcessor}.
+     *
+     * @param mapElements      the elements to offer, keyed by the page to offer them to
+     * @param nNotifyPostFull  the key on which to notify once the topic is no longer full, or zero for none
+     * @param supplier         the {@link Function} to use to provide a
+     *                         {@link PagedTopicPartition} instance
+     */
+    protected MultiChannelOfferProcessor(Map<Page.Key, List<Binary>> mapElements, int nNotifyPostFull,
+                                         Function<BinaryEntry<Page.Key, Page>, PagedTopicPartition> supplier)
+        {
+        super(supplier);
+
+        m_mapElements     = mapElements;
+        m_nNotifyPostFull = nNotifyPostFull;
+        }
+
+    // ----- AbstractProcessor methods --------------------------------------
+
+    @Override
+    public OfferProcessor.Result process(InvocableMap.Entry<Page.Key, Page> entry)
+        {
+        List<Binary>   listElements = m_mapElements.get(entry.getKey());
+        OfferProcessor processor    = new OfferProcessor(listElements, m_nNotifyPostFull, false);
+
+        return ensureTopic(entry).offerToPageTail((BinaryEntry<Page.Key, Page>) entry, processor);
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the elements to offer, keyed by the page to offer them to.
+     *
+     * @return the elements to offer, keyed by the page to offer them to
+     */
+    public Map<Page.Key, List<Binary>> getElements()
+        {
+        return m_mapElements;
+        }
+
+    /**
+     * Return the key on which to notify once the topic is no longer full.
+     *
+     * @return the key on which to notify once the topic is no longer full, or zero for none
+     */
+    public int getNotifyPostFull()
+        {
+        return m_nNotifyPostFull;
+        }
+
+    // ----- EvolvablePortableObject interface ------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return DATA_VERSION;
+        }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void readExternal(PofReader in)
+            throws IOException
+        {
+        Map<Page.Key, Collection<Binary>> mapRead     = in.readMap(0, new HashMap<>());
+        Map<Page.Key, List<Binary>>       mapElements = new HashMap<>();
+
+        for (Map.Entry<Page.Key, Collection<Binary>> entry : mapRead.entrySet())
+            {
+            mapElements.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+
+        m_mapElements     = mapElements;
+        m_nNotifyPostFull = in.readInt(1);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out)
+            throws IOException
+        {
+        out.writeMap(0, m_mapElements, Page.Key.class);
+        out.writeInt(1, m_nNotifyPostFull);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * {@link EvolvablePortableObject} data version of this class.
+     */
+    public static final int DATA_VERSION = 1;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The elements to offer, keyed by the page to offer them to.
+     */
+    private Map<Page.Key, List<Binary>> m_mapElements;
+
+    /**
+     * The post full notifier.
+     */
+    private int m_nNotifyPostFull;
+    }
@@ -1,8 +1,8 @@
 /*
- * Copyright (c) 2000, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.internal.net.topic.impl.paged.model;
 
@@ -97,12 +97,18 @@ public class PageElement<V>
 
     @Override
     public Binary getBinaryValue()
+        {
+        return getReadBuffer().toBinary();
+        }
+
+    @Override
+    public ReadBuffer getReadBuffer()
         {
         if (m_binUndecorated == null)
             {
             m_binUndecorated = ExternalizableHelper.undecorate(m_binValue, DECO_RSVD_1);
             }
-        return m_binUndecorated.toBinary();
+        return m_binUndecorated;
         }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -68,4 +68,49 @@ public class VirtualThreads
         {
         return false;
         }
+
+    /**
+     * Return {@code true} if each task submitted to the specified service's
+     * thread pool should be executed on its own virtual thread.
+     *
+     * @param sServiceName  the name of the service to check
+     *
+     * @return {@code true} if the service should use a virtual thread per task;
+     *         {@code false} otherwise
+     */
+    public static boolean isPerTaskEnabled(String sServiceName)
+        {
+        return false;
+        }
+
+    /**
+     * Return the maximum number of tasks the specified service may concurrently
+     * execute on their own virtual threads.
+     *
+     * @param sServiceName  the name of the service
+     *
+     * @return the maximum number of concurrent virtual thread tasks
+     */
+    public static int getPerTaskLimit(String sServiceName)
+        {
+        return 0;
+        }
+
+    /**
+     * Ensure that virtual threads which are pinned to their carrier thread for
+     * longer than the configured threshold are reported.
+     */
+    public static void ensurePinnedMonitor()
+        {
+        }
+
+    /**
+     * Return the number of times a virtual thread has been reported as pinned.
+     *
+     * @return the number of pinned virtual thread reports
+     */
+    public static long getPinnedCount()
+        {
+        return 0L;
+        }
     }
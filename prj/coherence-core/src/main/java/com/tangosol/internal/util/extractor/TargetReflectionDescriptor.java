@@ -1,19 +1,32 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.internal.util.extractor;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.tangosol.util.Base.azzert;
 
 /**
  * Immutable descriptor of reflection computation of a target.
  * This descriptor enables very fast reference based matching in a homogeneous cache.
+ * <p>
+ * The resolved method is invoked through a {@link MethodHandle} adapted to a
+ * generic signature, which avoids the per-call access checks and argument
+ * handling of {@link Method#invoke}. Handles are cached per target class, so
+ * that the many extractor instances created by deserialization share them.
  *
  * @author jf 2016.08.12
  *
@@ -43,8 +56,10 @@ public class TargetReflectionDescriptor
     public TargetReflectionDescriptor(Class clz, Method method)
         {
         azzert(method != null || Map.class.isAssignableFrom(clz));
-        f_clz    = clz;
-        f_method = method;
+        f_clz       = clz;
+        f_method    = method;
+        f_handle    = method == null ? null : ensureHandle(clz, method);
+        f_fNoParams = method == null || method.getParameterCount() == 0;
         }
 
     // ----- TargetReflectionDescriptor methods ---------------------------------------
@@ -69,6 +84,59 @@ public class TargetReflectionDescriptor
         return f_method;
         }
 
+    /**
+     * Invoke the resolved method against the specified target.
+     * <p>
+     * The exception semantics are those of {@link Method#invoke}; an
+     * exception thrown by the method itself is wrapped into an
+     * {@link InvocationTargetException}, while a target or arguments that do
+     * not match the method result in an {@link IllegalArgumentException}.
+     *
+     * @param oTarget  the target to invoke the method on
+     * @param aoParam  the method arguments; may be {@code null}
+     *
+     * @return the result of the method invocation
+     *
+     * @throws InvocationTargetException  if the invoked method throws
+     * @throws IllegalAccessException     if the method is inaccessible
+     * @throws IllegalArgumentException   if the target is not an instance of
+     *                                    the method's class, or the arguments
+     *                                    do not match its parameters
+     */
+    public Object invoke(Object oTarget, Object[] aoParam)
+            throws InvocationTargetException, IllegalAccessException
+        {
+        MethodHandle handle = f_handle;
+        if (handle == null)
+            {
+            return f_method.invoke(oTarget, aoParam);
+            }
+
+        if (f_fNoParams && aoParam != null && aoParam.length != 0)
+            {
+            throw new IllegalArgumentException("wrong number of arguments: "
+                    + aoParam.length + " expected: 0");
+            }
+
+        try
+            {
+            return f_fNoParams
+                   ? (Object) handle.invokeExact(oTarget)
+                   : (Object) handle.invokeExact(oTarget, aoParam);
+            }
+        catch (ClassCastException | WrongMethodTypeException | IllegalArgumentException | NullPointerException e)
+            {
+            // the handle performs the target and argument conversions itself,
+            // so determine whether the exception was caused by the caller
+            checkArguments(oTarget, aoParam);
+            throw new InvocationTargetException(e);
+            }
+        catch (Throwable e)
+            {
+            throw new InvocationTargetException(e);
+            }
+        }
+
     /**
      * Is this descriptor for a {@link Map}.
      *
@@ -79,6 +147,140 @@ public class TargetReflectionDescriptor
         return f_clz != null && f_method == null;
         }
 
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Validate the target and arguments of an invocation of the resolved
+     * method, as {@link Method#invoke} does.
+     *
+     * @param oTarget  the target to invoke the method on
+     * @param aoParam  the method arguments; may be {@code null}
+     *
+     * @throws NullPointerException      if the target is null
+     * @throws IllegalArgumentException  if the target is not an instance of
+     *                                   the method's class, or the arguments
+     *                                   do not match its parameters
+     */
+    protected void checkArguments(Object oTarget, Object[] aoParam)
+        {
+        Method method = f_method;
+        if (oTarget == null)
+            {
+            throw new NullPointerException("target is null");
+            }
+        if (!method.getDeclaringClass().isInstance(oTarget))
+            {
+            throw new IllegalArgumentException("object of type " + oTarget.getClass().getName()
+                    + " is not an instance of " + method.getDeclaringClass().getName());
+            }
+
+        Class<?>[] aclzParam = method.getParameterTypes();
+        int        cParams   = aoParam == null ? 0 : aoParam.length;
+        if (cParams != aclzParam.length)
+            {
+            throw new IllegalArgumentException("wrong number of arguments: "
+                    + cParams + " expected: " + aclzParam.length);
+            }
+
+        for (int i = 0; i < cParams; i++)
+            {
+            Class<?> clzParam = aclzParam[i];
+            Object   oParam   = aoParam[i];
+            if (clzParam.isPrimitive()
+                ? oParam == null || !isConvertible(oParam.getClass(), clzParam)
+                : oParam != null && !clzParam.isInstance(oParam))
+                {
+                throw new IllegalArgumentException("argument type mismatch at index " + i);
+                }
+            }
+        }
+
+    /**
+     * Determine whether a value of the specified wrapper class can be passed
+     * as the specified primitive parameter, using an unboxing conversion
+     * optionally followed by a widening primitive conversion.
+     *
+     * @param clzValue  the class of the argument value
+     * @param clzParam  the primitive parameter type
+     *
+     * @return true if the value can be passed as the parameter
+     */
+    private static boolean isConvertible(Class<?> clzValue, Class<?> clzParam)
+        {
+        try
+            {
+            MethodHandles.identity(clzParam).asType(MethodType.methodType(clzParam, clzValue));
+            return true;
+            }
+        catch (WrongMethodTypeException e)
+            {
+            return false;
+            }
+        }
+
+    /**
+     * Return a {@link MethodHandle} for the specified method, adapted to
+     * either the {@code (Object)Object} signature for a method without
+     * parameters, or to the {@code (Object, Object[])Object} signature.
+     *
+     * @param clz     the target class
+     * @param method  the method
+     *
+     * @return the adapted MethodHandle, or null if the method can only be
+     *         invoked reflectively
+     */
+    protected static MethodHandle ensureHandle(Class<?> clz, Method method)
+        {
+        MethodHandle handle = s_mapHandles.get(clz).computeIfAbsent(method, TargetReflectionDescriptor::createHandle);
+        return handle == NO_HANDLE ? null : handle;
+        }
+
+    /**
+     * Create an adapted {@link MethodHandle} for the specified method.
+     *
+     * @param method  the method
+     *
+     * @return the adapted MethodHandle, or {@link #NO_HANDLE} if the method
+     *         can only be invoked reflectively
+     */
+    private static MethodHandle createHandle(Method method)
+        {
+        try
+            {
+            MethodHandle handle  = MethodHandles.lookup().unreflect(method);
+            int          cParams = method.getParameterCount();
+
+            return cParams == 0
+                   ? handle.asType(MethodType.methodType(Object.class, Object.class))
+                   : handle.asSpreader(Object[].class, cParams)
+                           .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+            }
+        catch (IllegalAccessException | RuntimeException e)
+            {
+            // fall back to reflection (e.g. for methods in non-open modules)
+            return NO_HANDLE;
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * A marker for methods that must be invoked reflectively.
+     */
+    private static final MethodHandle NO_HANDLE = MethodHandles.constant(Object.class, null);
+
+    /**
+     * The cache of adapted method handles, per target class.
+     */
+    private static final ClassValue<Map<Method, MethodHandle>> s_mapHandles = new ClassValue<>()
+        {
+        @Override
+        protected Map<Method, MethodHandle> computeValue(Class<?> clz)
+            {
+            return new ConcurrentHashMap<>();
+            }
+        };
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -91,4 +293,15 @@ public class TargetReflectionDescriptor
      * If null, {@link #f_clz} must be assignable to a {@link Map}.
      */
     final private Method f_method;
+
+    /**
+     * The adapted handle for {@link #f_method}, or null if the method must
+     * be invoked reflectively.
+     */
+    final private MethodHandle f_handle;
+
+    /**
+     * True iff {@link #f_method} does not take any parameters.
+     */
+    final private boolean f_fNoParams;
     }
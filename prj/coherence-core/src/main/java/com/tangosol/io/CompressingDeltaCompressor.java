@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io;
+
+
+import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryWriteBuffer;
+
+import java.io.IOException;
+
+
+/**
+ * A DeltaCompressor that compresses the deltas produced by another
+ * DeltaCompressor using a {@link CompressionCodec}.
+ * <p>
+ * Deltas shorter than the configured threshold, and deltas that do not
+ * shrink when compressed, are passed through as-is. The delta format is
+ * composed of a leading byte that indicates whether the remainder of the
+ * delta is compressed:
+ * <pre>
+ * CompressedDelta:
+ *   FMT_PLAIN Delta
+ *   FMT_COMPRESSED CompressedBytes
+ *   null
+ *
+ * Delta:
+ *   Binary (as returned by the underlying DeltaCompressor)
+ * </pre>
+ * This compressor may be configured as a cache &lt;compressor&gt; using an
+ * &lt;instance&gt; declaration with the codec name as the single init-param.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class CompressingDeltaCompressor
+        implements DeltaCompressor
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a CompressingDeltaCompressor that compresses the output of
+     * the standard decorated binary delta compressor using the named codec.
+     *
+     * @param sCodec  the name of the {@link CompressionCodec} to use
+     */
+    public CompressingDeltaCompressor(String sCodec)
+        {
+        this(new DecoratedBinaryDeltaCompressor(new BinaryDeltaCompressor()),
+             CompressionCodec.ensureCodec(sCodec, null), DEFAULT_THRESHOLD);
+        }
+
+    /**
+     * Construct a CompressingDeltaCompressor.
+     *
+     * @param compressor   the DeltaCompressor that produces the deltas
+     * @param codec        the codec used to compress the deltas
+     * @param cbThreshold  the minimum delta size to attempt compression for
+     */
+    public CompressingDeltaCompressor(DeltaCompressor compressor, CompressionCodec codec, int cbThreshold)
+        {
+        Base.azzert(compressor != null, "DeltaCompressor is required");
+        Base.azzert(codec != null, "CompressionCodec is required");
+
+        m_compressor  = compressor;
+        m_codec       = codec;
+        m_cbThreshold = cbThreshold;
+        }
+
+
+    // ----- DeltaCompressor interface --------------------------------------
+
+    @Override
+    public ReadBuffer extractDelta(ReadBuffer bufOld, ReadBuffer bufNew)
+        {
+        ReadBuffer bufDelta = m_compressor.extractDelta(bufOld, bufNew);
+        if (bufDelta == null)
+            {
+            return null;
+            }
+
+        int cbDelta = bufDelta.length();
+        if (cbDelta >= m_cbThreshold)
+            {
+            Binary binCompressed = m_codec.compress(bufDelta);
+            if (binCompressed.length() < cbDelta)
+                {
+                return prefix(FMT_COMPRESSED, binCompressed);
+                }
+            }
+
+        return prefix(FMT_PLAIN, bufDelta);
+        }
+
+    @Override
+    public ReadBuffer applyDelta(ReadBuffer bufOld, ReadBuffer bufDelta)
+        {
+        if (bufDelta == null)
+            {
+            return bufOld;
+            }
+
+        ReadBuffer bufBody = bufDelta.getReadBuffer(1, bufDelta.length() - 1);
+        switch (bufDelta.byteAt(0))
+            {
+            case FMT_PLAIN:
+                break;
+
+            case FMT_COMPRESSED:
+                bufBody = m_codec.decompress(bufBody);
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown delta format ("
+                        + Base.toHexEscape(bufDelta.byteAt(0)) + ")");
+            }
+
+        return m_compressor.applyDelta(bufOld, bufBody);
+        }
+
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the DeltaCompressor that produces the deltas.
+     *
+     * @return the underlying DeltaCompressor
+     */
+    public DeltaCompressor getDeltaCompressor()
+        {
+        return m_compressor;
+        }
+
+    /**
+     * Return the CompressionCodec used to compress the deltas.
+     *
+     * @return the CompressionCodec
+     */
+    public CompressionCodec getCodec()
+        {
+        return m_codec;
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Prepend the specified format indicator to a buffer.
+     *
+     * @param bFmt  the format indicator
+     * @param buf   the buffer
+     *
+     * @return a Binary consisting of the format indicator followed by the
+     *         buffer content
+     */
+    protected static Binary prefix(byte bFmt, ReadBuffer buf)
+        {
+        try
+            {
+            BinaryWriteBuffer        bufOut = new BinaryWriteBuffer(buf.length() + 1);
+            WriteBuffer.BufferOutput out    = bufOut.getBufferOutput();
+            out.writeByte(bFmt);
+            out.writeBuffer(buf);
+            return bufOut.toBinary();
+            }
+        catch (IOException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+        }
+
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "CompressingDeltaCompressor {" + m_compressor + ", " + m_codec + "}";
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * A format indicator (the first byte of the delta) that indicates that
+     * the delta is not compressed.
+     */
+    public static final byte FMT_PLAIN      = 0x00;
+
+    /**
+     * A format indicator (the first byte of the delta) that indicates that
+     * the delta is compressed.
+     */
+    public static final byte FMT_COMPRESSED = 0x01;
+
+    /**
+     * The default minimum delta size to attempt compression for.
+     */
+    public static final int DEFAULT_THRESHOLD = 128;
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The DeltaCompressor that produces the deltas.
+     */
+    private final DeltaCompressor m_compressor;
+
+    /**
+     * The codec used to compress the deltas.
+     */
+    private final CompressionCodec m_codec;
+
+    /**
+     * The minimum delta size to attempt compression for.
+     */
+    private final int m_cbThreshold;
+    }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io;
+
+
+import com.tangosol.util.Binary;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+
+/**
+ * A CompressionCodec provides both block (buffer-to-buffer) and streaming
+ * compression for a single compression algorithm.
+ * <p>
+ * Codecs are identified by {@link #getName() name}. The JDK based
+ * {@link DeflateCompressionCodec "deflate"} and {@link #NONE "none"} codecs
+ * are always available; additional codecs (for example LZ4 or Zstandard
+ * bindings) may be plugged in by registering a CompressionCodec
+ * implementation with the {@link ServiceLoader}, and are then selectable by
+ * name wherever a codec name is accepted, such as the
+ * {@link com.tangosol.net.CompressionFilter} and the
+ * {@link CompressingDeltaCompressor}.
+ * <p>
+ * CompressionCodec implementations must be thread-safe.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public interface CompressionCodec
+    {
+    /**
+     * Return the name of this codec.
+     *
+     * @return the codec name
+     */
+    String getName();
+
+    /**
+     * Compress the content of the specified buffer.
+     *
+     * @param buf  the buffer to compress
+     *
+     * @return a Binary containing the compressed content
+     */
+    Binary compress(ReadBuffer buf);
+
+    /**
+     * Decompress the content of the specified buffer, which must have been
+     * produced by {@link #compress(ReadBuffer)} of an equivalently
+     * configured codec.
+     *
+     * @param buf  the buffer to decompress
+     *
+     * @return a Binary containing the decompressed content
+     */
+    Binary decompress(ReadBuffer buf);
+
+    /**
+     * Return an InputStream that decompresses the content of the passed
+     * InputStream.
+     *
+     * @param stream  the InputStream to be wrapped
+     *
+     * @return a decompressing InputStream
+     */
+    InputStream getInputStream(InputStream stream);
+
+    /**
+     * Return an OutputStream that compresses the content written to it into
+     * the passed OutputStream.
+     *
+     * @param stream  the OutputStream to be wrapped
+     *
+     * @return a compressing OutputStream
+     */
+    OutputStream getOutputStream(OutputStream stream);
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the CompressionCodec with the specified name.
+     * <p>
+     * The built-in codecs are resolved first; any other name is resolved
+     * against the CompressionCodec implementations discoverable by the
+     * {@link ServiceLoader} using the specified ClassLoader.
+     *
+     * @param sName   the codec name
+     * @param loader  the ClassLoader to use to discover codecs, or null to
+     *                use the context ClassLoader
+     *
+     * @return the CompressionCodec with the specified name
+     *
+     * @throws IllegalArgumentException if no codec with the specified name
+     *         is discoverable
+     */
+    static CompressionCodec ensureCodec(String sName, ClassLoader loader)
+        {
+        String sCodec = sName == null ? "" : sName.trim();
+        if (sCodec.isEmpty() || sCodec.equalsIgnoreCase(DeflateCompressionCodec.NAME))
+            {
+            return DeflateCompressionCodec.INSTANCE;
+            }
+        if (sCodec.equalsIgnoreCase(NONE.getName()))
+            {
+            return NONE;
+            }
+
+        Iterator<CompressionCodec> iter = ServiceLoader.load(CompressionCodec.class,
+                loader == null ? Thread.currentThread().getContextClassLoader() : loader).iterator();
+        while (iter.hasNext())
+            {
+            CompressionCodec codec = iter.next();
+            if (sCodec.equalsIgnoreCase(codec.getName()))
+                {
+                return codec;
+                }
+            }
+
+        throw new IllegalArgumentException("Cannot find a compression codec named '" + sCodec + "'");
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * A CompressionCodec that does not perform any compression.
+     */
+    CompressionCodec NONE = new CompressionCodec()
+        {
+        @Override
+        public String getName()
+            {
+            return "none";
+            }
+
+        @Override
+        public Binary compress(ReadBuffer buf)
+            {
+            return buf.toBinary();
+            }
+
+        @Override
+        public Binary decompress(ReadBuffer buf)
+            {
+            return buf.toBinary();
+            }
+
+        @Override
+        public InputStream getInputStream(InputStream stream)
+            {
+            return stream;
+            }
+
+        @Override
+        public OutputStream getOutputStream(OutputStream stream)
+            {
+            return stream;
+            }
+
+        @Override
+        public String toString()
+            {
+            return "CompressionCodec{none}";
+            }
+        };
+    }
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io;
+
+
+import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryWriteBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.ByteBuffer;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+
+/**
+ * A {@link CompressionCodec} based on the JDK {@link Deflater} and
+ * {@link Inflater}.
+ * <p>
+ * The block format produced by {@link #compress(ReadBuffer)} is the
+ * uncompressed length as a packed integer followed by the zlib stream, which
+ * allows {@link #decompress(ReadBuffer)} to inflate directly into an exactly
+ * sized result.
+ * <p>
+ * The codec may be configured with a preset dictionary, which considerably
+ * improves the compression ratio of small messages that share common content
+ * (such as POF type identifiers and property names). The dictionary is only
+ * applied to block compression, and both sides must use the same dictionary.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class DeflateCompressionCodec
+        implements CompressionCodec
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a DeflateCompressionCodec using the default compression level
+     * and strategy.
+     */
+    public DeflateCompressionCodec()
+        {
+        this(Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY, null);
+        }
+
+    /**
+     * Construct a DeflateCompressionCodec.
+     *
+     * @param nLevel        the compression level, one of the Deflater
+     *                      level constants or a value between 0 and 9
+     * @param nStrategy     the Deflater compression strategy
+     * @param abDictionary  the optional preset dictionary
+     */
+    public DeflateCompressionCodec(int nLevel, int nStrategy, byte[] abDictionary)
+        {
+        m_nLevel       = nLevel;
+        m_nStrategy    = nStrategy;
+        m_abDictionary = abDictionary == null || abDictionary.length == 0
+                         ? null : abDictionary.clone();
+        }
+
+
+    // ----- CompressionCodec interface -------------------------------------
+
+    @Override
+    public String getName()
+        {
+        return NAME;
+        }
+
+    @Override
+    public Binary compress(ReadBuffer buf)
+        {
+        int      cb       = buf.length();
+        Deflater deflater = m_tloDeflater.get();
+        try
+            {
+            BinaryWriteBuffer        bufOut = new BinaryWriteBuffer(Math.max(64, (cb >>> 1) + 16));
+            WriteBuffer.BufferOutput out    = bufOut.getBufferOutput();
+            out.writePackedInt(cb);
+
+            deflater.reset();
+            if (m_abDictionary != null)
+                {
+                deflater.setDictionary(m_abDictionary);
+                }
+            deflater.setInput(buf.toByteBuffer());
+            deflater.finish();
+
+            byte[] ab = new byte[Math.min(Math.max(cb, 64), MAX_CHUNK)];
+            while (!deflater.finished())
+                {
+                int cbChunk = deflater.deflate(ab);
+                out.write(ab, 0, cbChunk);
+                }
+
+            return bufOut.toBinary();
+            }
+        catch (IOException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+        }
+
+    @Override
+    public Binary decompress(ReadBuffer buf)
+        {
+        Inflater inflater = m_tloInflater.get();
+        try
+            {
+            ReadBuffer.BufferInput in   = buf.getBufferInput();
+            int                    cb   = in.readPackedInt();
+            int                    of   = in.getOffset();
+            int                    cbIn = buf.length() - of;
+
+            // the length is read off the wire; validate it against the
+            // maximum deflate ratio before allocating the result
+            if (cb < 0 || cb > (long) cbIn * MAX_RATIO)
+                {
+                throw new IllegalStateException("Compressed content is corrupt; "
+                        + cbIn + " bytes cannot inflate to " + cb + " bytes");
+                }
+
+            byte[] ab   = new byte[cb];
+            int    ofAb = 0;
+
+            inflater.reset();
+            inflater.setInput(buf.toByteBuffer(of, cbIn));
+            while (ofAb < cb)
+                {
+                int cbChunk = inflater.inflate(ab, ofAb, cb - ofAb);
+                if (cbChunk == 0)
+                    {
+                    if (inflater.needsDictionary())
+                        {
+                        if (m_abDictionary == null)
+                            {
+                            throw new IllegalStateException(
+                                    "Compressed content requires a preset dictionary");
+                            }
+                        inflater.setDictionary(m_abDictionary);
+                        }
+                    else if (inflater.finished() || inflater.needsInput())
+                        {
+                        throw new IllegalStateException("Compressed content is truncated; expected "
+                                + cb + " bytes but inflated " + ofAb);
+                        }
+                    }
+                ofAb += cbChunk;
+                }
+
+            return new Binary(ab);
+            }
+        catch (IOException | DataFormatException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+        }
+
+    @Override
+    public InputStream getInputStream(InputStream stream)
+        {
+        // the stream owns its default Inflater and ends it on close
+        return new InflaterInputStream(stream);
+        }
+
+    @Override
+    public OutputStream getOutputStream(OutputStream stream)
+        {
+        return new DeflaterStream(stream, instantiateDeflater());
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create a Deflater configured with this codec's level and strategy.
+     *
+     * @return a new Deflater
+     */
+    protected Deflater instantiateDeflater()
+        {
+        Deflater deflater = new Deflater(m_nLevel);
+        if (m_nStrategy != Deflater.DEFAULT_STRATEGY)
+            {
+            deflater.setStrategy(m_nStrategy);
+            }
+        return deflater;
+        }
+
+
+    // ----- inner class: DeflaterStream ------------------------------------
+
+    /**
+     * A DeflaterOutputStream which releases its Deflater when closed.
+     */
+    protected static class DeflaterStream
+            extends DeflaterOutputStream
+        {
+        /**
+         * Construct a DeflaterStream.
+         *
+         * @param stream    the underlying stream
+         * @param deflater  the Deflater, owned by this stream
+         */
+        protected DeflaterStream(OutputStream stream, Deflater deflater)
+            {
+            super(stream, deflater);
+            }
+
+        @Override
+        public void close()
+                throws IOException
+            {
+            try
+                {
+                super.close();
+                }
+            finally
+                {
+                def.end();
+                }
+            }
+        }
+
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "DeflateCompressionCodec{level=" + m_nLevel
+               + ", strategy=" + m_nStrategy
+               + ", dictionary=" + (m_abDictionary == null ? 0 : m_abDictionary.length)
+               + '}';
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The name of this codec.
+     */
+    public static final String NAME = "deflate";
+
+    /**
+     * The default DeflateCompressionCodec instance.
+     */
+    public static final DeflateCompressionCodec INSTANCE = new DeflateCompressionCodec();
+
+    /**
+     * The maximum size of the intermediate buffer used by block compression.
+     */
+    private static final int MAX_CHUNK = 64 * 1024;
+
+    /**
+     * The maximum ratio of the inflated to the deflated length of a zlib
+     * stream; a deflate block encodes at most 258 bytes per 2 bits.
+     */
+    private static final int MAX_RATIO = 1032;
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The compression level.
+     */
+    private final int m_nLevel;
+
+    /**
+     * The compression strategy.
+     */
+    private final int m_nStrategy;
+
+    /**
+     * The optional preset dictionary.
+     */
+    private final byte[] m_abDictionary;
+
+    /**
+     * Per-thread Deflater used for block compression; Deflater instances
+     * hold native memory and are expensive to create.
+     */
+    private final ThreadLocal<Deflater> m_tloDeflater = ThreadLocal.withInitial(this::instantiateDeflater);
+
+    /**
+     * Per-thread Inflater used for block decompression.
+     */
+    private final ThreadLocal<Inflater> m_tloInflater = ThreadLocal.withInitial(Inflater::new);
+    }
@@ -0,0 +1,874 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io.pof;
+
+
+import com.tangosol.io.ReadBuffer;
+
+import com.tangosol.io.pof.reflect.internal.TypeMetadata;
+import com.tangosol.io.pof.reflect.internal.TypeMetadata.AttributeMetadata;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.time.Duration;
+import java.time.Period;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+
+/**
+ * An implementation of PofHandler that transcodes a POF stream directly into
+ * JSON text, without deserializing the intermediate Java objects.
+ * <p>
+ * The produced JSON uses the following mapping:
+ * <ul>
+ *   <li>user types are written as objects with an {@code "@type"} property
+ *       containing the type identifier (or the class name, if a
+ *       {@link PofContext} is available and recognizes the type), a
+ *       {@code "@version"} property, and one property per POF property;
+ *       properties are named by attribute name if the type is serialized
+ *       by a {@link PofAnnotationSerializer} registered with the
+ *       PofContext, and by their index otherwise;</li>
+ *   <li>collections and arrays are written as arrays;</li>
+ *   <li>sparse arrays are written as objects keyed by the element index;</li>
+ *   <li>maps are written as arrays of {@code {"key": ..., "value": ...}}
+ *       objects, as POF map keys are not restricted to strings;</li>
+ *   <li>octet strings are written as Base64 strings; dates and times as
+ *       strings in the format used by {@link PofHelper}; intervals as
+ *       ISO-8601 duration strings (see {@link Duration#toString()} and
+ *       {@link Period#toString()}); non-finite floating point values as
+ *       strings;</li>
+ *   <li>identities are written as an {@code "@id"} property of the
+ *       identified user type, or, for any other identified value, as a
+ *       {@code {"@id": id, "@value": ...}} wrapper; references to them are
+ *       written as {@code {"@ref": id}}.</li>
+ * </ul>
+ * The handler holds no state beyond the current nesting of the value being
+ * transcoded, so a separate instance may be used per value to transcode
+ * many values concurrently.
+ * <p>
+ * The REST {@code PofJsonMarshaller} uses this handler to return the entries
+ * of caches that use POF as JSON without deserializing them.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class JsonPofHandler
+        extends PofHelper
+        implements PofHandler
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+    * Construct a JsonPofHandler that writes JSON to the specified Writer.
+    *
+    * @param writer  the Writer to write JSON to
+    */
+    public JsonPofHandler(Writer writer)
+        {
+        this(writer, null);
+        }
+
+    /**
+    * Construct a JsonPofHandler that writes JSON to the specified Writer,
+    * using the specified PofContext to resolve user type class names.
+    *
+    * @param writer  the Writer to write JSON to
+    * @param ctx     the PofContext to use to resolve user type class names;
+    *                may be null
+    */
+    public JsonPofHandler(Writer writer, PofContext ctx)
+        {
+        azzert(writer != null, "Writer is required");
+
+        m_writer = writer;
+        m_ctx    = ctx;
+        }
+
+
+    // ----- public API -----------------------------------------------------
+
+    /**
+    * Transcode the specified POF value into JSON.
+    * <p>
+    * The passed buffer may be the result of serializing a value using a
+    * PofContext, optionally decorated.
+    *
+    * @param buf     the POF-encoded value
+    * @param ctx     the PofContext to use to resolve user type class names;
+    *                may be null
+    * @param writer  the Writer to write JSON to
+    */
+    public static void toJson(ReadBuffer buf, PofContext ctx, Writer writer)
+        {
+        buf = ExternalizableHelper.getUndecorated(buf);
+        if (buf.length() > 0 && buf.byteAt(0) == ExternalizableHelper.FMT_EXT)
+            {
+            buf = buf.getReadBuffer(1, buf.length() - 1);
+            }
+
+        JsonPofHandler handler = new JsonPofHandler(writer, ctx);
+        new PofParser(handler).parse(buf.getBufferInput());
+        handler.flush();
+        }
+
+    /**
+    * Transcode the specified POF value into a JSON String.
+    *
+    * @param buf  the POF-encoded value
+    * @param ctx  the PofContext to use to resolve user type class names;
+    *             may be null
+    *
+    * @return the JSON representation of the value
+    */
+    public static String toJson(ReadBuffer buf, PofContext ctx)
+        {
+        StringWriter writer = new StringWriter(Math.max(16, buf.length() * 2));
+        toJson(buf, ctx, writer);
+        return writer.toString();
+        }
+
+
+    // ----- PofHandler interface -------------------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public void registerIdentity(int nId)
+        {
+        m_nId = nId;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onNullReference(int iPos)
+        {
+        writeValue(iPos, "null");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onIdentityReference(int iPos, int nId)
+        {
+        writeValue(iPos, "{\"@ref\":" + nId + '}');
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onInt16(int iPos, short n)
+        {
+        writeValue(iPos, String.valueOf(n));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onInt32(int iPos, int n)
+        {
+        writeValue(iPos, String.valueOf(n));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onInt64(int iPos, long n)
+        {
+        writeValue(iPos, String.valueOf(n));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onInt128(int iPos, BigInteger n)
+        {
+        writeValue(iPos, n.toString());
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onFloat32(int iPos, float fl)
+        {
+        writeValue(iPos, Float.isFinite(fl) ? String.valueOf(fl) : quote(String.valueOf(fl)));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onFloat64(int iPos, double dfl)
+        {
+        writeValue(iPos, Double.isFinite(dfl) ? String.valueOf(dfl) : quote(String.valueOf(dfl)));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onFloat128(int iPos, RawQuad qfl)
+        {
+        onFloat64(iPos, qfl.doubleValue());
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onDecimal32(int iPos, BigDecimal dec)
+        {
+        writeValue(iPos, dec.toString());
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onDecimal64(int iPos, BigDecimal dec)
+        {
+        writeValue(iPos, dec.toString());
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onDecimal128(int iPos, BigDecimal dec)
+        {
+        writeValue(iPos, dec.toString());
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onBoolean(int iPos, boolean f)
+        {
+        writeValue(iPos, f ? "true" : "false");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onOctet(int iPos, int b)
+        {
+        writeValue(iPos, String.valueOf(b));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onOctetString(int iPos, Binary bin)
+        {
+        writeValue(iPos, '"' + Base64.getEncoder().encodeToString(bin.toByteArray()) + '"');
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onChar(int iPos, char ch)
+        {
+        writeValue(iPos, quote(String.valueOf(ch)));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onCharString(int iPos, String s)
+        {
+        writeValue(iPos, quote(s));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onDate(int iPos, int nYear, int nMonth, int nDay)
+        {
+        writeValue(iPos, quote(formatDate(nYear, nMonth, nDay)));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onYearMonthInterval(int iPos, int cYears, int cMonths)
+        {
+        writeValue(iPos, quote(Period.of(cYears, cMonths, 0).toString()));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onTime(int iPos, int nHour, int nMinute, int nSecond,
+            int nNano, boolean fUTC)
+        {
+        writeValue(iPos, quote(formatTime(nHour, nMinute, nSecond, nNano, fUTC)));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onTime(int iPos, int nHour, int nMinute, int nSecond,
+            int nNano, int nHourOffset, int nMinuteOffset)
+        {
+        writeValue(iPos, quote(formatTime(nHour, nMinute, nSecond, nNano,
+                nHourOffset, nMinuteOffset)));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onTimeInterval(int iPos, int cHours, int cMinutes,
+            int cSeconds, int cNanos)
+        {
+        writeValue(iPos, quote(Duration.ofHours(cHours).plusMinutes(cMinutes)
+                .plusSeconds(cSeconds).plusNanos(cNanos).toString()));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onDateTime(int iPos, int nYear, int nMonth, int nDay,
+            int nHour, int nMinute, int nSecond, int nNano, boolean fUTC)
+        {
+        writeValue(iPos, quote(formatDate(nYear, nMonth, nDay) + 'T'
+                + formatTime(nHour, nMinute, nSecond, nNano, fUTC)));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onDateTime(int iPos, int nYear, int nMonth, int nDay,
+            int nHour, int nMinute, int nSecond, int nNano,
+            int nHourOffset, int nMinuteOffset)
+        {
+        writeValue(iPos, quote(formatDate(nYear, nMonth, nDay) + 'T'
+                + formatTime(nHour, nMinute, nSecond, nNano,
+                             nHourOffset, nMinuteOffset)));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void onDayTimeInterval(int iPos, int cDays, int cHours,
+            int cMinutes, int cSeconds, int cNanos)
+        {
+        writeValue(iPos, quote(Duration.ofDays(cDays).plusHours(cHours).plusMinutes(cMinutes)
+                .plusSeconds(cSeconds).plusNanos(cNanos).toString()));
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginCollection(int iPos, int cElements)
+        {
+        begin(iPos, CTX_ARRAY, "[");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginUniformCollection(int iPos, int cElements, int nType)
+        {
+        begin(iPos, CTX_ARRAY, "[");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginArray(int iPos, int cElements)
+        {
+        begin(iPos, CTX_ARRAY, "[");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginUniformArray(int iPos, int cElements, int nType)
+        {
+        begin(iPos, CTX_ARRAY, "[");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginSparseArray(int iPos, int cElements)
+        {
+        begin(iPos, CTX_OBJECT, "{");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginUniformSparseArray(int iPos, int cElements, int nType)
+        {
+        begin(iPos, CTX_OBJECT, "{");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginMap(int iPos, int cElements)
+        {
+        begin(iPos, CTX_MAP, "[");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginUniformKeysMap(int iPos, int cElements, int nTypeKeys)
+        {
+        begin(iPos, CTX_MAP, "[");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginUniformMap(int iPos, int cElements,
+                                int nTypeKeys, int nTypeValues)
+        {
+        begin(iPos, CTX_MAP, "[");
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void beginUserType(int iPos, int nUserTypeId, int nVersionId)
+        {
+        int nId = m_nId;
+
+        StringBuilder sb = new StringBuilder("{");
+        if (nId >= 0)
+            {
+            sb.append("\"@id\":").append(nId).append(',');
+            }
+        sb.append("\"@type\":").append(getTypeName(nUserTypeId))
+          .append(",\"@version\":").append(nVersionId);
+
+        // the identity is written as a property of the user type itself
+        m_nId = -1;
+        begin(iPos, CTX_OBJECT, sb.toString());
+
+        // the type and version are already written
+        int nDepth = m_nDepth;
+        m_acValues[nDepth] = 1;
+        m_aasName[nDepth]  = getPropertyNames(nUserTypeId);
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void endComplexValue()
+        {
+        int nDepth = m_nDepth;
+        azzert(nDepth > 0, "endComplexValue() without a matching begin");
+
+        write(m_anContext[nDepth] == CTX_OBJECT ? "}" : "]");
+        if (m_afIdentity[nDepth])
+            {
+            // close the identity wrapper
+            write("}");
+            }
+        m_aasName[nDepth] = null;
+        m_nDepth = nDepth - 1;
+        endValue();
+        }
+
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+    * Obtain the Writer that JSON is written to.
+    *
+    * @return the Writer
+    */
+    public Writer getWriter()
+        {
+        return m_writer;
+        }
+
+    /**
+    * Obtain the PofContext used to resolve user type class names.
+    *
+    * @return the PofContext, or null
+    */
+    public PofContext getPofContext()
+        {
+        return m_ctx;
+        }
+
+    /**
+    * Flush the underlying Writer.
+    */
+    public void flush()
+        {
+        try
+            {
+            m_writer.flush();
+            }
+        catch (IOException e)
+            {
+            throw ensureRuntimeException(e);
+            }
+        }
+
+
+    // ----- internal -------------------------------------------------------
+
+    /**
+    * Write a simple value at the specified position.
+    *
+    * @param iPos   the position of the value
+    * @param sJson  the JSON representation of the value
+    */
+    protected void writeValue(int iPos, String sJson)
+        {
+        int nId = m_nId;
+        beginValue(iPos);
+        write(nId >= 0 ? "{\"@id\":" + nId + ",\"@value\":" + sJson + '}' : sJson);
+        endValue();
+        }
+
+    /**
+    * Begin a complex value at the specified position.
+    *
+    * @param iPos      the position of the value
+    * @param nContext  the JSON context type of the complex value
+    * @param sJson     the JSON text that opens the complex value
+    */
+    protected void begin(int iPos, int nContext, String sJson)
+        {
+        int nId = m_nId;
+        beginValue(iPos);
+        if (nId >= 0)
+            {
+            write("{\"@id\":" + nId + ",\"@value\":");
+            }
+        write(sJson);
+
+        int nDepth = ++m_nDepth;
+        if (nDepth == m_anContext.length)
+            {
+            m_anContext  = Arrays.copyOf(m_anContext,  nDepth * 2);
+            m_acValues   = Arrays.copyOf(m_acValues,   nDepth * 2);
+            m_afIdentity = Arrays.copyOf(m_afIdentity, nDepth * 2);
+            m_aasName    = Arrays.copyOf(m_aasName,    nDepth * 2);
+            }
+        m_anContext[nDepth]  = nContext;
+        m_acValues[nDepth]   = 0;
+        m_afIdentity[nDepth] = nId >= 0;
+        }
+
+    /**
+    * Write the separator and property name (if any) that precede a value at
+    * the specified position within the current complex value.
+    *
+    * @param iPos  the position of the value
+    */
+    protected void beginValue(int iPos)
+        {
+        m_nId = -1;
+
+        int nDepth = m_nDepth;
+        if (nDepth == 0)
+            {
+            return;
+            }
+
+        int c = m_acValues[nDepth];
+        switch (m_anContext[nDepth])
+            {
+            case CTX_ARRAY:
+                if (c > 0)
+                    {
+                    write(",");
+                    }
+                break;
+
+            case CTX_OBJECT:
+                {
+                String[] asName = m_aasName[nDepth];
+                String   sName  = asName != null && iPos >= 0 && iPos < asName.length
+                                  ? asName[iPos] : null;
+                write((c > 0 ? "," : "") + (sName == null ? "\"" + iPos + '"' : quote(sName)) + ':');
+                }
+                break;
+
+            case CTX_MAP:
+                if ((c & 1) == 0)
+                    {
+                    write(c > 0 ? ",{\"key\":" : "{\"key\":");
+                    }
+                else
+                    {
+                    write(",\"value\":");
+                    }
+                break;
+            }
+        }
+
+    /**
+    * Account for a value that has been completely written to the current
+    * complex value.
+    */
+    protected void endValue()
+        {
+        int nDepth = m_nDepth;
+        if (nDepth > 0)
+            {
+            int c = ++m_acValues[nDepth];
+            if (m_anContext[nDepth] == CTX_MAP && (c & 1) == 0)
+                {
+                // close the map entry after its value
+                write("}");
+                }
+            }
+        }
+
+    /**
+    * Determine the JSON representation of the specified user type.
+    *
+    * @param nTypeId  the user type identifier
+    *
+    * @return the quoted class name if known, otherwise the type identifier
+    */
+    protected String getTypeName(int nTypeId)
+        {
+        PofContext ctx = m_ctx;
+        if (ctx != null)
+            {
+            try
+                {
+                String sClass = ctx.getClassName(nTypeId);
+                if (sClass != null)
+                    {
+                    return quote(sClass);
+                    }
+                }
+            catch (IllegalArgumentException e)
+                {
+                // unknown type; fall through
+                }
+            }
+        return String.valueOf(nTypeId);
+        }
+
+    /**
+    * Determine the property names of the specified user type, indexed by
+    * property index.
+    *
+    * @param nTypeId  the user type identifier
+    *
+    * @return the property names, or null if the properties of the type are
+    *         to be named by their index
+    */
+    protected String[] getPropertyNames(int nTypeId)
+        {
+        PofContext ctx = m_ctx;
+        if (ctx == null)
+            {
+            return null;
+            }
+
+        Map<Integer, String[]> mapNames = m_mapNames;
+        if (mapNames == null)
+            {
+            m_mapNames = mapNames = new HashMap<>();
+            }
+        else if (mapNames.containsKey(nTypeId))
+            {
+            return mapNames.get(nTypeId);
+            }
+
+        String[] asName = null;
+        try
+            {
+            PofSerializer serializer = ctx.getPofSerializer(nTypeId);
+            if (serializer instanceof PofAnnotationSerializer)
+                {
+                TypeMetadata<?> tmd = ((PofAnnotationSerializer<?>) serializer).getTypeMetadata();
+                if (tmd != null)
+                    {
+                    asName = new String[0];
+                    for (Iterator<? extends AttributeMetadata<?>> iter = tmd.getAttributes(); iter.hasNext(); )
+                        {
+                        AttributeMetadata<?> attr = iter.next();
+                        int                  i    = attr.getIndex();
+                        if (i >= 0)
+                            {
+                            if (i >= asName.length)
+                                {
+                                asName = Arrays.copyOf(asName, i + 1);
+                                }
+                            asName[i] = attr.getName();
+                            }
+                        }
+                    }
+                }
+            }
+        catch (IllegalArgumentException e)
+            {
+            // unknown type; name the properties by index
+            }
+
+        mapNames.put(nTypeId, asName);
+        return asName;
+        }
+
+    /**
+    * Write the specified text to the underlying Writer.
+    *
+    * @param s  the text to write
+    */
+    protected void write(String s)
+        {
+        try
+            {
+            m_writer.write(s);
+            }
+        catch (IOException e)
+            {
+            throw ensureRuntimeException(e);
+            }
+        }
+
+    /**
+    * Quote and escape the specified String as a JSON string.
+    *
+    * @param s  the String to quote
+    *
+    * @return the JSON string
+    */
+    protected static String quote(String s)
+        {
+        int           cch = s.length();
+        StringBuilder sb  = new StringBuilder(cch + 2).append('"');
+        for (int i = 0; i < cch; ++i)
+            {
+            char ch = s.charAt(i);
+            switch (ch)
+                {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                default:
+                    if (ch < 0x20)
+                        {
+                        sb.append("\\u00").append(HEX[ch >> 4]).append(HEX[ch & 0xF]);
+                        }
+                    else
+                        {
+                        sb.append(ch);
+                        }
+                }
+            }
+        return sb.append('"').toString();
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+    * Context type of a complex value written as a JSON array.
+    */
+    protected static final int CTX_ARRAY  = 0;
+
+    /**
+    * Context type of a complex value written as a JSON object keyed by
+    * position.
+    */
+    protected static final int CTX_OBJECT = 1;
+
+    /**
+    * Context type of a POF map, written as a JSON array of key/value
+    * objects.
+    */
+    protected static final int CTX_MAP    = 2;
+
+    /**
+    * Hex digits.
+    */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+    * The Writer that JSON is written to.
+    */
+    private final Writer m_writer;
+
+    /**
+    * The optional PofContext used to resolve user type class names.
+    */
+    private final PofContext m_ctx;
+
+    /**
+    * The current complex value nesting depth; 0 outside of any complex
+    * value.
+    */
+    private int m_nDepth;
+
+    /**
+    * The context type of each complex value, indexed by depth.
+    */
+    private int[] m_anContext = new int[8];
+
+    /**
+    * The number of values written to each complex value, indexed by depth.
+    */
+    private int[] m_acValues = new int[8];
+
+    /**
+    * Whether each complex value is wrapped with its identity, indexed by
+    * depth.
+    */
+    private boolean[] m_afIdentity = new boolean[8];
+
+    /**
+    * The property names of each user type value, indexed by depth; null for
+    * values whose properties are named by index.
+    */
+    private String[][] m_aasName = new String[8][];
+
+    /**
+    * The property names of the user types encountered, keyed by type id,
+    * lazily created.
+    */
+    private Map<Integer, String[]> m_mapNames;
+
+    /**
+    * The pending identity for the next value, or -1.
+    */
+    private int m_nId = -1;
+    }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io.pof;
+
+
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.ReadBuffer.BufferInput;
+
+import java.io.IOException;
+
+
+/**
+ * A {@link PofDeltaCompressor} that computes deltas at the granularity of
+ * user type properties.
+ * <p>
+ * Rather than parsing and comparing every value within both POF streams,
+ * each property of a user type is skipped over as an opaque value and the
+ * encoded bytes of the old and new property are compared as a whole; only
+ * properties that are themselves user types of the same type are descended
+ * into. The delta for a small field update inside a large object therefore
+ * consists of the encoded replacement of the changed properties only, while
+ * avoiding the cost of decoding the unchanged ones.
+ * <p>
+ * The produced delta uses the standard binary delta format, and can thus be
+ * applied by any {@link com.tangosol.io.BinaryDeltaCompressor}.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class PofPropertyDeltaCompressor
+        extends PofDeltaCompressor
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Default constructor.
+     */
+    public PofPropertyDeltaCompressor()
+        {
+        }
+
+
+    // ----- internal -------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void diffUserType(BufferInput inOld,
+                                BufferInput inNew,
+                                ChangeTracker tracker)
+            throws IOException
+        {
+        // version id
+        diffPackedInt(inOld, inNew, tracker);
+
+        while (true)
+            {
+            // might have to back up if the property indexes don't match
+            inOld.mark(5);
+            inNew.mark(5);
+
+            int nNextOld = inOld.readPackedInt();
+            int nNextNew = inNew.readPackedInt();
+            if (nNextOld == nNextNew)
+                {
+                tracker.advance(true);
+
+                if (nNextOld == -1)
+                    {
+                    // end of the user type (both indexes are -1)
+                    break;
+                    }
+
+                diffProperty(inOld, inNew, tracker);
+                }
+            else
+                {
+                // a property was added or removed; see diffSparseArray()
+                BufferInput inReset, inSkip;
+                if (nNextOld == -1 || (nNextOld > nNextNew && nNextNew != -1))
+                    {
+                    inReset = inOld;
+                    inSkip  = inNew;
+                    }
+                else
+                    {
+                    inReset = inNew;
+                    inSkip  = inOld;
+                    }
+                inReset.reset();
+                PofHelper.skipValue(inSkip);
+                tracker.advance(false);
+                }
+            }
+        }
+
+    /**
+     * Within the two passed POF streams, compare the value of a single user
+     * type property.
+     * <p>
+     * If both values are user types of the same type, the comparison
+     * descends into the nested user type; otherwise the two encoded values
+     * are compared as opaque byte sequences.
+     *
+     * @param inOld    the BufferInput to read from
+     * @param inNew    the BufferInput to read from
+     * @param tracker  the ChangeTracker that computes the diff result
+     *
+     * @throws IOException  if an I/O error occurs
+     */
+    protected void diffProperty(BufferInput inOld,
+                                BufferInput inNew,
+                                ChangeTracker tracker)
+            throws IOException
+        {
+        int ofOld = inOld.getOffset();
+        int ofNew = inNew.getOffset();
+
+        inOld.mark(5);
+        inNew.mark(5);
+        int nOldType = inOld.readPackedInt();
+        int nNewType = inNew.readPackedInt();
+        inOld.reset();
+        inNew.reset();
+
+        if (nOldType >= 0 && nOldType == nNewType)
+            {
+            diffValue(inOld, inNew, tracker);
+            }
+        else
+            {
+            PofHelper.skipValue(inOld);
+            PofHelper.skipValue(inNew);
+
+            int cbOld = inOld.getOffset() - ofOld;
+            int cbNew = inNew.getOffset() - ofNew;
+
+            ReadBuffer bufOld = inOld.getBuffer();
+            ReadBuffer bufNew = inNew.getBuffer();
+            tracker.advance(cbOld == cbNew
+                    && bufOld.getReadBuffer(ofOld, cbOld).equals(bufNew.getReadBuffer(ofNew, cbNew)));
+            }
+        }
+    }
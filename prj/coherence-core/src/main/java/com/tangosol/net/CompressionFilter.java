@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -8,6 +8,8 @@
 package com.tangosol.net;
 
 
+import com.tangosol.io.CompressionCodec;
+import com.tangosol.io.DeflateCompressionCodec;
 import com.tangosol.io.WrapperStreamFactory;
 
 import com.tangosol.run.xml.XmlConfigurable;
@@ -29,6 +31,10 @@ import java.util.zip.InflaterInputStream;
 
 /**
 * Provides a compression wrapper for an InputStream and OutputStream.
+* <p>
+* In addition to the built-in deflate and gzip strategies, a "codec" element
+* may name any {@link CompressionCodec} discoverable by the ServiceLoader,
+* in which case the codec's streams are used instead.
 *
 * @deprecated  As of Coherence 3.7
 *
@@ -51,6 +57,12 @@ public class CompressionFilter
     */
     public InputStream getInputStream(InputStream stream)
         {
+        CompressionCodec codec = m_codec;
+        if (codec != null)
+            {
+            return codec.getInputStream(stream);
+            }
+
         int cbBuffer = m_cbBuffer;
         if (m_fGzip)
             {
@@ -98,6 +110,12 @@ public class CompressionFilter
     */
     public OutputStream getOutputStream(OutputStream stream)
         {
+        CompressionCodec codec = m_codec;
+        if (codec != null)
+            {
+            return codec.getOutputStream(stream);
+            }
+
         int cbBuffer = m_cbBuffer;
         if (m_fGzip)
             {
@@ -177,6 +195,12 @@ public class CompressionFilter
             m_cbBuffer = xml.getSafeElement("buffer-length").getInt(m_cbBuffer);
             m_fGzip    = false;
 
+            // determine whether a pluggable codec (e.g. lz4 or zstd) is
+            // used instead of the built-in deflate/gzip streams
+            String sCodec = xml.getSafeElement("codec").getString("").trim();
+            m_codec = sCodec.isEmpty() || sCodec.equalsIgnoreCase(DeflateCompressionCodec.NAME)
+                      ? null : CompressionCodec.ensureCodec(sCodec, Base.getContextClassLoader());
+
             // determine compression strategy (& whether to use GZIP)
             String sStrategy = xml.getSafeElement("strategy").getString("gzip");
             if (sStrategy.equals("default"))
@@ -392,4 +416,10 @@ public class CompressionFilter
     * True if using GZIP, false otherwise.
     */
     private boolean m_fGzip;
+
+    /**
+    * The pluggable codec to use instead of the built-in deflate/gzip
+    * streams, or null.
+    */
+    private CompressionCodec m_codec;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -10,6 +10,9 @@ package com.tangosol.net;
 import com.tangosol.net.queue.QueueStatistics;
 import com.tangosol.util.ObservableCollection;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 
 /**
@@ -72,4 +75,58 @@ public interface NamedQueue<E>
      * @return the identifier for the inserted element, or {@link Long#MIN_VALUE} if the element could not be inserted
      */
     long append(E e);
+
+    /**
+     * Insert all the specified elements, in order, to the tail of this
+     * {@link NamedQueue}.
+     * <p>
+     * Implementations backed by a cache insert all the elements in a single
+     * request, and either insert all the elements or none of them.
+     *
+     * @param col  the elements to insert
+     *
+     * @return {@code true} if the elements were inserted
+     *
+     * @since 24.09
+     */
+    default boolean offerAll(Collection<? extends E> col)
+        {
+        for (E e : col)
+            {
+            if (!offer(e))
+                {
+                return false;
+                }
+            }
+        return true;
+        }
+
+    /**
+     * Retrieve and remove up to the specified number of elements from the
+     * head of this {@link NamedQueue}.
+     * <p>
+     * Implementations backed by a cache remove all the elements in a single
+     * request.
+     *
+     * @param cMax  the maximum number of elements to remove
+     *
+     * @return the removed elements, in queue order, or an empty list if
+     *         this queue is empty
+     *
+     * @since 24.09
+     */
+    default List<E> poll(int cMax)
+        {
+        List<E> list = new ArrayList<>();
+        for (int i = 0; i < cMax; i++)
+            {
+            E e = poll();
+            if (e == null)
+                {
+                break;
+                }
+            list.add(e);
+            }
+        return list;
+        }
     }
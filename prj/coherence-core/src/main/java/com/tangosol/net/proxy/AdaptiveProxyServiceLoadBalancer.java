@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.proxy;
+
+import com.tangosol.net.Member;
+
+import com.tangosol.util.Base;
+
+import java.util.Comparator;
+import java.util.Map;
+
+
+/**
+ * A ProxyServiceLoadBalancer which balances client connections based upon
+ * how each ProxyService Member is coping with its load, rather than upon the
+ * number of connections alone.
+ * <p>
+ * The <i>pressure</i> on a Member is the greatest of its 99th percentile
+ * request latency relative to a target latency, its incoming message backlog
+ * per daemon thread, and its daemon pool utilization. A Member at its
+ * connection limit is considered saturated. New connections are redirected to
+ * the Member under the least pressure; Members under equal pressure are
+ * ordered by connection count.
+ * <p>
+ * As long-lived connections can leave a Member overloaded long after they
+ * were balanced, a Member whose pressure exceeds the target and is
+ * significantly higher than that of the least loaded Member asks a fraction
+ * of its clients to reconnect, allowing them to be redirected. Reconnects are
+ * spread out over time to give the published loads a chance to reflect their
+ * effect.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class AdaptiveProxyServiceLoadBalancer
+        extends DefaultProxyServiceLoadBalancer
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Default constructor.
+     */
+    public AdaptiveProxyServiceLoadBalancer()
+        {
+        this(DEFAULT_TARGET_LATENCY, DEFAULT_RECONNECT_PERCENT, DEFAULT_RECONNECT_INTERVAL);
+        }
+
+    /**
+     * Create a new AdaptiveProxyServiceLoadBalancer.
+     *
+     * @param cMillisTarget      the 99th percentile request latency in
+     *                           milliseconds at which a Member is considered
+     *                           fully utilized
+     * @param nReconnectPercent  the percentage of an overloaded Member's
+     *                           connections asked to reconnect at a time
+     * @param cMillisInterval    the minimum time in milliseconds between asking
+     *                           connections to reconnect
+     */
+    public AdaptiveProxyServiceLoadBalancer(int cMillisTarget, int nReconnectPercent, long cMillisInterval)
+        {
+        super(new LoadComparator(cMillisTarget));
+
+        f_nReconnectPercent = Math.max(0, Math.min(nReconnectPercent, 100));
+        f_cMillisInterval   = Math.max(0L, cMillisInterval);
+        }
+
+    // ----- ProxyServiceLoadBalancer interface -----------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getReconnectCount()
+        {
+        ProxyServiceLoad loadLocal = m_loadLocal;
+        long             ldtNow    = getCurrentTimeMillis();
+        if (loadLocal == null || ldtNow < m_ldtNextReconnect)
+            {
+            return 0;
+            }
+
+        LoadComparator comparator = getLoadComparator();
+        int            nLocal     = comparator.getPressure(loadLocal);
+        if (nLocal < PRESSURE_TARGET)
+            {
+            return 0;
+            }
+
+        int nMin = PRESSURE_SATURATED;
+        for (Map.Entry<Member, ProxyServiceLoad> entry : m_mapLoad.entrySet())
+            {
+            if (!isLocalMember(entry.getKey()))
+                {
+                nMin = Math.min(nMin, comparator.getPressure(entry.getValue()));
+                }
+            }
+
+        if (nMin == PRESSURE_SATURATED || nLocal - nMin < PRESSURE_HYSTERESIS)
+            {
+            // there is nowhere better for the clients to go
+            return 0;
+            }
+
+        // always leave at least one connection, shedding all of them would
+        // simply move the problem elsewhere
+        int cConnections = loadLocal.getConnectionCount();
+        int cReconnect   = Math.min(cConnections - 1, Math.max(1, cConnections * f_nReconnectPercent / 100));
+        if (cReconnect <= 0 || f_nReconnectPercent == 0)
+            {
+            return 0;
+            }
+
+        m_ldtNextReconnect = ldtNow + f_cMillisInterval;
+        return cReconnect;
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the {@link LoadComparator} used to order ProxyServiceLoads.
+     *
+     * @return the LoadComparator
+     */
+    public LoadComparator getLoadComparator()
+        {
+        return (LoadComparator) m_mapMember.comparator();
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the current time in milliseconds.
+     *
+     * @return the current time in milliseconds
+     */
+    protected long getCurrentTimeMillis()
+        {
+        return Base.getSafeTimeMillis();
+        }
+
+    // ----- inner class: LoadComparator ------------------------------------
+
+    /**
+     * A Comparator which orders ProxyServiceLoads by the pressure on their
+     * Member and then by connection count.
+     */
+    public static class LoadComparator
+            implements Comparator<ProxyServiceLoad>
+        {
+        /**
+         * Create a new LoadComparator.
+         *
+         * @param cMillisTarget  the 99th percentile request latency in
+         *                       milliseconds at which a Member is considered
+         *                       fully utilized
+         */
+        public LoadComparator(int cMillisTarget)
+            {
+            f_cMillisTarget = Math.max(1, cMillisTarget);
+            }
+
+        @Override
+        public int compare(ProxyServiceLoad load1, ProxyServiceLoad load2)
+            {
+            int n = Integer.compare(getPressure(load1), getPressure(load2));
+            return n == 0
+                   ? Long.compare(getConnectionTotal(load1), getConnectionTotal(load2))
+                   : n;
+            }
+
+        /**
+         * Return the pressure on the Member with the specified load, in units
+         * of one tenth of its capacity.
+         *
+         * @param load  the ProxyServiceLoad
+         *
+         * @return the pressure, where {@link #PRESSURE_TARGET} indicates that
+         *         the Member is fully utilized and {@link #PRESSURE_SATURATED}
+         *         that it has reached its connection limit
+         */
+        public int getPressure(ProxyServiceLoad load)
+            {
+            int cLimit = load.getConnectionLimit();
+            if (cLimit > 0 && getConnectionTotal(load) >= cLimit)
+                {
+                return PRESSURE_SATURATED;
+                }
+
+            int    cDaemons = load.getDaemonCount();
+            double dLatency = load.getRequestLatency99thPercentile() / (double) f_cMillisTarget;
+            double dBacklog = load.getMessageBacklogIncoming() / (double) Math.max(1, cDaemons);
+            double dDaemons = cDaemons == 0 ? 0.0 : load.getDaemonActiveCount() / (double) cDaemons;
+            double dMax     = Math.max(dLatency, Math.max(dBacklog, dDaemons));
+
+            return (int) Math.min(dMax * PRESSURE_TARGET, PRESSURE_SATURATED - 1);
+            }
+
+        /**
+         * Return the number of current and pending connections.
+         *
+         * @param load  the ProxyServiceLoad
+         *
+         * @return the number of current and pending connections
+         */
+        protected static long getConnectionTotal(ProxyServiceLoad load)
+            {
+            return (long) load.getConnectionCount() + load.getConnectionPendingCount();
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The 99th percentile request latency at which a Member is considered
+         * fully utilized.
+         */
+        protected final int f_cMillisTarget;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The pressure on a fully utilized Member.
+     */
+    public static final int PRESSURE_TARGET = 10;
+
+    /**
+     * The pressure on a Member which has reached its connection limit.
+     */
+    public static final int PRESSURE_SATURATED = Integer.MAX_VALUE;
+
+    /**
+     * The amount by which the pressure on the local Member must exceed that on
+     * the least loaded Member before clients are asked to reconnect.
+     */
+    public static final int PRESSURE_HYSTERESIS = PRESSURE_TARGET / 2;
+
+    /**
+     * The default target 99th percentile request latency in milliseconds.
+     */
+    public static final int DEFAULT_TARGET_LATENCY = 100;
+
+    /**
+     * The default percentage of connections asked to reconnect at a time.
+     */
+    public static final int DEFAULT_RECONNECT_PERCENT = 5;
+
+    /**
+     * The default minimum time in milliseconds between asking connections to
+     * reconnect.
+     */
+    public static final long DEFAULT_RECONNECT_INTERVAL = 30000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The percentage of connections asked to reconnect at a time.
+     */
+    protected final int f_nReconnectPercent;
+
+    /**
+     * The minimum time between asking connections to reconnect.
+     */
+    protected final long f_cMillisInterval;
+
+    /**
+     * The time before which no more connections will be asked to reconnect.
+     */
+    protected long m_ldtNextReconnect;
+    }
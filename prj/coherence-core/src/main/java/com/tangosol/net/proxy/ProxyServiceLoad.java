@@ -1,8 +1,8 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 
 package com.tangosol.net.proxy;
@@ -25,4 +25,30 @@ import com.tangosol.net.ServiceLoad;
 public interface ProxyServiceLoad
         extends ServiceLoad
     {
+    /**
+    * Return the median time in milliseconds between a request being received
+    * and its processing completing.
+    *
+    * @return the median request latency in milliseconds, or zero if unknown
+    *
+    * @since 24.09
+    */
+    public default int getRequestLatencyMedian()
+        {
+        return 0;
+        }
+
+    /**
+    * Return the 99th percentile of the time in milliseconds between a request
+    * being received and its processing completing.
+    *
+    * @return the 99th percentile request latency in milliseconds, or zero if
+    *         unknown
+    *
+    * @since 24.09
+    */
+    public default int getRequestLatency99thPercentile()
+        {
+        return 0;
+        }
     }
@@ -1,8 +1,8 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 
 package com.tangosol.net.proxy;
@@ -26,4 +26,21 @@ import com.tangosol.net.ServiceLoadBalancer;
 public interface ProxyServiceLoadBalancer
         extends ServiceLoadBalancer<ProxyService, ProxyServiceLoad>
     {
+    /**
+    * Return the number of existing client connections to the local
+    * ProxyService Member that should be asked to reconnect, allowing them to
+    * be redirected to a less utilized Member.
+    * <p>
+    * This method is called periodically by the ProxyService after its
+    * utilization has been updated. The default implementation never asks
+    * clients to reconnect.
+    *
+    * @return the number of connections that should reconnect
+    *
+    * @since 24.09
+    */
+    public default int getReconnectCount()
+        {
+        return 0;
+        }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -18,6 +18,7 @@ import com.tangosol.util.ObservableCollection;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 
 /**
@@ -172,6 +173,17 @@ public class WrapperNamedQueue<E>
         return getQueue().offer(e) ? getQueue().size() : Long.MIN_VALUE;
         }
 
+    @Override
+    public boolean offerAll(Collection<? extends E> col)
+        {
+        Queue<E> queue = getQueue();
+        if (queue instanceof NamedQueue<?>)
+            {
+            return ((NamedQueue<E>) queue).offerAll(col);
+            }
+        return NamedQueue.super.offerAll(col);
+        }
+
     @Override
     public E remove()
         {
@@ -184,6 +196,17 @@ public class WrapperNamedQueue<E>
         return getQueue().poll();
         }
 
+    @Override
+    public List<E> poll(int cMax)
+        {
+        Queue<E> queue = getQueue();
+        if (queue instanceof NamedQueue<?>)
+            {
+            return ((NamedQueue<E>) queue).poll(cMax);
+            }
+        return NamedQueue.super.poll(cMax);
+        }
+
     @Override
     public E element()
         {
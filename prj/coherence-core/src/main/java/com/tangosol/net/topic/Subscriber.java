@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,6 +11,7 @@ import com.oracle.coherence.common.base.Exceptions;
 import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
 import com.tangosol.io.AbstractEvolvable;
 import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.ReadBuffer;
 
 import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
@@ -28,6 +29,8 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import java.nio.ByteBuffer;
+
 import java.time.Instant;
 
 import java.util.Arrays;
@@ -950,6 +953,36 @@ public interface Subscriber<V>
          */
         Binary getBinaryValue();
 
+        /**
+         * Returns the element's value in serialized form as a {@link ReadBuffer}.
+         * <p>
+         * Implementations may return a view over the buffer the element was
+         * received in rather than a copy, so applications that only forward the
+         * serialized value, for example to another system or to disk, can do so
+         * without allocating or deserializing the value.
+         *
+         * @return the element's value in serialized form
+         */
+        default ReadBuffer getReadBuffer()
+            {
+            return getBinaryValue();
+            }
+
+        /**
+         * Returns the element's value in serialized form as a read-only
+         * {@link ByteBuffer}.
+         * <p>
+         * The returned buffer is a view over the element's {@link #getReadBuffer()
+         * serialized value} and does not copy the underlying bytes.
+         *
+         * @return a read-only {@link ByteBuffer} containing the element's
+         *         value in serialized form
+         */
+        default ByteBuffer getByteBuffer()
+            {
+            return getReadBuffer().toByteBuffer();
+            }
+
         /**
          * Return the channel that the element was received from.
          *
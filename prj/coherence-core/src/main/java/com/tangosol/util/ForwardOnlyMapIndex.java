@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -13,6 +13,12 @@ import com.oracle.coherence.common.base.Logger;
 import com.oracle.coherence.common.collections.NullableConcurrentMap;
 import com.tangosol.net.BackingMapContext;
 
+import com.tangosol.net.cache.CacheStatistics;
+import com.tangosol.net.cache.ConfigurableCacheMap;
+import com.tangosol.net.cache.LocalCache;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
 import com.tangosol.util.filter.IndexAwareFilter;
 
 import java.util.Comparator;
@@ -25,6 +31,11 @@ import java.util.Map;
 * As a result, the content of {@link #getIndexContents()} is always empty, so this
 * index cannot be used for querying by {@link IndexAwareFilter#applyIndex
 * IndexAwareFilter}, with its primary use as a deserialization optimization.
+* <p>
+* The forward index may optionally be bounded by a size (in bytes of the
+* serialized values it holds), in which case it retains only the most
+* frequently and recently used values and reports its hit and miss
+* statistics via {@link #getCacheStatistics()}.
 *
 * @author gg/hr/jh 2014.03.07
 * @since Coherence 12.1.3
@@ -46,12 +57,35 @@ public class ForwardOnlyMapIndex
     *                   the forward index is populated proactively
     */
     public ForwardOnlyMapIndex(ValueExtractor extractor, BackingMapContext ctx, boolean fOnDemand)
+        {
+        this(extractor, ctx, fOnDemand, 0L);
+        }
+
+    /**
+    * Construct an index for the given map.
+    *
+    * @param extractor  the ValueExtractor that is used to extract an indexed
+    *                   value from a resource map entry
+    * @param ctx        the {@link BackingMapContext context} associated with
+    *                   the indexed cache
+    * @param fOnDemand  if true, the forward index will be created "on-demand"
+    *                   as the values are attempted to be accessed; otherwise
+    *                   the forward index is populated proactively
+    * @param cbMax      the maximum size of the forward index, expressed as
+    *                   the total size of the serialized values it holds, or
+    *                   zero for an unbounded index
+    *
+    * @since 24.09
+    */
+    public ForwardOnlyMapIndex(ValueExtractor extractor, BackingMapContext ctx, boolean fOnDemand, long cbMax)
         {
         Base.azzert(extractor != null);
+        Base.azzert(cbMax >= 0L);
 
         f_extractor  = extractor;
         f_ctx        = ctx;
         f_fLazy      = fOnDemand;
+        f_cbMax      = cbMax;
         f_mapForward = instantiateForwardIndex();
         }
 
@@ -107,7 +141,9 @@ public class ForwardOnlyMapIndex
         Object oValue = f_mapForward.get(oKey);
         if (oValue == null && !f_mapForward.containsKey(oKey))
             {
-            if (f_fLazy)
+            // a bounded index of deserialized values re-populates evicted
+            // entries on demand
+            if (f_fLazy || isBounded() && IdentityExtractor.INSTANCE.equals(f_extractor))
                 {
                 Map mapBacking = f_ctx.getBackingMap();
                 if (mapBacking.containsKey(oKey))
@@ -116,9 +152,11 @@ public class ForwardOnlyMapIndex
                     }
                 if (oValue != null)
                     {
+                    int cb = oValue instanceof Binary ? ((Binary) oValue).length() : 0;
+
                     oValue = f_ctx.getManagerContext().
                         getValueFromInternalConverter().convert(oValue);
-                    f_mapForward.put(oKey, oValue);
+                    f_mapForward.put(oKey, wrap(oKey, oValue, cb));
                     return oValue;
                     }
                 }
@@ -126,7 +164,7 @@ public class ForwardOnlyMapIndex
             }
         else
             {
-            return oValue;
+            return unwrap(oValue);
             }
         }
 
@@ -155,6 +193,64 @@ public class ForwardOnlyMapIndex
         }
 
 
+    /**
+    * {@inheritDoc}
+    */
+    public long getUnits()
+        {
+        Map mapForward = f_mapForward;
+        if (mapForward instanceof LocalCache)
+            {
+            LocalCache cache = (LocalCache) mapForward;
+            return (long) cache.getUnits() * cache.getUnitFactor();
+            }
+        return 0L;
+        }
+
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+    * Determine whether the size of this index is bounded.
+    *
+    * @return true iff the size of this index is bounded
+    *
+    * @since 24.09
+    */
+    public boolean isBounded()
+        {
+        return f_cbMax > 0L;
+        }
+
+    /**
+    * Return the maximum size of this index, expressed as the total size of
+    * the serialized values it holds.
+    *
+    * @return the maximum size of this index, or zero if it is unbounded
+    *
+    * @since 24.09
+    */
+    public long getMaxSize()
+        {
+        return f_cbMax;
+        }
+
+    /**
+    * Return the hit and miss statistics of a bounded index.
+    *
+    * @return the CacheStatistics of a bounded index, or null if this index
+    *         is unbounded
+    *
+    * @since 24.09
+    */
+    public CacheStatistics getCacheStatistics()
+        {
+        Map mapForward = f_mapForward;
+        return mapForward instanceof LocalCache
+               ? ((LocalCache) mapForward).getCacheStatistics() : null;
+        }
+
+
     // ----- helpers --------------------------------------------------------
 
     /**
@@ -164,7 +260,59 @@ public class ForwardOnlyMapIndex
     */
     protected Map instantiateForwardIndex()
         {
-        return new NullableConcurrentMap();
+        return isBounded() ? instantiateBoundedForwardIndex(f_cbMax) : new NullableConcurrentMap();
+        }
+
+    /**
+    * Instantiate a forward index that is bounded by the specified size.
+    * <p>
+    * The values held by a bounded forward index are {@link SizedValue}
+    * instances.
+    *
+    * @param cbMax  the maximum size of the forward index in bytes
+    *
+    * @return the bounded forward index
+    *
+    * @since 24.09
+    */
+    protected Map instantiateBoundedForwardIndex(long cbMax)
+        {
+        LocalCache cache = new LocalCache();
+        cache.setUnitCalculator(SizedValue.CALCULATOR);
+        cache.setUnitFactor(UNIT_FACTOR);
+        cache.setHighUnits((int) Math.min(Integer.MAX_VALUE, (cbMax + UNIT_FACTOR - 1) / UNIT_FACTOR));
+        return cache;
+        }
+
+    /**
+    * Wrap the specified value for storage in the forward index.
+    *
+    * @param oKey    the (binary) key
+    * @param oValue  the value
+    * @param cb      the size of the serialized value
+    *
+    * @return the value to store in the forward index
+    */
+    protected Object wrap(Object oKey, Object oValue, int cb)
+        {
+        if (isBounded())
+            {
+            int cbKey = oKey instanceof Binary ? ((Binary) oKey).length() : 0;
+            return new SizedValue(oValue, cbKey + cb);
+            }
+        return oValue;
+        }
+
+    /**
+    * Unwrap a value stored in the forward index.
+    *
+    * @param oValue  the stored value
+    *
+    * @return the indexed value
+    */
+    protected Object unwrap(Object oValue)
+        {
+        return oValue instanceof SizedValue ? ((SizedValue) oValue).getValue() : oValue;
         }
 
     /**
@@ -181,7 +329,9 @@ public class ForwardOnlyMapIndex
             {
             try
                 {
-                f_mapForward.put(oKey, InvocableMapHelper.extractFromEntry(f_extractor, entry));
+                int cb = entry instanceof BinaryEntry ? ((BinaryEntry) entry).getBinaryValue().length() : 0;
+
+                f_mapForward.put(oKey, wrap(oKey, InvocableMapHelper.extractFromEntry(f_extractor, entry), cb));
                 }
             catch (RuntimeException e)
                 {
@@ -216,8 +366,16 @@ public class ForwardOnlyMapIndex
     */
     public String toString()
         {
-        return ClassHelper.getSimpleName(getClass())
-                + ": Extractor=" + getValueExtractor();
+        String          sDesc = ClassHelper.getSimpleName(getClass())
+                                + ": Extractor=" + getValueExtractor();
+        CacheStatistics stats = getCacheStatistics();
+
+        return stats == null
+               ? sDesc
+               : sDesc + ", Footprint=" + Base.toMemorySizeString(getUnits(), false)
+                 + ", MaxSize=" + Base.toMemorySizeString(f_cbMax, false)
+                 + ", Hits=" + stats.getCacheHits()
+                 + ", Misses=" + stats.getCacheMisses();
         }
 
     /**
@@ -256,6 +414,89 @@ public class ForwardOnlyMapIndex
         }
 
 
+    // ----- inner class: SizedValue ----------------------------------------
+
+    /**
+    * A value held by a bounded forward index, together with the size it is
+    * accounted for.
+    *
+    * @since 24.09
+    */
+    protected static class SizedValue
+        {
+        /**
+        * Construct a SizedValue.
+        *
+        * @param oValue  the value
+        * @param cb      the size of the value
+        */
+        public SizedValue(Object oValue, int cb)
+            {
+            f_oValue = oValue;
+            f_cb     = Math.max(1, cb);
+            }
+
+        /**
+        * Return the value.
+        *
+        * @return the value
+        */
+        public Object getValue()
+            {
+            return f_oValue;
+            }
+
+        /**
+        * Return the size the value is accounted for.
+        *
+        * @return the size of the value
+        */
+        public int getSize()
+            {
+            return f_cb;
+            }
+
+        // ----- constants ----------------------------------------------
+
+        /**
+        * The UnitCalculator for SizedValue instances.
+        */
+        public static final ConfigurableCacheMap.UnitCalculator CALCULATOR =
+            new ConfigurableCacheMap.UnitCalculator()
+                {
+                public int calculateUnits(Object oKey, Object oValue)
+                    {
+                    return oValue instanceof SizedValue ? ((SizedValue) oValue).getSize() : 1;
+                    }
+
+                public String getName()
+                    {
+                    return "SizedValue";
+                    }
+                };
+
+        // ----- data members -------------------------------------------
+
+        /**
+        * The value.
+        */
+        private final Object f_oValue;
+
+        /**
+        * The size of the value.
+        */
+        private final int f_cb;
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+    * The unit factor used by a bounded forward index.
+    */
+    protected static final int UNIT_FACTOR = 1024;
+
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -281,4 +522,9 @@ public class ForwardOnlyMapIndex
     * The "lazy" flag.
     */
     protected boolean f_fLazy;
+
+    /**
+    * The maximum size of the forward index, or zero if it is unbounded.
+    */
+    protected final long f_cbMax;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -9,6 +9,8 @@ package com.tangosol.util.extractor;
 
 
 import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.WrapperBufferInput;
+import com.tangosol.io.WrapperBufferOutput;
 
 import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
@@ -16,6 +18,7 @@ import com.tangosol.io.pof.PortableObject;
 
 import com.tangosol.net.BackingMapContext;
 
+import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.ForwardOnlyMapIndex;
 import com.tangosol.util.MapIndex;
 import com.tangosol.util.ValueExtractor;
@@ -47,6 +50,18 @@ import jakarta.json.bind.annotation.JsonbProperty;
 * {@link ForwardOnlyMapIndex} is populated every time the index is rebuilt or
 * updated. In the on-demand mode, the {@link ForwardOnlyMapIndex} stores the
 * values only when they are {@link ForwardOnlyMapIndex#get requested}.
+* <p>
+* For large caches, the forward index may be bounded by a maximum size
+* (expressed as the total size of the serialized values it holds), in which
+* case only the hottest values are retained and evicted values are
+* deserialized again on demand:
+* <pre>
+*   cache.addIndex(new DeserializationAccelerator(
+*      IdentityExtractor.INSTANCE, true, 256L * 1024 * 1024), false, null);
+* </pre>
+* Using an extractor other than the {@link IdentityExtractor} (for example a
+* {@link FragmentExtractor}) accelerates access to the projected fields only,
+* rather than holding the entire deserialized value.
 *
 * @author gg/hr/jh 2014.03.07
 * @since Coherence 12.1.3
@@ -93,8 +108,36 @@ public class DeserializationAccelerator
     */
     public DeserializationAccelerator(ValueExtractor extractor, boolean fOnDemand)
         {
+        this(extractor, fOnDemand, 0L);
+        }
+
+    /**
+    * Construct the DeserializationAccelerator.
+    *
+    * @param extractor  the extractor used by this extractor to create a
+    *                   {@link ForwardOnlyMapIndex}; note that the created index
+    *                   will be associated with this extractor in the given
+    *                   index map; passing null is equivalent to using the
+    *                   {@link IdentityExtractor}
+    * @param fOnDemand  if true, the forward index will be created "on-demand"
+    *                   as the values are attempted to be accessed; otherwise
+    *                   the forward index is populated proactively (default)
+    * @param cbMax      the maximum size of the forward index, expressed as
+    *                   the total size of the serialized values it holds, or
+    *                   zero for an unbounded forward index
+    *
+    * @since 24.09
+    */
+    public DeserializationAccelerator(ValueExtractor extractor, boolean fOnDemand, long cbMax)
+        {
+        if (cbMax < 0L)
+            {
+            throw new IllegalArgumentException("Negative maximum size: " + cbMax);
+            }
+
         m_extractor = extractor == null ? IdentityExtractor.INSTANCE : extractor;
         m_fLazy     = fOnDemand;
+        m_cbMax     = cbMax;
         }
 
 
@@ -119,7 +162,7 @@ public class DeserializationAccelerator
                     "Repetitive addIndex call for " + this);
             }
 
-        ForwardOnlyMapIndex indexNew = new ForwardOnlyMapIndex(extractor, ctx, m_fLazy);
+        ForwardOnlyMapIndex indexNew = new ForwardOnlyMapIndex(extractor, ctx, m_fLazy, m_cbMax);
 
         mapIndex.put(extractor, indexNew);
 
@@ -159,6 +202,11 @@ public class DeserializationAccelerator
         {
         m_extractor = readObject(in);
         m_fLazy     = in.readBoolean();
+
+        if (isVersionCompatible(in))
+            {
+            m_cbMax = readLong(in);
+            }
         }
 
     /**
@@ -169,6 +217,11 @@ public class DeserializationAccelerator
         {
         writeObject(out, m_extractor);
         out.writeBoolean(m_fLazy);
+
+        if (isVersionCompatible(out))
+            {
+            writeLong(out, m_cbMax);
+            }
         }
 
 
@@ -182,6 +235,7 @@ public class DeserializationAccelerator
         {
         m_extractor = in.readObject(0);
         m_fLazy     = in.readBoolean(1);
+        m_cbMax     = in.readLong(2);
         }
 
     /**
@@ -192,6 +246,7 @@ public class DeserializationAccelerator
         {
         out.writeObject(0, m_extractor);
         out.writeBoolean(1, m_fLazy);
+        out.writeLong(2, m_cbMax);
         }
 
 
@@ -206,7 +261,8 @@ public class DeserializationAccelerator
             {
             DeserializationAccelerator that = (DeserializationAccelerator) o;
             return equals(this.m_extractor, that.m_extractor) &&
-                          this.m_fLazy == that.m_fLazy;
+                          this.m_fLazy == that.m_fLazy &&
+                          this.m_cbMax == that.m_cbMax;
             }
 
         return false;
@@ -228,7 +284,41 @@ public class DeserializationAccelerator
     public String toString()
         {
         return "DeserializationAccelerator" +
-            "(extractor=" + m_extractor + "; lazy=" + m_fLazy + ")";
+            "(extractor=" + m_extractor + "; lazy=" + m_fLazy +
+            (m_cbMax == 0L ? "" : "; maxSize=" + m_cbMax) + ")";
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+    * Determine whether the sender of the content supports the maximum size
+    * attribute. Content that is not version aware, such as an Extend
+    * stream, never carries it, so that it can be read by older peers.
+    *
+    * @param in  the DataInput to interrogate
+    *
+    * @return true iff the maximum size is present in the content
+    */
+    protected static boolean isVersionCompatible(DataInput in)
+        {
+        return in instanceof WrapperBufferInput.VersionAwareBufferInput
+               && ExternalizableHelper.isVersionCompatible(in, 24, 9, 0);
+        }
+
+    /**
+    * Determine whether all the recipients of the content support the
+    * maximum size attribute. Content that is not version aware, such as an
+    * Extend stream, never carries it, so that it can be read by older peers.
+    *
+    * @param out  the DataOutput to interrogate
+    *
+    * @return true iff the maximum size should be written to the content
+    */
+    protected static boolean isVersionCompatible(DataOutput out)
+        {
+        return out instanceof WrapperBufferOutput.VersionAwareBufferOutput
+               && ExternalizableHelper.isVersionCompatible(out, 24, 9, 0);
         }
 
 
@@ -245,4 +335,10 @@ public class DeserializationAccelerator
     */
     @JsonbProperty("onDemand")
     protected boolean m_fLazy;
+
+    /**
+    * The maximum size of the forward index, or zero if it is unbounded.
+    */
+    @JsonbProperty("maxSize")
+    protected long m_cbMax;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -1083,7 +1083,10 @@ public class AsyncNamedCacheClient<K, V>
                 }
 
             getMapListenerSupport().clear();
-            //f_client.close();
+
+            // the connection may be shared with other caches, so it is not
+            // closed, but it must no longer hold on to this client
+            f_client.release();
 
             return future.handleAsync((v, err) ->
                 {
@@ -1634,6 +1637,24 @@ public class AsyncNamedCacheClient<K, V>
             }
         }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Events that occur while disconnected are lost, so any state derived
+     * from them, such as the front map of a near cache, can no longer be
+     * trusted. This client is released, which notifies the registered
+     * deactivation listeners, and a subsequent {@code ensureCache} call on
+     * the service will create a new client with a new connection.
+     */
+    @Override
+    public void onDisconnect()
+        {
+        if (!m_fReleased && !m_fDestroyed)
+            {
+            releaseInternal(false);
+            }
+        }
+
     @Override
     public void incrementListeners()
         {
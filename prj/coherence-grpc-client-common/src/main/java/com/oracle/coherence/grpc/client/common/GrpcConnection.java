@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -121,6 +121,29 @@ public interface GrpcConnection
 
     <T extends Message> void removeResponseObserver(Listener<T> listener);
 
+    /**
+     * Add an action to run once this connection has been closed, either
+     * explicitly or because the underlying stream failed or completed.
+     * <p>
+     * Close listeners are called after any outstanding requests have been
+     * failed and are then discarded. A listener added after this connection
+     * has closed is called immediately.
+     *
+     * @param listener  the action to run when this connection closes
+     */
+    default void addCloseListener(Runnable listener)
+        {
+        }
+
+    /**
+     * Remove an action previously added with {@link #addCloseListener(Runnable)}.
+     *
+     * @param listener  the action to remove
+     */
+    default void removeCloseListener(Runnable listener)
+        {
+        }
+
     /**
      * Return the number of heart beat messages sent.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -488,6 +488,15 @@ public interface NamedCacheClientChannel
      */
     void setEventDispatcher(EventDispatcher dispatcher);
 
+    /**
+     * Release the resources this channel registered with its connection for
+     * its cache, such as its event dispatcher, without closing the
+     * connection, which may be shared with other caches.
+     */
+    default void release()
+        {
+        }
+
     /**
      * Returns the number of key-value mappings in this map.  If the
      * map contains more than <tt>Integer.MAX_VALUE</tt> elements, returns
@@ -544,6 +553,12 @@ public interface NamedCacheClientChannel
          */
         void onTruncate();
 
+        /**
+         * The connection to the proxy has been closed, so no further
+         * events will be received.
+         */
+        void onDisconnect();
+
         /**
          * Increment the listener count.
          */
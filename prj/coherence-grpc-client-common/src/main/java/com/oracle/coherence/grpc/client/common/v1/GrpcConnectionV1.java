@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -125,6 +125,8 @@ public class GrpcConnectionV1
         m_mapFuture.values().forEach(f -> f.onError(error));
         if (!m_closed)
             {
+            List<Runnable> listClose = null;
+
             f_lock.lock();
             try
                 {
@@ -144,6 +146,8 @@ public class GrpcConnectionV1
                         m_mapFuture.values().forEach(f -> f.onError(new RequestIncompleteException("channel closed")));
                         m_mapFuture.clear();
                         }
+                    listClose = List.copyOf(m_listCloseListeners);
+                    m_listCloseListeners.clear();
                     m_listeners.clear();
                     m_observer     = null;
                     m_initResponse = null;
@@ -154,6 +158,23 @@ public class GrpcConnectionV1
                 {
                 f_lock.unlock();
                 }
+
+            // let interested parties (e.g. near caches) know that any events
+            // sent while disconnected will have been lost
+            if (listClose != null)
+                {
+                for (Runnable listener : listClose)
+                    {
+                    try
+                        {
+                        listener.run();
+                        }
+                    catch (Throwable t)
+                        {
+                        Logger.err(t);
+                        }
+                    }
+                }
             }
         }
 
@@ -359,6 +380,33 @@ public class GrpcConnectionV1
         m_listeners.remove(listener);
         }
 
+    @Override
+    public void addCloseListener(Runnable listener)
+        {
+        f_lock.lock();
+        try
+            {
+            if (!m_closed)
+                {
+                m_listCloseListeners.add(listener);
+                return;
+                }
+            }
+        finally
+            {
+            f_lock.unlock();
+            }
+
+        // this connection has already closed
+        listener.run();
+        }
+
+    @Override
+    public void removeCloseListener(Runnable listener)
+        {
+        m_listCloseListeners.remove(listener);
+        }
+
     @Override
     public long getHeartbeatsSent()
         {
@@ -683,6 +731,11 @@ public class GrpcConnectionV1
      */
     private final List<Listener<?>> m_listeners = new CopyOnWriteArrayList<>();
 
+    /**
+     * The actions to run when this connection is closed.
+     */
+    private final List<Runnable> m_listCloseListeners = new CopyOnWriteArrayList<>();
+
     /**
      * The service dependencies.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -523,8 +523,11 @@ public class NamedCacheClientChannel_V1
             {
             if (m_eventObserver == null)
                 {
-                m_eventObserver = new EventObserver(dispatcher);
-                f_connection.addResponseObserver(new GrpcConnection.Listener<>(m_eventObserver, m -> m.getCacheId() == getCacheId()));
+                m_eventObserver  = new EventObserver(dispatcher);
+                m_listenerEvents = new GrpcConnection.Listener<>(m_eventObserver, m -> m.getCacheId() == getCacheId());
+                m_listenerClose  = dispatcher::onDisconnect;
+                f_connection.addResponseObserver(m_listenerEvents);
+                f_connection.addCloseListener(m_listenerClose);
                 }
             else
                 {
@@ -537,6 +540,35 @@ public class NamedCacheClientChannel_V1
             }
         }
 
+    @Override
+    public void release()
+        {
+        GrpcConnection.Listener<NamedCacheResponse> listenerEvents;
+        Runnable                                    listenerClose;
+
+        f_lock.lock();
+        try
+            {
+            listenerEvents   = m_listenerEvents;
+            listenerClose    = m_listenerClose;
+            m_listenerEvents = null;
+            m_listenerClose  = null;
+            }
+        finally
+            {
+            f_lock.unlock();
+            }
+
+        if (listenerEvents != null)
+            {
+            f_connection.removeResponseObserver(listenerEvents);
+            }
+        if (listenerClose != null)
+            {
+            f_connection.removeCloseListener(listenerClose);
+            }
+        }
+
     @Override
     public CompletionStage<Int32Value> size()
         {
@@ -921,4 +953,15 @@ public class NamedCacheClientChannel_V1
      * The {@link EventObserver} to receive event responses.
      */
     private EventObserver m_eventObserver;
+
+    /**
+     * The connection listener that passes event responses to the
+     * {@link #m_eventObserver}.
+     */
+    private GrpcConnection.Listener<NamedCacheResponse> m_listenerEvents;
+
+    /**
+     * The action run by the connection when it closes.
+     */
+    private Runnable m_listenerClose;
     }
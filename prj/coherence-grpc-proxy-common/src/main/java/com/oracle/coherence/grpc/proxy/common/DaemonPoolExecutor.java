@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -128,6 +128,16 @@ public class DaemonPoolExecutor
             return f_pool.getDaemonCount();
             }
 
+        public int getVirtualTaskCount()
+            {
+            return f_pool.getVirtualTaskCount();
+            }
+
+        public int getVirtualTaskLimit()
+            {
+            return f_pool.getVirtualTaskLimit();
+            }
+
         public int getAbandonedCount()
             {
             return f_pool.getStatsAbandonedCount();
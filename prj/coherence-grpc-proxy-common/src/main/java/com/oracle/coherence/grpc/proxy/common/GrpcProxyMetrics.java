@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -13,6 +13,8 @@ import com.tangosol.internal.net.metrics.Histogram;
 import com.tangosol.internal.net.metrics.Meter;
 import com.tangosol.internal.net.metrics.Snapshot;
 
+import com.tangosol.internal.util.VirtualThreads;
+
 import com.tangosol.net.management.AnnotatedStandardMBean;
 import com.tangosol.net.management.Registry;
 
@@ -388,6 +390,24 @@ public class GrpcProxyMetrics
         return f_poolManagement == null ? 0 : f_poolManagement.getDaemonCount();
         }
 
+    @Override
+    public int getVirtualTaskCount()
+        {
+        return f_poolManagement == null ? 0 : f_poolManagement.getVirtualTaskCount();
+        }
+
+    @Override
+    public int getVirtualTaskLimit()
+        {
+        return f_poolManagement == null ? 0 : f_poolManagement.getVirtualTaskLimit();
+        }
+
+    @Override
+    public long getPinnedVirtualThreadCount()
+        {
+        return VirtualThreads.getPinnedCount();
+        }
+
     @Override
     public int getAbandonedThreadCount()
         {
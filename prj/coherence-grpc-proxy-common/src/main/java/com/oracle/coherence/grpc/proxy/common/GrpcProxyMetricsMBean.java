@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -485,6 +485,35 @@ public interface GrpcProxyMetricsMBean
     @Description("The number of Daemon threads that exist")
     int getDaemonCount();
 
+    /**
+     * Return the number of tasks currently running on their own virtual thread.
+     *
+     * @return the number of tasks currently running on their own virtual thread
+     */
+    @MetricsValue("VirtualTaskCount")
+    @Description("The number of tasks currently running on their own virtual thread")
+    int getVirtualTaskCount();
+
+    /**
+     * Return the maximum number of tasks that may concurrently run on their own
+     * virtual thread, or zero if tasks only run on Daemon threads.
+     *
+     * @return the maximum number of tasks that may concurrently run on their own
+     *         virtual thread
+     */
+    @Description("The maximum number of tasks that may concurrently run on their own virtual thread")
+    int getVirtualTaskLimit();
+
+    /**
+     * Return the number of times a virtual thread has been reported as pinned to
+     * its carrier thread.
+     *
+     * @return the number of times a virtual thread has been reported as pinned
+     */
+    @MetricsValue("PinnedVirtualThreadCount")
+    @Description("The number of times a virtual thread has been reported as pinned to its carrier thread")
+    long getPinnedVirtualThreadCount();
+
     /**
      * Return the total number of abandoned Daemon threads.
      * <p>
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -19,6 +19,8 @@ import com.oracle.coherence.grpc.BinaryHelper;
 import com.oracle.coherence.grpc.GrpcService;
 import com.oracle.coherence.grpc.NamedCacheProtocol;
 
+import com.oracle.coherence.grpc.messages.cache.v1.BatchRequest;
+import com.oracle.coherence.grpc.messages.cache.v1.BatchResult;
 import com.oracle.coherence.grpc.messages.cache.v1.EnsureCacheRequest;
 import com.oracle.coherence.grpc.messages.cache.v1.ExecuteRequest;
 import com.oracle.coherence.grpc.messages.cache.v1.IndexRequest;
@@ -36,7 +38,7 @@ import com.oracle.coherence.grpc.messages.cache.v1.ReplaceMappingRequest;
 import com.oracle.coherence.grpc.messages.cache.v1.ResponseType;
 import com.oracle.coherence.grpc.messages.common.v1.BinaryKeyAndValue;
 import com.oracle.coherence.grpc.messages.common.v1.CollectionOfBytesValues;
-import com.oracle.coherence.grpc.messages.common.v1.OptionalValue;
+import com.oracle.coherence.grpc.messages.common.v1.ErrorMessage;
 import com.oracle.coherence.grpc.messages.proxy.v1.InitRequest;
 
 import com.tangosol.application.ContainerContext;
@@ -61,6 +63,7 @@ import com.tangosol.io.Serializer;
 import com.tangosol.net.AsyncNamedCache;
 import com.tangosol.net.ExtensibleConfigurableCacheFactory;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.RequestIncompleteException;
 
 import com.tangosol.net.cache.CacheMap;
 
@@ -84,6 +87,8 @@ import com.tangosol.util.filter.AlwaysFilter;
 import com.tangosol.util.filter.InKeySetFilter;
 import io.grpc.stub.StreamObserver;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -138,6 +143,7 @@ public class NamedCacheProxyProtocol
             m_proxy         = new CacheServiceProxy();
             m_connection    = new Connection();
             m_eventObserver = observer;
+            m_nVersion      = nVersion;
 
             m_connection.setId(clientUUID);
 
@@ -193,94 +199,111 @@ public class NamedCacheProxyProtocol
                 throw new IllegalStateException("No cache proxy exist for id " + cacheId + " request=" + requestType);
                 }
 
-            switch (requestType)
-                {
-                case Aggregate:
-                    onAggregate(proxy, request, observer);
-                    break;
-                case Clear:
-                    onClear(proxy, observer);
-                    break;
-                case ContainsEntry:
-                    onContainsEntry(proxy, request, observer);
-                    break;
-                case ContainsKey:
-                    onContainsKey(proxy, request, observer);
-                    break;
-                case ContainsValue:
-                    onContainsValue(proxy, request, observer);
-                    break;
-                case Destroy:
-                    onDestroyCache(cacheId, observer);
-                    break;
-                case Get:
-                    onGet(proxy, request, observer);
-                    break;
-                case GetAll:
-                    onGetAll(proxy, request, observer);
-                    break;
-                case Index:
-                    onIndex(proxy, request, observer);
-                    break;
-                case Invoke:
-                    onInvoke(proxy, request, observer);
-                    break;
-                case IsEmpty:
-                    onIsEmpty(proxy, observer);
-                    break;
-                case IsReady:
-                    onIsReady(proxy, observer);
-                    break;
-                case MapListener:
-                    onMapListener(proxy, request, observer);
-                    break;
-                case PageOfEntries:
-                    onPageOfEntries(proxy, request, observer);
-                    break;
-                case PageOfKeys:
-                    onPageOfKeys(proxy, request, observer);
-                    break;
-                case Put:
-                    onPut(proxy, request, observer);
-                    break;
-                case PutAll:
-                    onPutAll(proxy, request, observer);
-                    break;
-                case PutIfAbsent:
-                    onPutIfAbsent(proxy, request, observer);
-                    break;
-                case QueryEntries:
-                    onQueryEntrySet(proxy, request, observer);
-                    break;
-                case QueryKeys:
-                    onQueryKeySet(proxy, request, observer);
-                    break;
-                case QueryValues:
-                    onQueryValues(proxy, request, observer);
-                    break;
-                case Remove:
-                    onRemove(proxy, request, observer);
-                    break;
-                case RemoveMapping:
-                    onRemoveMapping(proxy, request, observer);
-                    break;
-                case Replace:
-                    onReplace(proxy, request, observer);
-                    break;
-                case ReplaceMapping:
-                    onReplaceMapping(proxy, request, observer);
-                    break;
-                case Size:
-                    onSize(proxy, observer);
-                    break;
-                case Truncate:
-                    onTruncate(proxy, observer);
-                    break;
-                case UNRECOGNIZED:
-                case Unknown:
-                default:
-                    throw new IllegalArgumentException("Unrecognized request: " + requestType);
-                }
+            onCacheRequest(cacheId, proxy, request, observer);
+            }
+        }
+
+    /**
+     * Dispatch a request for an existing cache to the corresponding handler.
+     *
+     * @param cacheId   the cache identifier
+     * @param proxy     the {@link NamedCacheProxy} for the cache
+     * @param request   the {@link NamedCacheRequest} to execute
+     * @param observer  the {@link StreamObserver} to send responses to
+     */
+    private void onCacheRequest(int cacheId, NamedCacheProxy proxy, NamedCacheRequest request, StreamObserver<NamedCacheResponse> observer)
+        {
+        NamedCacheRequestType requestType = request.getType();
+        switch (requestType)
+            {
+            case Aggregate:
+                onAggregate(proxy, request, observer);
+                break;
+            case Clear:
+                onClear(proxy, observer);
+                break;
+            case ContainsEntry:
+                onContainsEntry(proxy, request, observer);
+                break;
+            case ContainsKey:
+                onContainsKey(proxy, request, observer);
+                break;
+            case ContainsValue:
+                onContainsValue(proxy, request, observer);
+                break;
+            case Destroy:
+                onDestroyCache(cacheId, observer);
+                break;
+            case Get:
+                onGet(proxy, request, observer);
+                break;
+            case GetAll:
+                onGetAll(proxy, request, observer);
+                break;
+            case Index:
+                onIndex(proxy, request, observer);
+                break;
+            case Invoke:
+                onInvoke(proxy, request, observer);
+                break;
+            case IsEmpty:
+                onIsEmpty(proxy, observer);
+                break;
+            case IsReady:
+                onIsReady(proxy, observer);
+                break;
+            case MapListener:
+                onMapListener(proxy, request, observer);
+                break;
+            case PageOfEntries:
+                onPageOfEntries(proxy, request, observer);
+                break;
+            case PageOfKeys:
+                onPageOfKeys(proxy, request, observer);
+                break;
+            case Put:
+                onPut(proxy, request, observer);
+                break;
+            case PutAll:
+                onPutAll(proxy, request, observer);
+                break;
+            case PutIfAbsent:
+                onPutIfAbsent(proxy, request, observer);
+                break;
+            case QueryEntries:
+                onQueryEntrySet(proxy, request, observer);
+                break;
+            case QueryKeys:
+                onQueryKeySet(proxy, request, observer);
+                break;
+            case QueryValues:
+                onQueryValues(proxy, request, observer);
+                break;
+            case Remove:
+                onRemove(proxy, request, observer);
+                break;
+            case RemoveMapping:
+                onRemoveMapping(proxy, request, observer);
+                break;
+            case Replace:
+                onReplace(proxy, request, observer);
+                break;
+            case ReplaceMapping:
+                onReplaceMapping(proxy, request, observer);
+                break;
+            case Size:
+                onSize(proxy, observer);
+                break;
+            case Truncate:
+                onTruncate(proxy, observer);
+                break;
+            case Batch:
+                onBatch(proxy, request, observer);
+                break;
+            case UNRECOGNIZED:
+            case Unknown:
+            default:
+                throw new IllegalArgumentException("Unrecognized request: " + requestType);
             }
         }
 
@@ -422,10 +445,9 @@ public class NamedCacheProxyProtocol
     @SuppressWarnings("unchecked")
     protected void onGet(NamedCacheProxy proxy, NamedCacheRequest request, StreamObserver<NamedCacheResponse> observer)
         {
-        Binary                binKey    = unpackBinary(request);
-        OptionalValue.Builder builder   = OptionalValue.newBuilder();
-        ChannelStub           channel   = (ChannelStub) proxy.getChannel();
-        Binary                binResult = null;
+        Binary      binKey    = unpackBinary(request);
+        ChannelStub channel   = (ChannelStub) proxy.getChannel();
+        Binary      binResult = null;
 
         if (channel.isSerializerCompatible())
             {
@@ -443,19 +465,14 @@ public class NamedCacheProxyProtocol
                 }
             }
 
-        if (binResult == null || Binary.NO_BINARY.equals(binKey))
+        if (Binary.NO_BINARY.equals(binKey))
             {
-            builder.setPresent(false);
-            }
-        else
-            {
-            builder.setPresent(true);
-            builder.setValue(BinaryHelper.toByteString(binResult));
+            binResult = null;
             }
 
         observer.onNext(response(proxy.getCacheId())
                 .setType(ResponseType.Message)
-                .setMessage(Any.pack(builder.build()))
+                .setMessage(BinaryHelper.packOptionalValue(binResult))
                 .build());
         observer.onCompleted();
         }
@@ -471,15 +488,10 @@ public class NamedCacheProxyProtocol
 
         BiConsumer<? super Binary, ? super Binary> callback = (k, v) ->
             {
-            BinaryKeyAndValue keyAndValue = BinaryKeyAndValue.newBuilder()
-                    .setKey(BinaryHelper.toByteString(k))
-                    .setValue(BinaryHelper.toByteString(v))
-                    .build();
-
             observer.onNext(NamedCacheResponse.newBuilder()
                     .setCacheId(cacheId)
                     .setType(ResponseType.Message)
-                    .setMessage(Any.pack(keyAndValue))
+                    .setMessage(BinaryHelper.packKeyAndValue(k, v))
                     .build());
             };
 
@@ -770,15 +782,10 @@ public class NamedCacheProxyProtocol
 
         Consumer<Map.Entry<? extends Binary, ? extends Binary>> callback = entry ->
             {
-            BinaryKeyAndValue keyAndValue = BinaryKeyAndValue.newBuilder()
-                    .setKey(BinaryHelper.toByteString(entry.getKey()))
-                    .setValue(BinaryHelper.toByteString(entry.getValue()))
-                    .build();
-
             observer.onNext(NamedCacheResponse.newBuilder()
                     .setCacheId(cacheId)
                     .setType(ResponseType.Message)
-                    .setMessage(Any.pack(keyAndValue))
+                    .setMessage(BinaryHelper.packKeyAndValue(entry.getKey(), entry.getValue()))
                     .build());
             };
 
@@ -811,7 +818,7 @@ public class NamedCacheProxyProtocol
             observer.onNext(NamedCacheResponse.newBuilder()
                     .setCacheId(cacheId)
                     .setType(ResponseType.Message)
-                    .setMessage(Any.pack(BinaryHelper.toBytesValue(binary)))
+                    .setMessage(BinaryHelper.packBytesValue(binary))
                     .build());
             };
 
@@ -833,7 +840,7 @@ public class NamedCacheProxyProtocol
             observer.onNext(NamedCacheResponse.newBuilder()
                     .setCacheId(cacheId)
                     .setType(ResponseType.Message)
-                    .setMessage(Any.pack(BinaryHelper.toBytesValue(binary)))
+                    .setMessage(BinaryHelper.packBytesValue(binary))
                     .build());
             };
 
@@ -896,6 +903,307 @@ public class NamedCacheProxyProtocol
         observer.onCompleted();
         }
 
+    /**
+     * Execute a batch of cache operations.
+     * <p>
+     * Runs of consecutive {@link NamedCacheRequestType#Get Get} operations, and of consecutive single key
+     * {@link NamedCacheRequestType#Invoke Invoke} operations using the same entry processor, are each executed
+     * as a single bulk call which the cache service splits by partition owner. All other operations are
+     * executed individually. Runs are never reordered with respect to the other operations, so the results
+     * are the same as if the operations had been sent as separate requests, and they are sent in the order
+     * of the operations.
+     * <p>
+     * If a bulk call fails, a run of reads is retried one operation at a time. A run of invocations cannot
+     * safely be retried as the bulk call may have executed the entry processor for some of the keys, so any
+     * operation whose result is not known is reported as failed and indeterminate.
+     *
+     * @param proxy     the {@link NamedCacheProxy} for the cache
+     * @param request   the {@link NamedCacheRequest} containing the {@link BatchRequest}
+     * @param observer  the {@link StreamObserver} to send a {@link BatchResult} for each operation to
+     */
+    protected void onBatch(NamedCacheProxy proxy, NamedCacheRequest request, StreamObserver<NamedCacheResponse> observer)
+        {
+        if (m_nVersion < 2)
+            {
+            throw new UnsupportedOperationException("Batch requests require protocol version 2 or later, the negotiated version is "
+                    + m_nVersion);
+            }
+
+        List<NamedCacheRequest> listOps     = unpack(request, BatchRequest.class).getOperationsList();
+        boolean                 fCompatible = ((ChannelStub) proxy.getChannel()).isSerializerCompatible();
+        int                     cOps        = listOps.size();
+
+        for (int i = 0; i < cOps; )
+            {
+            // bulk operations bypass the value conversion performed by the proxy for incompatible serializers
+            int iEnd = fCompatible ? findBatchRun(listOps, i) : i + 1;
+            if (iEnd - i == 1)
+                {
+                onBatchOperation(proxy, listOps.get(i), i, observer);
+                }
+            else if (listOps.get(i).getType() == NamedCacheRequestType.Get)
+                {
+                onBatchGet(proxy, listOps, i, iEnd, observer);
+                }
+            else
+                {
+                onBatchInvoke(proxy, listOps, i, iEnd, observer);
+                }
+            i = iEnd;
+            }
+        observer.onCompleted();
+        }
+
+    /**
+     * Return the end of the run of batch operations starting at the specified index which can be executed
+     * as a single bulk call.
+     *
+     * @param listOps  the batch operations
+     * @param iStart   the index of the first operation in the run
+     *
+     * @return the index after the last operation in the run
+     */
+    protected int findBatchRun(List<NamedCacheRequest> listOps, int iStart)
+        {
+        NamedCacheRequest op   = listOps.get(iStart);
+        int               cOps = listOps.size();
+        int               iEnd = iStart + 1;
+
+        if (op.getType() == NamedCacheRequestType.Get)
+            {
+            while (iEnd < cOps && listOps.get(iEnd).getType() == NamedCacheRequestType.Get)
+                {
+                ++iEnd;
+                }
+            }
+        else if (op.getType() == NamedCacheRequestType.Invoke)
+            {
+            ExecuteRequest execute = unpack(op, ExecuteRequest.class);
+            if (execute.getKeys().getKeyOrFilterCase() == KeysOrFilter.KeyOrFilterCase.KEY)
+                {
+                // invokeAll executes the processor once per key, so a repeated key must end the run
+                ByteString      bytesAgent = execute.getAgent();
+                Set<ByteString> setKeys    = new HashSet<>();
+
+                setKeys.add(execute.getKeys().getKey());
+                for (; iEnd < cOps; ++iEnd)
+                    {
+                    NamedCacheRequest opNext = listOps.get(iEnd);
+                    if (opNext.getType() != NamedCacheRequestType.Invoke)
+                        {
+                        break;
+                        }
+
+                    ExecuteRequest executeNext = unpack(opNext, ExecuteRequest.class);
+                    if (executeNext.getKeys().getKeyOrFilterCase() != KeysOrFilter.KeyOrFilterCase.KEY
+                            || !bytesAgent.equals(executeNext.getAgent())
+                            || !setKeys.add(executeNext.getKeys().getKey()))
+                        {
+                        break;
+                        }
+                    }
+                }
+            }
+        return iEnd;
+        }
+
+    /**
+     * Execute a run of batched {@link NamedCacheRequestType#Get Get} operations as a single getAll call.
+     *
+     * @param proxy     the {@link NamedCacheProxy} for the cache
+     * @param listOps   the batch operations
+     * @param iStart    the index of the first operation in the run
+     * @param iEnd      the index after the last operation in the run
+     * @param observer  the {@link StreamObserver} to send the results to
+     */
+    @SuppressWarnings("unchecked")
+    protected void onBatchGet(NamedCacheProxy proxy, List<NamedCacheRequest> listOps, int iStart, int iEnd,
+            StreamObserver<NamedCacheResponse> observer)
+        {
+        List<Binary> listKeys = new ArrayList<>(iEnd - iStart);
+        for (int i = iStart; i < iEnd; ++i)
+            {
+            listKeys.add(unpackBinary(listOps.get(i)));
+            }
+
+        Map<Binary, Binary> map;
+        try
+            {
+            map = proxy.getAll(listKeys);
+            }
+        catch (Throwable t)
+            {
+            // reads have no side effects, so each operation is retried on its own to report its own result
+            for (int i = iStart; i < iEnd; ++i)
+                {
+                onBatchOperation(proxy, listOps.get(i), i, observer);
+                }
+            return;
+            }
+
+        for (int i = iStart; i < iEnd; ++i)
+            {
+            Binary binKey   = listKeys.get(i - iStart);
+            Binary binValue = Binary.NO_BINARY.equals(binKey) ? null : map.get(binKey);
+
+            sendBatchResult(proxy, i, Collections.singletonList(BinaryHelper.packOptionalValue(binValue)), null, false,
+                    observer);
+            }
+        }
+
+    /**
+     * Execute a run of batched single key {@link NamedCacheRequestType#Invoke Invoke} operations as a single
+     * invokeAll call.
+     *
+     * @param proxy     the {@link NamedCacheProxy} for the cache
+     * @param listOps   the batch operations
+     * @param iStart    the index of the first operation in the run
+     * @param iEnd      the index after the last operation in the run
+     * @param observer  the {@link StreamObserver} to send the results to
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected void onBatchInvoke(NamedCacheProxy proxy, List<NamedCacheRequest> listOps, int iStart, int iEnd,
+            StreamObserver<NamedCacheResponse> observer)
+        {
+        List<Binary>                listKeys  = new ArrayList<>(iEnd - iStart);
+        InvocableMap.EntryProcessor processor = null;
+        for (int i = iStart; i < iEnd; ++i)
+            {
+            ExecuteRequest execute = unpack(listOps.get(i), ExecuteRequest.class);
+            if (processor == null)
+                {
+                processor = fromByteString(execute.getAgent());
+                }
+            listKeys.add(BinaryHelper.toBinary(execute.getKeys().getKey()));
+            }
+
+        Map<Binary, Binary> map;
+        try
+            {
+            map = proxy.invokeAll(listKeys, processor);
+            }
+        catch (Throwable t)
+            {
+            // the processor may have been executed for some of the keys, so the operations cannot be retried;
+            // report the results which are known and flag the others as indeterminate
+            Map<Binary, Binary> mapPartial = getPartialResult(t);
+            for (int i = iStart; i < iEnd; ++i)
+                {
+                Binary binKey = listKeys.get(i - iStart);
+                if (mapPartial.containsKey(binKey))
+                    {
+                    sendBatchResult(proxy, i, Collections.singletonList(
+                            BinaryHelper.packKeyAndValue(binKey, mapPartial.get(binKey))), null, false, observer);
+                    }
+                else
+                    {
+                    sendBatchResult(proxy, i, Collections.emptyList(), t, true, observer);
+                    }
+                }
+            return;
+            }
+
+        for (int i = iStart; i < iEnd; ++i)
+            {
+            Binary binKey = listKeys.get(i - iStart);
+            sendBatchResult(proxy, i, Collections.singletonList(BinaryHelper.packKeyAndValue(binKey, map.get(binKey))),
+                    null, false, observer);
+            }
+        }
+
+    /**
+     * Return the results which were obtained before a bulk invocation failed.
+     *
+     * @param t  the failure
+     *
+     * @return the partial results, which will be empty if there are none
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<Binary, Binary> getPartialResult(Throwable t)
+        {
+        for (Throwable cause = t; cause != null; cause = cause.getCause())
+            {
+            if (cause instanceof RequestIncompleteException)
+                {
+                Object oResult = ((RequestIncompleteException) cause).getPartialResult();
+                return oResult instanceof Map ? (Map<Binary, Binary>) oResult : Collections.emptyMap();
+                }
+            }
+        return Collections.emptyMap();
+        }
+
+    /**
+     * Execute a single batched operation as if it had been sent as a separate request.
+     *
+     * @param proxy     the {@link NamedCacheProxy} for the cache
+     * @param op        the operation to execute
+     * @param nIndex    the index of the operation in the batch
+     * @param observer  the {@link StreamObserver} to send the result to
+     */
+    protected void onBatchOperation(NamedCacheProxy proxy, NamedCacheRequest op, int nIndex,
+            StreamObserver<NamedCacheResponse> observer)
+        {
+        BatchOperationObserver observerOp = new BatchOperationObserver();
+        try
+            {
+            switch (op.getType())
+                {
+                case EnsureCache:
+                case Destroy:
+                case Batch:
+                    throw new IllegalArgumentException("Request type " + op.getType() + " cannot be used in a batch");
+                default:
+                    onCacheRequest(proxy.getCacheId(), proxy, op, observerOp);
+                }
+            }
+        catch (Throwable t)
+            {
+            observerOp.onError(t);
+            }
+        sendBatchResult(proxy, nIndex, observerOp.getMessages(), observerOp.getError(), false, observer);
+        }
+
+    /**
+     * Send the {@link BatchResult} for a batched operation.
+     *
+     * @param proxy      the {@link NamedCacheProxy} to use to obtain a cache identifier
+     * @param nIndex     the index of the operation in the batch
+     * @param listMsg    the response messages for the operation
+     * @param error      the error if the operation failed, or {@code null}
+     * @param fUnknown   {@code true} if the operation failed as part of a bulk call and may have been executed
+     * @param observer   the {@link StreamObserver} to send the result to
+     */
+    protected void sendBatchResult(NamedCacheProxy proxy, int nIndex, List<Any> listMsg, Throwable error,
+            boolean fUnknown, StreamObserver<NamedCacheResponse> observer)
+        {
+        BatchResult.Builder builder = BatchResult.newBuilder().setIndex(nIndex).setIndeterminate(fUnknown);
+        if (error == null)
+            {
+            builder.addAllMessages(listMsg);
+            }
+        else
+            {
+            String sMsg = error.getMessage();
+
+            ErrorMessage.Builder builderError = ErrorMessage.newBuilder()
+                    .setMessage(sMsg == null || sMsg.isEmpty() ? error.getClass().getSimpleName() : sMsg);
+            try
+                {
+                builderError.setError(BinaryHelper.toByteString(error, m_serializer));
+                }
+            catch (Throwable t)
+                {
+                // the error is not serializable, the message alone will have to do
+                }
+            builder.setError(builderError);
+            }
+
+        observer.onNext(response(proxy)
+                .setType(ResponseType.Message)
+                .setMessage(Any.pack(builder.build()))
+                .build());
+        }
+
     /**
      * Create a {@link NamedCacheResponse.Builder} with the cache
      * identifier set to the value of the cache identifier of
@@ -963,7 +1271,7 @@ public class NamedCacheProxyProtocol
      */
     protected void complete(Binary binary, NamedCacheProxy proxy, StreamObserver<NamedCacheResponse> observer)
         {
-        complete(BinaryHelper.toBytesValue(binary), proxy, observer);
+        complete(BinaryHelper.packBytesValue(binary), proxy, observer);
         }
 
     /**
@@ -1020,11 +1328,7 @@ public class NamedCacheProxyProtocol
      */
     protected void completeKeyValue(Binary binKey, Binary binValue, NamedCacheProxy proxy, StreamObserver<NamedCacheResponse> observer)
         {
-        BinaryKeyAndValue keyAndValue = BinaryKeyAndValue.newBuilder()
-                .setKey(BinaryHelper.toByteString(binKey))
-                .setValue(BinaryHelper.toByteString(binValue))
-                .build();
-        complete(keyAndValue, proxy, observer);
+        complete(BinaryHelper.packKeyAndValue(binKey, binValue), proxy, observer);
         }
 
     /**
@@ -1036,10 +1340,23 @@ public class NamedCacheProxyProtocol
      * @param observer  the {@link StreamObserver} to complete
      */
     protected void complete(Message message, NamedCacheProxy proxy, StreamObserver<NamedCacheResponse> observer)
+        {
+        complete(Any.pack(message), proxy, observer);
+        }
+
+    /**
+     * Send a {@link NamedCacheResponse} containing an already packed message to
+     * a {@link StreamObserver} and then complete the observer.
+     *
+     * @param any       the packed message to use to send a response before completing
+     * @param proxy     the {@link NamedCacheProxy} to use to obtain a cache identifier
+     * @param observer  the {@link StreamObserver} to complete
+     */
+    protected void complete(Any any, NamedCacheProxy proxy, StreamObserver<NamedCacheResponse> observer)
         {
         observer.onNext(response(proxy.getCacheId())
                 .setType(ResponseType.Message)
-                .setMessage(Any.pack(message))
+                .setMessage(any)
                 .build());
         observer.onCompleted();
         }
@@ -1082,14 +1399,9 @@ public class NamedCacheProxyProtocol
         int cacheId = proxy.getCacheId();
         for (Map.Entry<Binary, Binary> entry : map.entrySet())
             {
-            BinaryKeyAndValue keyAndValue = BinaryKeyAndValue.newBuilder()
-                    .setKey(BinaryHelper.toByteString(entry.getKey()))
-                    .setValue(BinaryHelper.toByteString(entry.getValue()))
-                    .build();
-
             observer.onNext(response(cacheId)
                     .setType(ResponseType.Message)
-                    .setMessage(Any.pack(keyAndValue))
+                    .setMessage(BinaryHelper.packKeyAndValue(entry.getKey(), entry.getValue()))
                     .build());
 
             }
@@ -1135,7 +1447,7 @@ public class NamedCacheProxyProtocol
             {
             observer.onNext(response(cacheId)
                     .setType(ResponseType.Message)
-                    .setMessage(Any.pack(BinaryHelper.toBytesValue(binary)))
+                    .setMessage(BinaryHelper.packBytesValue(binary))
                     .build());
 
             }
@@ -1191,8 +1503,8 @@ public class NamedCacheProxyProtocol
         {
         try
             {
-            Any any = request.getMessage();
-            return any.unpack(type);
+            // unpack without copying serialized keys and values out of the request
+            return BinaryHelper.unpack(request.getMessage(), type);
             }
         catch (InvalidProtocolBufferException e)
             {
@@ -1255,6 +1567,67 @@ public class NamedCacheProxyProtocol
         return  oResult == null ? defaultValue : oResult;
         }
 
+    // ----- inner class: BatchOperationObserver ----------------------------
+
+    /**
+     * A {@link StreamObserver} which collects the responses to a single batched operation.
+     */
+    protected static class BatchOperationObserver
+            implements StreamObserver<NamedCacheResponse>
+        {
+        @Override
+        public synchronized void onNext(NamedCacheResponse response)
+            {
+            if (response.hasMessage())
+                {
+                m_listMessages.add(response.getMessage());
+                }
+            }
+
+        @Override
+        public synchronized void onError(Throwable t)
+            {
+            m_error = t;
+            }
+
+        @Override
+        public void onCompleted()
+            {
+            }
+
+        /**
+         * Return the response messages collected for the operation.
+         *
+         * @return the response messages
+         */
+        public synchronized List<Any> getMessages()
+            {
+            return m_listMessages;
+            }
+
+        /**
+         * Return the error raised by the operation.
+         *
+         * @return the error, or {@code null} if the operation succeeded
+         */
+        public synchronized Throwable getError()
+            {
+            return m_error;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The response messages.
+         */
+        private final List<Any> m_listMessages = new ArrayList<>();
+
+        /**
+         * The error raised by the operation.
+         */
+        private Throwable m_error;
+        }
+
     // ----- inner class: ChannelStub ---------------------------------------
 
     /**
@@ -1516,4 +1889,9 @@ public class NamedCacheProxyProtocol
      * The optional container {@link Context} for this protocol.
      */
     private Context m_context;
+
+    /**
+     * The negotiated protocol version.
+     */
+    private int m_nVersion;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,11 +7,23 @@
 
 package com.oracle.coherence.grpc;
 
+import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.BytesValue;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Empty;
+import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
 import com.google.protobuf.StringValue;
 import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+
+import com.oracle.coherence.common.base.Exceptions;
+
+import com.oracle.coherence.grpc.messages.common.v1.BinaryKeyAndValue;
+import com.oracle.coherence.grpc.messages.common.v1.OptionalValue;
 
 import com.tangosol.io.MultiBufferReadBuffer;
 import com.tangosol.io.ReadBuffer;
@@ -26,6 +38,11 @@ import com.tangosol.net.partition.KeyPartitioningStrategy;
 import com.tangosol.util.Binary;
 import com.tangosol.util.ExternalizableHelper;
 
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -103,7 +120,14 @@ public final class BinaryHelper
      */
     public static ReadBuffer toReadBuffer(ByteString bytes)
         {
-        ReadBuffer[] readBuffers = bytes.asReadOnlyByteBufferList()
+        List<ByteBuffer> listBuffers = bytes.asReadOnlyByteBufferList();
+        if (listBuffers.size() == 1)
+            {
+            // the common case of a flat ByteString needs no composite buffer
+            return new ByteBufferReadBuffer(listBuffers.get(0));
+            }
+
+        ReadBuffer[] readBuffers = listBuffers
                 .stream()
                 .map(ByteBufferReadBuffer::new)
                 .toArray(ReadBuffer[]::new);
@@ -263,6 +287,114 @@ public final class BinaryHelper
                 .map(StringValue::of);
         }
 
+    /**
+     * Unpack the message contained in an {@link Any}.
+     * <p>
+     * Unlike {@link Any#unpack(Class)}, the bytes fields of the unpacked message
+     * share the memory of the {@link Any} rather than being copied out of it, so
+     * large serialized values are only copied once, when they are converted to
+     * a {@link Binary}.
+     *
+     * @param any   the {@link Any} to unpack
+     * @param type  the expected type of the message
+     * @param <T>   the expected type of the message
+     *
+     * @return the unpacked message
+     *
+     * @throws InvalidProtocolBufferException if the {@link Any} does not contain
+     *         a valid message of the expected type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Message> T unpack(Any any, Class<T> type)
+            throws InvalidProtocolBufferException
+        {
+        if (!any.is(type))
+            {
+            throw new InvalidProtocolBufferException("Type of the Any message does not match the given class.");
+            }
+
+        CodedInputStream in = any.getValue().newCodedInput();
+        in.enableAliasing(true);
+        return (T) Internal.getDefaultInstance(type).getParserForType().parseFrom(in);
+        }
+
+    /**
+     * Pack a {@link Binary} into an {@link Any} containing a {@link BytesValue}.
+     * <p>
+     * Large values are not copied; the returned {@link Any} wraps the memory of
+     * the {@link Binary}, which is only copied when the message is written out.
+     *
+     * @param binary  the {@link Binary} to pack, may be {@code null}
+     *
+     * @return an {@link Any} containing a {@link BytesValue}
+     */
+    public static Any packBytesValue(Binary binary)
+        {
+        ByteString bytes = toByteString(binary);
+        if (bytes.size() < ZERO_COPY_THRESHOLD)
+            {
+            return Any.pack(BytesValue.of(bytes));
+            }
+
+        return pack(TYPE_URL_BYTES_VALUE, toField(BytesValue.VALUE_FIELD_NUMBER, bytes));
+        }
+
+    /**
+     * Pack an optional {@link Binary} into an {@link Any} containing an
+     * {@link OptionalValue}.
+     * <p>
+     * Large values are not copied; the returned {@link Any} wraps the memory of
+     * the {@link Binary}, which is only copied when the message is written out.
+     *
+     * @param binary  the {@link Binary} to pack, or {@code null} if the value
+     *                is not present
+     *
+     * @return an {@link Any} containing an {@link OptionalValue}
+     */
+    public static Any packOptionalValue(Binary binary)
+        {
+        if (binary == null)
+            {
+            return Any.pack(OptionalValue.newBuilder().setPresent(false).build());
+            }
+
+        ByteString bytes = toByteString(binary);
+        if (bytes.size() < ZERO_COPY_THRESHOLD)
+            {
+            return Any.pack(OptionalValue.newBuilder().setPresent(true).setValue(bytes).build());
+            }
+
+        return pack(TYPE_URL_OPTIONAL_VALUE,
+                OPTIONAL_VALUE_PRESENT.concat(toField(OptionalValue.VALUE_FIELD_NUMBER, bytes)));
+        }
+
+    /**
+     * Pack a {@link Binary} key and value into an {@link Any} containing a
+     * {@link BinaryKeyAndValue}.
+     * <p>
+     * Large keys and values are not copied; the returned {@link Any} wraps the
+     * memory of the {@link Binary} instances, which is only copied when the
+     * message is written out.
+     *
+     * @param binKey    the {@link Binary} key, may be {@code null}
+     * @param binValue  the {@link Binary} value, may be {@code null}
+     *
+     * @return an {@link Any} containing a {@link BinaryKeyAndValue}
+     */
+    public static Any packKeyAndValue(Binary binKey, Binary binValue)
+        {
+        ByteString bytesKey   = toByteString(binKey);
+        ByteString bytesValue = toByteString(binValue);
+        if (bytesKey.size() + bytesValue.size() < ZERO_COPY_THRESHOLD)
+            {
+            return Any.pack(BinaryKeyAndValue.newBuilder().setKey(bytesKey).setValue(bytesValue).build());
+            }
+
+        return pack(TYPE_URL_BINARY_KEY_AND_VALUE,
+                toField(BinaryKeyAndValue.KEY_FIELD_NUMBER, bytesKey)
+                        .concat(toField(BinaryKeyAndValue.VALUE_FIELD_NUMBER, bytesValue)));
+        }
+
     public static ByteString toKeyByteString(Binary bin, Object obj, Serializer serializer)
         {
         Binary binDeco = bin;
@@ -285,8 +417,105 @@ public final class BinaryHelper
                 binDeco.calculateNaturalPartition(0)).toByteBuffer());
         }
 
+    /**
+     * Create an {@link Any} with the specified type URL and already encoded
+     * message.
+     *
+     * @param sTypeUrl  the type URL of the message
+     * @param bytes     the encoded message
+     *
+     * @return the {@link Any}
+     */
+    private static Any pack(String sTypeUrl, ByteString bytes)
+        {
+        return Any.newBuilder().setTypeUrl(sTypeUrl).setValue(bytes).build();
+        }
+
+    /**
+     * Encode a bytes field without copying its value.
+     * <p>
+     * The encoding is a rope of the field's tag and length followed by the
+     * value itself. As with the standard encoding of a proto3 message, an empty
+     * value is omitted.
+     *
+     * @param nField  the field number
+     * @param bytes   the field value
+     *
+     * @return the encoded field
+     */
+    private static ByteString toField(int nField, ByteString bytes)
+        {
+        if (bytes.isEmpty())
+            {
+            return ByteString.EMPTY;
+            }
+
+        byte[]            ab  = new byte[MAX_FIELD_PREFIX];
+        CodedOutputStream out = CodedOutputStream.newInstance(ab);
+        try
+            {
+            out.writeTag(nField, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(bytes.size());
+            }
+        catch (IOException e)
+            {
+            // cannot happen when writing to an array
+            throw Exceptions.ensureRuntimeException(e);
+            }
+
+        return UnsafeByteOperations.unsafeWrap(ab, 0, out.getTotalBytesWritten()).concat(bytes);
+        }
+
+    /**
+     * Return the type URL of the specified message type, as used by
+     * {@link Any#pack(Message)}.
+     *
+     * @param message  the default instance of the message type
+     *
+     * @return the type URL
+     */
+    private static String getTypeUrl(Message message)
+        {
+        return Any.pack(message).getTypeUrl();
+        }
+
     // ----- constants ------------------------------------------------------
 
+    /**
+     * The size in bytes at or above which serialized values are packed into an
+     * {@link Any} without being copied.
+     * <p>
+     * Smaller values are cheaper to copy than to wrap.
+     */
+    public static final int ZERO_COPY_THRESHOLD = 1024;
+
+    /**
+     * The maximum size of the tag and length of a length-delimited field.
+     */
+    private static final int MAX_FIELD_PREFIX = 2 * CodedOutputStream.computeUInt32SizeNoTag(Integer.MAX_VALUE);
+
+    /**
+     * The type URL of a {@link BytesValue}.
+     */
+    private static final String TYPE_URL_BYTES_VALUE = getTypeUrl(BytesValue.getDefaultInstance());
+
+    /**
+     * The type URL of an {@link OptionalValue}.
+     */
+    private static final String TYPE_URL_OPTIONAL_VALUE = getTypeUrl(OptionalValue.getDefaultInstance());
+
+    /**
+     * The type URL of a {@link BinaryKeyAndValue}.
+     */
+    private static final String TYPE_URL_BINARY_KEY_AND_VALUE = getTypeUrl(BinaryKeyAndValue.getDefaultInstance());
+
+    /**
+     * The encoded present flag of an {@link OptionalValue} whose value is present.
+     */
+    private static final ByteString OPTIONAL_VALUE_PRESENT =
+            OptionalValue.newBuilder().setPresent(true).build().toByteString();
+
+
     /**
      * Singleton {@link Empty}.
      */
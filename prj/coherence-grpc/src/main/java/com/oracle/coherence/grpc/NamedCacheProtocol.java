@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -46,7 +46,7 @@ public interface NamedCacheProtocol<Req extends Message, Resp extends Message>
     /**
      * The current protocol version.
      */
-    int VERSION = 1;
+    int VERSION = 2;
 
     /**
      * The minimum supported protocol version.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -185,9 +185,9 @@ public abstract class RequestHolder<Req, Res>
      */
     public Binary convertUp(Binary binary)
         {
-        if (binary == null)
+        if (binary == null || isPassThrough())
             {
-            return null;
+            return binary;
             }
         return ensureConverterUp().convert(binary);
         }
@@ -229,7 +229,7 @@ public abstract class RequestHolder<Req, Res>
      */
     public Binary convertDown(Binary binary)
         {
-        return ensureConverterDown().convert(binary);
+        return isPassThrough() ? binary : ensureConverterDown().convert(binary);
         }
 
     /**
@@ -270,7 +270,7 @@ public abstract class RequestHolder<Req, Res>
      */
     public ByteString toByteString(Binary binary)
         {
-        return BinaryHelper.toByteString(ensureConverterUp().apply(binary));
+        return BinaryHelper.toByteString(convertUp(binary));
         }
 
     /**
@@ -286,8 +286,8 @@ public abstract class RequestHolder<Req, Res>
     public Entry toEntry(Binary binKey, Binary binValue)
         {
         return Entry.newBuilder()
-                .setKey(BinaryHelper.toByteString(ensureConverterUp().apply(binKey)))
-                .setValue(BinaryHelper.toByteString(ensureConverterUp().apply(binValue)))
+                .setKey(toByteString(binKey))
+                .setValue(toByteString(binValue))
                 .build();
         }
 
@@ -303,8 +303,8 @@ public abstract class RequestHolder<Req, Res>
     public EntryResult toEntryResult(Map.Entry<Binary, Binary> entry)
         {
         return EntryResult.newBuilder()
-                .setKey(BinaryHelper.toByteString(ensureConverterUp().apply(entry.getKey())))
-                .setValue(BinaryHelper.toByteString(ensureConverterUp().apply(entry.getValue())))
+                .setKey(toByteString(entry.getKey()))
+                .setValue(toByteString(entry.getValue()))
                 .build();
         }
 
@@ -327,6 +327,23 @@ public abstract class RequestHolder<Req, Res>
         return OptionalValue.newBuilder().setPresent(false).build();
         }
 
+    /**
+     * Return {@code true} if the request and the cache use the same serialization
+     * format, so that serialized keys and values may be passed through as-is.
+     *
+     * @return {@code true} if serialized keys and values need no conversion
+     */
+    public boolean isPassThrough()
+        {
+        Boolean fPassThrough = m_fPassThrough;
+        if (fPassThrough == null)
+            {
+            m_fPassThrough = fPassThrough = f_sFormat == null || f_sFormat.trim().isEmpty()
+                    || f_sFormat.equals(getCacheFormat(f_service));
+            }
+        return fPassThrough;
+        }
+
     /**
      * Obtain the {@link Converter} used to convert between the request format
      * and the cache format; creating the {@link Converter} if required.
@@ -338,10 +355,8 @@ public abstract class RequestHolder<Req, Res>
         {
         if (m_converterDown == null)
             {
-            String sFormat = getCacheFormat(f_service);
-
             Converter<Binary, Binary> converter;
-            if (f_sFormat == null || f_sFormat.trim().isEmpty() || f_sFormat.equals(sFormat))
+            if (isPassThrough())
                 {
                 // pass-thru
                 converter = b -> b;
@@ -401,11 +416,10 @@ public abstract class RequestHolder<Req, Res>
         {
         if (m_converterUp == null)
             {
-            Serializer   serializer  = f_service.getSerializer();
-            String       cacheFormat = serializer.getName();
+            Serializer serializer = f_service.getSerializer();
 
             Converter<Binary, Binary> converter;
-            if (f_sFormat == null || f_sFormat.trim().isEmpty() || f_sFormat.equals(cacheFormat))
+            if (isPassThrough())
                 {
                 // pass-thru
                 converter = b -> b;
@@ -589,6 +603,12 @@ public abstract class RequestHolder<Req, Res>
      */
     protected Converter<Binary, Binary> m_converterUp;
 
+    /**
+     * Whether serialized keys and values may be passed through without
+     * conversion, or {@code null} if not yet determined.
+     */
+    protected Boolean m_fPassThrough;
+
     /**
      * The {@link Serializer} used by the request.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -10,14 +10,26 @@ import com.tangosol.coherence.rest.events.MapEventOutput;
 
 import com.tangosol.coherence.rest.io.Marshaller;
 import com.tangosol.coherence.rest.io.MarshallerRegistry;
+import com.tangosol.coherence.rest.io.PofJsonMarshaller;
+
+import com.tangosol.coherence.rest.util.PofContent;
 
 import com.tangosol.coherence.rest.util.PropertySet;
 
 import com.tangosol.coherence.rest.util.processor.ProcessorRegistry;
 
+import com.tangosol.internal.util.processor.CacheProcessors;
+
+import com.tangosol.io.Serializer;
+
+import com.tangosol.io.pof.PofContext;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.DistributedCacheService;
 import com.tangosol.net.NamedCache;
 
 import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.Versionable;
 
@@ -27,6 +39,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import java.util.Collections;
+import java.util.List;
 
 import jakarta.inject.Inject;
 
@@ -46,6 +59,7 @@ import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
 
 import org.glassfish.jersey.media.sse.SseFeature;
 
@@ -82,6 +96,10 @@ public class EntryResource
 
     /**
      * Return the entry value or a subset of its properties.
+     * <p>
+     * If the value is requested as JSON and the value class is configured
+     * with a {@link PofJsonMarshaller}, the value of an entry of a
+     * distributed cache that uses POF is returned without deserializing it.
      *
      * @param propertySet  properties to return (if null, value itself will
      *                     be returned)
@@ -92,7 +110,7 @@ public class EntryResource
     @GET
     public Response get(@MatrixParam("p") PropertySet propertySet, @Context Request request)
         {
-        Object oValue = getValue();
+        Object oValue = propertySet == null && isPofJson(request) ? getPofContent() : getValue();
         if (oValue == null)
             {
             return Response.status(Response.Status.NOT_FOUND).build();
@@ -253,6 +271,52 @@ public class EntryResource
         return m_cache.get(m_oKey);
         }
 
+    /**
+     * Get the serialized entry value.
+     *
+     * @return serialized entry value, or null if the entry does not exist
+     */
+    protected PofContent getPofContent()
+        {
+        Binary binValue = (Binary) m_cache.invoke(m_oKey, CacheProcessors.binaryGet());
+        return binValue == null
+               ? null
+               : new PofContent(binValue, (PofContext) m_cache.getCacheService().getSerializer());
+        }
+
+    /**
+     * Return true if the entry value should be returned in its serialized
+     * form, to be transcoded into JSON by a {@link PofJsonMarshaller}.
+     * <p>
+     * This is the case if JSON is the preferred media type of the request,
+     * the value class is configured with a PofJsonMarshaller, and the cache
+     * is a distributed cache that uses POF. Values of a
+     * {@link Versionable} class are always deserialized, as their version
+     * is required to evaluate the request preconditions.
+     *
+     * @param request  current HTTP request
+     *
+     * @return true if the serialized entry value should be returned
+     */
+    protected boolean isPofJson(Request request)
+        {
+        if (m_marshallerRegistry == null || Versionable.class.isAssignableFrom(m_clzValue)
+            || !(m_marshallerRegistry.getMarshaller(m_clzValue, MediaType.APPLICATION_JSON_TYPE) instanceof PofJsonMarshaller))
+            {
+            return false;
+            }
+
+        CacheService service    = m_cache.getCacheService();
+        Serializer   serializer = service == null ? null : service.getSerializer();
+        if (!(service instanceof DistributedCacheService) || !(serializer instanceof PofContext))
+            {
+            return false;
+            }
+
+        Variant variant = request.selectVariant(VARIANTS);
+        return variant != null && MediaType.APPLICATION_JSON_TYPE.isCompatible(variant.getMediaType());
+        }
+
     /**
      * Set the entry value.
      *
@@ -294,6 +358,15 @@ public class EntryResource
         return m_cache.keySet().contains(m_oKey);
         }
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The media types an entry value can be returned as, in order of
+     * preference.
+     */
+    protected static final List<Variant> VARIANTS = Variant.mediaTypes(
+            MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_XML_TYPE, MediaType.TEXT_PLAIN_TYPE).build();
+
     // ----- data members ---------------------------------------------------
 
     /**
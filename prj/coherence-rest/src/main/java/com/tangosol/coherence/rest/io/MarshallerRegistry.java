@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,6 +11,7 @@ import com.oracle.coherence.common.base.Logger;
 import com.tangosol.coherence.rest.DefaultKeyConverter;
 
 import com.tangosol.coherence.rest.util.JsonMap;
+import com.tangosol.coherence.rest.util.PofContent;
 import com.tangosol.coherence.rest.util.StaticContent;
 
 import com.tangosol.util.Base;
@@ -64,6 +65,7 @@ public class MarshallerRegistry
         registerMarshaller(StaticContent.class, MediaType.WILDCARD_TYPE,    new StaticContentMarshaller());
         registerMarshaller(StaticContent.class, MediaType.APPLICATION_JSON, new JacksonJsonMarshaller<>(JsonMap.class));  // JsonMap --> JSON
         registerMarshaller(JsonMap.class,       MediaType.APPLICATION_JSON, new JacksonJsonMarshaller<>(JsonMap.class));  // JSON -> JsonMap
+        registerMarshaller(PofContent.class,    MediaType.APPLICATION_JSON, new PofJsonMarshaller<>(PofContent.class));   // POF --> JSON
 
         // register marshallers for primitive types
         registerMarshaller(Short.class, MediaType.WILDCARD_TYPE,
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.rest.io;
+
+import com.tangosol.coherence.rest.util.PofContent;
+
+import com.tangosol.io.pof.JsonPofHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * A JSON marshaller that transcodes values stored using POF directly into
+ * JSON, without deserializing them.
+ * <p>
+ * This marshaller is enabled for a resource by configuring it as the
+ * {@code application/json} marshaller of the resource's value class. A
+ * single entry of a resource backed by a distributed cache that uses POF
+ * is then read in its serialized form and written using the JSON mapping
+ * described by {@link JsonPofHandler}. All other values, as well as
+ * unmarshalled requests, are handled as by a {@link JacksonJsonMarshaller}.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ */
+public class PofJsonMarshaller<T>
+        extends JacksonJsonMarshaller<T>
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct PofJsonMarshaller instance.
+     *
+     * @param clzRoot  class of the root object this marshaller is for
+     */
+    public PofJsonMarshaller(Class<T> clzRoot)
+        {
+        super(clzRoot);
+        }
+
+    // ---- Marshaller implementation ---------------------------------------
+
+    @Override
+    public void marshal(T value, OutputStream out, MultivaluedMap<String, Object> httpHeaders) throws IOException
+        {
+        if (value instanceof PofContent)
+            {
+            PofContent content = (PofContent) value;
+            Writer     writer  = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+
+            JsonPofHandler.toJson(content.getContent(), content.getPofContext(), writer);
+            writer.flush();
+            }
+        else
+            {
+            super.marshal(value, out, httpHeaders);
+            }
+        }
+    }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.rest.util;
+
+
+import com.tangosol.io.pof.PofContext;
+
+import com.tangosol.util.Binary;
+
+
+/**
+ * The serialized form of a cache value stored using POF, which allows the
+ * value to be marshalled without deserializing it first.
+ *
+ * @author rl  2026.10.19
+ * @since 24.09
+ *
+ * @see com.tangosol.coherence.rest.io.PofJsonMarshaller
+ */
+public class PofContent
+    {
+    // ---- constructors ----------------------------------------------------
+
+    /**
+     * Construct PofContent instance.
+     *
+     * @param binContent  the POF-encoded value, as stored in the cache
+     * @param ctx         the PofContext the value was serialized with
+     */
+    public PofContent(Binary binContent, PofContext ctx)
+        {
+        m_binContent = binContent;
+        m_ctx        = ctx;
+        }
+
+    // ---- accessors -------------------------------------------------------
+
+    /**
+     * Return the POF-encoded value.
+     *
+     * @return the POF-encoded value
+     */
+    public Binary getContent()
+        {
+        return m_binContent;
+        }
+
+    /**
+     * Return the PofContext the value was serialized with.
+     *
+     * @return the PofContext the value was serialized with
+     */
+    public PofContext getPofContext()
+        {
+        return m_ctx;
+        }
+
+    // ---- data members ----------------------------------------------------
+
+    /**
+     * The POF-encoded value.
+     */
+    protected final Binary m_binContent;
+
+    /**
+     * The PofContext the value was serialized with.
+     */
+    protected final PofContext m_ctx;
+    }
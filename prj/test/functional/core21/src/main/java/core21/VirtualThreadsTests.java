@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,11 +8,16 @@
 package core21;
 
 
+import com.tangosol.coherence.component.util.DaemonPool;
 import com.tangosol.internal.util.VirtualThreads;
 import com.tangosol.net.CacheFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
@@ -24,6 +29,9 @@ public class VirtualThreadsTests
         {
         System.clearProperty(PROPERTY_ENABLED);
         System.clearProperty(PROPERTY_SERVICE_ENABLED);
+        System.clearProperty(PROPERTY_PER_TASK_ENABLED);
+        System.clearProperty(PROPERTY_SERVICE_PER_TASK_ENABLED);
+        System.clearProperty(PROPERTY_SERVICE_PER_TASK_LIMIT);
         CacheFactory.shutdown();
         }
 
@@ -77,7 +85,148 @@ public class VirtualThreadsTests
         assertThat(VirtualThreads.isEnabled(SERVICE_NAME), is(false));
         }
 
+    @Test
+    public void ensurePerTaskIsDisabledByDefault()
+        {
+        assertThat(VirtualThreads.isPerTaskEnabled(null), is(false));
+        assertThat(VirtualThreads.isPerTaskEnabled(SERVICE_NAME), is(false));
+        }
+
+    @Test
+    public void ensurePerTaskCanBeEnabledForService()
+        {
+        System.setProperty(PROPERTY_SERVICE_PER_TASK_ENABLED, "true");
+        assertThat(VirtualThreads.isPerTaskEnabled(null), is(false));
+        assertThat(VirtualThreads.isPerTaskEnabled(SERVICE_NAME), is(true));
+        }
+
+    @Test
+    public void ensurePerTaskIsDisabledWithVirtualThreads()
+        {
+        System.setProperty(PROPERTY_SERVICE_ENABLED, "false");
+        System.setProperty(PROPERTY_PER_TASK_ENABLED, "true");
+        assertThat(VirtualThreads.isPerTaskEnabled(null), is(true));
+        assertThat(VirtualThreads.isPerTaskEnabled(SERVICE_NAME), is(false));
+        }
+
+    @Test
+    public void ensurePerTaskLimitCanBeSetForService()
+        {
+        assertThat(VirtualThreads.getPerTaskLimit(SERVICE_NAME), is(VirtualThreads.DEFAULT_PER_TASK_LIMIT));
+        System.setProperty(PROPERTY_SERVICE_PER_TASK_LIMIT, "5");
+        assertThat(VirtualThreads.getPerTaskLimit(SERVICE_NAME), is(5));
+        }
+
+    @Test
+    public void ensureDaemonPoolRunsTasksOnVirtualThreads()
+            throws Exception
+        {
+        System.setProperty(PROPERTY_SERVICE_PER_TASK_ENABLED, "true");
+        System.setProperty(PROPERTY_SERVICE_PER_TASK_LIMIT, "1");
+
+        DaemonPool pool = new DaemonPool();
+        pool.setName(SERVICE_NAME);
+        pool.setDaemonCountMin(1);
+        pool.setDaemonCountMax(1);
+        pool.setDaemonCount(1);
+        pool.start();
+        try
+            {
+            assertThat(pool.getVirtualTaskLimit(), is(1));
+
+            // the first task holds the only permit, so the second overflows to the pool's daemon
+            CountDownLatch            latch   = new CountDownLatch(1);
+            CompletableFuture<Thread> future1 = new CompletableFuture<>();
+            CompletableFuture<Thread> future2 = new CompletableFuture<>();
+
+            pool.add(() ->
+                {
+                future1.complete(Thread.currentThread());
+                try
+                    {
+                    latch.await();
+                    }
+                catch (InterruptedException ignored)
+                    {
+                    }
+                });
+            Thread thread1 = future1.get(1, TimeUnit.MINUTES);
+
+            pool.add(() -> future2.complete(Thread.currentThread()));
+            Thread thread2 = future2.get(1, TimeUnit.MINUTES);
+
+            assertThat(thread1.isVirtual(), is(true));
+            assertThat(thread1.getName().startsWith(SERVICE_NAME + "Virtual:"), is(true));
+            assertThat(thread2.getName().startsWith(SERVICE_NAME + "Virtual:"), is(false));
+            assertThat(pool.getVirtualTaskCount(), is(1));
+
+            latch.countDown();
+            thread1.join(TimeUnit.MINUTES.toMillis(1));
+            assertThat(pool.getVirtualTaskCount(), is(0));
+            assertThat(pool.getStatsVirtualTaskCount().get(), is(1L));
+            }
+        finally
+            {
+            pool.stop();
+            }
+        }
+
+    @Test
+    public void ensureHungVirtualTaskIsReported()
+            throws Exception
+        {
+        System.setProperty(PROPERTY_SERVICE_PER_TASK_ENABLED, "true");
+
+        DaemonPool pool = new DaemonPool();
+        pool.setName(SERVICE_NAME);
+        pool.setDaemonCountMin(1);
+        pool.setDaemonCountMax(1);
+        pool.setDaemonCount(1);
+        pool.setHungThreshold(10L);
+        pool.start();
+        try
+            {
+            CountDownLatch            latch  = new CountDownLatch(1);
+            CompletableFuture<Thread> future = new CompletableFuture<>();
+
+            pool.add(() ->
+                {
+                future.complete(Thread.currentThread());
+                try
+                    {
+                    latch.await();
+                    }
+                catch (InterruptedException ignored)
+                    {
+                    }
+                });
+            Thread thread = future.get(1, TimeUnit.MINUTES);
+            assertThat(thread.isVirtual(), is(true));
+            assertThat(pool.getActiveDaemonCount(), is(1));
+
+            Thread.sleep(100L);
+            pool.checkHungTasks();
+            assertThat(pool.getStatsHungCount(), is(1));
+
+            latch.countDown();
+            thread.join(TimeUnit.MINUTES.toMillis(1));
+
+            pool.checkHungTasks();
+            assertThat(pool.getStatsHungCount(), is(0));
+            assertThat(pool.getActiveDaemonCount(), is(0));
+            assertThat(pool.getStatsTaskAddCount().get(), is(1L));
+            assertThat(pool.getStatsTaskCount(), is(1L));
+            }
+        finally
+            {
+            pool.stop();
+            }
+        }
+
     private static final String SERVICE_NAME = "Foo";
     private static final String PROPERTY_ENABLED = VirtualThreads.PROPERTY_ENABLED;
     private static final String PROPERTY_SERVICE_ENABLED = VirtualThreads.PROPERTY_SERVICE_ENABLED.apply(SERVICE_NAME);
+    private static final String PROPERTY_PER_TASK_ENABLED = VirtualThreads.PROPERTY_PER_TASK_ENABLED;
+    private static final String PROPERTY_SERVICE_PER_TASK_ENABLED = VirtualThreads.PROPERTY_SERVICE_PER_TASK_ENABLED.apply(SERVICE_NAME);
+    private static final String PROPERTY_SERVICE_PER_TASK_LIMIT = VirtualThreads.PROPERTY_SERVICE_PER_TASK_LIMIT.apply(SERVICE_NAME);
     }
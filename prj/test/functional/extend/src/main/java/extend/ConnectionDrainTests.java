@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package extend;
+
+import com.oracle.bedrock.runtime.coherence.CoherenceClusterMember;
+
+import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+
+import com.oracle.coherence.common.base.Blocking;
+
+import com.oracle.coherence.testing.AbstractFunctionalTest;
+
+import com.tangosol.coherence.component.net.extend.RemoteNamedCache;
+
+import com.tangosol.coherence.component.util.SafeNamedCache;
+import com.tangosol.coherence.component.util.SafeService;
+
+import com.tangosol.coherence.component.util.daemon.queueProcessor.service.grid.ProxyService;
+
+import com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.acceptor.TcpAcceptor;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConnectionException;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.messaging.Connection;
+
+import com.tangosol.util.InvocableMap;
+
+import com.tangosol.util.processor.AbstractProcessor;
+
+import java.io.IOException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static com.oracle.bedrock.deferred.DeferredHelper.invoking;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Functional tests for the draining of Extend connections, which a proxy
+ * uses to close a connection for load balancing without failing the
+ * requests in flight on it.
+ *
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class ConnectionDrainTests
+        extends AbstractFunctionalTest
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Default constructor.
+     */
+    public ConnectionDrainTests()
+        {
+        super("client-cache-config.xml");
+        }
+
+    // ----- test lifecycle -------------------------------------------------
+
+    /**
+     * Initialize the test class.
+     */
+    @BeforeClass
+    public static void startup()
+        {
+        s_memberProxy = startCacheServer("ConnectionDrainTests", "extend", "server-cache-config.xml");
+        Eventually.assertThat(invoking(s_memberProxy).isServiceRunning("ExtendTcpProxyService"), is(true));
+        }
+
+    /**
+     * Shutdown the test class.
+     */
+    @AfterClass
+    public static void shutdown()
+        {
+        stopCacheServer("ConnectionDrainTests");
+        }
+
+    // ----- test methods ---------------------------------------------------
+
+    /**
+     * Test that a draining connection sends the responses to all the
+     * requests in flight on it, is then closed, and that its client
+     * reconnects.
+     */
+    @Test
+    public void testDrain()
+            throws Exception
+        {
+        NamedCache cache = getFactory().ensureCache("dist-extend-direct", null);
+        cache.put("key", 0);
+
+        Connection connection = getConnection(cache);
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try
+            {
+            Future[] aFuture = new Future[REQUESTS];
+            for (int i = 0; i < REQUESTS; i++)
+                {
+                aFuture[i] = executor.submit(() -> cache.invoke("key", new SlowProcessor(PROCESS_MILLIS)));
+                }
+
+            // drain the connection once the requests are in flight, with a
+            // deadline well past the time they take
+            Eventually.assertDeferred(() -> s_memberProxy.invoke(new DrainBusyConnections(60000L)), is(1));
+
+            int nSum = 0;
+            for (Future future : aFuture)
+                {
+                nSum += (Integer) future.get(1, TimeUnit.MINUTES);
+                }
+            assertThat(nSum, is(REQUESTS * (REQUESTS + 1) / 2));
+
+            // the connection is closed once it is idle
+            Eventually.assertDeferred(connection::isOpen, is(false));
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+
+        // the client reconnects over a new connection
+        Eventually.assertDeferred(() -> cache.get("key"), is(REQUESTS));
+        assertThat(getConnection(cache), is(not(sameInstance(connection))));
+        assertThat(getConnection(cache).isOpen(), is(true));
+
+        cache.put("key", 0);
+        assertThat(cache.invoke("key", new SlowProcessor(0L)), is(1));
+        }
+
+    /**
+     * Test that a draining connection that is still busy when its drain
+     * deadline expires is left open.
+     */
+    @Test
+    public void testDrainDeadline()
+            throws Exception
+        {
+        NamedCache cache = getFactory().ensureCache("dist-extend-direct", null);
+        cache.put("key", 0);
+
+        Connection connection = getConnection(cache);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+            {
+            Future future = executor.submit(() -> cache.invoke("key", new SlowProcessor(PROCESS_MILLIS)));
+
+            // drain the connection once the request is in flight, with a
+            // deadline that expires before the request is processed
+            Eventually.assertDeferred(() -> s_memberProxy.invoke(new DrainBusyConnections(PROCESS_MILLIS / 4)), is(1));
+
+            assertThat(future.get(1, TimeUnit.MINUTES), is(1));
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+
+        // the connection stays open and keeps serving requests
+        for (int i = 0; i < REQUESTS; i++)
+            {
+            assertThat(cache.invoke("key", new SlowProcessor(0L)), is(i + 2));
+            }
+        assertThat(getConnection(cache), is(sameInstance(connection)));
+        assertThat(connection.isOpen(), is(true));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the Connection used by a remote cache.
+     *
+     * @param cache  the remote cache
+     *
+     * @return the Connection used by the cache
+     */
+    protected static Connection getConnection(NamedCache cache)
+        {
+        RemoteNamedCache.BinaryCache binCache =
+                ((RemoteNamedCache) ((SafeNamedCache) cache).getNamedCache()).getBinaryCache();
+
+        return binCache.getChannel().getConnection();
+        }
+
+    // ----- inner class: DrainBusyConnections ------------------------------
+
+    /**
+     * A {@link RemoteCallable} that drains every open connection of the
+     * proxy service that has requests in flight.
+     */
+    public static class DrainBusyConnections
+            implements RemoteCallable<Integer>
+        {
+        /**
+         * Construct a DrainBusyConnections.
+         *
+         * @param cMillis  the number of milliseconds to wait for a
+         *                 connection to become idle
+         */
+        public DrainBusyConnections(long cMillis)
+            {
+            m_cMillis = cMillis;
+            }
+
+        @Override
+        public Integer call()
+            {
+            ProxyService proxy    = (ProxyService) ((SafeService) CacheFactory.getService("ExtendTcpProxyService")).getService();
+            TcpAcceptor  acceptor = (TcpAcceptor) proxy.getAcceptor();
+            int          cDrain   = 0;
+
+            for (Object o : acceptor.getConnectionSet().toArray())
+                {
+                TcpAcceptor.TcpConnection conn = (TcpAcceptor.TcpConnection) o;
+                if (conn.isOpen() && !conn.isIdle())
+                    {
+                    conn.closeWhenIdle(new ConnectionException("connection drained by test"), m_cMillis);
+                    cDrain++;
+                    }
+                }
+            return cDrain;
+            }
+
+        /**
+         * The number of milliseconds to wait for a connection to become idle.
+         */
+        protected final long m_cMillis;
+        }
+
+    // ----- inner class: SlowProcessor -------------------------------------
+
+    /**
+     * An EntryProcessor that increments an Integer value after a delay.
+     */
+    public static class SlowProcessor
+            extends AbstractProcessor
+            implements PortableObject
+        {
+        /**
+         * Default constructor (necessary for the PortableObject interface).
+         */
+        public SlowProcessor()
+            {
+            }
+
+        /**
+         * Construct a SlowProcessor.
+         *
+         * @param cMillis  the number of milliseconds to wait before the
+         *                 value is incremented
+         */
+        public SlowProcessor(long cMillis)
+            {
+            m_cMillis = cMillis;
+            }
+
+        @Override
+        public Object process(InvocableMap.Entry entry)
+            {
+            try
+                {
+                Blocking.sleep(m_cMillis);
+                }
+            catch (InterruptedException e)
+                {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+                }
+
+            int nValue = (Integer) entry.getValue() + 1;
+            entry.setValue(nValue);
+            return nValue;
+            }
+
+        @Override
+        public void readExternal(PofReader in)
+                throws IOException
+            {
+            m_cMillis = in.readLong(0);
+            }
+
+        @Override
+        public void writeExternal(PofWriter out)
+                throws IOException
+            {
+            out.writeLong(0, m_cMillis);
+            }
+
+        /**
+         * The number of milliseconds to wait before the value is incremented.
+         */
+        protected long m_cMillis;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of concurrent requests in flight.
+     */
+    protected static final int REQUESTS = 4;
+
+    /**
+     * The number of milliseconds a slow request takes to be processed.
+     */
+    protected static final long PROCESS_MILLIS = 2000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The cache server that runs the proxy service.
+     */
+    protected static CoherenceClusterMember s_memberProxy;
+    }
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package extend;
+
+import com.oracle.bedrock.runtime.coherence.CoherenceClusterMember;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+
+import com.oracle.coherence.testing.AbstractFunctionalTest;
+
+import com.tangosol.coherence.component.net.extend.RemoteNamedCache;
+
+import com.tangosol.coherence.component.util.SafeNamedCache;
+
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.messaging.Channel;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapListenerSupport;
+import com.tangosol.util.MultiplexingMapListener;
+
+import com.tangosol.util.processor.NumberIncrementor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static com.oracle.bedrock.deferred.DeferredHelper.invoking;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Functional tests for a remote cache service with a connection pool, set
+ * with {@code <connection-pool-size>}.
+ *
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class ConnectionPoolTests
+        extends AbstractFunctionalTest
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Default constructor.
+     */
+    public ConnectionPoolTests()
+        {
+        super("client-cache-config-pool.xml");
+        }
+
+    // ----- test lifecycle -------------------------------------------------
+
+    /**
+     * Initialize the test class.
+     */
+    @BeforeClass
+    public static void startup()
+        {
+        CoherenceClusterMember memberProxy = startCacheServer("ConnectionPoolTests", "extend",
+                                                "server-cache-config.xml");
+        Eventually.assertThat(invoking(memberProxy).isServiceRunning("ExtendTcpProxyService"), is(true));
+        }
+
+    /**
+     * Shutdown the test class.
+     */
+    @AfterClass
+    public static void shutdown()
+        {
+        stopCacheServer("ConnectionPoolTests");
+        }
+
+    // ----- test methods ---------------------------------------------------
+
+    /**
+     * Test that stateless requests from concurrent threads are spread over,
+     * and answered on, the pooled connections.
+     */
+    @Test
+    public void testStatelessRequests()
+            throws Exception
+        {
+        NamedCache cache = getFactory().ensureCache("dist-pool-stateless", null);
+        cache.clear();
+
+        assertPooled(cache, 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+            {
+            List<Future<?>> listFuture = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++)
+                {
+                int nThread = i;
+                listFuture.add(executor.submit(() ->
+                    {
+                    for (int j = 0; j < OPERATIONS; j++)
+                        {
+                        String sKey = nThread + "-" + j;
+
+                        cache.put(sKey, j);
+                        assertThat(cache.get(sKey), is(j));
+                        assertThat(cache.invoke(sKey, new NumberIncrementor((String) null, 1, false)), is(j + 1));
+                        }
+                    }));
+                }
+
+            for (Future<?> future : listFuture)
+                {
+                future.get(1, TimeUnit.MINUTES);
+                }
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+
+        Map mapPut = new HashMap();
+        for (int i = 0; i < OPERATIONS; i++)
+            {
+            mapPut.put("all-" + i, i);
+            }
+        cache.putAll(mapPut);
+
+        assertThat(cache.getAll(mapPut.keySet()), is(mapPut));
+        assertThat(cache.size(), is(THREADS * OPERATIONS + OPERATIONS));
+        }
+
+    /**
+     * Test that a lock pins a cache to its primary connection without
+     * closing the pooled channels under requests already sent over them.
+     */
+    @Test
+    public void testLock()
+        {
+        NamedCache cache = getFactory().ensureCache("dist-pool-lock", null);
+        cache.clear();
+
+        Channel[] aChannel = getBinaryCache(cache).getPooledChannels();
+
+        assertThat(cache.lock("key", 0L), is(true));
+        try
+            {
+            assertThat(getBinaryCache(cache).isPinned(), is(true));
+
+            cache.put("key", "value");
+            assertThat(cache.get("key"), is("value"));
+
+            // the pooled channels remain open until the cache is released
+            assertThat(getBinaryCache(cache).getPooledChannels(), is(sameInstance(aChannel)));
+            for (Channel channel : aChannel)
+                {
+                assertThat(channel.isOpen(), is(true));
+                }
+            }
+        finally
+            {
+            cache.unlock("key");
+            }
+        }
+
+    /**
+     * Test that a listener pins a cache to its primary connection, so that
+     * an event is received before the response to the update that caused it.
+     */
+    @Test
+    public void testListener()
+        {
+        NamedCache cache = getFactory().ensureCache("dist-pool-listener", null);
+        cache.clear();
+
+        BlockingQueue<MapEvent> queue = new LinkedBlockingQueue<>();
+        cache.addMapListener(new SynchronousQueueListener(queue));
+
+        assertThat(getBinaryCache(cache).isPinned(), is(true));
+
+        for (int i = 0; i < OPERATIONS; i++)
+            {
+            cache.put("key", i);
+
+            MapEvent evt = queue.poll();
+            assertThat(evt, is(notNullValue()));
+            assertThat(evt.getNewValue(), is(i));
+            }
+        }
+
+    /**
+     * Test that a pooled connection that fails is skipped.
+     */
+    @Test
+    public void testFailedPooledConnection()
+        {
+        NamedCache cache = getFactory().ensureCache("dist-pool-failed", null);
+        cache.clear();
+
+        Channel[] aChannel = getBinaryCache(cache).getPooledChannels();
+        aChannel[0].getConnection().close();
+
+        Eventually.assertDeferred(() -> aChannel[0].isOpen(), is(false));
+
+        for (int i = 0; i < OPERATIONS; i++)
+            {
+            cache.put(i, i);
+            assertThat(cache.get(i), is(i));
+            }
+        assertThat(cache.size(), is(OPERATIONS));
+        }
+
+    /**
+     * Test that the pooled connections are reopened when the primary
+     * connection reconnects.
+     */
+    @Test
+    public void testReconnect()
+        {
+        NamedCache cache = getFactory().ensureCache("dist-pool-reconnect", null);
+        cache.clear();
+        cache.put("key", "value");
+
+        RemoteNamedCache.BinaryCache binCache = getBinaryCache(cache);
+        binCache.getChannel().getConnection().close();
+
+        Eventually.assertDeferred(() -> cache.get("key"), is("value"));
+
+        assertThat(getBinaryCache(cache), is(not(sameInstance(binCache))));
+        assertPooled(cache, 2);
+
+        cache.put("key", "value2");
+        assertThat(cache.get("key"), is("value2"));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the BinaryCache of a remote cache.
+     *
+     * @param cache  the remote cache
+     *
+     * @return the BinaryCache of the cache
+     */
+    protected static RemoteNamedCache.BinaryCache getBinaryCache(NamedCache cache)
+        {
+        return ((RemoteNamedCache) ((SafeNamedCache) cache).getNamedCache()).getBinaryCache();
+        }
+
+    /**
+     * Assert that a remote cache has the specified number of open pooled
+     * channels, each over its own connection.
+     *
+     * @param cache   the remote cache
+     * @param cPool   the expected number of pooled channels
+     */
+    protected static void assertPooled(NamedCache cache, int cPool)
+        {
+        RemoteNamedCache.BinaryCache binCache = getBinaryCache(cache);
+        Channel[]                    aChannel = binCache.getPooledChannels();
+
+        assertThat(aChannel, is(notNullValue()));
+        assertThat(aChannel.length, is(cPool));
+        for (Channel channel : aChannel)
+            {
+            assertThat(channel, is(notNullValue()));
+            assertThat(channel.isOpen(), is(true));
+            assertThat(channel.getConnection(), is(not(sameInstance(binCache.getChannel().getConnection()))));
+            }
+        }
+
+    // ----- inner class: SynchronousQueueListener -------------------------
+
+    /**
+     * A synchronous MapListener that adds the events it receives to a
+     * queue. A synchronous listener receives an event as soon as it arrives,
+     * so it can be checked against the response to the same update.
+     */
+    protected static class SynchronousQueueListener
+            extends MultiplexingMapListener
+            implements MapListenerSupport.SynchronousListener
+        {
+        /**
+         * Construct a SynchronousQueueListener.
+         *
+         * @param queue  the queue to add events to
+         */
+        public SynchronousQueueListener(BlockingQueue<MapEvent> queue)
+            {
+            m_queue = queue;
+            }
+
+        @Override
+        protected void onMapEvent(MapEvent evt)
+            {
+            m_queue.add(evt);
+            }
+
+        /**
+         * The queue to add events to.
+         */
+        protected final BlockingQueue<MapEvent> m_queue;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of concurrent client threads.
+     */
+    protected static final int THREADS = 8;
+
+    /**
+     * The number of operations performed by each test.
+     */
+    protected static final int OPERATIONS = 100;
+    }
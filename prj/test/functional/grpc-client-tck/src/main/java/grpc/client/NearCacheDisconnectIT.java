@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package grpc.client;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+
+import com.oracle.coherence.grpc.client.common.AsyncNamedCacheClient;
+import com.oracle.coherence.grpc.client.common.GrpcConnection;
+
+import com.oracle.coherence.grpc.client.common.v1.GrpcConnectionV1;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.Serializer;
+
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.cache.CachingMap;
+import com.tangosol.net.cache.LocalCache;
+
+import io.grpc.Status;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests that the front map of a near cache over a gRPC client is
+ * invalidated when the connection to the proxy is lost.
+ *
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings("unchecked")
+public class NearCacheDisconnectIT
+    {
+    @Test
+    public void shouldClearFrontMapWhenConnectionIsLost()
+        {
+        NamedCache<String, String> cache = s_serverHelper.getSession().getCache("near-disconnect");
+        cache.put("key-1", "value-1");
+
+        Serializer     serializer = new DefaultSerializer();
+        GrpcConnection connection = s_serverHelper.newConnection(serializer);
+        assumeTrue(connection instanceof GrpcConnectionV1, "requires the version 1 protocol");
+
+        AsyncNamedCacheClient<String, String> client = (AsyncNamedCacheClient<String, String>)
+                s_serverHelper.newClient(s_serverHelper.m_sScope, cache.getCacheName(), "", serializer, connection);
+
+        CachingMap<String, String> mapNear = new CachingMap<>(new LocalCache(), client.getNamedCache(),
+                CachingMap.LISTEN_PRESENT);
+
+        assertThat(mapNear.get("key-1"), is("value-1"));
+        assertThat(mapNear.getFrontMap().containsKey("key-1"), is(true));
+
+        // a failure of the proxy stream closes the connection
+        ((GrpcConnectionV1) connection).onError(Status.UNAVAILABLE.asRuntimeException());
+
+        Eventually.assertDeferred(() -> mapNear.getFrontMap().isEmpty(), is(true));
+        assertThat(client.isActiveInternal(), is(false));
+        }
+
+    @Test
+    public void shouldNotClearFrontMapWhenAnotherCacheIsReleased()
+        {
+        NamedCache<String, String> cache = s_serverHelper.getSession().getCache("near-release");
+        cache.put("key-1", "value-1");
+
+        Serializer     serializer = new DefaultSerializer();
+        GrpcConnection connection = s_serverHelper.newConnection(serializer);
+        assumeTrue(connection instanceof GrpcConnectionV1, "requires the version 1 protocol");
+
+        AsyncNamedCacheClient<String, String> client = (AsyncNamedCacheClient<String, String>)
+                s_serverHelper.newClient(s_serverHelper.m_sScope, cache.getCacheName(), "", serializer, connection);
+
+        CachingMap<String, String> mapNear = new CachingMap<>(new LocalCache(), client.getNamedCache(),
+                CachingMap.LISTEN_PRESENT);
+
+        assertThat(mapNear.get("key-1"), is("value-1"));
+
+        // releasing another cache's client on the same connection leaves this one intact
+        AsyncNamedCacheClient<String, String> clientOther = (AsyncNamedCacheClient<String, String>)
+                s_serverHelper.newClient(s_serverHelper.m_sScope, "near-other", "", serializer, connection);
+        clientOther.release().join();
+
+        assertThat(client.isActiveInternal(), is(true));
+        assertThat(mapNear.getFrontMap().containsKey("key-1"), is(true));
+
+        mapNear.release();
+        client.release().join();
+        }
+
+    @Test
+    public void shouldNotRunRemovedCloseListener()
+        {
+        GrpcConnection connection = s_serverHelper.newConnection(new DefaultSerializer());
+        assumeTrue(connection instanceof GrpcConnectionV1, "requires the version 1 protocol");
+
+        AtomicInteger cKept    = new AtomicInteger();
+        AtomicInteger cRemoved = new AtomicInteger();
+        Runnable      removed  = cRemoved::incrementAndGet;
+
+        connection.addCloseListener(cKept::incrementAndGet);
+        connection.addCloseListener(removed);
+        connection.removeCloseListener(removed);
+
+        ((GrpcConnectionV1) connection).onError(Status.UNAVAILABLE.asRuntimeException());
+
+        assertThat(cKept.get(), is(1));
+        assertThat(cRemoved.get(), is(0));
+        }
+
+    @Test
+    public void shouldRunCloseListenerAddedAfterClose()
+        {
+        GrpcConnection connection = s_serverHelper.newConnection(new DefaultSerializer());
+        assumeTrue(connection instanceof GrpcConnectionV1, "requires the version 1 protocol");
+
+        ((GrpcConnectionV1) connection).onError(Status.UNAVAILABLE.asRuntimeException());
+
+        AtomicInteger cClosed = new AtomicInteger();
+        connection.addCloseListener(cClosed::incrementAndGet);
+
+        assertThat(cClosed.get(), is(1));
+        }
+
+    @Test
+    public void shouldNotHoldReleasedClient()
+        {
+        Serializer     serializer = new DefaultSerializer();
+        GrpcConnection connection = s_serverHelper.newConnection(serializer);
+        assumeTrue(connection instanceof GrpcConnectionV1, "requires the version 1 protocol");
+
+        AsyncNamedCacheClient<String, String> client = (AsyncNamedCacheClient<String, String>)
+                s_serverHelper.newClient(s_serverHelper.m_sScope, "near-released", "java", serializer, connection);
+        client.put("key-1", "value-1").join();
+        client.release().join();
+
+        // the connection stays open, but no longer references the released client
+        WeakReference<AsyncNamedCacheClient<String, String>> ref = new WeakReference<>(client);
+        client = null;
+
+        Eventually.assertDeferred(() ->
+            {
+            System.gc();
+            return ref.get() == null;
+            }, is(true));
+        assertThat(connection.isConnected(), is(true));
+
+        connection.close();
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    @RegisterExtension
+    static ServerHelper s_serverHelper = new ServerHelper()
+            .setProperty("coherence.wka", "127.0.0.1")
+            .setProperty("coherence.localhost", "127.0.0.1")
+            .setProperty("coherence.ttl", "0")
+            .setProperty("coherence.clustername", "NearCacheDisconnectIT")
+            .setProperty("coherence.cacheconfig", "coherence-config.xml");
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -145,30 +145,36 @@ public final class ServerHelper
 
     public AsyncNamedCacheClient<?, ?> newClient(String sScope, String sCacheName, String sFormat, Serializer serializer)
         {
+        return newClient(sScope, sCacheName, sFormat, serializer, newConnection(serializer));
+        }
+
+    public AsyncNamedCacheClient<?, ?> newClient(String sScope, String sCacheName, String sFormat,
+            Serializer serializer, GrpcConnection connection)
+        {
         AsyncNamedCacheClient.DefaultDependencies deps
                 = new  AsyncNamedCacheClient.DefaultDependencies(sCacheName, m_channel, null);
 
         deps.setScope(sScope);
         deps.setSerializer(serializer, sFormat);
 
-        RemoteGrpcServiceDependencies serviceDeps = new DefaultRemoteGrpcCacheServiceDependencies();
+        NamedCacheClientChannel protocol = NamedCacheClientChannel.createProtocol(deps, connection);
+        return new AsyncNamedCacheClient<>(deps, protocol);
+        }
 
-        GrpcConnection connection;
+    public GrpcConnection newConnection(Serializer serializer)
+        {
         if (m_nProtocolVersion == 0)
             {
-            connection = new GrpcConnectionV0(m_channel);
+            return new GrpcConnectionV0(m_channel);
             }
-        else
-            {
-            GrpcConnection.Dependencies connectionDeps
-                    = new GrpcConnection.DefaultDependencies(NamedCacheProtocol.PROTOCOL_NAME, serviceDeps,
-                    m_channel, m_nProtocolVersion, m_nProtocolVersion, serializer);
 
-            connection = GrpcRemoteService.connect(connectionDeps, NamedCacheResponse.class);
-            }
+        RemoteGrpcServiceDependencies serviceDeps = new DefaultRemoteGrpcCacheServiceDependencies();
 
-        NamedCacheClientChannel protocol = NamedCacheClientChannel.createProtocol(deps, connection);
-        return new AsyncNamedCacheClient<>(deps, protocol);
+        GrpcConnection.Dependencies connectionDeps
+                = new GrpcConnection.DefaultDependencies(NamedCacheProtocol.PROTOCOL_NAME, serviceDeps,
+                m_channel, m_nProtocolVersion, m_nProtocolVersion, serializer);
+
+        return GrpcRemoteService.connect(connectionDeps, NamedCacheResponse.class);
         }
 
     // ----- helper methods -------------------------------------------------
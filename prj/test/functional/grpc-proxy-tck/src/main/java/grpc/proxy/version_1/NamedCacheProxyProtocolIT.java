@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -21,6 +21,8 @@ import com.oracle.coherence.common.base.Objects;
 import com.oracle.coherence.grpc.BinaryHelper;
 import com.oracle.coherence.grpc.NamedCacheProtocol;
 
+import com.oracle.coherence.grpc.messages.cache.v1.BatchRequest;
+import com.oracle.coherence.grpc.messages.cache.v1.BatchResult;
 import com.oracle.coherence.grpc.messages.cache.v1.EnsureCacheRequest;
 import com.oracle.coherence.grpc.messages.cache.v1.ExecuteRequest;
 import com.oracle.coherence.grpc.messages.cache.v1.IndexRequest;
@@ -548,6 +550,173 @@ public class NamedCacheProxyProtocolIT
         assertThat(oResult, is(nExpected));
         }
 
+    // ----- Batch ----------------------------------------------------------
+
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldExecuteBatch(String ignored, Serializer serializer, String sScope) throws Exception
+        {
+        String                     sCacheName = "test-cache";
+        NamedCache<String, String> cache      = ensureEmptyCache(sScope, sCacheName);
+        clearAndPopulate(cache, 2);
+
+        TestStreamObserver<ProxyResponse> observer = new TestStreamObserver<>();
+        StreamObserver<ProxyRequest>      channel  = openChannel(observer);
+
+        init(channel, observer, serializer, sScope);
+        int cacheId = ensureCache(channel, observer, sCacheName);
+
+        BytesValue key1 = BytesValue.of(toByteString("key-1", serializer));
+        BytesValue key2 = BytesValue.of(toByteString("key-2", serializer));
+        BytesValue key3 = BytesValue.of(toByteString("key-3", serializer));
+        PutRequest put  = PutRequest.newBuilder()
+                .setKey(key3.getValue())
+                .setValue(toByteString("value-3", serializer))
+                .build();
+
+        BatchRequest batch = BatchRequest.newBuilder()
+                .addOperations(batchOperation(NamedCacheRequestType.Get, key1))
+                .addOperations(batchOperation(NamedCacheRequestType.Get, key3))
+                .addOperations(batchOperation(NamedCacheRequestType.Put, put))
+                .addOperations(batchOperation(NamedCacheRequestType.Get, key3))
+                .addOperations(batchOperation(NamedCacheRequestType.Remove, key2))
+                .addOperations(batchOperation(NamedCacheRequestType.Destroy, key1))
+                .build();
+
+        List<NamedCacheResponse> list = sendStreamCacheRequest(channel, observer, cacheId, NamedCacheRequestType.Batch, batch);
+        BatchResult[] aResult = new BatchResult[batch.getOperationsCount()];
+        for (NamedCacheResponse response : list)
+            {
+            BatchResult result = response.getMessage().unpack(BatchResult.class);
+            aResult[result.getIndex()] = result;
+            }
+
+        OptionalValue value = aResult[0].getMessages(0).unpack(OptionalValue.class);
+        assertThat(value.getPresent(), is(true));
+        assertThat(fromByteString(value.getValue(), serializer, String.class), is("value-1"));
+
+        value = aResult[1].getMessages(0).unpack(OptionalValue.class);
+        assertThat(value.getPresent(), is(false));
+
+        BytesValue previous = aResult[2].getMessages(0).unpack(BytesValue.class);
+        assertThat(fromByteString(previous.getValue(), serializer, String.class), is(nullValue()));
+
+        value = aResult[3].getMessages(0).unpack(OptionalValue.class);
+        assertThat(value.getPresent(), is(true));
+        assertThat(fromByteString(value.getValue(), serializer, String.class), is("value-3"));
+
+        previous = aResult[4].getMessages(0).unpack(BytesValue.class);
+        assertThat(fromByteString(previous.getValue(), serializer, String.class), is("value-2"));
+
+        assertThat(aResult[5].hasError(), is(true));
+        assertThat(aResult[5].getMessagesCount(), is(0));
+
+        assertThat(cache.get("key-3"), is("value-3"));
+        assertThat(cache.containsKey("key-2"), is(false));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldExecuteBatchOfInvokes(String ignored, Serializer serializer, String sScope) throws Exception
+        {
+        String                     sCacheName = "people";
+        NamedCache<String, Person> cache      = ensureEmptyCache(sScope, sCacheName);
+        cache.put("bb", new Person("bob", "builder", 25, "male"));
+        cache.put("ss", new Person("sam", "spade", 40, "male"));
+
+        ValueExtractor<Person, String>                      extractor = new UniversalExtractor<>("lastName");
+        InvocableMap.EntryProcessor<String, Person, String> processor = new ExtractorProcessor<>(extractor);
+        ByteString                                          agent     = BinaryHelper.toByteString(processor, serializer);
+
+        TestStreamObserver<ProxyResponse> observer = new TestStreamObserver<>();
+        StreamObserver<ProxyRequest>      channel  = openChannel(observer);
+
+        init(channel, observer, serializer, sScope);
+        int cacheId = ensureCache(channel, observer, cache.getCacheName());
+
+        BatchRequest.Builder builder = BatchRequest.newBuilder();
+        for (String sKey : Arrays.asList("bb", "ss", "bb"))
+            {
+            ExecuteRequest execute = ExecuteRequest.newBuilder()
+                    .setAgent(agent)
+                    .setKeys(KeysOrFilter.newBuilder().setKey(BinaryHelper.toByteString(sKey, serializer)).build())
+                    .build();
+            builder.addOperations(batchOperation(NamedCacheRequestType.Invoke, execute));
+            }
+
+        List<NamedCacheResponse> list = sendStreamCacheRequest(channel, observer, cacheId, NamedCacheRequestType.Batch, builder.build());
+        assertThat(list.size(), is(3));
+
+        Map<Integer, String> mapResult = new HashMap<>();
+        for (NamedCacheResponse response : list)
+            {
+            BatchResult       result      = response.getMessage().unpack(BatchResult.class);
+            BinaryKeyAndValue keyAndValue = result.getMessages(0).unpack(BinaryKeyAndValue.class);
+            mapResult.put(result.getIndex(), BinaryHelper.fromByteString(keyAndValue.getValue(), serializer));
+            }
+
+        assertThat(mapResult.get(0), is("builder"));
+        assertThat(mapResult.get(1), is("spade"));
+        assertThat(mapResult.get(2), is("builder"));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldReportFailedBatchOfInvokesAsIndeterminate(String ignored, Serializer serializer, String sScope) throws Exception
+        {
+        String                     sCacheName = "people";
+        NamedCache<String, Object> cache      = ensureEmptyCache(sScope, sCacheName);
+        cache.put("bb", new Person("bob", "builder", 25, "male"));
+        cache.put("xx", "not-a-person");
+        cache.put("ss", new Person("sam", "spade", 40, "male"));
+
+        // the processor fails for "xx", which fails the whole invokeAll
+        ValueExtractor<Person, String>                      extractor = new UniversalExtractor<>("lastName");
+        InvocableMap.EntryProcessor<String, Person, String> processor = new ExtractorProcessor<>(extractor);
+        ByteString                                          agent     = BinaryHelper.toByteString(processor, serializer);
+
+        TestStreamObserver<ProxyResponse> observer = new TestStreamObserver<>();
+        StreamObserver<ProxyRequest>      channel  = openChannel(observer);
+
+        init(channel, observer, serializer, sScope);
+        int cacheId = ensureCache(channel, observer, cache.getCacheName());
+
+        List<String>         listKeys = Arrays.asList("bb", "xx", "ss");
+        BatchRequest.Builder builder  = BatchRequest.newBuilder();
+        for (String sKey : listKeys)
+            {
+            ExecuteRequest execute = ExecuteRequest.newBuilder()
+                    .setAgent(agent)
+                    .setKeys(KeysOrFilter.newBuilder().setKey(BinaryHelper.toByteString(sKey, serializer)).build())
+                    .build();
+            builder.addOperations(batchOperation(NamedCacheRequestType.Invoke, execute));
+            }
+
+        List<NamedCacheResponse> list = sendStreamCacheRequest(channel, observer, cacheId, NamedCacheRequestType.Batch, builder.build());
+        assertThat(list.size(), is(listKeys.size()));
+
+        for (int i = 0; i < list.size(); i++)
+            {
+            BatchResult result = list.get(i).getMessage().unpack(BatchResult.class);
+            assertThat(result.getIndex(), is(i));
+
+            if (listKeys.get(i).equals("xx") || result.hasError())
+                {
+                // without a result the operation may or may not have been executed
+                assertThat(result.hasError(), is(true));
+                assertThat(result.getIndeterminate(), is(true));
+                assertThat(result.getMessagesCount(), is(0));
+                }
+            else
+                {
+                BinaryKeyAndValue keyAndValue = result.getMessages(0).unpack(BinaryKeyAndValue.class);
+                assertThat(result.getIndeterminate(), is(false));
+                assertThat(BinaryHelper.fromByteString(keyAndValue.getValue(), serializer),
+                        is(listKeys.get(i).equals("bb") ? "builder" : "spade"));
+                }
+            }
+        }
+
     // ----- Clear ----------------------------------------------------------
 
     @ParameterizedTest(name = "{index} scope={0}")
@@ -3321,6 +3490,14 @@ public class NamedCacheProxyProtocolIT
 
     // ----- helper methods -------------------------------------------------
 
+    protected NamedCacheRequest batchOperation(NamedCacheRequestType type, Message message)
+        {
+        return NamedCacheRequest.newBuilder()
+                .setType(type)
+                .setMessage(Any.pack(message))
+                .build();
+        }
+
     protected <Resp extends Message> Resp sendCacheRequest(StreamObserver<ProxyRequest> channel,
             TestStreamObserver<ProxyResponse> observer, int cacheId, NamedCacheRequestType type,
             Message message) throws Exception
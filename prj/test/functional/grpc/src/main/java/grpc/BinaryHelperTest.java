@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,11 +7,16 @@
 
 package grpc;
 
+import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.BytesValue;
+import com.google.protobuf.InvalidProtocolBufferException;
 
 import com.oracle.coherence.grpc.BinaryHelper;
 
+import com.oracle.coherence.grpc.messages.common.v1.BinaryKeyAndValue;
+import com.oracle.coherence.grpc.messages.common.v1.OptionalValue;
+
 import com.tangosol.io.DefaultSerializer;
 
 import com.tangosol.io.Serializer;
@@ -25,6 +30,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Jonathan Knight  2019.11.26
@@ -172,6 +178,75 @@ class BinaryHelperTest
         assertThat(value, is("foo"));
         }
 
+    @Test
+    void shouldPackSmallAndLargeBytesValue() throws Exception
+        {
+        for (int cb : new int[] {0, 16, BinaryHelper.ZERO_COPY_THRESHOLD, 100_000})
+            {
+            Binary binary = binary(cb);
+            Any    any    = BinaryHelper.packBytesValue(binary);
+
+            assertThat(any, is(Any.pack(BinaryHelper.toBytesValue(binary))));
+            assertThat(BinaryHelper.toBinary(BinaryHelper.unpack(any, BytesValue.class)), is(binary));
+            }
+        }
+
+    @Test
+    void shouldPackOptionalValue() throws Exception
+        {
+        for (int cb : new int[] {0, 16, 100_000})
+            {
+            Binary binary   = binary(cb);
+            Any    any      = BinaryHelper.packOptionalValue(binary);
+            Any    expected = Any.pack(OptionalValue.newBuilder()
+                                   .setPresent(true)
+                                   .setValue(BinaryHelper.toByteString(binary))
+                                   .build());
+
+            assertThat(any, is(expected));
+            assertThat(any.toByteString(), is(expected.toByteString()));
+            }
+
+        OptionalValue value = BinaryHelper.unpack(BinaryHelper.packOptionalValue(null), OptionalValue.class);
+        assertThat(value.getPresent(), is(false));
+        }
+
+    @Test
+    void shouldPackKeyAndValue() throws Exception
+        {
+        Binary binKey   = binary(32);
+        Binary binValue = binary(100_000);
+        Any    any      = BinaryHelper.packKeyAndValue(binKey, binValue);
+
+        assertThat(any.toByteString(), is(Any.pack(BinaryKeyAndValue.newBuilder()
+                .setKey(BinaryHelper.toByteString(binKey))
+                .setValue(BinaryHelper.toByteString(binValue))
+                .build()).toByteString()));
+
+        BinaryKeyAndValue keyAndValue = BinaryHelper.unpack(Any.parseFrom(any.toByteString()), BinaryKeyAndValue.class);
+        assertThat(BinaryHelper.toBinary(keyAndValue.getKey()), is(binKey));
+        assertThat(BinaryHelper.toBinary(keyAndValue.getValue()), is(binValue));
+        }
+
+    @Test
+    void shouldNotUnpackWrongType()
+        {
+        Any any = BinaryHelper.packBytesValue(binary(16));
+        assertThrows(InvalidProtocolBufferException.class, () -> BinaryHelper.unpack(any, OptionalValue.class));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    private static Binary binary(int cb)
+        {
+        byte[] ab = new byte[cb];
+        for (int i = 0; i < cb; i++)
+            {
+            ab[i] = (byte) i;
+            }
+        return new Binary(ab);
+        }
+
     // ----- constants ------------------------------------------------------
 
     private static final Serializer SERIALIZER = new DefaultSerializer();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -435,6 +435,77 @@ public abstract class AbstractQueueTests<QueueType extends NamedQueue>
         assertThat(oValue, is(sValue));
         }
 
+    // ----- test offerAll() and poll(int) methods --------------------------
+
+    @ParameterizedTest(name = "{index} serializer={0}")
+    @MethodSource("serializers")
+    public void shouldOfferAllAndPollBatchInOrder(String sSerializer)
+        {
+        QueueType    queue = getNewCollection(sSerializer);
+        List<String> list  = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            {
+            list.add("message-" + i);
+            }
+
+        assertThat(queue.offerAll(list), is(true));
+        assertThat(queue.size(), is(list.size()));
+
+        assertThat(queue.poll(4), is(list.subList(0, 4)));
+        assertThat(queue.poll(100), is(list.subList(4, list.size())));
+        assertThat(queue.isEmpty(), is(true));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0}")
+    @MethodSource("serializers")
+    public void shouldPollBatchFromEmptyQueue(String sSerializer)
+        {
+        QueueType queue = getNewCollection(sSerializer);
+        assertThat(queue.poll(10).isEmpty(), is(true));
+        assertThat(queue.poll(0).isEmpty(), is(true));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0}")
+    @MethodSource("serializers")
+    public void shouldOfferAllAfterExistingElements(String sSerializer)
+        {
+        QueueType queue = getNewCollection(sSerializer);
+
+        assertThat(queue.offer("message-0"), is(true));
+        assertThat(queue.offerAll(List.of("message-1", "message-2")), is(true));
+        assertThat(queue.offer("message-3"), is(true));
+
+        assertThat(queue.poll(10), is(List.of("message-0", "message-1", "message-2", "message-3")));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0}")
+    @MethodSource("serializers")
+    public void shouldNotOfferAllToFullQueue(String sSerializer)
+        {
+        QueueType                    queue  = getNewCollection(sSerializer);
+        NamedCache<QueueKey, String> cache  = getCollectionCache(queue.getName());
+        QueueKey                     key    = QueueKey.head(queue.getName());
+        long                         cMax   = 10000;
+        int                          cBytes = 100;
+
+        assertThat(cache.invoke(key, entry -> AbstractQueueTests.setMaxQueueSize(entry, cMax)), is(true));
+
+        String       sPad = Randoms.getRandomString(cBytes, cBytes, true);
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < (cMax / cBytes) * 2; i++)
+            {
+            list.add(sPad + "-" + i);
+            }
+
+        // the batch is rejected as a whole
+        assertThat(queue.offerAll(list), is(false));
+        assertThat(queue.isEmpty(), is(true));
+
+        // a batch that fits is accepted
+        assertThat(queue.offerAll(list.subList(0, 2)), is(true));
+        assertThat(queue.size(), is(2));
+        }
+
     // ----- size limited tests ---------------------------------------------
 
     @ParameterizedTest(name = "{index} serializer={0}")
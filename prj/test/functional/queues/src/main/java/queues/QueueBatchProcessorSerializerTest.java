@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package queues;
+
+import com.oracle.coherence.io.json.JsonSerializer;
+import com.tangosol.internal.net.queue.model.QueueShardInfo;
+import com.tangosol.internal.net.queue.processor.QueueOfferAll;
+import com.tangosol.internal.net.queue.processor.QueuePollAll;
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class QueueBatchProcessorSerializerTest
+    {
+    @ParameterizedTest
+    @MethodSource("serializers")
+    public void shouldSerializeOfferAll(Serializer serializer)
+        {
+        List<String>          list      = Arrays.asList("one", "two", "three");
+        QueueOfferAll<String> processor = new QueueOfferAll<>(list);
+
+        Binary                binary       = ExternalizableHelper.toBinary(processor, serializer);
+        QueueOfferAll<String> deserialized = ExternalizableHelper.fromBinary(binary, serializer);
+
+        assertThat(deserialized.getValues(), is(list));
+        }
+
+    @ParameterizedTest
+    @MethodSource("serializers")
+    public void shouldSerializePollAll(Serializer serializer)
+        {
+        QueuePollAll<String> processor = new QueuePollAll<>(19);
+
+        Binary               binary       = ExternalizableHelper.toBinary(processor, serializer);
+        QueuePollAll<String> deserialized = ExternalizableHelper.fromBinary(binary, serializer);
+
+        assertThat(deserialized.getMax(), is(19));
+        }
+
+    @ParameterizedTest
+    @MethodSource("serializers")
+    public void shouldSerializeShardInfo(Serializer serializer)
+        {
+        QueueShardInfo info = new QueueShardInfo(new int[] {17, -42, 0, Integer.MAX_VALUE});
+
+        Binary         binary       = ExternalizableHelper.toBinary(info, serializer);
+        QueueShardInfo deserialized = ExternalizableHelper.fromBinary(binary, serializer);
+
+        assertThat(deserialized, is(info));
+        assertThat(deserialized.getShardCount(), is(4));
+        }
+
+    static Stream<Arguments> serializers()
+        {
+        List<Arguments> list = new ArrayList<>();
+        list.add(Arguments.of(new DefaultSerializer()));
+        list.add(Arguments.of(new ConfigurablePofContext()));
+        list.add(Arguments.of(new JsonSerializer()));
+        return list.stream();
+        }
+    }
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package queues;
+
+import com.tangosol.internal.net.queue.ShardedNamedCacheDeque;
+import com.tangosol.internal.net.queue.model.QueueKey;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.NamedDeque;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.Session;
+
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Functional tests for {@link ShardedNamedCacheDeque}.
+ *
+ * @author rl  2026.10.19
+ */
+@Timeout(100)
+@SuppressWarnings("unchecked")
+public class ShardedDequeTests
+    {
+    @BeforeAll
+    static void setup() throws Exception
+        {
+        System.setProperty("coherence.ttl",         "0");
+        System.setProperty("coherence.wka",         "127.0.0.1");
+        System.setProperty("coherence.localhost",   "127.0.0.1");
+        System.setProperty("coherence.cacheconfig", "queue-cache-config.xml");
+
+        Coherence coherence = Coherence.clusterMember().start().get(5, TimeUnit.MINUTES);
+        s_session = coherence.getSession();
+        }
+
+    @AfterEach
+    void cleanup()
+        {
+        for (NamedDeque<?> deque : m_listDeque)
+            {
+            try
+                {
+                deque.destroy();
+                }
+            catch (Exception e)
+                {
+                // ignored
+                }
+            }
+        m_listDeque.clear();
+        }
+
+    @Test
+    public void shouldPollElementsFromAllShards() throws Exception
+        {
+        NamedDeque<String> deque    = getDeque(getNewName(), SHARDS);
+        int                cThreads = SHARDS * 2;
+        int                cEach    = 25;
+
+        // offer from several threads, so that the elements land in several shards
+        Thread[] aThread = new Thread[cThreads];
+        for (int i = 0; i < cThreads; i++)
+            {
+            int nThread = i;
+            aThread[i] = new Thread(() ->
+                {
+                for (int j = 0; j < cEach; j++)
+                    {
+                    deque.offer(nThread + "-" + j);
+                    }
+                });
+            aThread[i].start();
+            }
+        for (Thread thread : aThread)
+            {
+            thread.join();
+            }
+
+        assertThat(deque.size(), is(cThreads * cEach));
+
+        Set<String> setPolled = new HashSet<>();
+        String      sElement;
+        while ((sElement = deque.poll()) != null)
+            {
+            setPolled.add(sElement);
+            }
+
+        assertThat(setPolled.size(), is(cThreads * cEach));
+        assertThat(deque.isEmpty(), is(true));
+        assertThat(deque.peek(), is(nullValue()));
+        }
+
+    @Test
+    public void shouldPreserveOrderOfProducer()
+        {
+        NamedDeque<String> deque = getDeque(getNewName(), SHARDS);
+        List<String>       list  = IntStream.range(0, 100).mapToObj(String::valueOf).collect(Collectors.toList());
+
+        list.forEach(deque::offer);
+
+        assertThat(deque.poll(1000), is(list));
+        assertThat(deque.poll(1000).isEmpty(), is(true));
+        }
+
+    @Test
+    public void shouldPollBatchFromAllShards() throws Exception
+        {
+        NamedDeque<String> deque = getDeque(getNewName(), SHARDS);
+        Set<String>        set   = new HashSet<>();
+
+        for (int i = 0; i < SHARDS * 2; i++)
+            {
+            String sElement = "element-" + i;
+            Thread thread   = new Thread(() -> deque.offer(sElement));
+            thread.start();
+            thread.join();
+            set.add(sElement);
+            }
+
+        assertThat(new HashSet<>(deque.poll(1000)), is(set));
+        assertThat(deque.size(), is(0));
+        }
+
+    @Test
+    public void shouldRejectDifferentShardCount()
+        {
+        String                       sName = getNewName();
+        NamedDeque<String>           deque = getDeque(sName, SHARDS);
+        NamedCache<QueueKey, String> cache = s_session.getCache(sName);
+
+        deque.offer("foo");
+
+        assertThrows(IllegalStateException.class, () -> new ShardedNamedCacheDeque<>(sName, cache, SHARDS + 1));
+
+        // the same number of shards is accepted and sees the same elements
+        ShardedNamedCacheDeque<String> dequeSame = new ShardedNamedCacheDeque<>(sName, cache, SHARDS);
+        assertThat(dequeSame.poll(), is("foo"));
+        }
+
+    @Test
+    public void shouldRetainShardCountWhenCleared()
+        {
+        String                       sName = getNewName();
+        NamedDeque<String>           deque = getDeque(sName, SHARDS);
+        NamedCache<QueueKey, String> cache = s_session.getCache(sName);
+
+        deque.offer("foo");
+        deque.offer("bar");
+        assertThat(deque.size(), is(2));
+
+        deque.clear();
+
+        assertThat(deque.size(), is(0));
+        assertThat(deque.isEmpty(), is(true));
+        assertThrows(IllegalStateException.class, () -> new ShardedNamedCacheDeque<>(sName, cache, SHARDS + 1));
+        }
+
+    @Test
+    public void shouldPlaceShardsInDistinctPartitions() throws Exception
+        {
+        String                       sName    = getNewName();
+        NamedCache<QueueKey, String> cache    = s_session.getCache(sName);
+        KeyPartitioningStrategy      strategy = ((PartitionedService) cache.getCacheService()).getKeyPartitioningStrategy();
+
+        // with this many shards the natural shard hashes share partitions
+        Set<Integer> setNatural = new HashSet<>();
+        for (int i = 0; i < MANY_SHARDS; i++)
+            {
+            String sShard = ShardedNamedCacheDeque.getShardName(sName, i);
+            setNatural.add(strategy.getKeyPartition(QueueKey.head(sShard)));
+            }
+        assertThat(setNatural.size() < MANY_SHARDS, is(true));
+
+        NamedDeque<String>             deque      = getDeque(sName, MANY_SHARDS);
+        ShardedNamedCacheDeque<String> dequeShard = new ShardedNamedCacheDeque<>(sName, cache, MANY_SHARDS);
+        Set<Integer>                   setPart    = new HashSet<>();
+        for (int i = 0; i < MANY_SHARDS; i++)
+            {
+            setPart.add(strategy.getKeyPartition(new QueueKey(dequeShard.getShardHash(i), QueueKey.ID_HEAD)));
+            }
+        assertThat(setPart.size(), is(MANY_SHARDS));
+
+        // offer from many threads so that most shards hold elements
+        int      cThreads = MANY_SHARDS * 2;
+        int      cEach    = 10;
+        Thread[] aThread  = new Thread[cThreads];
+        for (int i = 0; i < cThreads; i++)
+            {
+            int nThread = i;
+            aThread[i] = new Thread(() ->
+                {
+                for (int j = 0; j < cEach; j++)
+                    {
+                    deque.offer(nThread + "-" + j);
+                    }
+                });
+            aThread[i].start();
+            }
+        for (Thread thread : aThread)
+            {
+            thread.join();
+            }
+
+        assertThat(deque.size(), is(cThreads * cEach));
+
+        // every element is polled exactly once, and the shard info entry never is
+        Set<String> setPolled = new HashSet<>();
+        String      sElement;
+        while ((sElement = deque.poll()) != null)
+            {
+            assertThat(setPolled.add(sElement), is(true));
+            }
+
+        assertThat(setPolled.size(), is(cThreads * cEach));
+        assertThat(deque.isEmpty(), is(true));
+        assertThat(cache.containsKey(ShardedNamedCacheDeque.getInfoKey(sName)), is(true));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Obtain a sharded deque from the session.
+     *
+     * @param sName    the name of the deque
+     * @param cShards  the number of shards
+     *
+     * @return the sharded deque
+     */
+    protected NamedDeque<String> getDeque(String sName, int cShards)
+        {
+        NamedDeque<String> deque = s_session.getDeque(sName, new ShardedNamedCacheDeque.Builder(cShards));
+        m_listDeque.add(deque);
+        return deque;
+        }
+
+    /**
+     * Return a new unique deque name.
+     *
+     * @return a new unique deque name
+     */
+    protected static String getNewName()
+        {
+        return "sharded-deque-" + s_cDeque.incrementAndGet();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of shards of the deques used by the tests.
+     */
+    protected static final int SHARDS = 4;
+
+    /**
+     * A number of shards high enough for the natural shard hashes to share
+     * partitions of a 257 partition service.
+     */
+    protected static final int MANY_SHARDS = 64;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The session used to obtain the deques.
+     */
+    private static Session s_session;
+
+    /**
+     * The counter used to generate unique deque names.
+     */
+    private static final AtomicInteger s_cDeque = new AtomicInteger();
+
+    /**
+     * The deques created by the current test.
+     */
+    private final List<NamedDeque<?>> m_listDeque = new ArrayList<>();
+    }
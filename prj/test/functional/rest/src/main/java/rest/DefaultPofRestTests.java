@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,11 +8,24 @@ package rest;
 
 import com.oracle.bedrock.testsupport.deferred.Eventually;
 import com.oracle.bedrock.runtime.coherence.CoherenceClusterMember;
+
+import com.tangosol.net.NamedCache;
+
+import data.pof.Address;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import static com.oracle.bedrock.deferred.DeferredHelper.invoking;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
 
 /**
  * A collection of functional tests for Coherence*Extend-REST that use the
@@ -52,6 +65,35 @@ public class DefaultPofRestTests
         stopCacheServer("DefaultPofRestTests");
         }
 
+    // ----- test methods ---------------------------------------------------
+
+    /**
+    * Test that an entry of a resource configured with a PofJsonMarshaller is
+    * transcoded from POF into JSON.
+    */
+    @Test
+    public void testGetPofJson()
+            throws JSONException
+        {
+        NamedCache cache = getNamedCache("dist-test-pof-json");
+        cache.clear();
+        cache.put(1, new Address("1 Main Street", "Boston", "MA", "02101"));
+
+        Response response = getWebTarget("dist-test-pof-json/1").request(MediaType.APPLICATION_JSON).get();
+        assertEquals(200 /* OK */, response.getStatus());
+
+        // the transcoded JSON holds the POF properties by index
+        JSONObject jsonAddress = new JSONObject(response.readEntity(String.class));
+        assertEquals(Address.class.getName(), jsonAddress.getString("@type"));
+        assertEquals("1 Main Street", jsonAddress.getString(String.valueOf(Address.STREET)));
+        assertEquals("Boston",        jsonAddress.getString(String.valueOf(Address.CITY)));
+        assertEquals("MA",            jsonAddress.getString(String.valueOf(Address.STATE)));
+        assertEquals("02101",         jsonAddress.getString(String.valueOf(Address.ZIP)));
+
+        response = getWebTarget("dist-test-pof-json/2").request(MediaType.APPLICATION_JSON).get();
+        assertEquals(404 /* Not Found */, response.getStatus());
+        }
+
     // ----- constants ------------------------------------------------------
 
     /**
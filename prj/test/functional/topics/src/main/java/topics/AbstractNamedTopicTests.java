@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -3964,6 +3964,88 @@ System.setProperty("test.log.page", String.valueOf(((PagedPosition) elementHead.
             }
         }
 
+    @Test
+    public void shouldReceiveInOrderWithReadAhead() throws Exception
+        {
+        NamedTopic<String> topic = ensureTopic(m_sSerializer + "-read-ahead");
+        int                cMsg  = 5000;
+
+        try (Publisher<String> publisher = topic.createPublisher(OrderBy.id(1)))
+            {
+            for (int i = 0; i < cMsg; i++)
+                {
+                publisher.publish("element-" + i);
+                }
+            publisher.flush().get(2, TimeUnit.MINUTES);
+            }
+
+        System.setProperty(PagedTopicSubscriber.PROP_READ_AHEAD_MAX, "1MB");
+        try (Subscriber<String> subscriber = topic.createSubscriber(completeOnEmpty()))
+            {
+            for (int i = 0; i < cMsg; i++)
+                {
+                Element<String> element = subscriber.receive().get(2, TimeUnit.MINUTES);
+                assertThat(element, is(notNullValue()));
+                assertThat(element.getValue(), is("element-" + i));
+                }
+            assertThat(subscriber.receive().get(2, TimeUnit.MINUTES), is(nullValue()));
+            }
+        finally
+            {
+            System.clearProperty(PagedTopicSubscriber.PROP_READ_AHEAD_MAX);
+            }
+        }
+
+    @Test
+    public void shouldSeekToHeadWithReadAhead() throws Exception
+        {
+        NamedTopic<String> topic    = ensureTopic(m_sSerializer + "-rewindable-read-ahead");
+        int                nChannel = 1;
+
+        Assume.assumeThat("Test only applies when paged-topic-scheme has retain-consumed configured",
+            getDependencies(topic).isRetainConsumed(), is(true));
+
+        try (Publisher<String> publisher = topic.createPublisher(OrderBy.id(nChannel)))
+            {
+            for (int i = 0; i < 10000; i++)
+                {
+                publisher.publish("element-" + i);
+                }
+            publisher.flush().get(2, TimeUnit.MINUTES);
+            }
+
+        System.setProperty(PagedTopicSubscriber.PROP_READ_AHEAD_MAX, "1MB");
+        try (Subscriber<String> subscriber = topic.createSubscriber(completeOnEmpty()))
+            {
+            Element<String> elementHead = subscriber.receive().get(2, TimeUnit.MINUTES);
+            assertThat(elementHead, is(notNullValue()));
+            assertThat(elementHead.getValue(), is("element-0"));
+
+            // consume enough elements for read-ahead polls to be issued
+            CompletableFuture<Element<String>> future = null;
+            for (int i = 0; i < 5000; i ++)
+                {
+                future = subscriber.receive();
+                }
+            Element<String> element = future.get(2, TimeUnit.MINUTES);
+            assertThat(element.getValue(), is("element-5000"));
+
+            // the elements read ahead before the seek must not be received after it
+            subscriber.seekToHead(element.getChannel());
+
+            for (int i = 0; i < 100; i++)
+                {
+                element = subscriber.receive().get(2, TimeUnit.MINUTES);
+                assertThat(element, is(notNullValue()));
+                assertThat(element.getValue(), is("element-" + i));
+                }
+            }
+        finally
+            {
+            System.clearProperty(PagedTopicSubscriber.PROP_READ_AHEAD_MAX);
+            }
+        }
+
     @Test
     public void shouldSeekToHeadRollingBackCommit() throws Exception
         {
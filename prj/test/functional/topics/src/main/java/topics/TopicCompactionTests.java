@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package topics;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+
+import com.tangosol.internal.net.topic.impl.paged.PagedTopicCaches;
+
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.PagedTopicService;
+import com.tangosol.net.Session;
+
+import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Publisher;
+import com.tangosol.net.topic.Subscriber;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.junit.rules.TestName;
+
+import topics.data.Customer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tangosol.net.topic.Subscriber.Name.inGroup;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Functional tests for key-compacted topics.
+ * <p>
+ * The topics used by these tests have a single partition and a single
+ * channel, with pages of ten elements, so every sealed page is compacted
+ * against all the pages published before it.
+ *
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings("unchecked")
+public class TopicCompactionTests
+    {
+    @BeforeClass
+    public static void setup()
+        {
+        System.setProperty("coherence.cacheconfig", "topics-compaction-config.xml");
+        System.setProperty("coherence.wka", "127.0.0.1");
+        System.setProperty("coherence.localhost", "127.0.0.1");
+        System.setProperty("coherence.ttl", "0");
+        System.setProperty("coherence.cluster", "TopicCompactionTests");
+
+        s_coherence = Coherence.clusterMember();
+        s_coherence.start().join();
+        s_session = s_coherence.getSession();
+        }
+
+    @AfterClass
+    public static void cleanup()
+        {
+        if (s_coherence != null)
+            {
+            s_coherence.close();
+            }
+        }
+
+    @Test
+    public void shouldReceiveLatestElementForEachKey() throws Exception
+        {
+        NamedTopic<Customer> topic = s_session.getTopic("compacted-" + f_testName.getMethodName());
+
+        try (Subscriber<Customer> subscriber = topic.createSubscriber(inGroup("test"), Subscriber.CompleteOnEmpty.enabled()))
+            {
+            publish(topic);
+
+            List<Subscriber.Element<Customer>> listElement = receiveAll(subscriber);
+            assertLatest(listElement);
+
+            // the positions of the remaining elements are unchanged by compaction,
+            // the latest elements fill the last sealed page
+            PagedPosition positionFirst = (PagedPosition) listElement.get(0).getPosition();
+            for (int i = 0; i < KEYS; i++)
+                {
+                PagedPosition position = (PagedPosition) listElement.get(i).getPosition();
+                assertThat(position.getPage(), is(positionFirst.getPage()));
+                assertThat(position.getOffset(), is(i));
+                }
+
+            PagedPosition positionLast = (PagedPosition) listElement.get(KEYS).getPosition();
+            assertThat(positionLast.getPage(), is(positionFirst.getPage() + 1));
+            assertThat(positionLast.getOffset(), is(0));
+
+            // the commit position is the position of the last element received
+            listElement.get(KEYS).commit();
+            assertThat(subscriber.getLastCommitted(0).orElse(null), is(positionLast));
+            }
+        }
+
+    @Test
+    public void shouldSeekAcrossCompactedPages() throws Exception
+        {
+        NamedTopic<Customer> topic = s_session.getTopic("compacted-" + f_testName.getMethodName());
+
+        try (Subscriber<Customer> subscriber = topic.createSubscriber(inGroup("test"), Subscriber.CompleteOnEmpty.enabled()))
+            {
+            publish(topic);
+
+            List<Subscriber.Element<Customer>> listElement = receiveAll(subscriber);
+            assertLatest(listElement);
+
+            PagedPosition positionFirst = (PagedPosition) listElement.get(0).getPosition();
+
+            // seek into a page emptied by compaction, the next element is
+            // the first element that was not removed
+            subscriber.seek(0, new PagedPosition(positionFirst.getPage() - 2, KEYS / 2));
+            assertReceived(subscriber, listElement.get(0));
+
+            // seek to the head of the topic, which is also a compacted page
+            subscriber.seekToHead(0);
+            assertReceived(subscriber, listElement.get(0));
+
+            // seek to an element that was not removed
+            subscriber.seek(0, listElement.get(2).getPosition());
+            assertReceived(subscriber, listElement.get(3));
+
+            // seek to the tail of the last sealed page
+            subscriber.seek(0, listElement.get(KEYS - 1).getPosition());
+            assertReceived(subscriber, listElement.get(KEYS));
+
+            Subscriber.Element<Customer> element = subscriber.receive().get(1, TimeUnit.MINUTES);
+            assertThat(element, is(nullValue()));
+            }
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Publish {@link #ROUNDS} rounds of updates to {@link #KEYS} keys, each
+     * round filling one page, followed by one more element in an open page,
+     * then wait for the sealed pages to be compacted.
+     *
+     * @param topic  the topic to publish to
+     */
+    private void publish(NamedTopic<Customer> topic) throws Exception
+        {
+        try (Publisher<Customer> publisher = topic.createPublisher())
+            {
+            for (int nRound = 0; nRound < ROUNDS; nRound++)
+                {
+                for (int nKey = 0; nKey < KEYS; nKey++)
+                    {
+                    publisher.publish(new Customer(nRound + "-" + nKey, nKey, null)).get(1, TimeUnit.MINUTES);
+                    }
+                }
+            publisher.publish(new Customer(ROUNDS + "-" + 0, 0, null)).get(1, TimeUnit.MINUTES);
+            }
+
+        // compaction is asynchronous, eventually only the latest element for
+        // each key of the sealed pages and the element in the open page remain
+        PagedTopicCaches caches = new PagedTopicCaches(topic.getName(), (PagedTopicService) topic.getService());
+        Eventually.assertDeferred(() -> caches.Data.size(), is(KEYS + 1));
+        }
+
+    /**
+     * Receive all the elements from a subscriber, asserting that their
+     * positions are in ascending order.
+     *
+     * @param subscriber  the subscriber
+     *
+     * @return the elements received
+     */
+    private List<Subscriber.Element<Customer>> receiveAll(Subscriber<Customer> subscriber) throws Exception
+        {
+        List<Subscriber.Element<Customer>> listElement = new ArrayList<>();
+        Position                           positionPrev = null;
+
+        Subscriber.Element<Customer> element = subscriber.receive().get(1, TimeUnit.MINUTES);
+        while (element != null)
+            {
+            if (positionPrev != null)
+                {
+                assertThat(element.getPosition(), is(greaterThan(positionPrev)));
+                }
+            positionPrev = element.getPosition();
+            listElement.add(element);
+            element = subscriber.receive().get(1, TimeUnit.MINUTES);
+            }
+        return listElement;
+        }
+
+    /**
+     * Assert that the elements received are the latest element for each key
+     * of the sealed pages, followed by the element in the open page.
+     *
+     * @param listElement  the elements received
+     */
+    private void assertLatest(List<Subscriber.Element<Customer>> listElement)
+        {
+        assertThat(listElement.size(), is(KEYS + 1));
+        for (int nKey = 0; nKey < KEYS; nKey++)
+            {
+            Customer customer = listElement.get(nKey).getValue();
+            assertThat(customer.getId(), is(nKey));
+            assertThat(customer.getName(), is((ROUNDS - 1) + "-" + nKey));
+            }
+        assertThat(listElement.get(KEYS).getValue().getName(), is(ROUNDS + "-" + 0));
+        }
+
+    /**
+     * Assert that the next element received by a subscriber is at the same
+     * position and has the same value as an expected element.
+     *
+     * @param subscriber  the subscriber
+     * @param expected    the expected element
+     */
+    private void assertReceived(Subscriber<Customer> subscriber, Subscriber.Element<Customer> expected) throws Exception
+        {
+        Subscriber.Element<Customer> element = subscriber.receive().get(1, TimeUnit.MINUTES);
+        assertThat(element, is(notNullValue()));
+        assertThat(element.getPosition(), is(expected.getPosition()));
+        assertThat(element.getValue(), is(expected.getValue()));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of keys published, which is also the number of elements
+     * in a page.
+     */
+    private static final int KEYS = 10;
+
+    /**
+     * The number of times each key is published.
+     */
+    private static final int ROUNDS = 5;
+
+    // ----- data members ---------------------------------------------------
+
+    @Rule
+    public final TestName f_testName = new TestName();
+
+    private static Coherence s_coherence;
+
+    private static Session s_session;
+    }
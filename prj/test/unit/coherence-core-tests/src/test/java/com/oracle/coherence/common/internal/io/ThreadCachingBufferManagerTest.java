@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.io;
+
+import com.oracle.coherence.common.io.BufferManager;
+import com.oracle.coherence.common.io.BufferManagers;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for {@link ThreadCachingBufferManager}.
+ *
+ * @author rl  2026.10.19
+ */
+public class ThreadCachingBufferManagerTest
+    {
+    @Test
+    public void shouldReuseBufferReleasedOnSameThread()
+        {
+        ThreadCachingBufferManager mgr  = new ThreadCachingBufferManager(DELEGATE, 32 * 1024, BUDGET);
+        ByteBuffer                 buff = mgr.acquire(1500);
+
+        buff.order(ByteOrder.LITTLE_ENDIAN).putInt(1);
+        mgr.release(buff);
+
+        ByteBuffer buffNext = mgr.acquire(1200);
+        assertThat(buffNext, is(sameInstance(buff)));
+        assertThat(buffNext.position(), is(0));
+        assertThat(buffNext.limit(), is(1200));
+        assertThat(buffNext.order(), is(ByteOrder.BIG_ENDIAN));
+
+        mgr.release(buffNext);
+        }
+
+    @Test
+    public void shouldNotShareCacheBetweenThreads()
+            throws Exception
+        {
+        ThreadCachingBufferManager mgr  = new ThreadCachingBufferManager(DELEGATE, 32 * 1024, BUDGET);
+        ByteBuffer                 buff = mgr.acquire(1024);
+
+        mgr.release(buff);
+
+        AtomicReference<ByteBuffer> refBuff = new AtomicReference<>();
+        Thread thread = new Thread(() -> refBuff.set(mgr.acquire(1024)));
+        thread.start();
+        thread.join();
+
+        assertThat(refBuff.get(), is(not(sameInstance(buff))));
+        mgr.release(refBuff.get());
+        }
+
+    @Test
+    public void shouldTrackOccupancyPerSizeClass()
+        {
+        ThreadCachingBufferManager mgr     = new ThreadCachingBufferManager(DELEGATE, 32 * 1024, BUDGET);
+        ByteBuffer                 buffOne = mgr.acquire(1024);
+        ByteBuffer                 buffTwo = mgr.acquire(4096);
+
+        assertThat(mgr.getOccupancy(0), is(1L));
+        assertThat(mgr.getOccupancy(2), is(1L));
+
+        mgr.release(buffOne);
+        mgr.release(buffTwo);
+        assertThat(mgr.getOccupancy(0), is(0L));
+        assertThat(mgr.getOccupancy(2), is(0L));
+
+        mgr.release(mgr.acquire(1024));
+        assertThat(mgr.getHitRate(0), is(50));
+        }
+
+    @Test
+    public void shouldPassLargeBuffersThroughToDelegate()
+        {
+        ThreadCachingBufferManager mgr  = new ThreadCachingBufferManager(DELEGATE, 4 * 1024, BUDGET);
+        ByteBuffer                 buff = mgr.acquire(8 * 1024);
+
+        assertThat(mgr.getSizeClassCount(), is(2));
+        assertThat(mgr.getOccupancy(mgr.getSizeClassCount()), is(1L));
+
+        mgr.release(buff);
+        assertThat(mgr.getOccupancy(mgr.getSizeClassCount()), is(0L));
+        assertThat(mgr.acquire(8 * 1024), is(not(sameInstance(buff))));
+        }
+
+    @Test
+    public void shouldSetSameLimitOnHitAndMiss()
+        {
+        ThreadCachingBufferManager mgr      = new ThreadCachingBufferManager(DELEGATE, 32 * 1024, BUDGET);
+        ByteBuffer                 buffMiss = mgr.acquire(1200);
+
+        assertThat(buffMiss.position(), is(0));
+        assertThat(buffMiss.limit(), is(1200));
+
+        mgr.release(buffMiss);
+
+        ByteBuffer buffHit = mgr.acquire(1200);
+        assertThat(buffHit, is(sameInstance(buffMiss)));
+        assertThat(buffHit.position(), is(0));
+        assertThat(buffHit.limit(), is(1200));
+
+        mgr.release(buffHit);
+        }
+
+    @Test
+    public void shouldNotCacheBeyondBudget()
+        {
+        ByteBuffer                 buffOne = DELEGATE.acquire(1024);
+        ByteBuffer                 buffTwo = DELEGATE.acquire(1024);
+        ThreadCachingBufferManager mgr     = new ThreadCachingBufferManager(DELEGATE, 32 * 1024, buffOne.capacity());
+
+        mgr.release(buffOne);
+        mgr.release(buffTwo);
+        assertThat(mgr.getCachedBytes(), is((long) buffOne.capacity()));
+
+        // only the buffer within the budget was cached
+        assertThat(mgr.acquire(1024), is(sameInstance(buffOne)));
+        assertThat(mgr.getCachedBytes(), is(0L));
+        assertThat(mgr.acquire(1024), is(not(sameInstance(buffTwo))));
+        }
+
+    @Test
+    public void shouldDrainCacheOfTerminatedThread()
+            throws Exception
+        {
+        ThreadCachingBufferManager mgr    = new ThreadCachingBufferManager(DELEGATE, 32 * 1024, BUDGET);
+        Thread                     thread = new Thread(() -> mgr.release(mgr.acquire(1024)));
+
+        thread.start();
+        thread.join();
+        assertThat(mgr.getCachedBytes() > 0L, is(true));
+
+        assertThat(mgr.drainTerminated(), is(1));
+        assertThat(mgr.getCachedBytes(), is(0L));
+        assertThat(mgr.drainTerminated(), is(0));
+        }
+
+    @Test
+    public void shouldNotDrainCacheOfLiveThread()
+        {
+        ThreadCachingBufferManager mgr  = new ThreadCachingBufferManager(DELEGATE, 32 * 1024, BUDGET);
+        ByteBuffer                 buff = mgr.acquire(1024);
+
+        mgr.release(buff);
+
+        assertThat(mgr.drainTerminated(), is(0));
+        assertThat(mgr.acquire(1024), is(sameInstance(buff)));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final BufferManager DELEGATE = BufferManagers.getHeapManager();
+
+    private static final long BUDGET = 1024 * 1024;
+    }
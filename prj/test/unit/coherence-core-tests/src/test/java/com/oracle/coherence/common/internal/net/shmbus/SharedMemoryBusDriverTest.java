@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+import com.oracle.coherence.common.net.exabus.EndPoint;
+import com.oracle.coherence.common.net.exabus.spi.Driver;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import java.nio.channels.FileLock;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SharedMemoryBusDriver}.
+ *
+ * @author rl  2026.10.19
+ */
+public class SharedMemoryBusDriverTest
+    {
+    @Before
+    public void setup()
+        {
+        m_driver = new SharedMemoryBusDriver(mock(Driver.class), new SharedMemoryBusDriver.DefaultDependencies()
+                .setDirectory(m_folder.getRoot()));
+        }
+
+    @Test
+    public void shouldPurgeInboxOfDeadProcess()
+            throws Exception
+        {
+        File dir = createInbox("tmb://dead");
+
+        assertThat(m_driver.isLocal(endPoint("tmb://dead")), is(false));
+
+        m_driver.purgeStaleInboxes();
+        assertThat(dir.exists(), is(false));
+        }
+
+    @Test
+    public void shouldNotPurgeLockedInbox()
+            throws Exception
+        {
+        File dir = createInbox("tmb://live");
+
+        try (RandomAccessFile raf = new RandomAccessFile(new File(dir, SharedMemoryBusDriver.LOCK_FILE), "rw"))
+            {
+            FileLock lock = raf.getChannel().lock();
+
+            assertThat(m_driver.isLocal(endPoint("tmb://live")), is(true));
+
+            m_driver.purgeStaleInboxes();
+            assertThat(new File(dir, "peer.ring").exists(), is(true));
+
+            lock.release();
+            }
+        }
+
+    @Test
+    public void shouldNotPurgeInboxBeingCreated()
+        {
+        // a bus which has created its inbox but not yet its lock file
+        File dir = new File(m_folder.getRoot(), SharedMemoryBusDriver.encode("tmb://new"));
+        assertThat(dir.mkdirs(), is(true));
+
+        m_driver.purgeStaleInboxes();
+
+        assertThat(dir.exists(), is(true));
+        assertThat(new File(dir, SharedMemoryBusDriver.LOCK_FILE).exists(), is(false));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Create an unlocked inbox holding a lock file and a ring file.
+     *
+     * @param sName  the name of the inbox's EndPoint
+     *
+     * @return the inbox directory
+     */
+    protected File createInbox(String sName)
+            throws Exception
+        {
+        File dir = m_driver.getInbox(endPoint(sName));
+
+        assertThat(dir.mkdirs(), is(true));
+        assertThat(new File(dir, SharedMemoryBusDriver.LOCK_FILE).createNewFile(), is(true));
+        assertThat(new File(dir, "peer.ring").createNewFile(), is(true));
+        return dir;
+        }
+
+    /**
+     * Return a mock EndPoint.
+     *
+     * @param sName  the EndPoint's name
+     *
+     * @return the EndPoint
+     */
+    protected static EndPoint endPoint(String sName)
+        {
+        EndPoint point = mock(EndPoint.class);
+        when(point.getCanonicalName()).thenReturn(sName);
+        return point;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The folder holding the inboxes.
+     */
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    /**
+     * The driver.
+     */
+    protected SharedMemoryBusDriver m_driver;
+    }
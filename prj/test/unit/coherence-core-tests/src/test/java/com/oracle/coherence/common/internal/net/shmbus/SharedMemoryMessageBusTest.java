@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+import com.oracle.coherence.common.base.Collector;
+import com.oracle.coherence.common.io.BufferManager;
+import com.oracle.coherence.common.io.BufferManagers;
+import com.oracle.coherence.common.io.BufferSequence;
+import com.oracle.coherence.common.io.Buffers;
+import com.oracle.coherence.common.net.exabus.EndPoint;
+import com.oracle.coherence.common.net.exabus.Event;
+import com.oracle.coherence.common.net.exabus.MessageBus;
+import com.oracle.coherence.common.net.exabus.spi.Driver;
+import com.oracle.coherence.common.net.exabus.util.SimpleEvent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SharedMemoryMessageBus}.
+ *
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings("unchecked")
+public class SharedMemoryMessageBusTest
+    {
+    @Before
+    public void setup()
+        {
+        m_pointA = endPoint("tmb://a");
+        m_pointB = endPoint("tmb://b");
+
+        Driver driver = mock(Driver.class);
+        when(driver.resolveEndPoint("tmb://a")).thenReturn(m_pointA);
+        when(driver.resolveEndPoint("tmb://b")).thenReturn(m_pointB);
+
+        m_driver = new SharedMemoryBusDriver(driver, new SharedMemoryBusDriver.DefaultDependencies()
+                .setDirectory(m_folder.getRoot())
+                .setRingCapacity(SharedMemoryRing.MIN_CAPACITY)
+                .setBufferManager(MANAGER));
+        }
+
+    @After
+    public void cleanup()
+        {
+        for (Collector<Event> collector : m_listDelegateCollector)
+            {
+            collector.add(new SimpleEvent(Event.Type.CLOSE, null));
+            }
+        }
+
+    @Test
+    public void shouldExchangeMessagesThroughRing()
+            throws Exception
+        {
+        BlockingQueue<Event> queueA = new LinkedBlockingQueue<>();
+        BlockingQueue<Event> queueB = new LinkedBlockingQueue<>();
+        MessageBus           busA   = openBus(m_pointA, queueA);
+
+        openBus(m_pointB, queueB);
+
+        connect(0, m_pointB);
+        connect(1, m_pointA);
+        assertEvent(queueA, Event.Type.CONNECT);
+        assertEvent(queueB, Event.Type.CONNECT);
+
+        for (int i = 0; i < 10; i++)
+            {
+            busA.send(m_pointB, message(i), null);
+            }
+
+        for (int i = 0; i < 10; i++)
+            {
+            Event      event = assertEvent(queueB, Event.Type.MESSAGE);
+            ByteBuffer buf   = ((BufferSequence) event.getContent()).getBuffer(0);
+
+            assertThat(buf.getInt(buf.position()), is(i));
+            event.dispose();
+            }
+
+        verify(m_listDelegate.get(0), never()).send(any(), any(), any());
+        }
+
+    @Test
+    public void shouldParkUntilWokenWithoutSharedConnections()
+            throws Exception
+        {
+        BlockingQueue<Event>   queue = new LinkedBlockingQueue<>();
+        SharedMemoryMessageBus bus   = openBus(m_pointA, queue);
+
+        // with nothing to poll the service thread parks without a timeout
+        assertThreadState(bus, Thread.State.WAITING);
+
+        openBus(m_pointB, new LinkedBlockingQueue<>());
+        connect(0, m_pointB);
+        assertEvent(queue, Event.Type.CONNECT);
+
+        // once a peer is connected the service thread polls its rings
+        assertThreadState(bus, Thread.State.TIMED_WAITING);
+        }
+
+    @Test
+    public void shouldOpenInboxLeftByDeadProcess()
+            throws Exception
+        {
+        File dir      = m_driver.getInbox(m_pointA);
+        File fileRing = new File(dir, "stale" + SharedMemoryMessageBus.RING_SUFFIX);
+
+        assertThat(dir.mkdirs(), is(true));
+        assertThat(new File(dir, SharedMemoryBusDriver.LOCK_FILE).createNewFile(), is(true));
+        assertThat(fileRing.createNewFile(), is(true));
+
+        openBus(m_pointA, new LinkedBlockingQueue<>());
+
+        assertThat(m_driver.isLocal(m_pointA), is(true));
+        assertThat(fileRing.exists(), is(false));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Create and open a bus wrapping a mock bus.
+     *
+     * @param point  the local EndPoint of the bus
+     * @param queue  the queue to add the bus's events to
+     *
+     * @return the bus
+     */
+    protected SharedMemoryMessageBus openBus(EndPoint point, BlockingQueue<Event> queue)
+        {
+        MessageBus delegate = mock(MessageBus.class);
+        when(delegate.getLocalEndPoint()).thenReturn(point);
+
+        SharedMemoryMessageBus bus = new SharedMemoryMessageBus(m_driver, delegate);
+        bus.setEventCollector(new Collector<>()
+            {
+            @Override
+            public void add(Event event)
+                {
+                queue.add(event);
+                }
+            });
+
+        ArgumentCaptor<Collector<Event>> captor = ArgumentCaptor.forClass(Collector.class);
+        verify(delegate).setEventCollector(captor.capture());
+
+        bus.open();
+
+        m_listDelegate.add(delegate);
+        m_listDelegateCollector.add(captor.getValue());
+        return bus;
+        }
+
+    /**
+     * Emit a CONNECT event from the wrapped bus of a bus.
+     *
+     * @param nBus  the index of the bus
+     * @param peer  the connected peer
+     */
+    protected void connect(int nBus, EndPoint peer)
+        {
+        m_listDelegateCollector.get(nBus).add(new SimpleEvent(Event.Type.CONNECT, peer));
+        }
+
+    /**
+     * Wait for the next event and assert its type.
+     *
+     * @param queue  the event queue
+     * @param type   the expected type
+     *
+     * @return the event
+     */
+    protected static Event assertEvent(BlockingQueue<Event> queue, Event.Type type)
+            throws InterruptedException
+        {
+        Event event = queue.poll(10, TimeUnit.SECONDS);
+        assertThat(event, is(notNullValue()));
+        assertThat(event.getType(), is(type));
+        return event;
+        }
+
+    /**
+     * Wait for the service thread of a bus to reach a state.
+     *
+     * @param bus    the bus
+     * @param state  the expected state
+     */
+    protected static void assertThreadState(SharedMemoryMessageBus bus, Thread.State state)
+            throws InterruptedException
+        {
+        Thread       thread   = bus.m_thread;
+        long         ldtLimit = System.currentTimeMillis() + 10_000L;
+        Thread.State stateNow = thread.getState();
+        while (stateNow != state && System.currentTimeMillis() < ldtLimit)
+            {
+            Thread.sleep(1L);
+            stateNow = thread.getState();
+            }
+        assertThat(stateNow, is(state));
+        }
+
+    /**
+     * Return a mock EndPoint.
+     *
+     * @param sName  the EndPoint's name
+     *
+     * @return the EndPoint
+     */
+    protected static EndPoint endPoint(String sName)
+        {
+        EndPoint point = mock(EndPoint.class);
+        when(point.getCanonicalName()).thenReturn(sName);
+        return point;
+        }
+
+    /**
+     * Return a message holding an int.
+     *
+     * @param n  the int
+     *
+     * @return the message
+     */
+    protected static BufferSequence message(int n)
+        {
+        ByteBuffer buf = ByteBuffer.allocate(4);
+        buf.putInt(0, n);
+        return Buffers.createBufferSequence(MANAGER, buf);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The BufferManager used by the tests.
+     */
+    protected static final BufferManager MANAGER = BufferManagers.getHeapManager();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The folder holding the inboxes.
+     */
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    /**
+     * The driver.
+     */
+    protected SharedMemoryBusDriver m_driver;
+
+    /**
+     * The EndPoint of the first bus.
+     */
+    protected EndPoint m_pointA;
+
+    /**
+     * The EndPoint of the second bus.
+     */
+    protected EndPoint m_pointB;
+
+    /**
+     * The mock wrapped buses, in the order the buses were opened.
+     */
+    protected final List<MessageBus> m_listDelegate = new ArrayList<>();
+
+    /**
+     * The collectors the buses registered with their wrapped buses.
+     */
+    protected final List<Collector<Event>> m_listDelegateCollector = new ArrayList<>();
+    }
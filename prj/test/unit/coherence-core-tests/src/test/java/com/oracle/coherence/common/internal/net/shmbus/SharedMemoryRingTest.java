@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+import com.oracle.coherence.common.io.BufferManager;
+import com.oracle.coherence.common.io.BufferManagers;
+import com.oracle.coherence.common.io.BufferSequence;
+import com.oracle.coherence.common.io.Buffers;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.StandardOpenOption;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Unit tests for {@link SharedMemoryRing}.
+ *
+ * @author rl  2026.10.19
+ */
+public class SharedMemoryRingTest
+    {
+    @Test
+    public void shouldRoundTripMessages()
+            throws Exception
+        {
+        File             file     = new File(m_folder.getRoot(), "test.ring");
+        SharedMemoryRing producer = SharedMemoryRing.create(file, SharedMemoryRing.MIN_CAPACITY);
+        SharedMemoryRing consumer = SharedMemoryRing.open(file);
+
+        assertThat(consumer.read(MANAGER), is(nullValue()));
+
+        for (int i = 0; i < 100; i++)
+            {
+            assertThat(producer.write(message(i, 100 + i), 0L), is(-1L));
+
+            ByteBuffer buf = consumer.read(MANAGER);
+            assertThat(buf, is(notNullValue()));
+            assertMessage(buf, i, 100 + i);
+            }
+
+        assertThat(consumer.isEmpty(), is(true));
+        }
+
+    @Test
+    public void shouldRoundTripEmptyMessage()
+            throws Exception
+        {
+        File             file     = new File(m_folder.getRoot(), "test.ring");
+        SharedMemoryRing producer = SharedMemoryRing.create(file, SharedMemoryRing.MIN_CAPACITY);
+        SharedMemoryRing consumer = SharedMemoryRing.open(file);
+
+        assertThat(producer.write(Buffers.getEmptyBufferSequence(), 0L), is(-1L));
+
+        ByteBuffer buf = consumer.read(MANAGER);
+        assertThat(buf, is(notNullValue()));
+        assertThat(buf.remaining(), is(0));
+        }
+
+    @Test
+    public void shouldStreamMessageLargerThanRing()
+            throws Exception
+        {
+        File             file     = new File(m_folder.getRoot(), "test.ring");
+        SharedMemoryRing producer = SharedMemoryRing.create(file, SharedMemoryRing.MIN_CAPACITY);
+        SharedMemoryRing consumer = SharedMemoryRing.open(file);
+        int              cb       = SharedMemoryRing.MIN_CAPACITY * 5 + 3;
+        BufferSequence   bufseq   = message(7, cb);
+        ByteBuffer       buf      = null;
+        long             of       = 0L;
+
+        while (of >= 0L)
+            {
+            long ofNext = producer.write(bufseq, of);
+            assertThat(ofNext < 0L || ofNext > of, is(true));
+            of  = ofNext;
+            buf = consumer.read(MANAGER);
+            assertThat(buf == null, is(of >= 0L));
+            }
+
+        assertMessage(buf, 7, cb);
+        }
+
+    @Test
+    public void shouldStopWritingWhenFull()
+            throws Exception
+        {
+        File             file     = new File(m_folder.getRoot(), "test.ring");
+        SharedMemoryRing producer = SharedMemoryRing.create(file, SharedMemoryRing.MIN_CAPACITY);
+        SharedMemoryRing consumer = SharedMemoryRing.open(file);
+        int              cMsg     = 0;
+
+        while (producer.write(message(cMsg, 1000), 0L) < 0L)
+            {
+            cMsg++;
+            }
+
+        // the partially written message is not delivered
+        for (int i = 0; i < cMsg; i++)
+            {
+            assertMessage(consumer.read(MANAGER), i, 1000);
+            }
+        assertThat(consumer.read(MANAGER), is(nullValue()));
+        }
+
+    @Test
+    public void shouldReportClosed()
+            throws Exception
+        {
+        File             file     = new File(m_folder.getRoot(), "test.ring");
+        SharedMemoryRing producer = SharedMemoryRing.create(file, SharedMemoryRing.MIN_CAPACITY);
+        SharedMemoryRing consumer = SharedMemoryRing.open(file);
+
+        assertThat(consumer.isClosed(), is(false));
+        producer.close();
+        assertThat(consumer.isClosed(), is(true));
+        }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRejectReadAfterClose()
+            throws Exception
+        {
+        File             file     = new File(m_folder.getRoot(), "test.ring");
+        SharedMemoryRing producer = SharedMemoryRing.create(file, SharedMemoryRing.MIN_CAPACITY);
+        SharedMemoryRing consumer = SharedMemoryRing.open(file);
+
+        producer.close();
+        consumer.close();
+        consumer.close();
+
+        // the mapping has been released, so the ring must not be accessed
+        consumer.read(MANAGER);
+        }
+
+    @Test(expected = IOException.class)
+    public void shouldFailToAllocateWithoutSpace()
+            throws Exception
+        {
+        File file = new File("/dev/full");
+        assumeTrue(file.exists());
+
+        // every write to /dev/full fails with ENOSPC
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE))
+            {
+            SharedMemoryRing.allocate(channel, SharedMemoryRing.MIN_CAPACITY);
+            }
+        }
+
+    @Test
+    public void shouldFailToCreateRingLargerThanAvailableSpace()
+            throws Exception
+        {
+        File dirShm = new File("/dev/shm");
+        assumeTrue(dirShm.isDirectory() && dirShm.canWrite());
+
+        // the capacity must be representable, so only run where /dev/shm is small, as in a default container
+        long cbFree = dirShm.getUsableSpace();
+        assumeTrue(cbFree > 0L && cbFree < 1L << 29);
+
+        File dir  = new File(dirShm, "ring-test-" + ProcessHandle.current().pid() + "-" + System.nanoTime());
+        File file = new File(dir, "test.ring");
+        assertThat(dir.mkdir(), is(true));
+        try
+            {
+            SharedMemoryRing.create(file, (int) Long.highestOneBit(cbFree) << 1);
+            fail("expected IOException");
+            }
+        catch (IOException e)
+            {
+            // expected; the partially allocated file must have been removed
+            assertThat(file.exists(), is(false));
+            assertThat(dir.list().length, is(0));
+            }
+        finally
+            {
+            for (File f : dir.listFiles())
+                {
+                f.delete();
+                }
+            dir.delete();
+            }
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    private static BufferSequence message(int nSeed, int cb)
+        {
+        ByteBuffer buf = ByteBuffer.allocate(cb);
+        for (int i = 0; i < cb; i++)
+            {
+            buf.put((byte) (nSeed + i));
+            }
+        buf.flip();
+        return Buffers.createBufferSequence(MANAGER, buf);
+        }
+
+    private static void assertMessage(ByteBuffer buf, int nSeed, int cb)
+        {
+        assertThat(buf.remaining(), is(cb));
+        for (int i = 0; i < cb; i++)
+            {
+            assertThat(buf.get(buf.position() + i), is((byte) (nSeed + i)));
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final BufferManager MANAGER = BufferManagers.getHeapManager();
+
+    // ----- data members ---------------------------------------------------
+
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+    }
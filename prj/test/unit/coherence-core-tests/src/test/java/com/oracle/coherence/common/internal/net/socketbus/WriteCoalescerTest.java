@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.socketbus;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Unit tests for {@link BufferedSocketBus.WriteCoalescer}.
+ *
+ * @author rl  2026.10.19
+ */
+public class WriteCoalescerTest
+    {
+    @Test
+    public void shouldNotCoalesceLightlyLoadedConnection()
+        {
+        BufferedSocketBus.WriteCoalescer coalescer = new BufferedSocketBus.WriteCoalescer(0L);
+        long                             ldt       = 0L;
+
+        for (int i = 0; i < 1000; i++)
+            {
+            ldt += WINDOW * 2;
+            assertThat(coalescer.onFlush(WINDOW, ldt), is(false));
+            }
+        assertThat(coalescer.getCoalescedFlushCount(), is(0L));
+        }
+
+    @Test
+    public void shouldCoalesceUnderLoad()
+        {
+        BufferedSocketBus.WriteCoalescer coalescer = new BufferedSocketBus.WriteCoalescer(0L);
+        long                             ldt       = 0L;
+        int                              cFlush    = 0;
+
+        // the idle history is capped, so the connection starts coalescing after a bounded number of flushes
+        do
+            {
+            ldt += WINDOW / 10;
+            ++cFlush;
+            }
+        while (!coalescer.onFlush(WINDOW, ldt));
+
+        assertThat(cFlush, is(lessThan(20)));
+        assertThat(coalescer.getAverageFlushInterval(), is(lessThan(WINDOW)));
+
+        for (int i = 0; i < 100; i++)
+            {
+            ldt += WINDOW / 10;
+            assertThat(coalescer.onFlush(WINDOW, ldt), is(true));
+            }
+        assertThat(coalescer.getCoalescedFlushCount(), is(101L));
+        }
+
+    @Test
+    public void shouldStopCoalescingOnceLoadSubsides()
+        {
+        BufferedSocketBus.WriteCoalescer coalescer = new BufferedSocketBus.WriteCoalescer(0L);
+        long                             ldt       = 0L;
+
+        for (int i = 0; i < 100; i++)
+            {
+            ldt += WINDOW / 10;
+            coalescer.onFlush(WINDOW, ldt);
+            }
+
+        // a single long pause is enough to return to direct writes
+        ldt += WINDOW * 1000;
+        assertThat(coalescer.onFlush(WINDOW, ldt), is(false));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The coalescing window used by the tests, in nanoseconds.
+     */
+    private static final long WINDOW = 100_000L;
+    }
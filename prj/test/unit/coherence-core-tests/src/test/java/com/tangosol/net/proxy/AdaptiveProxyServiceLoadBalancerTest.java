@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.proxy;
+
+import com.tangosol.net.Member;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link AdaptiveProxyServiceLoadBalancer}.
+ * <p>
+ * The rebalancing tests simulate a set of proxies of differing capacity
+ * serving long-lived clients, with the request latency of each proxy
+ * proportional to its number of clients relative to its capacity.
+ *
+ * @author rl  2026.10.19
+ */
+public class AdaptiveProxyServiceLoadBalancerTest
+    {
+    @Test
+    public void shouldOrderByPressureBeforeConnections()
+        {
+        AdaptiveProxyServiceLoadBalancer.LoadComparator comparator =
+                new AdaptiveProxyServiceLoadBalancer.LoadComparator(100);
+
+        Load loadIdle  = new Load(10, 8, 50);
+        Load loadBusy  = new Load(5, 8, 200);
+        Load loadFull  = new Load(5, 8, 0);
+
+        loadFull.m_cLimit = 5;
+
+        assertThat(comparator.getPressure(loadIdle), is(5));
+        assertThat(comparator.getPressure(loadBusy), is(20));
+        assertThat(comparator.getPressure(loadFull), is(AdaptiveProxyServiceLoadBalancer.PRESSURE_SATURATED));
+
+        assertThat(comparator.compare(loadIdle, loadBusy) < 0, is(true));
+        assertThat(comparator.compare(loadBusy, loadFull) < 0, is(true));
+        assertThat(comparator.compare(new Load(1, 8, 50), loadIdle) < 0, is(true));
+        }
+
+    @Test
+    public void shouldNotReconnectWhenBalanced()
+        {
+        Simulation sim = new Simulation(new int[] {100, 100, 50}, new int[] {120, 120, 60});
+
+        for (int i = 0; i < 20; i++)
+            {
+            assertThat(sim.step(), is(0));
+            }
+        }
+
+    @Test
+    public void shouldNotReconnectWhenNoMemberIsLessLoaded()
+        {
+        Simulation sim = new Simulation(new int[] {100, 100}, new int[] {300, 300});
+
+        assertThat(sim.step(), is(0));
+        }
+
+    @Test
+    public void shouldRebalanceLongLivedClients()
+        {
+        Simulation sim = new Simulation(new int[] {100, 100, 50}, new int[] {300, 0, 0});
+
+        int cReconnects = 0;
+        for (int i = 0; i < 200; i++)
+            {
+            cReconnects += sim.step();
+            }
+
+        assertThat(cReconnects, is(greaterThan(0)));
+        assertThat(sim.getClientCount(), is(300));
+
+        // the system has settled within the hysteresis
+        assertThat(sim.step(), is(0));
+        assertThat(sim.getLatencySpread(), is(lessThanOrEqualTo(
+                AdaptiveProxyServiceLoadBalancer.PRESSURE_HYSTERESIS * TARGET / AdaptiveProxyServiceLoadBalancer.PRESSURE_TARGET)));
+        }
+
+    @Test
+    public void shouldWaitBetweenReconnects()
+        {
+        Simulation sim = new Simulation(new int[] {100, 100}, new int[] {200, 0});
+
+        sim.updateLoads();
+
+        Balancer balancer = sim.m_aBalancer[0];
+        assertThat(balancer.getReconnectCount(), is(10));
+        assertThat(balancer.getReconnectCount(), is(0));
+
+        balancer.m_ldtNow += INTERVAL;
+        assertThat(balancer.getReconnectCount(), is(10));
+        }
+
+    // ----- inner class: Simulation ----------------------------------------
+
+    /**
+     * A simulation of a set of proxies, each with its own load balancer.
+     */
+    protected static class Simulation
+        {
+        protected Simulation(int[] anCapacity, int[] acClients)
+            {
+            int cProxies = anCapacity.length;
+
+            m_anCapacity = anCapacity;
+            m_acClients  = acClients.clone();
+            m_aMember    = new Member[cProxies];
+            m_aBalancer  = new Balancer[cProxies];
+
+            for (int i = 0; i < cProxies; i++)
+                {
+                m_aMember[i] = mock(Member.class);
+                }
+            for (int i = 0; i < cProxies; i++)
+                {
+                m_aBalancer[i] = new Balancer(m_aMember[i]);
+                }
+            }
+
+        /**
+         * Publish the current load of every proxy to every balancer.
+         */
+        protected void updateLoads()
+            {
+            for (int i = 0; i < m_aMember.length; i++)
+                {
+                int  cClients = m_acClients[i];
+                Load load     = new Load(cClients, 8, cClients * TARGET / m_anCapacity[i]);
+                for (Balancer balancer : m_aBalancer)
+                    {
+                    balancer.update(m_aMember[i], load);
+                    }
+                }
+            }
+
+        /**
+         * Advance the simulation by one reconnect interval.
+         *
+         * @return the number of clients which reconnected
+         */
+        protected int step()
+            {
+            updateLoads();
+
+            int cTotal = 0;
+            for (int i = 0; i < m_aBalancer.length; i++)
+                {
+                Balancer balancer   = m_aBalancer[i];
+                int      cReconnect = balancer.getReconnectCount();
+
+                balancer.m_ldtNow += INTERVAL;
+
+                if (cReconnect > 0)
+                    {
+                    // the clients are redirected to the first Member in the list
+                    List<Member> list   = balancer.getMemberList(null);
+                    int          nProxy = indexOf(list.get(0));
+
+                    m_acClients[i]      -= cReconnect;
+                    m_acClients[nProxy] += cReconnect;
+                    cTotal              += cReconnect;
+                    }
+                }
+            return cTotal;
+            }
+
+        protected int indexOf(Member member)
+            {
+            for (int i = 0; i < m_aMember.length; i++)
+                {
+                if (m_aMember[i] == member)
+                    {
+                    return i;
+                    }
+                }
+            throw new IllegalStateException();
+            }
+
+        protected int getClientCount()
+            {
+            int cTotal = 0;
+            for (int c : m_acClients)
+                {
+                cTotal += c;
+                }
+            return cTotal;
+            }
+
+        protected int getLatencySpread()
+            {
+            int nMin = Integer.MAX_VALUE;
+            int nMax = 0;
+            for (int i = 0; i < m_acClients.length; i++)
+                {
+                int nLatency = m_acClients[i] * TARGET / m_anCapacity[i];
+                nMin = Math.min(nMin, nLatency);
+                nMax = Math.max(nMax, nLatency);
+                }
+            return nMax - nMin;
+            }
+
+        protected final int[]      m_anCapacity;
+        protected final int[]      m_acClients;
+        protected final Member[]   m_aMember;
+        protected final Balancer[] m_aBalancer;
+        }
+
+    // ----- inner class: Balancer ------------------------------------------
+
+    /**
+     * An AdaptiveProxyServiceLoadBalancer with a simulated local Member and
+     * clock.
+     */
+    protected static class Balancer
+            extends AdaptiveProxyServiceLoadBalancer
+        {
+        protected Balancer(Member memberLocal)
+            {
+            super(TARGET, 5, INTERVAL);
+            m_memberLocal = memberLocal;
+            }
+
+        @Override
+        protected Member getLocalMember()
+            {
+            return m_memberLocal;
+            }
+
+        @Override
+        protected long getCurrentTimeMillis()
+            {
+            return m_ldtNow;
+            }
+
+        protected final Member m_memberLocal;
+
+        protected long m_ldtNow = 1L;
+        }
+
+    // ----- inner class: Load ----------------------------------------------
+
+    /**
+     * A simple ProxyServiceLoad.
+     */
+    protected static class Load
+            implements ProxyServiceLoad
+        {
+        protected Load(int cConnections, int cDaemons, int cMillisLatency)
+            {
+            m_cConnections   = cConnections;
+            m_cDaemons       = cDaemons;
+            m_cMillisLatency = cMillisLatency;
+            }
+
+        @Override
+        public int getRequestLatency99thPercentile()
+            {
+            return m_cMillisLatency;
+            }
+
+        @Override
+        public int getConnectionCount()
+            {
+            return m_cConnections;
+            }
+
+        @Override
+        public int getConnectionPendingCount()
+            {
+            return 0;
+            }
+
+        @Override
+        public int getConnectionLimit()
+            {
+            return m_cLimit;
+            }
+
+        @Override
+        public int getDaemonCount()
+            {
+            return m_cDaemons;
+            }
+
+        @Override
+        public int getDaemonActiveCount()
+            {
+            return 0;
+            }
+
+        @Override
+        public int getMessageBacklogIncoming()
+            {
+            return 0;
+            }
+
+        @Override
+        public int getMessageBacklogOutgoing()
+            {
+            return 0;
+            }
+
+        @Override
+        public int compareTo(Object o)
+            {
+            return Integer.compare(m_cConnections, ((Load) o).m_cConnections);
+            }
+
+        protected final int m_cConnections;
+        protected final int m_cDaemons;
+        protected final int m_cMillisLatency;
+        protected int       m_cLimit;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final int TARGET = 100;
+
+    private static final long INTERVAL = 30000L;
+    }
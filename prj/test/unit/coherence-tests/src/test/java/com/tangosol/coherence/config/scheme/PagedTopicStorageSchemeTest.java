@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.config.scheme;
+
+import com.tangosol.coherence.config.builder.MapBuilder;
+import com.tangosol.coherence.config.builder.UnitCalculatorBuilder;
+
+import com.tangosol.coherence.config.builder.storemanager.NioFileManagerBuilder;
+
+import com.tangosol.config.expression.LiteralExpression;
+import com.tangosol.config.expression.NullParameterResolver;
+import com.tangosol.config.expression.ParameterResolver;
+
+import com.tangosol.net.BackingMapManagerContext;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.net.cache.ConfigurableCacheMap;
+import com.tangosol.net.cache.LocalCache;
+import com.tangosol.net.cache.OverflowMap;
+
+import com.tangosol.util.Binary;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PagedTopicStorageScheme} with tiered storage.
+ *
+ * @author rl  2026.10.19
+ */
+public class PagedTopicStorageSchemeTest
+    {
+    @Before
+    public void setup()
+        {
+        UnitCalculatorBuilder bldr = new UnitCalculatorBuilder();
+        bldr.setUnitCalculatorType(new LiteralExpression<>("BINARY"));
+
+        m_schemeFront = new LocalScheme();
+        m_schemeFront.setUnitCalculatorBuilder(bldr);
+
+        ExternalScheme schemeBack = new ExternalScheme();
+        schemeBack.setBinaryStoreManagerBuilder(new NioFileManagerBuilder());
+        schemeBack.setUnitCalculatorBuilder(bldr);
+
+        OverflowScheme schemeTiered = new OverflowScheme();
+        schemeTiered.setFrontScheme(m_schemeFront);
+        schemeTiered.setBackScheme(schemeBack);
+        schemeTiered.setExpiryEnabled(new LiteralExpression<>(Boolean.TRUE));
+
+        PagedTopicScheme schemeTopic = mock(PagedTopicScheme.class);
+        when(schemeTopic.getHotStorageSize(any())).thenReturn(HOT_STORAGE_SIZE);
+        when(schemeTopic.getHighUnits(any())).thenReturn(0L);
+
+        PartitionedService service = mock(PartitionedService.class);
+        when(service.getPartitionCount()).thenReturn(PARTITIONS);
+
+        m_ctx = mock(BackingMapManagerContext.class);
+        when(m_ctx.getCacheService()).thenReturn(service);
+
+        m_scheme = new PagedTopicStorageScheme(schemeTiered, schemeTopic);
+        }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldSpillContentToBackTier()
+        {
+        Map map = m_scheme.realizeMap(RESOLVER, dependencies("$topic$test"));
+        assertThat(map, is(instanceOf(OverflowMap.class)));
+
+        OverflowMap mapTiered = (OverflowMap) map;
+        try
+            {
+            Binary binValue = new Binary(new byte[ELEMENT_SIZE]);
+            for (int i = 0; i < ELEMENTS; i++)
+                {
+                mapTiered.put(key(i), binValue);
+                }
+
+            ConfigurableCacheMap mapFront = (ConfigurableCacheMap) mapTiered.getFrontMap();
+            long                 cbFront  = (long) mapFront.getUnits() * mapFront.getUnitFactor();
+
+            assertThat(cbFront, is(lessThanOrEqualTo(HOT_STORAGE_SIZE / PARTITIONS)));
+            assertThat(mapTiered.getBackMap().size(), is(greaterThan(0)));
+            assertThat(mapTiered.size(), is(ELEMENTS));
+
+            // spilled elements are read back transparently
+            for (int i = 0; i < ELEMENTS; i++)
+                {
+                assertThat(mapTiered.get(key(i)), is(binValue));
+                }
+            }
+        finally
+            {
+            mapTiered.clear();
+            }
+        }
+
+    @Test
+    public void shouldNotModifyConfiguredScheme()
+        {
+        Map map = m_scheme.realizeMap(RESOLVER, dependencies("$topic$test"));
+        try
+            {
+            assertThat(m_schemeFront.getHighUnits(RESOLVER).getUnitCount(), is(0L));
+            }
+        finally
+            {
+            map.clear();
+            }
+        }
+
+    @Test
+    public void shouldKeepMetadataInMemory()
+        {
+        Map map = m_scheme.realizeMap(RESOLVER, dependencies("$meta$topic$pages$test"));
+
+        assertThat(map, is(instanceOf(LocalCache.class)));
+        assertThat(((LocalCache) map).getHighUnits(), is(Integer.MAX_VALUE));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the dependencies to realize a backing map for a cache.
+     *
+     * @param sCacheName  the cache name
+     *
+     * @return the dependencies
+     */
+    protected MapBuilder.Dependencies dependencies(String sCacheName)
+        {
+        return new MapBuilder.Dependencies(null, m_ctx, null, sCacheName, CacheService.TYPE_DISTRIBUTED);
+        }
+
+    /**
+     * Return a binary key.
+     *
+     * @param n  the key
+     *
+     * @return the binary key
+     */
+    protected static Binary key(int n)
+        {
+        return new Binary(new byte[] {(byte) (n >>> 8), (byte) n});
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The parameter resolver.
+     */
+    protected static final ParameterResolver RESOLVER = new NullParameterResolver();
+
+    /**
+     * The hot storage size of the topic.
+     */
+    protected static final long HOT_STORAGE_SIZE = 64 * 1024;
+
+    /**
+     * The number of partitions of the topic service.
+     */
+    protected static final int PARTITIONS = 4;
+
+    /**
+     * The number of elements published by the tests.
+     */
+    protected static final int ELEMENTS = 200;
+
+    /**
+     * The size of each element published by the tests.
+     */
+    protected static final int ELEMENT_SIZE = 1024;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The configured in-memory tier scheme.
+     */
+    protected LocalScheme m_schemeFront;
+
+    /**
+     * The mock backing map manager context.
+     */
+    protected BackingMapManagerContext m_ctx;
+
+    /**
+     * The scheme under test.
+     */
+    protected PagedTopicStorageScheme m_scheme;
+    }
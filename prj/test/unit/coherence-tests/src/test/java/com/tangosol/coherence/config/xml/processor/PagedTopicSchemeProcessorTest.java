@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -10,8 +10,10 @@ import com.oracle.coherence.common.util.MemorySize;
 import com.tangosol.coherence.config.ParameterMacroExpressionParser;
 
 import com.tangosol.coherence.config.scheme.AbstractJournalScheme;
+import com.tangosol.coherence.config.scheme.ExternalScheme;
 import com.tangosol.coherence.config.scheme.FlashJournalScheme;
 import com.tangosol.coherence.config.scheme.LocalScheme;
+import com.tangosol.coherence.config.scheme.OverflowScheme;
 import com.tangosol.coherence.config.scheme.PagedTopicScheme;
 import com.tangosol.coherence.config.scheme.RamJournalScheme;
 import com.tangosol.coherence.config.scheme.Scheme;
@@ -38,6 +40,8 @@ import com.tangosol.run.xml.XmlDocumentReference;
 
 import com.tangosol.util.SimpleResourceRegistry;
 
+import com.tangosol.util.extractor.IdentityExtractor;
+
 import com.oracle.coherence.testing.SystemPropertyResource;
 
 import org.junit.Test;
@@ -300,6 +304,66 @@ public class PagedTopicSchemeProcessorTest
         assertThrows(ConfigurationException.class, () ->  scheme.createConfiguration(nullResolver, null));
         }
 
+    @Test
+    public void shouldConfigureTieredStorage()
+        {
+        String sXml = "<topic-scheme>"
+                        + "<scheme-name>common-pof-topic-scheme</scheme-name>"
+                        + "<service-name>pof-topic-service</service-name>"
+                        + "<storage>tiered</storage>"
+                        + "<hot-storage-size>10MB</hot-storage-size>"
+                        + "</topic-scheme>";
+
+        PagedTopicScheme scheme = testPagedTopicSchemeProcessing(sXml);
+
+        assertThat(scheme, is(notNullValue()));
+        assertThat(scheme.getStorageScheme(), is(instanceOf(OverflowScheme.class)));
+
+        OverflowScheme    schemeTiered = (OverflowScheme) scheme.getStorageScheme();
+        ParameterResolver nullResolver = new NullParameterResolver();
+
+        assertThat(schemeTiered.getFrontScheme(), is(instanceOf(LocalScheme.class)));
+        assertThat(schemeTiered.getBackScheme(), is(instanceOf(ExternalScheme.class)));
+        assertThat(scheme.getHotStorageSize(nullResolver), is(new MemorySize("10MB").getByteCount()));
+        }
+
+    @Test
+    public void shouldConfigureCompactionExtractor()
+        {
+        String sXml = "<topic-scheme>"
+                        + "<scheme-name>common-pof-topic-scheme</scheme-name>"
+                        + "<service-name>pof-topic-service</service-name>"
+                        + "<compaction-extractor>"
+                        + "<class-scheme><class-name>" + IdentityExtractor.class.getName() + "</class-name></class-scheme>"
+                        + "</compaction-extractor>"
+                        + "</topic-scheme>";
+
+        PagedTopicScheme scheme = testPagedTopicSchemeProcessing(sXml);
+
+        assertThat(scheme, is(notNullValue()));
+        assertThat(scheme.getCompactionExtractorBuilder(), is(notNullValue()));
+
+        ParameterResolver      nullResolver = new NullParameterResolver();
+        PagedTopicDependencies dependencies = scheme.createConfiguration(nullResolver, null);
+
+        assertThat(dependencies.isCompacted(), is(true));
+        assertThat(dependencies.getCompactionExtractor(), is(instanceOf(IdentityExtractor.class)));
+        }
+
+    @Test
+    public void shouldNotBeCompactedByDefault()
+        {
+        String sXml = "<topic-scheme>"
+                        + "<scheme-name>common-pof-topic-scheme</scheme-name>"
+                        + "<service-name>pof-topic-service</service-name>"
+                        + "</topic-scheme>";
+
+        PagedTopicScheme       scheme       = testPagedTopicSchemeProcessing(sXml);
+        PagedTopicDependencies dependencies = scheme.createConfiguration(new NullParameterResolver(), null);
+
+        assertThat(dependencies.isCompacted(), is(false));
+        }
+
     // ----- helper ----------------------------------------------------------------------------------------------------
 
     private PagedTopicScheme testPagedTopicSchemeProcessing(String sXml)
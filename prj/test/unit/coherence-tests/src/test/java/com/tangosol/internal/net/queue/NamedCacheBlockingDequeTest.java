@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.net.queue;
+
+import com.tangosol.internal.net.queue.model.QueueKey;
+import com.tangosol.internal.net.queue.model.QueuePollResult;
+
+import com.tangosol.io.DefaultSerializer;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Filter;
+import com.tangosol.util.MapListener;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.junit.Assert.fail;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link NamedCacheBlockingDeque}.
+ *
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class NamedCacheBlockingDequeTest
+    {
+    @Before
+    public void setup()
+        {
+        m_refElement = new AtomicReference<>();
+        m_cache      = mock(NamedCache.class);
+        when(m_cache.getCacheService()).thenReturn(mock(CacheService.class));
+        when(m_cache.isActive()).thenReturn(true);
+        when(m_cache.invoke(any(), any())).thenAnswer(invocation -> result(m_refElement.getAndSet(null)));
+        }
+
+    @Test
+    public void shouldNotRegisterListenerWhenNotBlocked() throws Exception
+        {
+        NamedCacheBlockingDeque<String> deque = new NamedCacheBlockingDeque<>(NAME, m_cache);
+
+        m_refElement.set("foo");
+        assertThat(deque.pollFirst(1, TimeUnit.MILLISECONDS), is("foo"));
+
+        verify(m_cache, never()).addMapListener(any(MapListener.class), any(Filter.class), anyBoolean());
+        }
+
+    @Test
+    public void shouldNotRegisterListenerWithoutTimeout() throws Exception
+        {
+        NamedCacheBlockingDeque<String> deque = new NamedCacheBlockingDeque<>(NAME, m_cache);
+
+        assertThat(deque.pollFirst(0, TimeUnit.MILLISECONDS), is(nullValue()));
+
+        verify(m_cache, never()).addMapListener(any(MapListener.class), any(Filter.class), anyBoolean());
+        }
+
+    @Test
+    public void shouldRemoveListenerWhenLastWaiterLeaves() throws Exception
+        {
+        NamedCacheBlockingDeque<String> deque = new NamedCacheBlockingDeque<>(NAME, m_cache);
+
+        assertThat(deque.pollFirst(1, TimeUnit.MILLISECONDS), is(nullValue()));
+
+        verify(m_cache, times(1)).addMapListener(deque, NamedCacheBlockingDeque.FILTER_EVENTS, true);
+        verify(m_cache, times(1)).removeMapListener(deque, NamedCacheBlockingDeque.FILTER_EVENTS);
+
+        assertThat(deque.pollLast(1, TimeUnit.MILLISECONDS), is(nullValue()));
+
+        verify(m_cache, times(2)).addMapListener(deque, NamedCacheBlockingDeque.FILTER_EVENTS, true);
+        verify(m_cache, times(2)).removeMapListener(deque, NamedCacheBlockingDeque.FILTER_EVENTS);
+        }
+
+    @Test
+    public void shouldShareListenerBetweenWaiters() throws Exception
+        {
+        NamedCacheBlockingDeque<String> deque  = new NamedCacheBlockingDeque<>(NAME, m_cache);
+        CompletableFuture<String>       future = takeAsync(deque);
+
+        verify(m_cache, timeout(5000)).addMapListener(deque, NamedCacheBlockingDeque.FILTER_EVENTS, true);
+
+        // a second waiter neither registers nor removes the listener
+        assertThat(deque.pollFirst(1, TimeUnit.MILLISECONDS), is(nullValue()));
+        verify(m_cache, times(1)).addMapListener(any(MapListener.class), any(Filter.class), anyBoolean());
+        verify(m_cache, never()).removeMapListener(any(MapListener.class), any(Filter.class));
+
+        // the last waiter removes it
+        m_refElement.set("foo");
+        deque.entryInserted(null);
+
+        assertThat(future.get(1, TimeUnit.MINUTES), is("foo"));
+        verify(m_cache, timeout(5000)).removeMapListener(deque, NamedCacheBlockingDeque.FILTER_EVENTS);
+        }
+
+    @Test
+    public void shouldRetryFailedListenerRegistration() throws Exception
+        {
+        NamedCacheBlockingDeque<String> deque = new NamedCacheBlockingDeque<>(NAME, m_cache);
+
+        doThrow(new IllegalStateException("test")).doNothing()
+                .when(m_cache).addMapListener(any(MapListener.class), any(Filter.class), anyBoolean());
+
+        try
+            {
+            deque.pollFirst(1, TimeUnit.MILLISECONDS);
+            fail("expected IllegalStateException");
+            }
+        catch (IllegalStateException e)
+            {
+            // expected
+            }
+
+        // the failed registration is not counted as a waiter, so it is retried and
+        // only the successful registration is removed
+        assertThat(deque.m_lock.isLocked(), is(false));
+        verify(m_cache, never()).removeMapListener(any(MapListener.class), any(Filter.class));
+
+        assertThat(deque.pollFirst(1, TimeUnit.MILLISECONDS), is(nullValue()));
+
+        verify(m_cache, times(2)).addMapListener(any(MapListener.class), any(Filter.class), anyBoolean());
+        verify(m_cache, times(1)).removeMapListener(any(MapListener.class), any(Filter.class));
+        }
+
+    @Test
+    public void shouldWakeWaitingThreadOnInsert() throws Exception
+        {
+        NamedCacheBlockingDeque<String> deque  = new NamedCacheBlockingDeque<>(NAME, m_cache);
+        CompletableFuture<String>       future = takeAsync(deque);
+
+        verify(m_cache, timeout(5000)).addMapListener(deque, NamedCacheBlockingDeque.FILTER_EVENTS, true);
+        assertThat(future.isDone(), is(false));
+
+        m_refElement.set("foo");
+        deque.entryInserted(null);
+
+        assertThat(future.get(1, TimeUnit.MINUTES), is("foo"));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Call {@link NamedCacheBlockingDeque#takeFirst()} on a new thread.
+     *
+     * @param deque  the deque to take from
+     *
+     * @return the future completed with the element taken
+     */
+    protected static CompletableFuture<String> takeAsync(NamedCacheBlockingDeque<String> deque)
+        {
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        Thread thread = new Thread(() ->
+            {
+            try
+                {
+                future.complete(deque.takeFirst());
+                }
+            catch (Throwable t)
+                {
+                future.completeExceptionally(t);
+                }
+            });
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+        }
+
+    /**
+     * Create a deserialized {@link QueuePollResult}.
+     *
+     * @param sElement  the element, or {@code null} for an empty result
+     *
+     * @return the poll result
+     */
+    protected static QueuePollResult result(String sElement)
+        {
+        if (sElement == null)
+            {
+            return new QueuePollResult(Long.MIN_VALUE, null);
+            }
+
+        DefaultSerializer serializer = new DefaultSerializer();
+        Binary            bin        = ExternalizableHelper.toBinary(sElement, serializer);
+        QueuePollResult   result     = new QueuePollResult(1L, bin);
+        result.setContextSerializer(serializer);
+        return result;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The queue name.
+     */
+    protected static final String NAME = "test-queue";
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The mock queue cache.
+     */
+    protected NamedCache<QueueKey, String> m_cache;
+
+    /**
+     * The element returned by the next poll of the mock cache.
+     */
+    protected AtomicReference<String> m_refElement;
+    }
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.net.queue;
+
+import com.tangosol.internal.net.queue.extractor.QueueKeyExtractor;
+import com.tangosol.internal.net.queue.model.QueueKey;
+import com.tangosol.internal.net.queue.model.QueuePollResult;
+import com.tangosol.internal.net.queue.model.QueueShardInfo;
+import com.tangosol.internal.net.queue.processor.QueueEnsureShardInfo;
+import com.tangosol.internal.net.queue.processor.QueuePeek;
+import com.tangosol.internal.net.queue.processor.QueuePoll;
+
+import com.tangosol.io.DefaultSerializer;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.InvocableMap.EntryProcessor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.function.IntUnaryOperator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.junit.Assert.fail;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ShardedNamedCacheDeque}.
+ *
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class ShardedNamedCacheDequeTest
+    {
+    @Before
+    public void setup()
+        {
+        m_cache = mock(NamedCache.class);
+        when(m_cache.getCacheService()).thenReturn(mock(CacheService.class));
+        when(m_cache.invoke(any(), any())).thenReturn(result(null));
+        when(m_cache.invoke(eq(ShardedNamedCacheDeque.getInfoKey(NAME)), isA(QueueEnsureShardInfo.class)))
+                .thenReturn(INFO);
+        when(m_cache.invokeAll(anyCollection(), any())).thenAnswer(invocation ->
+            {
+            Map<QueueKey, QueuePollResult> map = new HashMap<>();
+            for (Object key : (Collection) invocation.getArgument(0))
+                {
+                map.put((QueueKey) key, result(null));
+                }
+            return map;
+            });
+        }
+
+    @Test
+    public void shouldUseStoredShardHashes()
+        {
+        ShardedNamedCacheDeque<String> deque = new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS);
+
+        verify(m_cache).invoke(eq(ShardedNamedCacheDeque.getInfoKey(NAME)), isA(QueueEnsureShardInfo.class));
+        for (int i = 0; i < SHARDS; i++)
+            {
+            assertThat(deque.getShardHash(i), is(INFO.getShardHash(i)));
+            }
+        }
+
+    @Test
+    public void shouldRejectDifferentShardCount()
+        {
+        new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS);
+        try
+            {
+            new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS + 1);
+            fail("expected IllegalStateException");
+            }
+        catch (IllegalStateException e)
+            {
+            // expected
+            }
+        }
+
+    @Test
+    public void shouldUseDistinctHashForShardInfo()
+        {
+        int nHash = ShardedNamedCacheDeque.getInfoKey(NAME).getHash();
+
+        ShardedNamedCacheDeque<String> deque = new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS);
+        for (int i = 0; i < SHARDS; i++)
+            {
+            assertThat(deque.getShardHash(i) == nHash, is(false));
+            }
+
+        // the info entry is never indexed as a queue element
+        assertThat(QueueKeyExtractor.QueueIndex.isReserved(ShardedNamedCacheDeque.getInfoKey(NAME).getId()), is(true));
+        }
+
+    @Test
+    public void shouldPlaceShardsInDistinctPartitions()
+        {
+        // force the natural hashes of the first shards into the same partition
+        Set<Integer> setForced = new HashSet<>();
+        for (int i = 0; i < SHARDS; i++)
+            {
+            setForced.add(QueueKey.calculateQueueHash(ShardedNamedCacheDeque.getShardName(NAME, i)));
+            }
+        IntUnaryOperator fnPartition = nHash -> setForced.contains(nHash) ? 0 : Math.floorMod(nHash, PARTITIONS);
+
+        int[]        anHash       = ShardedNamedCacheDeque.calculateShardHashes(NAME, SHARDS, PARTITIONS, fnPartition);
+        Set<Integer> setPartition = new HashSet<>();
+        for (int nHash : anHash)
+            {
+            setPartition.add(fnPartition.applyAsInt(nHash));
+            }
+
+        assertThat(anHash.length, is(SHARDS));
+        assertThat(setPartition.size(), is(SHARDS));
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectMoreShardsThanPartitions()
+        {
+        ShardedNamedCacheDeque.calculateShardHashes(NAME, 3, 2, nHash -> Math.floorMod(nHash, 2));
+        }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailWhenNoFreePartition()
+        {
+        ShardedNamedCacheDeque.calculateShardHashes(NAME, 2, PARTITIONS, nHash -> 0);
+        }
+
+    @Test
+    public void shouldPollEmptyQueueInTwoRoundTrips()
+        {
+        ShardedNamedCacheDeque<String> deque = new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS);
+
+        assertThat(deque.poll(), is(nullValue()));
+
+        verify(m_cache, times(1)).invoke(any(), isA(QueuePoll.class));
+        verify(m_cache, times(1)).invokeAll(anyCollection(), isA(QueuePeek.class));
+        }
+
+    @Test
+    public void shouldPollOnlyNonEmptyShard()
+        {
+        QueueKey keyHead = new QueueKey(INFO.getShardHash(2), QueueKey.ID_HEAD);
+        when(m_cache.invokeAll(anyCollection(), any())).thenAnswer(invocation ->
+            {
+            Map<QueueKey, QueuePollResult> map = new HashMap<>();
+            for (Object key : (Collection) invocation.getArgument(0))
+                {
+                map.put((QueueKey) key, result(keyHead.equals(key) ? "foo" : null));
+                }
+            return map;
+            });
+        when(m_cache.invoke(eq(keyHead), isA(QueuePoll.class))).thenReturn(result("foo"));
+
+        ShardedNamedCacheDeque<String> deque = new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS);
+
+        assertThat(deque.poll(), is("foo"));
+
+        // the first shard, then the shard found by the peek
+        verify(m_cache, times(2)).invoke(any(), isA(QueuePoll.class));
+        verify(m_cache).invoke(eq(keyHead), isA(QueuePoll.class));
+        }
+
+    @Test
+    public void shouldPeekWithoutInvokingNonEmptyShard()
+        {
+        QueueKey keyHead = new QueueKey(INFO.getShardHash(3), QueueKey.ID_HEAD);
+        when(m_cache.invokeAll(anyCollection(), any())).thenAnswer(invocation ->
+            {
+            Map<QueueKey, QueuePollResult> map = new HashMap<>();
+            for (Object key : (Collection) invocation.getArgument(0))
+                {
+                map.put((QueueKey) key, result(keyHead.equals(key) ? "bar" : null));
+                }
+            return map;
+            });
+
+        ShardedNamedCacheDeque<String> deque = new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS);
+
+        assertThat(deque.peek(), is("bar"));
+
+        verify(m_cache, times(1)).invoke(any(), isA(QueuePeek.class));
+        verify(m_cache, never()).invoke(eq(keyHead), any(EntryProcessor.class));
+        }
+
+    @Test
+    public void shouldNotPeekOtherShardsWhenFirstShardHasElement()
+        {
+        QueueKey keyHead = new QueueKey(INFO.getShardHash(0), QueueKey.ID_HEAD);
+        when(m_cache.invoke(eq(keyHead), isA(QueuePoll.class))).thenReturn(result("foo"));
+
+        ShardedNamedCacheDeque<String> deque = new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS);
+
+        assertThat(deque.poll(), is("foo"));
+
+        verify(m_cache, never()).invokeAll(anyCollection(), any());
+        }
+
+    @Test
+    public void shouldExcludeShardInfoFromSize()
+        {
+        when(m_cache.size()).thenReturn(3);
+        when(m_cache.containsKey(ShardedNamedCacheDeque.getInfoKey(NAME))).thenReturn(true);
+
+        ShardedNamedCacheDeque<String> deque = new ShardedNamedCacheDeque<>(NAME, m_cache, SHARDS);
+
+        assertThat(deque.size(), is(2));
+        assertThat(deque.isEmpty(), is(false));
+
+        when(m_cache.size()).thenReturn(1);
+        assertThat(deque.size(), is(0));
+        assertThat(deque.isEmpty(), is(true));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Create a deserialized {@link QueuePollResult}.
+     *
+     * @param sElement  the element, or {@code null} for an empty result
+     *
+     * @return the poll result
+     */
+    protected static QueuePollResult result(String sElement)
+        {
+        if (sElement == null)
+            {
+            return new QueuePollResult(Long.MIN_VALUE, null);
+            }
+
+        DefaultSerializer serializer = new DefaultSerializer();
+        Binary            bin        = ExternalizableHelper.toBinary(sElement, serializer);
+        QueuePollResult   result     = new QueuePollResult(1L, bin);
+        result.setContextSerializer(serializer);
+        return result;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The queue name.
+     */
+    protected static final String NAME = "test-queue";
+
+    /**
+     * The number of shards.
+     */
+    protected static final int SHARDS = 4;
+
+    /**
+     * The partition count used to calculate the shard hashes.
+     */
+    protected static final int PARTITIONS = 257;
+
+    /**
+     * The shard info returned for the queue.
+     */
+    protected static final QueueShardInfo INFO = new QueueShardInfo(ShardedNamedCacheDeque.calculateShardHashes(
+            NAME, SHARDS, PARTITIONS, nHash -> Math.floorMod(nHash, PARTITIONS)));
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The mock queue cache.
+     */
+    protected NamedCache<QueueKey, String> m_cache;
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import org.mockito.Mockito;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -78,6 +79,30 @@ public class TcpInitiatorDependenciesTest
         Assert.fail();
         }
 
+    /**
+     * Test that the connection pool must hold at least one connection.
+     */
+    @Test
+    public void invalidConnectionPoolSize()
+        {
+        DefaultTcpInitiatorDependencies dependencies = new DefaultTcpInitiatorDependencies();
+
+        assertEquals(1, dependencies.getConnectionPoolSize());
+
+        try
+            {
+            populate(dependencies);
+            dependencies.setConnectionPoolSize(0);
+            dependencies.validate();
+            }
+        catch (AssertionException e)
+            {
+            return;
+            }
+
+        Assert.fail();
+        }
+
     // ----- helpers --------------------------------------------------------
 
     /**
@@ -94,6 +119,7 @@ public class TcpInitiatorDependenciesTest
         assertSame(deps1.getRemoteAddressProviderBuilder(), deps2.getRemoteAddressProviderBuilder());
         assertSame(deps1.getSocketOptions(),                deps2.getSocketOptions());
         assertSame(deps1.getSocketProviderBuilder(),        deps2.getSocketProviderBuilder());
+        assertEquals(deps1.getConnectionPoolSize(),         deps2.getConnectionPoolSize());
         }
 
     /**
@@ -123,6 +149,9 @@ public class TcpInitiatorDependenciesTest
         deps.setSocketProviderBuilder(new SocketProviderBuilder(socketProvider, false));
         assertSame(socketProvider, deps.getSocketProviderBuilder().realize(null, null, null));
 
+        deps.setConnectionPoolSize(4);
+        assertEquals(4, deps.getConnectionPoolSize());
+
         return deps;
         }
     }
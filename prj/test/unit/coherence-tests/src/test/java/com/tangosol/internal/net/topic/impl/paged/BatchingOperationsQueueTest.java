@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -17,6 +17,7 @@ import org.junit.Test;
 
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Queue;
@@ -172,6 +173,55 @@ public class BatchingOperationsQueueTest
         assertThat(list.get(0), is(element2.getValue()));
         }
 
+    @Test
+    public void shouldAddUncompletedElementsInBatchToCollection()
+        {
+        BatchingOperationsQueue<Binary, Void>                queue     = new BatchingOperationsQueue<>(FUNCTION_DUMMY, 1);
+        Queue<BatchingOperationsQueue<Binary, Void>.Element> listBatch = queue.getCurrentBatch();
+        BatchingOperationsQueue<Binary, Void>.Element        element1  = queue.createElement(new Binary(new byte[]{1}));
+        BatchingOperationsQueue<Binary, Void>.Element        element2  = queue.createElement(new Binary(new byte[]{2}));
+        BatchingOperationsQueue<Binary, Void>.Element        element3  = queue.createElement(new Binary(new byte[]{3}));
+
+        listBatch.add(element1);
+        listBatch.add(element2);
+        listBatch.add(element3);
+
+        element2.getFuture().complete(null);
+
+        List<Binary> listIn = new ArrayList<>();
+        List<Binary> list   = queue.getCurrentBatchValues(listIn);
+
+        assertThat(list, is(sameInstance(listIn)));
+        assertThat(list.size(), is(2));
+        assertThat(list.get(0), is(element1.getValue()));
+        assertThat(list.get(1), is(element3.getValue()));
+        }
+
+    @Test
+    public void shouldAllowAddWhileFillingCurrentBatch() throws Exception
+        {
+        BatchingOperationsQueue<Binary, Void> queue = new BatchingOperationsQueue<>(FUNCTION_DUMMY, 1);
+
+        queue.add(new Binary());
+
+        // enter the gate as the filling thread does, an add must not block
+        queue.getGate().enter(-1);
+        try
+            {
+            CompletableFuture<CompletableFuture<Void>> future =
+                    CompletableFuture.supplyAsync(() -> queue.add(new Binary()));
+
+            assertThat(future.get(1, TimeUnit.MINUTES), is(notNullValue()));
+            }
+        finally
+            {
+            queue.getGate().exit();
+            }
+
+        assertThat(queue.fillCurrentBatch(10), is(true));
+        assertThat(queue.getCurrentBatchSize(), is(2));
+        }
+
     @Test
     public void shouldNotBeCompleteIfBatchContainsUncompleteElements()
         {
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.internal.net.topic.impl.paged.model.SubscriberGroupId;
+import com.tangosol.internal.net.topic.impl.paged.model.Subscription;
+
+import com.tangosol.net.DistributedCacheService;
+import com.tangosol.net.ExtensibleConfigurableCacheFactory;
+
+import com.tangosol.net.partition.PartitionEvent;
+import com.tangosol.net.partition.PartitionSet;
+
+import com.tangosol.util.Filter;
+
+import com.tangosol.util.filter.EqualsFilter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author rl  2026.10.19
+ */
+public class PagedTopicBackingMapManagerTest
+    {
+    @Test
+    public void shouldReuseEqualFilterForSameSubscription()
+        {
+        SubscriptionCache cache   = createManager().getSubscriptionCache(TOPIC, key(0, 0));
+        Filter<Object>    filter1 = new EqualsFilter<>("getName", "foo");
+        Filter<Object>    filter2 = new EqualsFilter<>("getName", "foo");
+
+        assertThat(cache.getFilter(filter1), is(sameInstance(filter1)));
+        assertThat(cache.getFilter(filter2), is(sameInstance(filter1)));
+        }
+
+    @Test
+    public void shouldReplaceDifferentFilter()
+        {
+        SubscriptionCache cache   = createManager().getSubscriptionCache(TOPIC, key(0, 0));
+        Filter<Object>    filter1 = new EqualsFilter<>("getName", "foo");
+        Filter<Object>    filter2 = new EqualsFilter<>("getName", "bar");
+
+        assertThat(cache.getFilter(filter1), is(sameInstance(filter1)));
+        assertThat(cache.getFilter(filter2), is(sameInstance(filter2)));
+        assertThat(cache.getFilter(null), is(nullValue()));
+        }
+
+    @Test
+    public void shouldNotShareFilterBetweenSubscriptions()
+        {
+        PagedTopicBackingMapManager manager = createManager();
+        Filter<Object>              filter1 = new EqualsFilter<>("getName", "foo");
+        Filter<Object>              filter2 = new EqualsFilter<>("getName", "foo");
+
+        assertThat(manager.getSubscriptionCache(TOPIC, key(0, 0)).getFilter(filter1), is(sameInstance(filter1)));
+        assertThat(manager.getSubscriptionCache(TOPIC, key(1, 0)).getFilter(filter2), is(sameInstance(filter2)));
+        }
+
+    @Test
+    public void shouldRemoveSubscriptionCache()
+        {
+        PagedTopicBackingMapManager manager = createManager();
+        SubscriptionCache           cache   = manager.getSubscriptionCache(TOPIC, key(0, 0));
+
+        manager.removeSubscriptionCache(TOPIC, key(0, 0));
+
+        assertThat(manager.getSubscriptionCache(TOPIC, key(0, 0)), is(not(sameInstance(cache))));
+        }
+
+    @Test
+    public void shouldNotShareFilterAcrossThreads() throws Exception
+        {
+        PagedTopicBackingMapManager manager  = createManager();
+        int                         cThreads = 8;
+        CyclicBarrier               barrier  = new CyclicBarrier(cThreads);
+        ExecutorService             executor = Executors.newFixedThreadPool(cThreads);
+
+        try
+            {
+            // each thread polls a different channel of the same subscriber
+            // group with an equal filter, as concurrent polls would
+            List<Future<Filter<?>>> listFuture = new ArrayList<>();
+            for (int i = 0; i < cThreads; i++)
+                {
+                int nChannel = i;
+                Callable<Filter<?>> task = () ->
+                    {
+                    barrier.await();
+                    Filter<?> filterFirst = null;
+                    for (int j = 0; j < 1000; j++)
+                        {
+                        Filter<?> filter = manager.getSubscriptionCache(TOPIC, key(0, nChannel))
+                                .getFilter(new EqualsFilter<>("getName", "foo"));
+                        if (filterFirst == null)
+                            {
+                            filterFirst = filter;
+                            }
+                        assertThat(filter, is(sameInstance(filterFirst)));
+                        }
+                    return filterFirst;
+                    };
+                listFuture.add(executor.submit(task));
+                }
+
+            Map<Filter<?>, Boolean> mapSeen = new IdentityHashMap<>();
+            for (Future<Filter<?>> future : listFuture)
+                {
+                assertThat(mapSeen.put(future.get(1, TimeUnit.MINUTES), Boolean.TRUE), is(nullValue()));
+                }
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+        }
+
+    @Test
+    public void shouldReleaseCompactionIndexesOfPartitions()
+        {
+        PagedTopicBackingMapManager manager = createManager();
+        CompactionIndex             index00 = manager.getCompactionIndex(TOPIC, 0, 0);
+        CompactionIndex             index01 = manager.getCompactionIndex(TOPIC, 0, 1);
+        CompactionIndex             index10 = manager.getCompactionIndex(TOPIC, 1, 0);
+        CompactionIndex             indexB  = manager.getCompactionIndex("other-topic", 0, 0);
+
+        PartitionSet parts = new PartitionSet(PARTITIONS);
+        parts.add(0);
+        manager.releaseCompactionIndexes(parts);
+
+        assertThat(manager.getCompactionIndex(TOPIC, 0, 0), is(not(sameInstance(index00))));
+        assertThat(manager.getCompactionIndex(TOPIC, 0, 1), is(not(sameInstance(index01))));
+        assertThat(manager.getCompactionIndex("other-topic", 0, 0), is(not(sameInstance(indexB))));
+        assertThat(manager.getCompactionIndex(TOPIC, 1, 0), is(sameInstance(index10)));
+        }
+
+    @Test
+    public void shouldReleaseCompactionIndexesOnPartitionTransfer()
+        {
+        assertCompactionIndexReleased(PartitionEvent.PARTITION_TRANSMIT_COMMIT, true);
+        assertCompactionIndexReleased(PartitionEvent.PARTITION_RECEIVE_COMMIT, true);
+        assertCompactionIndexReleased(PartitionEvent.PARTITION_LOST, true);
+        assertCompactionIndexReleased(PartitionEvent.PARTITION_ASSIGNED, true);
+        assertCompactionIndexReleased(PartitionEvent.PARTITION_RECOVERED, true);
+        assertCompactionIndexReleased(PartitionEvent.PARTITION_TRANSMIT_BEGIN, false);
+        assertCompactionIndexReleased(PartitionEvent.PARTITION_RECEIVE_BEGIN, false);
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    private PagedTopicBackingMapManager createManager()
+        {
+        return new PagedTopicBackingMapManager(mock(ExtensibleConfigurableCacheFactory.class));
+        }
+
+    private void assertCompactionIndexReleased(int nEventId, boolean fReleased)
+        {
+        PagedTopicBackingMapManager manager = createManager();
+        CompactionIndex             index   = manager.getCompactionIndex(TOPIC, 1, 0);
+        DistributedCacheService     service = mock(DistributedCacheService.class);
+        PartitionSet                parts   = new PartitionSet(PARTITIONS);
+
+        when(service.getBackingMapManager()).thenReturn(manager);
+        parts.add(1);
+
+        new CompactionIndexCleanupListener().onPartitionEvent(
+                new PartitionEvent(service, nEventId, parts, null, null));
+
+        assertThat(manager.getCompactionIndex(TOPIC, 1, 0) == index, is(!fReleased));
+        }
+
+    private static Subscription.Key key(int nPartition, int nChannel)
+        {
+        return new Subscription.Key(nPartition, nChannel, SubscriberGroupId.withName("test"));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final String TOPIC = "test-topic";
+
+    private static final int PARTITIONS = 257;
+    }
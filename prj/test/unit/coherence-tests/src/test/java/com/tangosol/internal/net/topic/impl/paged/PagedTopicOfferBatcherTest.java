@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.internal.net.topic.impl.paged.agent.MultiChannelOfferProcessor;
+import com.tangosol.internal.net.topic.impl.paged.agent.OfferProcessor;
+
+import com.tangosol.internal.net.topic.impl.paged.model.Page;
+
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PagedTopicService;
+
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.SimpleMapEntry;
+
+import com.tangosol.util.processor.AsynchronousProcessor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class PagedTopicOfferBatcherTest
+    {
+    @Before
+    public void setup()
+        {
+        PagedTopicService       service  = mock(PagedTopicService.class);
+        KeyPartitioningStrategy strategy = mock(KeyPartitioningStrategy.class);
+        NamedCache              cache    = mock(NamedCache.class);
+
+        m_caches    = mock(PagedTopicCaches.class);
+        m_listAsync = new ArrayList<>();
+
+        m_caches.Pages = cache;
+        when(m_caches.getService()).thenReturn(service);
+        when(m_caches.getTopicName()).thenReturn("test");
+        when(m_caches.getUnitOfOrder(anyInt())).thenAnswer(inv -> 100 + (int) inv.getArgument(0));
+        when(service.getKeyPartitioningStrategy()).thenReturn(strategy);
+        when(strategy.getKeyPartition(any())).thenReturn(1);
+        when(service.getPartitionOwner(1)).thenReturn(mock(Member.class));
+        when(cache.invokeAll(anyCollection(), any(AsynchronousProcessor.class))).thenAnswer(inv ->
+            {
+            m_listAsync.add(inv.getArgument(1));
+            return null;
+            });
+        }
+
+    @Test
+    public void shouldCombineOffersMadeWhileRequestInFlight()
+        {
+        PagedTopicOfferBatcher batcher = new PagedTopicOfferBatcher(m_caches, 0);
+        Page.Key               key1    = new Page.Key(1, 10L);
+        Page.Key               key2    = new Page.Key(2, 20L);
+        Page.Key               key3    = new Page.Key(3, 30L);
+        List<Binary>           list    = Collections.singletonList(new Binary(new byte[]{1}));
+        Object[]               aResult = new Object[3];
+
+        batcher.offer(key1, list, (r, e) -> aResult[0] = r);
+        batcher.offer(key2, list, (r, e) -> aResult[1] = r);
+        batcher.offer(key3, list, (r, e) -> aResult[2] = r);
+
+        // only the first offer has been sent, in the unit of order of its partition
+        assertThat(m_listAsync.size(), is(1));
+        assertThat(m_listAsync.get(0).getUnitOfOrderId(), is(101));
+        assertThat(m_listAsync.get(0).getProcessor() instanceof MultiChannelOfferProcessor, is(true));
+
+        OfferProcessor.Result result = new OfferProcessor.Result(OfferProcessor.Result.Status.Success, 1, 100, 0);
+        m_listAsync.get(0).onResult(new SimpleMapEntry<>(key1, result));
+        m_listAsync.get(0).onComplete();
+
+        assertThat(aResult[0], is(sameInstance(result)));
+        assertThat(aResult[1], is(nullValue()));
+
+        // the other two offers were sent together in a single request
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(m_caches.Pages, times(2)).invokeAll(captor.capture(), any(AsynchronousProcessor.class));
+        assertThat(m_listAsync.size(), is(2));
+        assertThat(captor.getAllValues().get(1).size(), is(2));
+        }
+
+    @Test
+    public void shouldFailOffersWhenRequestFails()
+        {
+        PagedTopicOfferBatcher batcher = new PagedTopicOfferBatcher(m_caches, 0);
+        Page.Key               key1    = new Page.Key(1, 10L);
+        List<Binary>           list    = Collections.singletonList(new Binary(new byte[]{1}));
+        Throwable[]            aError  = new Throwable[1];
+        RuntimeException       error   = new RuntimeException("test");
+
+        batcher.offer(key1, list, (r, e) -> aError[0] = e);
+        m_listAsync.get(0).onException(error);
+        m_listAsync.get(0).onComplete();
+
+        assertThat(aError[0], is(sameInstance(error)));
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    private PagedTopicCaches m_caches;
+
+    private List<AsynchronousProcessor> m_listAsync;
+    }
@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.internal.net.topic.impl.paged.model.ContentKey;
+import com.tangosol.internal.net.topic.impl.paged.model.Page;
+import com.tangosol.internal.net.topic.impl.paged.model.Usage;
+
+import com.tangosol.io.DefaultSerializer;
+
+import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.BackingMapManagerContext;
+import com.tangosol.net.PagedTopicService;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the compaction of key-compacted topics by
+ * {@link PagedTopicPartition}.
+ *
+ * @author rl  2026.10.19
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class PagedTopicPartitionCompactionTest
+    {
+    @Before
+    public void setup()
+        {
+        BackingMapManagerContext ctxManager = mock(BackingMapManagerContext.class);
+        when(ctxManager.getCacheService()).thenReturn(mock(PagedTopicService.class));
+
+        m_deps = new DefaultPagedTopicDependencies(1);
+        m_deps.setCompactionExtractor(IdentityExtractor.INSTANCE());
+
+        m_usage.setPartitionHead(Page.NULL_PAGE);
+        m_usage.setPartitionTail(Page.NULL_PAGE);
+
+        m_partition = new CompactingPartition(ctxManager);
+        }
+
+    @Test
+    public void shouldNotCompactOpenPage()
+        {
+        addPage(1L, false, "a", "a");
+
+        assertThat(m_partition.compact(CHANNEL, 1L), is(0));
+        assertThat(m_mapContent.size(), is(2));
+        }
+
+    @Test
+    public void shouldNotCompactWithoutExtractor()
+        {
+        m_deps.setCompactionExtractor(null);
+        addPage(1L, true, "a", "a");
+
+        assertThat(m_partition.compact(CHANNEL, 1L), is(0));
+        assertThat(m_mapContent.size(), is(2));
+        }
+
+    @Test
+    public void shouldRemoveSupersededElementsAndUpdateByteSize()
+        {
+        Page page1 = addPage(1L, true, "a", "b", "a");
+        addPage(2L, false, "c");
+        int  cb    = page1.getByteSize();
+
+        assertThat(m_partition.compact(CHANNEL, 1L), is(1));
+
+        assertThat(m_mapContent.containsKey(key(1L, 0)), is(false));
+        assertThat(m_mapContent.containsKey(key(1L, 1)), is(true));
+        assertThat(m_mapContent.containsKey(key(1L, 2)), is(true));
+        assertThat(page1.getByteSize(), is(cb - size("a")));
+        assertThat(m_listRemoved.isEmpty(), is(true));
+        }
+
+    @Test
+    public void shouldCompactOnlyNewPageWhenIndexIsCurrent()
+        {
+        addPage(1L, true, "a", "b");
+        Page page2 = addPage(2L, false, "a");
+
+        assertThat(m_partition.compact(CHANNEL, 1L), is(0));
+        assertThat(m_index.getLastPage(), is(1L));
+
+        page2.setSealed(true);
+        m_listPeeked.clear();
+
+        assertThat(m_partition.compact(CHANNEL, 2L), is(1));
+        assertThat(m_listPeeked, is(List.of(2L)));
+        assertThat(m_mapContent.containsKey(key(1L, 0)), is(false));
+
+        // compacting the same page again does nothing
+        assertThat(m_partition.compact(CHANNEL, 2L), is(0));
+        }
+
+    @Test
+    public void shouldRebuildStaleIndex()
+        {
+        addPage(1L, true, "a", "b");
+        addPage(2L, true, "c");
+        addPage(3L, true, "a");
+
+        // the index covers no pages, so it is rebuilt from the partition head
+        assertThat(m_partition.compact(CHANNEL, 3L), is(1));
+        assertThat(m_index.getLastPage(), is(3L));
+        assertThat(m_index.size(), is(3));
+        assertThat(m_mapContent.containsKey(key(1L, 0)), is(false));
+        }
+
+    @Test
+    public void shouldRemoveEmptiedHeadPage()
+        {
+        addPage(1L, true, "a");
+        addPage(2L, true, "b");
+        addPage(3L, true, "a", "b");
+
+        assertThat(m_partition.compact(CHANNEL, 3L), is(2));
+        assertThat(m_listRemoved, is(List.of(1L, 2L)));
+        assertThat(m_usage.getPartitionHead(), is(3L));
+        }
+
+    @Test
+    public void shouldKeepEmptiedPageInMiddleOfPartition()
+        {
+        addPage(1L, true, "a");
+        addPage(2L, true, "b");
+        addPage(3L, true, "b");
+
+        assertThat(m_partition.compact(CHANNEL, 3L), is(1));
+        assertThat(m_mapContent.containsKey(key(2L, 0)), is(false));
+        assertThat(m_listRemoved.isEmpty(), is(true));
+        }
+
+    @Test
+    public void shouldKeepEmptiedHeadPageWithSubscribers()
+        {
+        Page page1 = addPage(1L, true, "a");
+        addPage(2L, true, "a");
+
+        page1.incrementReferenceCount();
+
+        assertThat(m_partition.compact(CHANNEL, 2L), is(1));
+        assertThat(m_listRemoved.isEmpty(), is(true));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Add a page to the end of the partition.
+     *
+     * @param lPage      the page id
+     * @param fSealed    {@code true} if the page is sealed
+     * @param asElement  the elements of the page
+     *
+     * @return the page
+     */
+    protected Page addPage(long lPage, boolean fSealed, String... asElement)
+        {
+        Page page = new Page();
+        int  cb   = 0;
+        for (int i = 0; i < asElement.length; i++)
+            {
+            m_mapContent.put(key(lPage, i), asElement[i]);
+            cb += size(asElement[i]);
+            }
+        page.setTail(asElement.length - 1);
+        page.setByteSize(cb);
+        page.setSealed(fSealed);
+
+        long lTail = m_usage.getPartitionTail();
+        if (lTail == Page.NULL_PAGE)
+            {
+            m_usage.setPartitionHead(lPage);
+            }
+        else
+            {
+            m_mapPage.get(lTail).setNextPartitionPage(lPage);
+            page.setPreviousPartitionPage(lTail);
+            }
+        m_usage.setPartitionTail(lPage);
+
+        m_mapPage.put(lPage, page);
+        return page;
+        }
+
+    /**
+     * Return the binary key of an element.
+     *
+     * @param lPage  the page id
+     * @param nPos   the position of the element in the page
+     *
+     * @return the binary key of the element
+     */
+    protected static Binary key(long lPage, int nPos)
+        {
+        return ContentKey.toBinary(PARTITION, CHANNEL, lPage, nPos);
+        }
+
+    /**
+     * Return the serialized size of an element.
+     *
+     * @param sElement  the element
+     *
+     * @return the serialized size of the element
+     */
+    protected static int size(String sElement)
+        {
+        return ExternalizableHelper.toBinary(sElement, SERIALIZER).length();
+        }
+
+    /**
+     * Return a mock {@link BinaryEntry} backed by the content map.
+     *
+     * @param binKey  the binary key
+     *
+     * @return a mock entry
+     */
+    protected BinaryEntry entry(Binary binKey)
+        {
+        BinaryEntry entry = mock(BinaryEntry.class);
+        when(entry.getBinaryKey()).thenAnswer(invocation -> binKey);
+        when(entry.getValue()).thenAnswer(invocation -> m_mapContent.get(binKey));
+        when(entry.getBinaryValue()).thenAnswer(invocation ->
+            {
+            String sElement = m_mapContent.get(binKey);
+            return sElement == null ? null : ExternalizableHelper.toBinary(sElement, SERIALIZER);
+            });
+        doAnswer(invocation -> m_mapContent.remove(binKey)).when(entry).remove(anyBoolean());
+        return entry;
+        }
+
+    // ----- inner class: CompactingPartition -------------------------------
+
+    /**
+     * A {@link PagedTopicPartition} backed by in-memory maps.
+     */
+    protected class CompactingPartition
+            extends PagedTopicPartition
+        {
+        protected CompactingPartition(BackingMapManagerContext ctxManager)
+            {
+            super(ctxManager, "test-topic", PARTITION);
+
+            BackingMapContext ctxContent = mock(BackingMapContext.class);
+            when(ctxContent.getReadOnlyEntry(any())).thenAnswer(invocation -> entry(invocation.getArgument(0)));
+            when(ctxContent.getBackingMapEntry(any())).thenAnswer(invocation -> entry(invocation.getArgument(0)));
+            f_ctxContent = ctxContent;
+            }
+
+        @Override
+        public PagedTopicDependencies getDependencies()
+            {
+            return m_deps;
+            }
+
+        @Override
+        protected BackingMapContext getBackingMapContext(PagedTopicCaches.Names cacheName)
+            {
+            return f_ctxContent;
+            }
+
+        @Override
+        protected CompactionIndex getCompactionIndex(int nChannel)
+            {
+            return m_index;
+            }
+
+        @Override
+        protected Usage peekUsage(int nChannel)
+            {
+            return m_usage;
+            }
+
+        @Override
+        protected Usage enlistUsage(int nChannel)
+            {
+            return m_usage;
+            }
+
+        @Override
+        protected Page peekPage(int nChannel, long lPage)
+            {
+            m_listPeeked.add(lPage);
+            return m_mapPage.get(lPage);
+            }
+
+        @Override
+        protected Page enlistPage(int nChannel, long lPage)
+            {
+            return m_mapPage.get(lPage);
+            }
+
+        @Override
+        public boolean removePage(int nChannel, long lPage)
+            {
+            // only the head of the partition is removed
+            m_listRemoved.add(lPage);
+            m_usage.setPartitionHead(m_mapPage.remove(lPage).getNextPartitionPage());
+            return true;
+            }
+
+        /**
+         * The mock context of the content cache.
+         */
+        private final BackingMapContext f_ctxContent;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The partition used by the tests.
+     */
+    protected static final int PARTITION = 7;
+
+    /**
+     * The channel used by the tests.
+     */
+    protected static final int CHANNEL = 0;
+
+    /**
+     * The serializer of the elements.
+     */
+    protected static final DefaultSerializer SERIALIZER = new DefaultSerializer();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The topic dependencies.
+     */
+    protected DefaultPagedTopicDependencies m_deps;
+
+    /**
+     * The partition under test.
+     */
+    protected PagedTopicPartition m_partition;
+
+    /**
+     * The usage of the channel.
+     */
+    protected final Usage m_usage = new Usage();
+
+    /**
+     * The compaction index of the channel.
+     */
+    protected final CompactionIndex m_index = new CompactionIndex();
+
+    /**
+     * The pages of the channel.
+     */
+    protected final Map<Long, Page> m_mapPage = new HashMap<>();
+
+    /**
+     * The elements of the channel.
+     */
+    protected final Map<Binary, String> m_mapContent = new HashMap<>();
+
+    /**
+     * The ids of the pages read by the partition.
+     */
+    protected final List<Long> m_listPeeked = new ArrayList<>();
+
+    /**
+     * The ids of the pages removed by the partition.
+     */
+    protected final List<Long> m_listRemoved = new ArrayList<>();
+    }
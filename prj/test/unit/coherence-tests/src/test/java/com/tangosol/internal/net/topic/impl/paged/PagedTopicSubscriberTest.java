@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -7,6 +7,7 @@
 package com.tangosol.internal.net.topic.impl.paged;
 
 import com.tangosol.internal.net.topic.impl.paged.PagedTopicSubscriber.PagedTopicChannel;
+import com.tangosol.internal.net.topic.impl.paged.PagedTopicSubscriber.ReadAhead;
 
 import com.tangosol.internal.net.topic.impl.paged.model.SubscriberGroupId;
 import com.tangosol.internal.net.topic.impl.paged.model.Subscription;
@@ -17,6 +18,9 @@ import com.tangosol.util.HashHelper;
 
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 
@@ -68,4 +72,84 @@ public class PagedTopicSubscriberTest
         channel.subscriberPartitionSync = new Subscription.Key(nPart, 0, subscriberGroupId);
         assertNotNull(channel.toString());
         }
+
+    @Test
+    public void shouldNotReadAheadByDefault()
+        {
+        ReadAhead readAhead = new ReadAhead(0L);
+
+        readAhead.increase(1024L);
+
+        assertThat(readAhead.isEnabled(), is(false));
+        assertThat(readAhead.getTarget(), is(0L));
+        assertThat(readAhead.isBelowTarget(), is(false));
+        }
+
+    @Test
+    public void shouldAdaptReadAheadToConsumption()
+        {
+        ReadAhead readAhead = new ReadAhead(4096L);
+
+        // the consumer empties the pre-fetch queue, so the target grows up to the maximum
+        readAhead.increase(1024L);
+        assertThat(readAhead.getTarget(), is(1024L));
+        readAhead.increase(1024L);
+        assertThat(readAhead.getTarget(), is(2048L));
+        readAhead.increase(1024L);
+        readAhead.increase(1024L);
+        assertThat(readAhead.getTarget(), is(4096L));
+
+        // read-ahead results arrive before the queue is drained, so the target shrinks
+        readAhead.decrease(1024L);
+        assertThat(readAhead.getTarget(), is(3072L));
+        for (int i = 0; i < 4; i++)
+            {
+            readAhead.decrease(1024L);
+            }
+        assertThat(readAhead.getTarget(), is(0L));
+        }
+
+    @Test
+    public void shouldTrackPrefetchedBytes()
+        {
+        ReadAhead readAhead = new ReadAhead(4096L);
+        readAhead.increase(1024L);
+
+        readAhead.added(1000L);
+        assertThat(readAhead.isBelowTarget(), is(true));
+        readAhead.added(100L);
+        assertThat(readAhead.isBelowTarget(), is(false));
+
+        readAhead.removed(100L);
+        assertThat(readAhead.getPrefetchedBytes(), is(1000L));
+        assertThat(readAhead.isBelowTarget(), is(true));
+
+        // a seek or disconnect removes elements in bulk
+        readAhead.reset(0L);
+        assertThat(readAhead.getPrefetchedBytes(), is(0L));
+        }
+
+    @Test
+    public void shouldAllowOneReadAheadInFlight()
+        {
+        ReadAhead readAhead = new ReadAhead(4096L);
+
+        assertThat(readAhead.await(), is(true));
+        assertThat(readAhead.start(), is(true));
+        assertThat(readAhead.isInFlight(), is(true));
+        assertThat(readAhead.start(), is(false));
+
+        // the receive loop, or a seek, must wait, however many times it asks
+        assertThat(readAhead.await(), is(false));
+        assertThat(readAhead.await(), is(false));
+
+        // the completing poll resumes the waiting receive loop
+        assertThat(readAhead.finish(), is(true));
+        assertThat(readAhead.isInFlight(), is(false));
+        assertThat(readAhead.await(), is(true));
+
+        // no receive loop was waiting
+        assertThat(readAhead.start(), is(true));
+        assertThat(readAhead.finish(), is(false));
+        }
     }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged.agent;
+
+import com.tangosol.internal.net.topic.impl.paged.PagedTopicPartition;
+import com.tangosol.internal.net.topic.impl.paged.model.Usage;
+
+import com.tangosol.io.pof.ConfigurablePofContext;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author rl  2026.10.19
+ */
+public class CompactProcessorTest
+    {
+    @Test
+    public void shouldSerializeUsingPof()
+        {
+        ConfigurablePofContext serializer = new ConfigurablePofContext("coherence-pof-config.xml");
+        CompactProcessor       processor  = new CompactProcessor(19L);
+        Binary                 binary     = ExternalizableHelper.toBinary(processor, serializer);
+        CompactProcessor       result     = ExternalizableHelper.fromBinary(binary, serializer);
+
+        assertThat(result.getPage(), is(19L));
+        assertThat(result.getDataVersion(), is(processor.getImplVersion()));
+        }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCompactSealedPage()
+        {
+        BinaryEntry<Usage.Key, Usage> entry     = mock(BinaryEntry.class);
+        PagedTopicPartition           partition = mock(PagedTopicPartition.class);
+        CompactProcessor              processor = new CompactProcessor(19L, e -> partition);
+
+        when(entry.getKey()).thenReturn(new Usage.Key(1, 3));
+        when(partition.compact(3, 19L)).thenReturn(4);
+
+        assertThat(processor.process(entry), is(4));
+        }
+    }
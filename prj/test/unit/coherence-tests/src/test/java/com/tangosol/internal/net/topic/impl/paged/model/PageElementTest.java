@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -12,8 +12,12 @@ import com.tangosol.util.Binary;
 import com.tangosol.util.ExternalizableHelper;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+
 import java.time.Instant;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -63,4 +67,31 @@ public class PageElementTest
         assertThat(element.getValue(), is(nullValue()));
         }
 
+    @Test
+    public void shouldReturnSerializedValueWithoutDeserializing()
+        {
+        Serializer    serializer = new DefaultSerializer();
+        Binary        binValue   = ExternalizableHelper.toBinary("value-one", serializer);
+        Binary        binary     = PageElement.toBinary(1, 2L, 3, 4L, binValue);
+        AtomicInteger cConvert   = new AtomicInteger();
+
+        PageElement<String> element = PageElement.fromBinary(binary, bin ->
+            {
+            cConvert.incrementAndGet();
+            return ExternalizableHelper.fromBinary(bin, serializer);
+            });
+
+        ByteBuffer buffer = element.getByteBuffer();
+        byte[]     ab     = new byte[buffer.remaining()];
+        buffer.duplicate().get(ab);
+
+        assertThat(element.getReadBuffer().toBinary(), is(binValue));
+        assertThat(buffer.isReadOnly(), is(true));
+        assertThat(buffer.remaining(), is(binValue.length()));
+        assertThat(new Binary(ab), is(binValue));
+        assertThat(cConvert.get(), is(0));
+
+        assertThat(element.getValue(), is("value-one"));
+        assertThat(cConvert.get(), is(1));
+        }
     }
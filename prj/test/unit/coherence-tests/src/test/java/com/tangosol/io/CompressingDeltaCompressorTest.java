@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io;
+
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryWriteBuffer;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for CompressionCodec and CompressingDeltaCompressor.
+ */
+public class CompressingDeltaCompressorTest
+    {
+    // ----- unit tests -----------------------------------------------------
+
+    @Test
+    public void testBuiltInCodecs()
+        {
+        assertSame(DeflateCompressionCodec.INSTANCE, CompressionCodec.ensureCodec(null, null));
+        assertSame(DeflateCompressionCodec.INSTANCE, CompressionCodec.ensureCodec("deflate", null));
+        assertSame(CompressionCodec.NONE, CompressionCodec.ensureCodec("none", null));
+        }
+
+    @Test
+    public void testCodecNameIgnoresCase()
+        {
+        assertSame(DeflateCompressionCodec.INSTANCE, CompressionCodec.ensureCodec("Deflate", null));
+        assertSame(DeflateCompressionCodec.INSTANCE, CompressionCodec.ensureCodec(" DEFLATE ", null));
+        assertSame(CompressionCodec.NONE, CompressionCodec.ensureCodec("NONE", null));
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownCodec()
+        {
+        CompressionCodec.ensureCodec("no-such-codec", null);
+        }
+
+    @Test
+    public void testDeflateRoundTrip()
+        {
+        CompressionCodec codec = DeflateCompressionCodec.INSTANCE;
+
+        assertRoundTrip(codec, Binary.NO_BINARY);
+        assertRoundTrip(codec, text(1));
+        assertRoundTrip(codec, text(1000));
+        assertRoundTrip(codec, random(100_000));
+        }
+
+    @Test
+    public void testDeflateWithDictionary()
+        {
+        byte[]           abDict = "com.example.Customer name address city zip"
+                .getBytes(StandardCharsets.UTF_8);
+        CompressionCodec codec  = new DeflateCompressionCodec(Deflater.BEST_SPEED,
+                Deflater.DEFAULT_STRATEGY, abDict);
+        Binary           bin    = new Binary("com.example.Customer name=Bob address=1 Main city=Boston zip=02101"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertRoundTrip(codec, bin);
+        assertTrue(codec.compress(bin).length()
+                   < DeflateCompressionCodec.INSTANCE.compress(bin).length());
+        }
+
+    @Test
+    public void testDeflateCorruptLength()
+            throws IOException
+        {
+        CompressionCodec codec = DeflateCompressionCodec.INSTANCE;
+        Binary           bin   = codec.compress(text(10));
+
+        // replace the uncompressed length with one the content cannot inflate to
+        ReadBuffer.BufferInput in = bin.getBufferInput();
+        in.readPackedInt();
+        Binary binBody = bin.toBinary(in.getOffset(), bin.length() - in.getOffset());
+
+        for (int cb : new int[] {-1, Integer.MAX_VALUE, binBody.length() * 2000})
+            {
+            BinaryWriteBuffer        buf = new BinaryWriteBuffer(binBody.length() + 5);
+            WriteBuffer.BufferOutput out = buf.getBufferOutput();
+            out.writePackedInt(cb);
+            out.writeBuffer(binBody);
+
+            try
+                {
+                codec.decompress(buf.toBinary());
+                fail("Expected IllegalStateException for length " + cb);
+                }
+            catch (IllegalStateException e)
+                {
+                // expected
+                }
+            }
+        }
+
+    @Test
+    public void testDeflateStreams()
+            throws IOException
+        {
+        CompressionCodec      codec = DeflateCompressionCodec.INSTANCE;
+        byte[]                ab    = text(500).toByteArray();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (OutputStream out = codec.getOutputStream(bytes))
+            {
+            out.write(ab);
+            }
+
+        try (InputStream in = codec.getInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+            {
+            assertArrayEquals(ab, in.readAllBytes());
+            }
+        }
+
+    @Test
+    public void testDelta()
+        {
+        DeltaCompressor compressor = new CompressingDeltaCompressor("deflate");
+
+        assertDelta(compressor, text(10), text(10));
+        assertDelta(compressor, text(10), text(1000));
+        assertDelta(compressor, text(1000), text(20));
+        assertDelta(compressor, random(1000), random(2000));
+        }
+
+    @Test
+    public void testDeltaCompression()
+        {
+        DeltaCompressor compressor = new CompressingDeltaCompressor(new BinaryDeltaCompressor(),
+                DeflateCompressionCodec.INSTANCE, 16);
+
+        ReadBuffer bufDelta = compressor.extractDelta(null, text(1000));
+        assertEquals(CompressingDeltaCompressor.FMT_COMPRESSED, bufDelta.byteAt(0));
+
+        bufDelta = compressor.extractDelta(null, random(1000));
+        assertEquals(CompressingDeltaCompressor.FMT_PLAIN, bufDelta.byteAt(0));
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static void assertRoundTrip(CompressionCodec codec, Binary bin)
+        {
+        assertEquals(bin, codec.decompress(codec.compress(bin)));
+        }
+
+    protected static void assertDelta(DeltaCompressor compressor, Binary binOld, Binary binNew)
+        {
+        ReadBuffer bufDelta = compressor.extractDelta(binOld, binNew);
+        if (binNew.equals(binOld))
+            {
+            assertNull(bufDelta);
+            }
+        else
+            {
+            assertEquals(binNew, compressor.applyDelta(binOld, bufDelta).toBinary());
+            }
+        }
+
+    protected static Binary text(int cRepeat)
+        {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < cRepeat; i++)
+            {
+            sb.append("the quick brown fox ").append(i % 7).append(' ');
+            }
+        return new Binary(sb.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+    protected static Binary random(int cb)
+        {
+        byte[] ab = new byte[cb];
+        new Random(cb).nextBytes(ab);
+        return new Binary(ab);
+        }
+    }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io.pof;
+
+
+import com.tangosol.io.WriteBuffer;
+
+import com.tangosol.io.pof.annotation.Portable;
+import com.tangosol.io.pof.annotation.PortableProperty;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryWriteBuffer;
+import com.tangosol.util.ExternalizableHelper;
+
+import com.tangosol.io.pof.PofDeltaCompressorTest.Address;
+import com.tangosol.io.pof.PofDeltaCompressorTest.Customer;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.tangosol.io.pof.PofDeltaCompressorTest.s_ctx;
+import static com.tangosol.io.pof.PofDeltaCompressorTest.toBin;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for JsonPofHandler.
+ *
+ * @author rl  2026.10.19
+ */
+public class JsonPofHandlerTest
+    {
+    @Test
+    public void testSimpleValues()
+        {
+        assertEquals("42",                JsonPofHandler.toJson(toBin(42), null));
+        assertEquals("true",              JsonPofHandler.toJson(toBin(Boolean.TRUE), null));
+        assertEquals("\"a\\\"b\\\\c\\n\"", JsonPofHandler.toJson(toBin("a\"b\\c\n"), null));
+        assertEquals("\"NaN\"",           JsonPofHandler.toJson(toBin(Double.NaN), null));
+        }
+
+    @Test
+    public void testCollections()
+        {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        assertEquals("[1,2,3]", JsonPofHandler.toJson(toBin(Arrays.asList(1, 2, 3)), null));
+        assertEquals("[{\"key\":\"a\",\"value\":1},{\"key\":\"b\",\"value\":2}]",
+                     JsonPofHandler.toJson(toBin(map), null));
+        }
+
+    @Test
+    public void testUserType()
+        {
+        Customer customer = new Customer(1, "Bob",
+                new Address("1 Main", "Suite 2", "Boston", "MA", "02101", "USA"),
+                new Address("3 Side", "Floor 4", "Lexington", "MA", "02420", "USA"));
+
+        assertEquals("{\"@type\":1,\"@version\":1,\"0\":1,\"1\":\"Bob\","
+                     + "\"2\":{\"@type\":2,\"@version\":1,\"0\":\"1 Main\",\"1\":\"Suite 2\",\"2\":\"Boston\","
+                     + "\"3\":\"MA\",\"4\":\"02101\",\"5\":\"USA\"},"
+                     + "\"3\":{\"@type\":2,\"@version\":1,\"0\":\"3 Side\",\"1\":\"Floor 4\",\"2\":\"Lexington\","
+                     + "\"3\":\"MA\",\"4\":\"02420\",\"5\":\"USA\"}}",
+                     JsonPofHandler.toJson(toBin(customer), null));
+        }
+
+    @Test
+    public void testClassNameAndSerializedForm()
+        {
+        Address address = new Address("1 Main", "Suite 2", "Boston", "MA", "02101", "USA");
+        String  sJson   = JsonPofHandler.toJson(ExternalizableHelper.toBinary(address, s_ctx), s_ctx);
+
+        assertTrue(sJson, sJson.startsWith("{\"@type\":\"" + Address.class.getName() + "\",\"@version\":1,"));
+        assertTrue(sJson, sJson.endsWith(",\"5\":\"USA\"}"));
+        }
+
+    @Test
+    public void testPropertyNames()
+        {
+        SimplePofContext ctx = new SimplePofContext();
+        ctx.registerUserType(1001, Person.class, new PofAnnotationSerializer<>(1001, Person.class));
+
+        Binary bin = ExternalizableHelper.toBinary(new Person("Bob", 42), ctx);
+
+        assertEquals("{\"@type\":\"" + Person.class.getName() + "\",\"@version\":0,"
+                     + "\"name\":\"Bob\",\"age\":42}",
+                     JsonPofHandler.toJson(bin, ctx));
+
+        // without the context the properties are named by index
+        assertEquals("{\"@type\":1001,\"@version\":0,\"0\":\"Bob\",\"1\":42}",
+                     JsonPofHandler.toJson(bin, null));
+        }
+
+    @Test
+    public void testIntervals()
+        {
+        assertEquals("\"PT1H2M3S\"",  JsonPofHandler.toJson(toBin(new RawTimeInterval(1, 2, 3, 0)), null));
+        assertEquals("\"PT26H0.5S\"", JsonPofHandler.toJson(toBin(new RawDayTimeInterval(1, 2, 0, 0, 500000000)), null));
+        assertEquals("\"P1Y2M\"",     JsonPofHandler.toJson(toBin(new RawYearMonthInterval(1, 2)), null));
+        }
+
+    @Test
+    public void testIdentities()
+            throws IOException
+        {
+        SimplePofContext ctx = new SimplePofContext();
+        ctx.registerUserType(1001, Person.class, new PofAnnotationSerializer<>(1001, Person.class));
+        ctx.setReferenceEnabled(true);
+
+        Person person = new Person("Bob", 42);
+
+        assertEquals("[{\"@id\":1,\"@type\":\"" + Person.class.getName() + "\",\"@version\":0,"
+                     + "\"name\":\"Bob\",\"age\":42},{\"@ref\":1}]",
+                     JsonPofHandler.toJson(ExternalizableHelper.toBinary(Arrays.asList(person, person), ctx), ctx));
+
+        // an identity on a value other than a user type is written as a wrapper
+        BinaryWriteBuffer        buf = new BinaryWriteBuffer(64);
+        WriteBuffer.BufferOutput out = buf.getBufferOutput();
+        out.writePackedInt(PofConstants.T_IDENTITY);
+        out.writePackedInt(7);
+        new PofBufferWriter(out, ctx).writeString(-1, "x");
+
+        assertEquals("{\"@id\":7,\"@value\":\"x\"}", JsonPofHandler.toJson(buf.toBinary(), null));
+        }
+
+    // ----- inner class: Person --------------------------------------------
+
+    /**
+     * A type serialized by PofAnnotationSerializer.
+     */
+    @Portable
+    public static class Person
+        {
+        public Person()
+            {
+            }
+
+        public Person(String sName, int nAge)
+            {
+            m_name = sName;
+            m_age  = nAge;
+            }
+
+        @PortableProperty(0)
+        protected String m_name;
+
+        @PortableProperty(1)
+        protected int m_age;
+        }
+    }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io.pof;
+
+
+import com.tangosol.io.BinaryDeltaCompressor;
+import com.tangosol.io.ReadBuffer;
+
+import com.tangosol.util.Binary;
+
+import com.tangosol.io.pof.PofDeltaCompressorTest.Address;
+import com.tangosol.io.pof.PofDeltaCompressorTest.Customer;
+
+import org.junit.Test;
+
+import static com.tangosol.io.pof.PofDeltaCompressorTest.toBin;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for PofPropertyDeltaCompressor.
+ *
+ * @author rl  2026.10.19
+ */
+public class PofPropertyDeltaCompressorTest
+    {
+    @Test
+    public void testSame()
+        {
+        Binary bin = toBin(customer("Bob Smith", "Boston"));
+
+        assertNull(COMPRESSOR.extractDelta(bin, bin));
+        }
+
+    @Test
+    public void testSingleChange()
+        {
+        assertDelta(toBin(customer("Bob Smith", "Boston")), toBin(customer("Tom Smith", "Boston")));
+        }
+
+    @Test
+    public void testNestedChange()
+        {
+        Binary binOld = toBin(customer("Bob Smith", "Boston"));
+        Binary binNew = toBin(customer("Bob Smith", "Cambridge"));
+
+        ReadBuffer bufDelta = assertDelta(binOld, binNew);
+
+        // the delta carries the changed nested property, not the whole value
+        assertTrue(bufDelta.length() < binNew.length() / 2);
+        }
+
+    @Test
+    public void testCompatibleWithBinaryDelta()
+        {
+        Binary binOld = toBin(customer("Bob Smith", "Boston"));
+        Binary binNew = toBin(customer("Robert Smith", "Lexington"));
+
+        ReadBuffer bufDelta = COMPRESSOR.extractDelta(binOld, binNew);
+
+        assertEquals(binNew, new BinaryDeltaCompressor().applyDelta(binOld, bufDelta).toBinary());
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static ReadBuffer assertDelta(Binary binOld, Binary binNew)
+        {
+        ReadBuffer bufDelta = COMPRESSOR.extractDelta(binOld, binNew);
+
+        assertNotNull(bufDelta);
+        assertEquals(binNew, COMPRESSOR.applyDelta(binOld, bufDelta).toBinary());
+        assertEquals(binOld, COMPRESSOR.applyDelta(binNew, COMPRESSOR.extractDelta(binNew, binOld)).toBinary());
+
+        return bufDelta;
+        }
+
+    protected static Customer customer(String sName, String sCity)
+        {
+        return new Customer(1, sName,
+                new Address("123 Anywhere Lane", "Suite 456", sCity, "MA", "12345", "USA"),
+                new Address("789 Someother Drive", "", "Lexington", "MA", "02420", "USA"));
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The instance to test.
+     */
+    static final PofPropertyDeltaCompressor COMPRESSOR = new PofPropertyDeltaCompressor();
+    }
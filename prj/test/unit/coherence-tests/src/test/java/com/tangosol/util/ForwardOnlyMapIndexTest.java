@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.net.cache.CacheStatistics;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+* ForwardOnlyMapIndex unit tests.
+*
+* @author rl 2026.10.19
+*/
+public class ForwardOnlyMapIndexTest
+    {
+    /**
+    * Test an unbounded index.
+    */
+    @Test
+    public void testUnbounded()
+        {
+        ForwardOnlyMapIndex index = new ForwardOnlyMapIndex(IdentityExtractor.INSTANCE, null, false);
+
+        index.insert(new SimpleMapEntry("key1", "value1"));
+        index.update(new SimpleMapEntry("key1", "value2"));
+
+        assertFalse(index.isBounded());
+        assertNull(index.getCacheStatistics());
+        assertEquals("value2", index.get("key1"));
+        assertSame(MapIndex.NO_VALUE, index.get("key2"));
+
+        index.delete(new SimpleMapEntry("key1", "value2"));
+
+        assertSame(MapIndex.NO_VALUE, index.get("key1"));
+        }
+
+    /**
+    * Test that a bounded index evicts values beyond its maximum size and
+    * reports its statistics.
+    */
+    @Test
+    public void testBounded()
+        {
+        BackingMapContext   ctx   = mock(BackingMapContext.class);
+        ForwardOnlyMapIndex index = new ForwardOnlyMapIndex(IdentityExtractor.INSTANCE, ctx, false, 1024L);
+
+        when(ctx.getBackingMap()).thenReturn(new HashMap());
+
+        for (int i = 0; i < 2000; i++)
+            {
+            index.insert(new SimpleMapEntry("key" + i, "value" + i));
+            }
+
+        assertTrue(index.isBounded());
+        assertEquals(1024L, index.getMaxSize());
+        assertTrue(index.getUnits() <= 1024L);
+
+        // the most recently inserted value is retained, the oldest is evicted
+        assertEquals("value1999", index.get("key1999"));
+        assertSame(MapIndex.NO_VALUE, index.get("key0"));
+
+        CacheStatistics stats = index.getCacheStatistics();
+        assertEquals(1L, stats.getCacheHits());
+        assertEquals(1L, stats.getCacheMisses());
+        }
+    }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util.extractor;
+
+import com.tangosol.internal.net.MessageComponent;
+
+import com.tangosol.io.WrapperBufferInput;
+import com.tangosol.io.WrapperBufferOutput;
+
+import com.tangosol.util.ExternalizableHelper;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DeserializationAccelerator unit tests.
+ *
+ * @author rl  2026.10.19
+ */
+public class DeserializationAcceleratorTest
+    {
+    /**
+     * Test that the maximum size is not written to a plain DataOutput, so
+     * that the content keeps the format understood by older peers.
+     */
+    @Test
+    public void testPlainDataOutput()
+            throws IOException
+        {
+        DeserializationAccelerator accelerator = new DeserializationAccelerator(new ReflectionExtractor("getName"), true, 1024L);
+
+        ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+        accelerator.writeExternal(new DataOutputStream(outBytes));
+
+        // the content only holds the extractor and the lazy flag
+        ByteArrayOutputStream outLegacy = new ByteArrayOutputStream();
+        DataOutputStream      out       = new DataOutputStream(outLegacy);
+        ExternalizableHelper.writeObject(out, new ReflectionExtractor("getName"));
+        out.writeBoolean(true);
+        assertArrayEquals(outLegacy.toByteArray(), outBytes.toByteArray());
+
+        ByteArrayInputStream       inBytes      = new ByteArrayInputStream(outBytes.toByteArray());
+        DeserializationAccelerator deserialized = new DeserializationAccelerator();
+        deserialized.readExternal(new DataInputStream(inBytes));
+
+        assertEquals(0, inBytes.available());
+        assertEquals(new DeserializationAccelerator(new ReflectionExtractor("getName"), true), deserialized);
+        }
+
+    /**
+     * Test that the maximum size is written to a version aware DataOutput
+     * only if all the recipients support it.
+     */
+    @Test
+    public void testVersionAwareDataOutput()
+            throws IOException
+        {
+        DeserializationAccelerator accelerator = new DeserializationAccelerator(new ReflectionExtractor("getName"), true, 1024L);
+
+        assertEquals(accelerator, roundTrip(accelerator, true));
+        assertEquals(new DeserializationAccelerator(new ReflectionExtractor("getName"), true),
+                     roundTrip(accelerator, false));
+        assertNotEquals(accelerator, roundTrip(accelerator, false));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Serialize and deserialize a DeserializationAccelerator through version
+     * aware streams.
+     *
+     * @param accelerator  the DeserializationAccelerator to serialize
+     * @param fCompatible  whether the peers support the maximum size
+     *
+     * @return the deserialized DeserializationAccelerator
+     */
+    protected static DeserializationAccelerator roundTrip(DeserializationAccelerator accelerator, boolean fCompatible)
+            throws IOException
+        {
+        MessageComponent message = mock(MessageComponent.class);
+        when(message.isRecipientCompatible(24, 9, 0)).thenReturn(fCompatible);
+        when(message.isSenderCompatible(24, 9, 0)).thenReturn(fCompatible);
+
+        ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+        accelerator.writeExternal(new WrapperBufferOutput.VersionAwareBufferOutput(new DataOutputStream(outBytes), message));
+
+        ByteArrayInputStream       inBytes      = new ByteArrayInputStream(outBytes.toByteArray());
+        DeserializationAccelerator deserialized = new DeserializationAccelerator();
+        deserialized.readExternal(new WrapperBufferInput.VersionAwareBufferInput(new DataInputStream(inBytes), null, message));
+
+        assertEquals(0, inBytes.available());
+        return deserialized;
+        }
+    }
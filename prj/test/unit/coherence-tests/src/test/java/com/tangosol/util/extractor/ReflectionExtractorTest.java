@@ -1,8 +1,8 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 
 package com.tangosol.util.extractor;
@@ -10,6 +10,8 @@ package com.tangosol.util.extractor;
 
 import data.extractor.InvokeTestClass;
 
+import com.tangosol.internal.util.extractor.TargetReflectionDescriptor;
+
 import com.tangosol.io.WriteBuffer;
 
 import com.tangosol.io.pof.PofBufferReader;
@@ -30,6 +32,9 @@ import org.junit.Test;
 
 import java.io.IOException;
 
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -151,4 +156,108 @@ public class ReflectionExtractorTest
             throw e.getOriginalException();
             }
         }
+
+    /**
+    * Test that methods inherited from a superclass are resolved and invoked
+    * consistently across repeated extractions.
+    */
+    @Test
+    public void testInheritedMethod()
+        {
+        ReflectionExtractor extractor = new ReflectionExtractor("retVal");
+        for (int i = 0; i < 3; i++)
+            {
+            assertEquals("Return Value", extractor.extract(new InvokeTestSubclass()));
+            assertEquals("Return Value", extractor.extract(new InvokeTestClass()));
+            }
+        }
+
+    /**
+    * Test that an exception thrown by the invoked method is reported as an
+    * InvocationTargetException.
+    */
+    @Test
+    public void testMethodException()
+        {
+        ReflectionExtractor extractor = new ReflectionExtractor("fail");
+        try
+            {
+            extractor.extract(new InvokeTestSubclass());
+            fail("expected exception");
+            }
+        catch (WrapperException e)
+            {
+            Throwable eOrig = e.getOriginalException();
+            assertTrue(eOrig instanceof InvocationTargetException);
+            assertTrue(eOrig.getCause() instanceof IllegalStateException);
+            }
+        }
+
+    /**
+    * Test that a target or arguments that do not match the method are
+    * reported as an IllegalArgumentException rather than as an exception
+    * thrown by the method.
+    */
+    @Test
+    public void testIllegalArguments()
+            throws Exception
+        {
+        TargetReflectionDescriptor descNoParams = new TargetReflectionDescriptor(
+                InvokeTestSubclass.class, InvokeTestSubclass.class.getMethod("fail"));
+        TargetReflectionDescriptor descParams   = new TargetReflectionDescriptor(
+                String.class, String.class.getMethod("charAt", int.class));
+
+        assertIllegalArgument(descNoParams, "not a subclass", null);
+        assertIllegalArgument(descNoParams, new InvokeTestSubclass(), new Object[] {1});
+        assertIllegalArgument(descParams, "abc", new Object[0]);
+        assertIllegalArgument(descParams, "abc", new Object[] {"1"});
+        assertIllegalArgument(descParams, "abc", new Object[] {null});
+
+        assertEquals('b', descParams.invoke("abc", new Object[] {1}));
+        try
+            {
+            descParams.invoke("abc", new Object[] {5});
+            fail("expected exception");
+            }
+        catch (InvocationTargetException e)
+            {
+            assertTrue(e.getCause() instanceof IndexOutOfBoundsException);
+            }
+        }
+
+    /**
+    * Assert that invoking the descriptor results in an
+    * IllegalArgumentException.
+    *
+    * @param desc     the descriptor
+    * @param oTarget  the target
+    * @param aoParam  the arguments
+    */
+    protected static void assertIllegalArgument(TargetReflectionDescriptor desc, Object oTarget, Object[] aoParam)
+            throws Exception
+        {
+        try
+            {
+            desc.invoke(oTarget, aoParam);
+            fail("expected IllegalArgumentException");
+            }
+        catch (IllegalArgumentException e)
+            {
+            // expected
+            }
+        }
+
+    // ----- inner class: InvokeTestSubclass --------------------------------
+
+    /**
+    * A subclass of InvokeTestClass that inherits its methods.
+    */
+    public static class InvokeTestSubclass
+            extends InvokeTestClass
+        {
+        public String fail()
+            {
+            throw new IllegalStateException();
+            }
+        }
     }